@@ -0,0 +1,101 @@
+package net.mysterria.cosmos.benchmark;
+
+import net.mysterria.cosmos.CosmosPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link CosmosPlugin} for benchmarks and the load simulators, built without a server.
+ * <p>
+ * Service getters return whatever was registered with {@link #provide} under a matching type, so a run wires up
+ * only the collaborators it constructs; asking for one it did not provide throws. The Bukkit side answers the
+ * name, data folder and a config.yml read from that folder, and {@link CosmosPlugin#log} goes to a JUL logger
+ * at FINE. Any other plugin method returns an empty value.
+ */
+public final class StubPlugin {
+
+    private static final Logger LOGGER = Logger.getLogger("CosmosIncursion");
+
+    private final File dataFolder;
+    private final List<Object> services = new ArrayList<>();
+    private final CosmosPlugin plugin;
+    private YamlConfiguration config = new YamlConfiguration();
+
+    /**
+     * @param dataFolder where config.yml and the plugin's state files live; may be null when nothing reads it
+     */
+    public StubPlugin(File dataFolder) {
+        this.dataFolder = dataFolder;
+        this.plugin = (CosmosPlugin) Proxy.newProxyInstance(CosmosPlugin.class.getClassLoader(),
+                new Class<?>[]{CosmosPlugin.class}, (proxy, method, args) -> answer(proxy, method, args));
+    }
+
+    public CosmosPlugin plugin() {
+        return plugin;
+    }
+
+    /**
+     * Registers a service for the plugin's getters and returns it
+     */
+    public <T> T provide(T service) {
+        services.add(service);
+        return service;
+    }
+
+    private Object answer(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+            case "getName":
+                return "CosmosIncursion";
+            case "log":
+                LOGGER.log(Level.FINE, (String) args[0]);
+                return null;
+            case "getKey":
+                return new NamespacedKey(plugin, (String) args[0]);
+            case "getDataFolder":
+                return dataFolder;
+            case "getConfig":
+                return config;
+            case "reloadConfig":
+                File file = dataFolder != null ? new File(dataFolder, "config.yml") : null;
+                config = file != null && file.isFile() ? YamlConfiguration.loadConfiguration(file) : new YamlConfiguration();
+                return null;
+            case "getLogger":
+                return LOGGER;
+            case "getServer":
+                return Bukkit.getServer();
+            case "isEnabled":
+                return true;
+        }
+        if (method.getDeclaringClass() == CosmosPlugin.class && method.getParameterCount() == 0) {
+            Class<?> type = method.getReturnType();
+            for (Object service : services) {
+                if (type.isInstance(service)) return service;
+            }
+            throw new IllegalStateException("StubPlugin has no " + type.getSimpleName() + " for " + method.getName());
+        }
+        return emptyValue(method.getReturnType());
+    }
+
+    private static Object emptyValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0;
+        if (type == float.class) return 0f;
+        return null;
+    }
+}
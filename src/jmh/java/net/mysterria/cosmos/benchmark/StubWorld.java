@@ -0,0 +1,45 @@
+package net.mysterria.cosmos.benchmark;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Minimal {@link World} for benchmarks that only compare worlds and read coordinates.
+ * Supports equals/hashCode/getName/getUID; anything else throws, so a benchmark that
+ * reaches into real world state fails loudly instead of measuring a stub.
+ */
+public final class StubWorld {
+
+    private StubWorld() {
+    }
+
+    public static World create(String name) {
+        UUID uid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[]{World.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString", "getName" -> name;
+                    case "getUID" -> uid;
+                    default -> throw new UnsupportedOperationException("StubWorld." + method.getName());
+                });
+    }
+
+    /**
+     * Fixed-seed random locations in a square of the given half-extent around the origin
+     */
+    public static Location[] randomLocations(World world, int count, double halfExtent, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Location[] locations = new Location[count];
+        for (int i = 0; i < count; i++) {
+            locations[i] = new Location(world,
+                    random.nextDouble(-halfExtent, halfExtent), 64, random.nextDouble(-halfExtent, halfExtent));
+        }
+        return locations;
+    }
+}
@@ -0,0 +1,106 @@
+package net.mysterria.cosmos.domain.acting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeat-kill streak bookkeeping: {@link RepeatKillTable} against the nested map it replaced in
+ * {@link ActingRewardManager}. Both replay the same stream of kills drawn uniformly from the pair set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepeatKillTableBenchmark {
+
+    private static final int VICTIMS_PER_KILLER = 100;
+    private static final int STREAM = 1 << 20;
+    private static final long RESET_MILLIS = 300_000L;
+    // One kill every 50 ms server-wide; pairs both repeat inside the reset window and age out of it
+    private static final long KILL_INTERVAL_MILLIS = 50L;
+
+    /**
+     * Distinct (killer, victim) pairs the kills are drawn from
+     */
+    @Param({"10000", "1000000"})
+    public int pairs;
+
+    private UUID[] killerIds;
+    private UUID[] victimIds;
+    private int[] stream;
+
+    private RepeatKillTable table;
+    private Map<UUID, Map<UUID, RepeatKillState>> nestedMap;
+    private int tableNext;
+    private long tableNow;
+    private int nestedMapNext;
+    private long nestedMapNow;
+
+    private record RepeatKillState(int streak, long lastGrantMillis) {}
+
+    @Setup(Level.Trial)
+    public void setupStream() {
+        SplittableRandom random = new SplittableRandom(37L);
+        killerIds = new UUID[pairs];
+        victimIds = new UUID[pairs];
+        UUID[] victimPool = new UUID[VICTIMS_PER_KILLER];
+        for (int i = 0; i < VICTIMS_PER_KILLER; i++) {
+            victimPool[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        UUID killer = null;
+        for (int i = 0; i < pairs; i++) {
+            if (i % VICTIMS_PER_KILLER == 0) {
+                killer = new UUID(random.nextLong(), random.nextLong());
+            }
+            killerIds[i] = killer;
+            victimIds[i] = victimPool[i % VICTIMS_PER_KILLER];
+        }
+
+        stream = new int[STREAM];
+        for (int i = 0; i < STREAM; i++) {
+            stream[i] = random.nextInt(pairs);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        table = new RepeatKillTable();
+        nestedMap = new ConcurrentHashMap<>();
+        tableNext = 0;
+        tableNow = 0L;
+        nestedMapNext = 0;
+        nestedMapNow = 0L;
+    }
+
+    @Benchmark
+    public int table() {
+        int pair = stream[tableNext++ & (STREAM - 1)];
+        tableNow += KILL_INTERVAL_MILLIS;
+        return table.recordKill(killerIds[pair], victimIds[pair], tableNow, RESET_MILLIS);
+    }
+
+    /**
+     * The per-kill path ActingRewardManager used before the table, minus its expiry timer
+     */
+    @Benchmark
+    public int nestedMap() {
+        int pair = stream[nestedMapNext++ & (STREAM - 1)];
+        nestedMapNow += KILL_INTERVAL_MILLIS;
+        long now = nestedMapNow;
+
+        Map<UUID, RepeatKillState> victims = nestedMap.computeIfAbsent(killerIds[pair], k -> new ConcurrentHashMap<>());
+        RepeatKillState previous = victims.get(victimIds[pair]);
+        int streak = (previous == null || (now - previous.lastGrantMillis()) >= RESET_MILLIS)
+                ? 0
+                : previous.streak() + 1;
+        victims.put(victimIds[pair], new RepeatKillState(streak, now));
+        return streak;
+    }
+}
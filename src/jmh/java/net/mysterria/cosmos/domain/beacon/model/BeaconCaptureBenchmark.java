@@ -0,0 +1,57 @@
+package net.mysterria.cosmos.domain.beacon.model;
+
+import net.mysterria.cosmos.benchmark.StubWorld;
+import net.mysterria.cosmos.toolkit.towns.TownData;
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capture progress updates, alternating capture and decay so ownership keeps changing hands
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeaconCaptureBenchmark {
+
+    private static final double MAX_POINTS = 100.0;
+
+    private BeaconCapture capture;
+    private TownData[] towns;
+    private int step;
+
+    @Setup
+    public void setup() {
+        SpiritBeacon beacon = new SpiritBeacon("bench", "Bench Beacon", new Location(StubWorld.create("world"), 0, 64, 0));
+        capture = new BeaconCapture(beacon);
+        towns = new TownData[]{
+                new TownData(1, "Alpha", Set.of()),
+                new TownData(2, "Beta", Set.of())
+        };
+    }
+
+    /**
+     * 32 updates up (capture), 32 down (decay to neutral), then the other town
+     */
+    @Benchmark
+    public double updateProgress() {
+        int i = step++;
+        boolean capturing = (i & 32) == 0;
+        TownData town = towns[(i >> 6) & 1];
+        capture.updateProgress(capturing ? 5.0 : -5.0, capturing ? town : null, MAX_POINTS);
+        capture.consumeJustCaptured();
+        return capture.getCaptureProgress();
+    }
+
+    @Benchmark
+    public double updateProgressContested() {
+        capture.setContested(true);
+        capture.updateProgress(0.0, null, MAX_POINTS);
+        return capture.getCaptureProgress();
+    }
+}
@@ -0,0 +1,58 @@
+package net.mysterria.cosmos.domain.combat.service;
+
+import net.mysterria.cosmos.benchmark.StubPlugin;
+import net.mysterria.cosmos.toolkit.ExpiryService;
+import net.mysterria.cosmos.toolkit.map.impl.NoOpMapIntegration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-kill bookkeeping of {@link KillTracker#recordKill}: {@link KillTracker#recordGriefingKill} looks up the
+ * killer's window and records the kill. The griefing check before it needs live players and the CoI API,
+ * so it is not measured here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KillTrackerBenchmark {
+
+    private static final long TIME_WINDOW_MILLIS = 300_000L;
+
+    @Param({"3", "10"})
+    public int threshold;
+
+    @Param({"10", "1000"})
+    public int killers;
+
+    private KillTracker killTracker;
+    private UUID[] killerIds;
+    private long now;
+    private int next;
+
+    @Setup
+    public void setup() {
+        // New windows arm an idle-eviction timer, so the tracker needs a plugin with an expiry service
+        StubPlugin stub = new StubPlugin(null);
+        stub.provide(new ExpiryService(stub.plugin()));
+        killTracker = new KillTracker(stub.plugin(), new NoOpMapIntegration());
+
+        killerIds = new UUID[killers];
+        for (int i = 0; i < killers; i++) {
+            killerIds[i] = UUID.randomUUID();
+        }
+        now = 0L;
+    }
+
+    @Benchmark
+    public int recordKill() {
+        UUID killerId = killerIds[next++ % killers];
+        // One kill every 250 ms server-wide; windows both fill up and age out
+        now += 250L;
+        return killTracker.recordGriefingKill(killerId, now, TIME_WINDOW_MILLIS, threshold);
+    }
+}
@@ -0,0 +1,55 @@
+package net.mysterria.cosmos.domain.exclusion.model;
+
+import net.mysterria.cosmos.benchmark.StubWorld;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ray-casting point-in-polygon for permanent zones across vertex counts
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermanentZoneBenchmark {
+
+    private static final int PROBES = 1024;
+    private static final double RADIUS = 300;
+
+    @Param({"4", "16", "64", "256"})
+    public int vertices;
+
+    private PermanentZone zone;
+    private Location[] probes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        World world = StubWorld.create("world");
+
+        // Star-ish polygon: evenly spaced angles with jittered radii, so edges are not axis-aligned
+        SplittableRandom random = new SplittableRandom(11L);
+        List<Location> polygon = new ArrayList<>(vertices);
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            double r = RADIUS * random.nextDouble(0.7, 1.0);
+            polygon.add(new Location(world, r * Math.cos(angle), 64, r * Math.sin(angle)));
+        }
+        zone = new PermanentZone("bench", polygon);
+
+        probes = StubWorld.randomLocations(world, PROBES, RADIUS * 1.5, 42L);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return zone.contains(probes[next++ & (PROBES - 1)]);
+    }
+}
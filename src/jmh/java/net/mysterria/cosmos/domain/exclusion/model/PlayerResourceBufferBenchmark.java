@@ -0,0 +1,66 @@
+package net.mysterria.cosmos.domain.exclusion.model;
+
+import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carried-resource buffer operations from the accrual and extraction paths
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerResourceBufferBenchmark {
+
+    private PlayerResourceBuffer accrual;
+    private PlayerResourceBuffer carrying;
+    private PlayerResourceBuffer empty;
+    private PlayerResourceBuffer extracting;
+
+    @Setup
+    public void setup() {
+        UUID playerId = UUID.randomUUID();
+        accrual = new PlayerResourceBuffer(playerId);
+        carrying = new PlayerResourceBuffer(playerId);
+        carrying.add(ResourceType.GOLD, 12.5);
+        carrying.add(ResourceType.GEMS, 3.0);
+        empty = new PlayerResourceBuffer(playerId);
+        extracting = new PlayerResourceBuffer(playerId);
+    }
+
+    /**
+     * One accrual tick at a PoI
+     */
+    @Benchmark
+    public PlayerResourceBuffer add() {
+        accrual.add(ResourceType.GOLD, 0.25);
+        return accrual;
+    }
+
+    @Benchmark
+    public boolean isEmptyCarrying() {
+        return carrying.isEmpty();
+    }
+
+    @Benchmark
+    public boolean isEmptyEmpty() {
+        return empty.isEmpty();
+    }
+
+    /**
+     * One extraction channel tick: top the buffer up by what the previous drain took, then drain again
+     */
+    @Benchmark
+    public Map<ResourceType, Double> drain() {
+        extracting.add(ResourceType.GOLD, 1.0);
+        extracting.add(ResourceType.SILVER, 1.0);
+        extracting.add(ResourceType.GEMS, 0.5);
+        return extracting.drain(1.0);
+    }
+}
@@ -0,0 +1,64 @@
+package net.mysterria.cosmos.domain.incursion.model;
+
+import net.mysterria.cosmos.benchmark.StubWorld;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circle containment and chunk overlap for a single incursion zone, with probes spread
+ * both inside and outside the radius so the branch mix matches live traffic
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncursionZoneBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"50", "150", "400"})
+    public double radius;
+
+    private IncursionZone zone;
+    private World world;
+    private Location[] probes;
+    private int[] chunkXs;
+    private int[] chunkZs;
+    private int next;
+
+    @Setup
+    public void setup() {
+        world = StubWorld.create("world");
+        zone = new IncursionZone("bench", new Location(world, 0, 64, 0), radius);
+        zone.setActive(true);
+
+        // Probes cover twice the radius, so roughly 3/4 fall outside
+        probes = StubWorld.randomLocations(world, PROBES, radius * 2, 42L);
+
+        SplittableRandom random = new SplittableRandom(7L);
+        int chunkExtent = (int) (radius * 2) >> 4;
+        chunkXs = new int[PROBES];
+        chunkZs = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            chunkXs[i] = random.nextInt(-chunkExtent, chunkExtent + 1);
+            chunkZs[i] = random.nextInt(-chunkExtent, chunkExtent + 1);
+        }
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return zone.contains(probes[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean overlapsChunk() {
+        int i = next++ & (PROBES - 1);
+        return zone.overlapsChunk(world, chunkXs[i], chunkZs[i]);
+    }
+}
@@ -0,0 +1,68 @@
+package net.mysterria.cosmos.domain.incursion.service;
+
+import net.mysterria.cosmos.benchmark.StubPlugin;
+import net.mysterria.cosmos.benchmark.StubWorld;
+import net.mysterria.cosmos.config.ConfigLoader;
+import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
+import net.mysterria.cosmos.toolkit.CosmosMetrics;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zone lookup by location across active zone counts
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneManagerBenchmark {
+
+    private static final int PROBES = 1024;
+    private static final double WORLD_EXTENT = 3000;
+
+    @Param({"1", "5", "20", "100"})
+    public int zoneCount;
+
+    private ZoneManager zoneManager;
+    private Location[] probes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        World world = StubWorld.create("world");
+
+        // registerZone publishes the zone's tier to metrics and logs through the plugin
+        StubPlugin stub = new StubPlugin(null);
+        ConfigLoader configLoader = stub.provide(new ConfigLoader(stub.plugin()));
+        stub.provide(new CosmosMetrics(new PerfMonitor(configLoader)));
+        zoneManager = new ZoneManager(stub.plugin());
+
+        SplittableRandom random = new SplittableRandom(5L);
+        for (int i = 0; i < zoneCount; i++) {
+            Location center = new Location(world,
+                    random.nextDouble(-WORLD_EXTENT, WORLD_EXTENT), 64, random.nextDouble(-WORLD_EXTENT, WORLD_EXTENT));
+            IncursionZone zone = new IncursionZone("bench-" + i, center, random.nextDouble(100, 300));
+            zoneManager.registerZone(zone);
+            zone.setActive(true);
+        }
+
+        probes = StubWorld.randomLocations(world, PROBES, WORLD_EXTENT, 42L);
+    }
+
+    @Benchmark
+    public IncursionZone getZoneAt() {
+        return zoneManager.getZoneAt(probes[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public IncursionZone getNearestZone() {
+        return zoneManager.getNearestZone(probes[next++ & (PROBES - 1)]);
+    }
+}
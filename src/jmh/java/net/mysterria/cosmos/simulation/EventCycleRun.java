@@ -0,0 +1,342 @@
+package net.mysterria.cosmos.simulation;
+
+import net.mysterria.cosmos.CosmosPlugin;
+import net.mysterria.cosmos.benchmark.StubPlugin;
+import net.mysterria.cosmos.config.ConfigLoader;
+import net.mysterria.cosmos.config.CosmosConfig;
+import net.mysterria.cosmos.domain.beacon.model.BeaconCapture;
+import net.mysterria.cosmos.domain.beacon.service.BeaconManager;
+import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
+import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
+import net.mysterria.cosmos.domain.exclusion.model.PointOfInterest;
+import net.mysterria.cosmos.domain.incursion.model.IncursionEvent;
+import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
+import net.mysterria.cosmos.domain.incursion.model.source.EventState;
+import net.mysterria.cosmos.domain.incursion.model.source.ZoneTier;
+import net.mysterria.cosmos.domain.incursion.service.EventEffects;
+import net.mysterria.cosmos.domain.incursion.service.EventManager;
+import net.mysterria.cosmos.domain.incursion.service.PlayerStateManager;
+import net.mysterria.cosmos.domain.incursion.service.ZoneManager;
+import net.mysterria.cosmos.toolkit.ChunkPrewarmer;
+import net.mysterria.cosmos.toolkit.CosmosMetrics;
+import net.mysterria.cosmos.toolkit.ExpiryService;
+import net.mysterria.cosmos.toolkit.GameClock;
+import net.mysterria.cosmos.toolkit.LoadGovernor;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
+import net.mysterria.cosmos.toolkit.PlayerRegistry;
+import net.mysterria.cosmos.toolkit.map.impl.NoOpMapIntegration;
+import net.mysterria.cosmos.toolkit.towns.TownData;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Replays whole incursion event cycles on a {@link ManualClock}, one simulated second per step.
+ * <p>
+ * Each step runs what the live once-a-second tasks run: the {@link ExpiryService} wheel, the real
+ * {@link EventManager#tick()}, beacon capture while ACTIVE, and PoI and extraction point rotation (with daily
+ * budget rollover) for every permanent zone. Incursion and zone deaths arrive at a fixed rate from a synthetic
+ * population, and campers drain active PoIs, so cooldowns, respawn schedules and budgets fill and empty as they
+ * would live.
+ * <p>
+ * The event manager runs with {@link HeadlessEffects}: broadcasts, tasks and player handling are no-ops and
+ * zones are placed at random points instead of on scanned terrain.
+ */
+final class EventCycleRun {
+
+    private static final Duration STEP = Duration.ofSeconds(1);
+    private static final long START_MILLIS = 1_700_000_000_000L;
+
+    private static final int INCURSION_ZONES = 8;
+    private static final int PERMANENT_ZONES = 2;
+    private static final int PERMANENT_ZONE_VERTICES = 24;
+    private static final double PERMANENT_ZONE_RADIUS = 350;
+    private static final double WORLD_EXTENT = 2500;
+    private static final int TOWNS = 20;
+    private static final int CAMPERS_PER_POI = 3;
+
+    /**
+     * Tracked collection sizes after a cycle
+     */
+    record StateSize(int pendingExpiries, int incursionDeathCooldowns, int zoneDeathCooldowns,
+                     int incursionZones, int activePoIs, int respawnsQueued, int extractionPoints,
+                     int budgetDaysStarted) {
+
+        int total() {
+            return pendingExpiries + incursionDeathCooldowns + zoneDeathCooldowns + incursionZones
+                    + activePoIs + respawnsQueued + extractionPoints;
+        }
+    }
+
+    /**
+     * Cost and state of one cycle
+     */
+    record CycleResult(int cycle, long simulatedSeconds, double simulatedHoursTotal, SubsystemStats cost, StateSize state) {
+    }
+
+    private final SplittableRandom random;
+    private final ManualClock clock = new ManualClock(START_MILLIS);
+    private final World world;
+    private final CosmosConfig config;
+    private final ExpiryService expiryService;
+    private final ZoneManager zoneManager;
+    private final PermanentZoneManager permanentZoneManager;
+    private final PlayerStateManager playerStateManager;
+    private final BeaconManager beaconManager;
+    private final EventManager eventManager;
+
+    private final UUID[] population;
+    private final double deathsPerSecond;
+    private final List<PermanentZone> permanentZones = new ArrayList<>();
+    private final TownData[] towns = new TownData[TOWNS];
+    private final Map<PermanentZone, Long> lastDayStart = new HashMap<>();
+
+    /** Per-step cost across every simulated second of the measured cycles */
+    final SubsystemStats stepCost;
+
+    private int eventNumber;
+    private int budgetDaysStarted;
+
+    /**
+     * Installs the manual clock in {@link GameClock}; call {@link #close()} to restore the system clock
+     */
+    EventCycleRun(int populationSize, double deathsPerMinute, long seed, File dataFolder, int expectedSteps)
+            throws IOException {
+        GameClock.set(clock);
+        this.random = new SplittableRandom(seed);
+        this.deathsPerSecond = deathsPerMinute / 60.0;
+        this.stepCost = new SubsystemStats("second (all subsystems)", expectedSteps);
+        this.world = SimServer.flatWorld("cycle-world");
+
+        // Chunk tickets need a real world; keep the governor at NORMAL without reading Paper's tick times
+        Files.writeString(new File(dataFolder, "config.yml").toPath(), "zones:\n  chunk-prewarm:\n    enabled: false\n");
+        Files.writeString(new File(dataFolder, "governor.yml").toPath(), "enabled: false\n");
+
+        StubPlugin stub = new StubPlugin(dataFolder);
+        CosmosPlugin plugin = stub.plugin();
+        ConfigLoader configLoader = stub.provide(new ConfigLoader(plugin));
+        configLoader.load();
+        this.config = configLoader.getConfig();
+        PerfMonitor perfMonitor = stub.provide(new PerfMonitor(configLoader));
+        stub.provide(new CosmosMetrics(perfMonitor));
+        stub.provide(new PlayerRegistry());
+        stub.provide(new NoOpMapIntegration());
+        this.expiryService = stub.provide(new ExpiryService(plugin));
+        stub.provide(new LoadGovernor(plugin));
+        stub.provide(new ChunkPrewarmer(plugin));
+        this.playerStateManager = stub.provide(new PlayerStateManager(plugin));
+        this.zoneManager = new ZoneManager(plugin);
+        // Winner rewards are deposited through the plugin's permanent zone manager
+        this.permanentZoneManager = stub.provide(new PermanentZoneManager(plugin));
+        this.beaconManager = new BeaconManager(plugin);
+        this.eventManager = new EventManager(plugin, zoneManager, beaconManager, new HeadlessEffects());
+
+        this.population = new UUID[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            population[i] = new UUID(0x5eedL, i);
+        }
+        for (int t = 0; t < TOWNS; t++) {
+            towns[t] = new TownData(t + 1, "Town " + (t + 1), Set.of());
+        }
+        buildPermanentZones();
+    }
+
+    void close() {
+        GameClock.reset();
+    }
+
+    private void buildPermanentZones() {
+        for (int i = 0; i < PERMANENT_ZONES; i++) {
+            double cx = (i % 2 == 0 ? -1 : 1) * WORLD_EXTENT * 0.5;
+            double cz = -cx;
+            List<Location> vertices = new ArrayList<>();
+            for (int v = 0; v < PERMANENT_ZONE_VERTICES; v++) {
+                double angle = 2 * Math.PI * v / PERMANENT_ZONE_VERTICES;
+                double r = PERMANENT_ZONE_RADIUS * random.nextDouble(0.75, 1.0);
+                vertices.add(new Location(world, cx + r * Math.cos(angle), 64, cz + r * Math.sin(angle)));
+            }
+            PermanentZone zone = new PermanentZone("cycle-permanent-" + i, vertices);
+            permanentZoneManager.addZone(zone);
+            permanentZoneManager.spawnPoIsForZone(zone);
+            permanentZoneManager.spawnExtractionPoints(zone);
+            permanentZones.add(zone);
+        }
+    }
+
+    // ── Run ──────────────────────────────────────────────────────────────────────
+
+    /**
+     * Run one event from its start through ENDING and the following cooldown
+     */
+    CycleResult runCycle(int cycle, boolean measureSteps) {
+        SubsystemStats cost = new SubsystemStats("cycle " + cycle, 1);
+        long steps = 0;
+        boolean ended = false;
+
+        cost.begin();
+        while (!(ended && eventManager.getState() == EventState.IDLE && eventManager.getRemainingCooldownSeconds() == 0)) {
+            if (measureSteps) stepCost.begin();
+            step();
+            if (measureSteps) stepCost.end();
+            if (eventManager.getState() == EventState.ENDING) ended = true;
+            steps++;
+        }
+        cost.end();
+
+        return new CycleResult(cycle, steps, (GameClock.millis() - START_MILLIS) / 3_600_000.0, cost, measureState());
+    }
+
+    private void step() {
+        expiryService.tick();
+        eventManager.tick();
+
+        if (eventManager.getState() == EventState.ACTIVE) {
+            recordDeaths(true);
+            updateCaptures();
+        }
+        recordDeaths(false);
+
+        for (PermanentZone zone : permanentZones) {
+            permanentZoneManager.rotatePoIs(zone);
+            permanentZoneManager.rotateExtractionPoints(zone);
+            drainPoIs(zone);
+        }
+        countBudgetDays();
+
+        clock.advance(STEP);
+    }
+
+    // ── Event side effects ───────────────────────────────────────────────────────
+
+    /**
+     * Event side effects without a server: everyone counts as online, zones land at random points
+     */
+    private final class HeadlessEffects implements EventEffects {
+
+        @Override
+        public int onlinePlayers() {
+            return population.length;
+        }
+
+        @Override
+        public void broadcast(String message) {
+        }
+
+        @Override
+        public CompletableFuture<List<IncursionZone>> placeZones() {
+            ZoneTier[] tiers = ZoneTier.values();
+            eventNumber++;
+            List<IncursionZone> zones = new ArrayList<>(INCURSION_ZONES);
+            for (int i = 0; i < INCURSION_ZONES; i++) {
+                Location center = new Location(world, random.nextDouble(-WORLD_EXTENT, WORLD_EXTENT) * 0.8, 64,
+                        random.nextDouble(-WORLD_EXTENT, WORLD_EXTENT) * 0.8);
+                zones.add(new IncursionZone("cycle-" + eventNumber + "-zone-" + i, center,
+                        random.nextDouble(80, 160), tiers[i % tiers.length]));
+            }
+            return CompletableFuture.completedFuture(zones);
+        }
+
+        @Override
+        public void eventStarted(IncursionEvent event) {
+        }
+
+        @Override
+        public void eventEnding() {
+        }
+
+        @Override
+        public void eventCleared(IncursionEvent event) {
+        }
+
+        @Override
+        public void townWon(int townId) {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    // ── Load ─────────────────────────────────────────────────────────────────────
+
+    /**
+     * Deaths arrive as a Bernoulli stream per second; rates above one per second land several at once
+     */
+    private void recordDeaths(boolean incursion) {
+        double expected = deathsPerSecond;
+        while (expected > 0) {
+            if (random.nextDouble() < Math.min(1.0, expected)) {
+                UUID victim = population[random.nextInt(population.length)];
+                if (incursion) {
+                    playerStateManager.recordIncursionDeath(victim);
+                } else {
+                    PermanentZone zone = permanentZones.get(random.nextInt(permanentZones.size()));
+                    permanentZoneManager.recordZoneDeath(victim, zone.getId());
+                }
+            }
+            expected -= 1.0;
+        }
+    }
+
+    /**
+     * One or two towns contest each beacon each second, so beacons change hands and decay
+     */
+    private void updateCaptures() {
+        for (BeaconCapture capture : beaconManager.getAllCaptureStates()) {
+            int roll = random.nextInt(10);
+            if (roll < 2) {
+                capture.setContested(true);
+            } else if (roll < 4) {
+                capture.setContested(false);
+                capture.updateProgress(-config.getDecayRate(), null, config.getBeaconCapturePoints());
+            } else {
+                capture.setContested(false);
+                capture.updateProgress(config.getPointsPerPlayer() * (1 + random.nextInt(4)),
+                        towns[random.nextInt(TOWNS)], config.getBeaconCapturePoints());
+                capture.consumeJustCaptured();
+            }
+        }
+    }
+
+    /**
+     * Campers extract from every active PoI at the base rate, as ResourceAccumulationTask would credit them
+     */
+    private void drainPoIs(PermanentZone zone) {
+        double rate = config.getPermanentZonePoiBaseRate();
+        for (PointOfInterest poi : permanentZoneManager.getActivePoIs(zone)) {
+            if (poi.isActive()) {
+                poi.consumeResource(rate * CAMPERS_PER_POI);
+            }
+        }
+    }
+
+    private void countBudgetDays() {
+        for (PermanentZone zone : permanentZones) {
+            long dayStart = permanentZoneManager.getBudgetDayStart(zone);
+            Long previous = lastDayStart.put(zone, dayStart);
+            if (dayStart != 0 && (previous == null || previous != dayStart)) {
+                budgetDaysStarted++;
+            }
+        }
+    }
+
+    private StateSize measureState() {
+        int pois = 0;
+        int respawns = 0;
+        int extractionPoints = 0;
+        for (PermanentZone zone : permanentZones) {
+            pois += permanentZoneManager.getActivePoIs(zone).size();
+            respawns += permanentZoneManager.getQueuedPoIRespawnCount(zone);
+            extractionPoints += permanentZoneManager.getActiveExtractionPoints(zone).size();
+        }
+        return new StateSize(expiryService.getPendingCount(), playerStateManager.getIncursionDeathCooldownCount(),
+                permanentZoneManager.getZoneDeathCooldownCount(),
+                zoneManager.getAllZones().size(), pois, respawns, extractionPoints, budgetDaysStarted);
+    }
+}
@@ -0,0 +1,131 @@
+package net.mysterria.cosmos.simulation;
+
+import net.mysterria.cosmos.simulation.EventCycleRun.CycleResult;
+import net.mysterria.cosmos.simulation.EventCycleRun.StateSize;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Time-compressed event cycle benchmark: fast-forwards full IDLE → STARTING → ACTIVE → ENDING cycles
+ * (with the cooldown after each) and the permanent zones' daily budget rollovers on a manual clock,
+ * then reports per-cycle cost and whether tracked state keeps growing from one cycle to the next.
+ * <p>
+ * Usage: {@code ./gradlew simulateCycles -Psim.args="--cycles 48 --warmup 4 --population 2000 --deaths-per-minute 30"}
+ * <p>
+ * With the default 30-minute event and 120-minute cooldown, 48 cycles cover five simulated days.
+ * Cycle cost is the whole cycle on one thread; the per-second row is the distribution across its steps.
+ */
+public final class EventCycleSimulator {
+
+    private EventCycleSimulator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int cycles = 48;
+        int warmup = 4;
+        int population = 2000;
+        double deathsPerMinute = 30;
+        long seed = 1L;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--cycles" -> cycles = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--population" -> population = Integer.parseInt(value);
+                case "--deaths-per-minute" -> deathsPerMinute = Double.parseDouble(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        SimServer.install();
+        File dataFolder = Files.createTempDirectory("cosmos-cycles").toFile();
+
+        // ~9000 simulated seconds per default cycle
+        EventCycleRun run = new EventCycleRun(population, deathsPerMinute, seed, dataFolder, cycles * 9000);
+        try {
+            for (int i = 0; i < warmup; i++) {
+                run.runCycle(-(warmup - i), false);
+            }
+
+            List<CycleResult> results = new ArrayList<>(cycles);
+            printHeader();
+            for (int i = 1; i <= cycles; i++) {
+                CycleResult result = run.runCycle(i, true);
+                printCycle(result);
+                results.add(result);
+            }
+            printSummary(results, run.stepCost);
+        } finally {
+            run.close();
+            deleteQuietly(dataFolder);
+        }
+    }
+
+    private static void printHeader() {
+        System.out.printf("%6s %9s %8s %9s %9s %10s %8s %8s %8s %6s %6s %8s %6s %5s%n",
+                "cycle", "sim hours", "steps", "wall ms", "cpu ms", "alloc KB",
+                "expiry", "inc-cd", "zone-cd", "zones", "pois", "respawn", "exits", "days");
+    }
+
+    private static void printCycle(CycleResult result) {
+        StateSize state = result.state();
+        SubsystemStats cost = result.cost();
+        System.out.printf("%6d %9.1f %8d %9.2f %9.2f %10.1f %8d %8d %8d %6d %6d %8d %6d %5d%n",
+                result.cycle(), result.simulatedHoursTotal(), result.simulatedSeconds(),
+                SubsystemStats.percentileMs(cost.sortedWallNanos(), 100), cost.cpuMsPerTick(1), cost.allocatedKbPerTick(1),
+                state.pendingExpiries(), state.incursionDeathCooldowns(), state.zoneDeathCooldowns(),
+                state.incursionZones(), state.activePoIs(), state.respawnsQueued(), state.extractionPoints(),
+                state.budgetDaysStarted());
+    }
+
+    private static void printSummary(List<CycleResult> results, SubsystemStats stepCost) {
+        if (results.isEmpty()) return;
+
+        long[] sorted = stepCost.sortedWallNanos();
+        System.out.printf("%n=== Per simulated second ===%n");
+        System.out.printf("%9s %9s %9s %12s %14s%n", "p50 ms", "p99 ms", "max ms", "cpu ms/step", "alloc KB/step");
+        System.out.printf("%9.4f %9.4f %9.4f %12.5f %14.3f%n",
+                SubsystemStats.percentileMs(sorted, 50), SubsystemStats.percentileMs(sorted, 99),
+                SubsystemStats.percentileMs(sorted, 100),
+                stepCost.cpuMsPerTick(stepCost.runs()), stepCost.allocatedKbPerTick(stepCost.runs()));
+
+        // Compare the first and last quarter, so a single busy cycle doesn't read as growth
+        int quarter = Math.max(1, results.size() / 4);
+        double firstCpu = 0;
+        double lastCpu = 0;
+        double firstState = 0;
+        double lastState = 0;
+        for (int i = 0; i < quarter; i++) {
+            CycleResult first = results.get(i);
+            CycleResult last = results.get(results.size() - 1 - i);
+            firstCpu += first.cost().cpuMsPerTick(1) / first.simulatedSeconds();
+            lastCpu += last.cost().cpuMsPerTick(1) / last.simulatedSeconds();
+            firstState += first.state().total();
+            lastState += last.state().total();
+        }
+        System.out.printf("%n=== Growth (first vs last %d cycles) ===%n", quarter);
+        System.out.printf("cpu ms per simulated second: %.5f -> %.5f (%+.1f%%)%n",
+                firstCpu / quarter, lastCpu / quarter, percentChange(firstCpu, lastCpu));
+        System.out.printf("tracked entries after cycle:  %.0f -> %.0f (%+.1f%%)%n",
+                firstState / quarter, lastState / quarter, percentChange(firstState, lastState));
+    }
+
+    private static double percentChange(double from, double to) {
+        return from == 0 ? 0 : (to - from) / from * 100.0;
+    }
+
+    private static void deleteQuietly(File dir) {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (!file.delete()) file.deleteOnExit();
+            }
+        }
+        if (!dir.delete()) dir.deleteOnExit();
+    }
+}
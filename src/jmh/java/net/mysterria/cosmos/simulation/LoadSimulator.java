@@ -0,0 +1,97 @@
+package net.mysterria.cosmos.simulation;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Headless event load simulator: runs the plugin's scheduler phases and one full event against thousands of
+ * synthetic players and reports per-phase latency, then a players vs. ms/tick scaling curve.
+ * <p>
+ * Usage: {@code ./gradlew simulate -Psim.args="--players 100,300,1000,3000 --ticks 6000 --warmup 1200 --seed 1"}
+ * <p>
+ * Latency percentiles are over the ticks a phase ran on, read from the scheduler's own phase timers, so phase
+ * rows carry wall time only. CPU and allocation for the whole tick are averaged over every simulated tick.
+ * The movement row is the harness itself and is not part of the plugin total.
+ */
+public final class LoadSimulator {
+
+    private LoadSimulator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] playerCounts = {100, 300, 1000, 3000};
+        int ticks = 6000;
+        int warmup = 1200;
+        long seed = 1L;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--players" -> playerCounts = Arrays.stream(value.split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+                case "--ticks" -> ticks = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        SimServer.install();
+        File dataFolder = Files.createTempDirectory("cosmos-sim").toFile();
+
+        List<SimulationResult> results = new ArrayList<>();
+        for (int players : playerCounts) {
+            SimulationRun run = new SimulationRun(players, ticks, seed, dataFolder);
+            SimulationResult result;
+            try {
+                result = run.run(warmup);
+            } finally {
+                run.close();
+            }
+            printRun(result);
+            results.add(result);
+        }
+        printCurve(results);
+        deleteQuietly(dataFolder);
+    }
+
+    private static void printRun(SimulationResult result) {
+        System.out.printf("%n=== %d players, %d ticks (%d with event active) ===%n",
+                result.players, result.ticks, result.activeTicks);
+        System.out.printf("%-24s %7s %9s %9s %9s %12s %14s%n",
+                "subsystem", "runs", "p50 ms", "p99 ms", "max ms", "cpu ms/tick", "alloc KB/tick");
+        for (SubsystemStats stats : result.subsystems()) {
+            long[] sorted = stats.sortedWallNanos();
+            System.out.printf("%-24s %7d %9.3f %9.3f %9.3f %12s %14s%n",
+                    stats.name, stats.runs(),
+                    SubsystemStats.percentileMs(sorted, 50), SubsystemStats.percentileMs(sorted, 99),
+                    SubsystemStats.percentileMs(sorted, 100),
+                    stats.threadTimed() ? String.format("%.4f", stats.cpuMsPerTick(result.ticks)) : "-",
+                    stats.threadTimed() ? String.format("%.2f", stats.allocatedKbPerTick(result.ticks)) : "-");
+        }
+    }
+
+    private static void printCurve(List<SimulationResult> results) {
+        System.out.printf("%n=== Scaling curve (plugin tick total) ===%n");
+        System.out.printf("%8s %12s %12s %12s %14s%n", "players", "p50 ms/tick", "p99 ms/tick", "cpu ms/tick", "alloc KB/tick");
+        for (SimulationResult result : results) {
+            long[] sorted = result.tickTotal.sortedWallNanos();
+            System.out.printf("%8d %12.3f %12.3f %12.4f %14.2f%n",
+                    result.players,
+                    SubsystemStats.percentileMs(sorted, 50), SubsystemStats.percentileMs(sorted, 99),
+                    result.tickTotal.cpuMsPerTick(result.ticks), result.tickTotal.allocatedKbPerTick(result.ticks));
+        }
+    }
+
+    private static void deleteQuietly(File dir) {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (!file.delete()) file.deleteOnExit();
+            }
+        }
+        if (!dir.delete()) dir.deleteOnExit();
+    }
+}
@@ -0,0 +1,44 @@
+package net.mysterria.cosmos.simulation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock that only moves when told to, installed through {@link net.mysterria.cosmos.toolkit.GameClock}
+ * so simulated time can run far ahead of the wall clock
+ */
+final class ManualClock extends Clock {
+
+    private volatile long millis;
+
+    ManualClock(long startMillis) {
+        this.millis = startMillis;
+    }
+
+    void advance(Duration duration) {
+        millis += duration.toMillis();
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+}
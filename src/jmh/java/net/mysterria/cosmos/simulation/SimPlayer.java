@@ -0,0 +1,146 @@
+package net.mysterria.cosmos.simulation;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * One synthetic player: a position that follows a movement script, and the stand-in
+ * {@link Player} the plugin code sees. The proxy answers identity, position, game mode and an empty
+ * inventory; messages, titles and sounds are dropped.
+ */
+public final class SimPlayer {
+
+    /**
+     * Movement scripts
+     */
+    public enum Script {
+        /** Wander with a slowly drifting heading */
+        RANDOM_WALK,
+        /** Head for an incursion zone, then wander inside it */
+        ZONE_RUSH,
+        /** Walk to a PoI and stay inside its extraction radius */
+        POI_CAMP
+    }
+
+    /** Blocks per tick, roughly sprinting */
+    private static final double SPEED = 0.28;
+
+    private final UUID id;
+    private final String name;
+    private final World world;
+    private final Script script;
+    private final int townId;
+    private final Player player;
+
+    private double x;
+    private double z;
+    private double heading;
+    private Location target;
+    private double targetSlack;
+
+    SimPlayer(int index, World world, Script script, int townId, double x, double z, double heading) {
+        this.id = new UUID(0xC05305L, index);
+        this.name = "sim" + index;
+        this.world = world;
+        this.script = script;
+        this.townId = townId;
+        this.x = x;
+        this.z = z;
+        this.heading = heading;
+        PlayerInventory inventory = SimServer.proxy(PlayerInventory.class, (method, args) -> switch (method.getName()) {
+            case "getContents", "getStorageContents" -> new ItemStack[0];
+            default -> null;
+        });
+        this.player = SimServer.proxy(Player.class, (method, args) -> switch (method.getName()) {
+            case "getUniqueId" -> id;
+            case "getName", "getDisplayName" -> name;
+            case "getWorld" -> world;
+            case "getLocation" -> args == null ? location() : fill((Location) args[0]);
+            case "getEyeLocation" -> location().add(0, 1.62, 0);
+            case "getGameMode" -> GameMode.SURVIVAL;
+            case "getInventory" -> inventory;
+            case "isOnline", "isValid", "isConnected" -> true;
+            case "toString" -> "SimPlayer{" + name + "}";
+            default -> null;
+        });
+    }
+
+    public Player player() {
+        return player;
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public Script script() {
+        return script;
+    }
+
+    public int townId() {
+        return townId;
+    }
+
+    public Location location() {
+        return new Location(world, x, 64, z);
+    }
+
+    private Location fill(Location out) {
+        if (out == null) return location();
+        out.setWorld(world);
+        out.setX(x);
+        out.setY(64);
+        out.setZ(z);
+        return out;
+    }
+
+    /**
+     * Walk towards target until within slack blocks of it; null returns to wandering
+     */
+    void setTarget(Location target, double slack) {
+        this.target = target;
+        this.targetSlack = slack;
+    }
+
+    boolean hasTarget() {
+        return target != null;
+    }
+
+    /**
+     * Advance one tick. Returns true when the current target was reached this tick.
+     */
+    boolean move(SplittableRandom random, double worldExtent) {
+        if (target != null) {
+            double dx = target.getX() - x;
+            double dz = target.getZ() - z;
+            double distance = Math.sqrt(dx * dx + dz * dz);
+            if (distance <= targetSlack) {
+                // Idle on the spot with a little jitter, like a player fighting over a point
+                x += random.nextDouble(-0.05, 0.05);
+                z += random.nextDouble(-0.05, 0.05);
+                return true;
+            }
+            heading = Math.atan2(dz, dx);
+        } else {
+            heading += random.nextDouble(-0.15, 0.15);
+        }
+
+        x += Math.cos(heading) * SPEED;
+        z += Math.sin(heading) * SPEED;
+
+        // Turn back at the world edge
+        if (Math.abs(x) > worldExtent || Math.abs(z) > worldExtent) {
+            heading += Math.PI;
+            x = Math.max(-worldExtent, Math.min(worldExtent, x));
+            z = Math.max(-worldExtent, Math.min(worldExtent, z));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,255 @@
+package net.mysterria.cosmos.simulation;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.boss.BossBar;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stand-in {@link Server} for the headless simulator. Answers the calls the zone domain makes
+ * (online players, player lookup, console logging, boss bars) and a {@link BukkitScheduler} whose tasks run
+ * from {@link #tick()}; every other call returns an empty default. The thread that installs the server is
+ * its primary thread.
+ */
+public final class SimServer {
+
+    private static final Logger LOGGER = Logger.getLogger("CosmosSim");
+
+    private static volatile List<Player> onlinePlayers = List.of();
+    private static volatile Map<UUID, Player> playersById = Map.of();
+    private static boolean installed;
+    private static Thread primaryThread;
+
+    // Scheduled tasks in scheduling order; the tick loop reuses one due list
+    private static final List<SimTask> TASKS = new ArrayList<>();
+    private static final List<SimTask> DUE = new ArrayList<>();
+    private static long currentTick;
+
+    private SimServer() {
+    }
+
+    /**
+     * Install the stand-in as Bukkit's server. Sets the field directly: Bukkit.setServer also
+     * resolves server build info, which does not exist outside a real server.
+     */
+    public static synchronized void install() throws ReflectiveOperationException {
+        if (installed) return;
+        LOGGER.setLevel(Level.WARNING);
+
+        ConsoleCommandSender console = proxy(ConsoleCommandSender.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> "CONSOLE";
+            case "isOp", "hasPermission" -> true;
+            default -> null;
+        });
+        BukkitScheduler scheduler = proxy(BukkitScheduler.class, (method, args) -> switch (method.getName()) {
+            case "runTask" -> schedule(args[1], 1L, 0L);
+            case "runTaskLater" -> schedule(args[1], (Long) args[2], 0L);
+            case "runTaskTimer" -> schedule(args[1], (Long) args[2], (Long) args[3]);
+            case "toString" -> "SimScheduler";
+            default -> throw new UnsupportedOperationException("SimServer scheduler: " + method.getName());
+        });
+        Server server = proxy(Server.class, (method, args) -> switch (method.getName()) {
+            case "getLogger" -> LOGGER;
+            case "getName" -> "CosmosSim";
+            case "getConsoleSender" -> console;
+            case "getOnlinePlayers" -> onlinePlayers;
+            case "getMaxPlayers" -> Integer.MAX_VALUE;
+            case "getPlayer" -> args[0] instanceof UUID id ? playersById.get(id) : null;
+            case "isPrimaryThread" -> Thread.currentThread() == primaryThread;
+            case "getScheduler" -> scheduler;
+            case "createBossBar" -> bossBar();
+            default -> null;
+        });
+
+        Field field = Bukkit.class.getDeclaredField("server");
+        field.setAccessible(true);
+        field.set(null, server);
+        primaryThread = Thread.currentThread();
+        installed = true;
+    }
+
+    /**
+     * Run one server tick on the calling thread: every scheduled task that is due, in scheduling order.
+     * A task that throws is logged and the tick carries on, as the Bukkit scheduler does.
+     */
+    public static void tick() {
+        synchronized (TASKS) {
+            currentTick++;
+            for (Iterator<SimTask> it = TASKS.iterator(); it.hasNext(); ) {
+                SimTask task = it.next();
+                if (task.cancelled) {
+                    it.remove();
+                } else if (task.nextRun <= currentTick) {
+                    DUE.add(task);
+                }
+            }
+        }
+        for (SimTask task : DUE) {
+            if (task.cancelled) continue;
+            try {
+                task.runnable.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Scheduled task threw", e);
+            }
+            synchronized (TASKS) {
+                if (task.period > 0) {
+                    task.nextRun += task.period;
+                } else {
+                    task.cancelled = true;
+                }
+            }
+        }
+        DUE.clear();
+    }
+
+    /**
+     * Drop every scheduled task, between runs
+     */
+    public static void clearTasks() {
+        synchronized (TASKS) {
+            TASKS.forEach(task -> task.cancelled = true);
+            TASKS.clear();
+        }
+    }
+
+    /**
+     * Replace the online player list seen through {@link Bukkit#getOnlinePlayers()}
+     */
+    public static void setOnlinePlayers(List<Player> players) {
+        Map<UUID, Player> byId = new HashMap<>(players.size() * 2);
+        for (Player player : players) {
+            byId.put(player.getUniqueId(), player);
+        }
+        onlinePlayers = List.copyOf(players);
+        playersById = byId;
+    }
+
+    /**
+     * A flat world: every column's highest block is at y=63, anything else answers an empty default
+     */
+    static World flatWorld(String name) {
+        UUID uid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        return proxy(World.class, (method, args) -> switch (method.getName()) {
+            case "getName", "toString" -> name;
+            case "getUID" -> uid;
+            case "getHighestBlockYAt" -> 63;
+            default -> null;
+        });
+    }
+
+    // ── Scheduler ────────────────────────────────────────────────────────────────
+
+    private static final class SimTask {
+        final Runnable runnable;
+        final long period;
+        long nextRun;
+        volatile boolean cancelled;
+
+        SimTask(Runnable runnable, long nextRun, long period) {
+            this.runnable = runnable;
+            this.nextRun = nextRun;
+            this.period = period;
+        }
+    }
+
+    /**
+     * Queue a task: first run after delay ticks (at least the next tick), then every period ticks if positive
+     */
+    private static BukkitTask schedule(Object task, long delay, long period) {
+        if (!(task instanceof Runnable runnable)) {
+            throw new UnsupportedOperationException("SimServer scheduler only takes Runnables");
+        }
+        SimTask simTask;
+        synchronized (TASKS) {
+            simTask = new SimTask(runnable, currentTick + Math.max(1L, delay), period);
+            TASKS.add(simTask);
+        }
+        return proxy(BukkitTask.class, (method, args) -> switch (method.getName()) {
+            case "cancel" -> {
+                simTask.cancelled = true;
+                yield null;
+            }
+            case "isCancelled" -> simTask.cancelled;
+            case "isSync" -> true;
+            default -> null;
+        });
+    }
+
+    /**
+     * A boss bar that only tracks its viewers; titles, colours and progress are dropped
+     */
+    private static BossBar bossBar() {
+        List<Player> viewers = new ArrayList<>();
+        return proxy(BossBar.class, (method, args) -> switch (method.getName()) {
+            case "getPlayers" -> new ArrayList<>(viewers);
+            case "addPlayer" -> {
+                if (!viewers.contains(args[0])) viewers.add((Player) args[0]);
+                yield null;
+            }
+            case "removePlayer" -> {
+                viewers.remove(args[0]);
+                yield null;
+            }
+            case "removeAll" -> {
+                viewers.clear();
+                yield null;
+            }
+            default -> null;
+        });
+    }
+
+    // ── Proxies ──────────────────────────────────────────────────────────────────
+
+    interface Answer {
+        Object answer(Method method, Object[] args) throws Throwable;
+    }
+
+    /**
+     * Proxy an interface: identity equality, then the answer, then an empty default for the return type
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T proxy(Class<T> type, Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    if (method.getParameterCount() == 1) return self == args[0];
+                    break;
+                case "hashCode":
+                    if (method.getParameterCount() == 0) return System.identityHashCode(self);
+                    break;
+                default:
+                    break;
+            }
+            Object result = answer.answer(method, args);
+            return result != null ? result : emptyValue(method.getReturnType());
+        });
+    }
+
+    private static Object emptyValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0;
+        if (type == float.class) return 0.0f;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return '\0';
+        if (type == List.class || type == Collection.class) return List.of();
+        if (type == Set.class) return Set.of();
+        if (type == Map.class) return Map.of();
+        if (type == Optional.class) return Optional.empty();
+        return null;
+    }
+}
@@ -0,0 +1,82 @@
+package net.mysterria.cosmos.simulation;
+
+import me.angeschossen.lands.api.LandsIntegration;
+import me.angeschossen.lands.api.land.Land;
+import me.angeschossen.lands.api.player.LandPlayer;
+import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Towns for the headless simulator, served to {@link TownsToolkit} through a stand-in Lands integration.
+ * Town N is a land named "Town N" whose trusted players are its members; each player's LandPlayer is
+ * trusted on their town's land and owns none. HuskTowns stays unset.
+ */
+final class SimTowns {
+
+    private SimTowns() {
+    }
+
+    /**
+     * Build one land per town from the players' town indices and hand them to {@link TownsToolkit}
+     */
+    static void install(List<SimPlayer> players, int towns) {
+        List<Set<UUID>> members = new ArrayList<>(towns);
+        for (int t = 0; t < towns; t++) {
+            members.add(new HashSet<>());
+        }
+        for (SimPlayer player : players) {
+            members.get(player.townId()).add(player.id());
+        }
+
+        List<Land> lands = new ArrayList<>(towns);
+        Map<String, Land> byName = new HashMap<>();
+        for (int t = 0; t < towns; t++) {
+            Land land = land("Town " + (t + 1), Set.copyOf(members.get(t)));
+            lands.add(land);
+            byName.put(land.getName(), land);
+        }
+
+        Map<UUID, LandPlayer> landPlayers = new HashMap<>(players.size() * 2);
+        for (SimPlayer player : players) {
+            List<Land> trusted = List.of(lands.get(player.townId()));
+            landPlayers.put(player.id(), SimServer.proxy(LandPlayer.class, (method, args) -> switch (method.getName()) {
+                case "getLands" -> collection(method, trusted);
+                case "getUID" -> player.id();
+                default -> null;
+            }));
+        }
+
+        LandsIntegration integration = SimServer.proxy(LandsIntegration.class, (method, args) -> switch (method.getName()) {
+            case "getLandPlayer" -> landPlayers.get((UUID) args[0]);
+            case "getLands" -> collection(method, lands);
+            case "getLandByName" -> byName.get((String) args[0]);
+            default -> null;
+        });
+        TownsToolkit.init(null, integration);
+    }
+
+    /**
+     * Unset the town integration again
+     */
+    static void uninstall() {
+        TownsToolkit.init(null, null);
+    }
+
+    private static Land land(String name, Set<UUID> members) {
+        return SimServer.proxy(Land.class, (method, args) -> switch (method.getName()) {
+            case "getName", "toString" -> name;
+            case "getTrustedPlayers" -> collection(method, List.copyOf(members));
+            case "isTrusted" -> members.contains((UUID) args[0]);
+            default -> null;
+        });
+    }
+
+    /**
+     * The values as whichever collection type the API method declares
+     */
+    private static Collection<?> collection(Method method, List<?> values) {
+        return method.getReturnType().isAssignableFrom(List.class) ? values : Set.copyOf(values);
+    }
+}
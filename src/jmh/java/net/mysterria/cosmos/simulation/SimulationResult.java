@@ -0,0 +1,37 @@
+package net.mysterria.cosmos.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stats for one {@link SimulationRun}: one row per scheduler phase, in registration order, plus the whole
+ * server tick and the harness's own movement step
+ */
+final class SimulationResult {
+
+    final int players;
+    final int ticks;
+    int activeTicks;
+
+    final List<SubsystemStats> phases;
+    final SubsystemStats tickTotal;
+    final SubsystemStats movement;
+
+    SimulationResult(int players, int ticks, List<String> phaseNames) {
+        this.players = players;
+        this.ticks = ticks;
+        this.phases = new ArrayList<>(phaseNames.size());
+        for (String name : phaseNames) {
+            phases.add(new SubsystemStats(name, ticks));
+        }
+        this.tickTotal = new SubsystemStats("plugin tick total", ticks);
+        this.movement = new SubsystemStats("movement (harness)", ticks);
+    }
+
+    List<SubsystemStats> subsystems() {
+        List<SubsystemStats> all = new ArrayList<>(phases);
+        all.add(tickTotal);
+        all.add(movement);
+        return all;
+    }
+}
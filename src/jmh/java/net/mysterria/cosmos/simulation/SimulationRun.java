@@ -0,0 +1,451 @@
+package net.mysterria.cosmos.simulation;
+
+import net.mysterria.cosmos.CosmosPlugin;
+import net.mysterria.cosmos.benchmark.StubPlugin;
+import net.mysterria.cosmos.config.ConfigLoader;
+import net.mysterria.cosmos.domain.acting.ActingRewardManager;
+import net.mysterria.cosmos.domain.beacon.service.BeaconManager;
+import net.mysterria.cosmos.domain.beacon.service.BeaconUIManager;
+import net.mysterria.cosmos.domain.beacon.task.BeaconCaptureTask;
+import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
+import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
+import net.mysterria.cosmos.domain.exclusion.model.PointOfInterest;
+import net.mysterria.cosmos.domain.exclusion.task.ExtractionTask;
+import net.mysterria.cosmos.domain.exclusion.task.PoIRotationTask;
+import net.mysterria.cosmos.domain.exclusion.task.ResourceAccumulationTask;
+import net.mysterria.cosmos.domain.incursion.listener.IncursionZoneHorseListener;
+import net.mysterria.cosmos.domain.incursion.model.IncursionEvent;
+import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
+import net.mysterria.cosmos.domain.incursion.model.source.EventState;
+import net.mysterria.cosmos.domain.incursion.model.source.ZoneTier;
+import net.mysterria.cosmos.domain.incursion.service.EventEffects;
+import net.mysterria.cosmos.domain.incursion.service.EventManager;
+import net.mysterria.cosmos.domain.incursion.service.PlayerStateManager;
+import net.mysterria.cosmos.domain.incursion.service.ZoneManager;
+import net.mysterria.cosmos.domain.incursion.task.EventCheckTask;
+import net.mysterria.cosmos.toolkit.ChunkPrewarmer;
+import net.mysterria.cosmos.toolkit.CosmosMetrics;
+import net.mysterria.cosmos.toolkit.CosmosScheduler;
+import net.mysterria.cosmos.toolkit.ExpiryService;
+import net.mysterria.cosmos.toolkit.GameClock;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.LoadGovernor;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
+import net.mysterria.cosmos.toolkit.PlatformScheduler;
+import net.mysterria.cosmos.toolkit.PlayerRegistry;
+import net.mysterria.cosmos.toolkit.ZoneMembershipPipeline;
+import net.mysterria.cosmos.toolkit.map.impl.NoOpMapIntegration;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One simulated event with a fixed player count, on the plugin's own tick path.
+ * <p>
+ * The services are the real ones, built on a {@link StubPlugin}, and the {@link CosmosScheduler} runs the
+ * phases the plugin registers on enable: the {@link ZoneMembershipPipeline}, the expiry wheel, the
+ * {@link EventManager} through {@link EventCheckTask}, {@link ResourceAccumulationTask}, {@link ExtractionTask},
+ * {@link PoIRotationTask}, the load governor and the HUD flush, with {@link BeaconCaptureTask} registered while
+ * the event is active. {@link SimServer#tick()} runs the scheduler's driver once per tick; time comes from a
+ * {@link ManualClock} moved 50 ms per tick, and ticks run back to back.
+ * <p>
+ * What a headless server cannot run is left out or stood in for:
+ * <ul>
+ *   <li>ZoneCheckTask and PermanentZonePlayerTask need effects, titles and teleports; the "zone-apply" and
+ *       "permanent-zone-apply" phases apply the pipeline's frame to the zone managers on the same cadence.</li>
+ *   <li>Extraction points are disabled (a channel start plays a registry-backed sound), so the extraction phase
+ *       only visits players; capture acting effort is zero.</li>
+ *   <li>The event starts without beacon UI initialisation or physical beacons, and the sidebar has no
+ *       scoreboard; the candidate pre-scan and the cosmetic phases are not registered.</li>
+ *   <li>Membership geometry runs on the pipeline's worker threads, so its CPU time is not in the tick rows.</li>
+ * </ul>
+ */
+final class SimulationRun {
+
+    private static final double WORLD_EXTENT = 2500;
+
+    private static final Duration TICK = Duration.ofMillis(50);
+    private static final long START_MILLIS = 1_700_000_000_000L;
+
+    private static final int INCURSION_ZONES = 8;
+    private static final int PERMANENT_ZONES = 2;
+    private static final int PERMANENT_ZONE_VERTICES = 24;
+    private static final double PERMANENT_ZONE_RADIUS = 350;
+    private static final int TOWNS = 20;
+
+    private final SplittableRandom random;
+    private final ManualClock clock = new ManualClock(START_MILLIS);
+    private final World world = SimServer.flatWorld("world");
+    private final int ticks;
+
+    private final CosmosPlugin plugin;
+    private final PlayerRegistry registry;
+    private final PerfMonitor perfMonitor;
+    private final CosmosScheduler scheduler;
+    private final ZoneManager zoneManager;
+    private final PermanentZoneManager permanentZoneManager;
+    private final BeaconManager beaconManager;
+    private final BeaconUIManager beaconUIManager;
+    private final ZoneMembershipPipeline membership;
+    private final EventManager eventManager;
+
+    private final List<PermanentZone> permanentZones = new ArrayList<>();
+    private final List<SimPlayer> players = new ArrayList<>();
+    private final Map<SimPlayer, PointOfInterest> campedPoIs = new IdentityHashMap<>();
+
+    // Phase timers, index-aligned with phaseNames, and their totals at the last tick
+    private final List<String> phaseNames = new ArrayList<>();
+    private final List<PerfMonitor.Timer> phaseTimers = new ArrayList<>();
+    private long[] phaseCalls;
+    private long[] phaseNanos;
+
+    private int eventNumber;
+
+    /**
+     * Installs the manual clock in {@link GameClock} and the towns in TownsToolkit; call {@link #close()} to
+     * restore both
+     *
+     * @param ticks length of the measured event lifecycle; the countdown is sized from it
+     */
+    SimulationRun(int playerCount, int ticks, long seed, File dataFolder) throws IOException {
+        GameClock.set(clock);
+        this.random = new SplittableRandom(seed);
+        this.ticks = ticks;
+
+        // The lifecycle is driven from here; the countdown covers 5% of the run. Chunk tickets and Paper's
+        // tick times need a server, extraction channels and acting rewards need registries and CoI.
+        int countdownSeconds = Math.max(1, (ticks / 10 - ticks / 20) / 20);
+        Files.writeString(new File(dataFolder, "config.yml").toPath(), """
+                event:
+                  auto-start: false
+                  countdown-seconds: %d
+                  duration-minutes: 1440
+                zones:
+                  chunk-prewarm:
+                    enabled: false
+                permanent-zones:
+                  extraction-point-count: 0
+                beacons:
+                  capture-acting-effort: 0
+                """.formatted(countdownSeconds));
+        Files.writeString(new File(dataFolder, "governor.yml").toPath(), "enabled: false\n");
+
+        StubPlugin stub = new StubPlugin(dataFolder);
+        this.plugin = stub.plugin();
+        ConfigLoader configLoader = stub.provide(new ConfigLoader(plugin));
+        configLoader.load();
+        this.registry = stub.provide(new PlayerRegistry(playerCount));
+        stub.provide(new PlatformScheduler(plugin));
+        this.perfMonitor = stub.provide(new PerfMonitor(configLoader));
+        stub.provide(new CosmosMetrics(perfMonitor));
+        stub.provide(new NoOpMapIntegration());
+        this.scheduler = stub.provide(new CosmosScheduler(plugin));
+        HudCompositor hudCompositor = stub.provide(new HudCompositor(plugin));
+        LoadGovernor loadGovernor = stub.provide(new LoadGovernor(plugin));
+        ExpiryService expiryService = stub.provide(new ExpiryService(plugin));
+        stub.provide(new ChunkPrewarmer(plugin));
+        stub.provide(new ActingRewardManager(plugin));
+        this.zoneManager = new ZoneManager(plugin);
+        this.beaconManager = stub.provide(new BeaconManager(plugin));
+        stub.provide(new PlayerStateManager(plugin));
+        this.permanentZoneManager = stub.provide(new PermanentZoneManager(plugin));
+        this.membership = stub.provide(new ZoneMembershipPipeline(plugin, zoneManager, permanentZoneManager));
+        this.beaconUIManager = new BeaconUIManager(plugin, beaconManager);
+        IncursionZoneHorseListener horseListener = new IncursionZoneHorseListener(plugin, permanentZoneManager);
+        this.eventManager = new EventManager(plugin, zoneManager, beaconManager, new HeadlessEffects());
+
+        buildPermanentZones();
+        spawnPlayers(playerCount);
+
+        // Same order and periods as CosmosIncursion.startTasks
+        every("zone-membership", 1L, membership::tick);
+        every("expiry", 1L, expiryService::tick);
+        every("event-check", 20L, new EventCheckTask(eventManager));
+        every("zone-apply", 5L, this::applyIncursionFrame);
+        everyPlayer("permanent-zone-apply", 5, this::applyPermanentFrame);
+        everyPlayer("resource-accumulation", 20, new ResourceAccumulationTask(plugin, permanentZoneManager, horseListener));
+        everyPlayer("extraction", 20, new ExtractionTask(plugin, permanentZoneManager));
+        every("poi-rotation", 20L, new PoIRotationTask(plugin, permanentZoneManager));
+        every("load-governor", 20L, loadGovernor::sample);
+        every("hud", 1L, hudCompositor::flush);
+        // Registered by HeadlessEffects once the event is active
+        trackPhase("beacon-capture");
+        scheduler.start();
+    }
+
+    void close() {
+        scheduler.stop();
+        membership.shutdown();
+        SimServer.clearTasks();
+        SimTowns.uninstall();
+        GameClock.reset();
+    }
+
+    // ── Setup ────────────────────────────────────────────────────────────────────
+
+    private void buildPermanentZones() {
+        for (int i = 0; i < PERMANENT_ZONES; i++) {
+            double cx = (i % 2 == 0 ? -1 : 1) * WORLD_EXTENT * 0.5;
+            double cz = -cx;
+            List<Location> vertices = new ArrayList<>();
+            for (int v = 0; v < PERMANENT_ZONE_VERTICES; v++) {
+                double angle = 2 * Math.PI * v / PERMANENT_ZONE_VERTICES;
+                double r = PERMANENT_ZONE_RADIUS * random.nextDouble(0.75, 1.0);
+                vertices.add(new Location(world, cx + r * Math.cos(angle), 64, cz + r * Math.sin(angle)));
+            }
+            PermanentZone zone = new PermanentZone("sim-permanent-" + i, vertices);
+            permanentZoneManager.addZone(zone);
+            permanentZoneManager.spawnPoIsForZone(zone);
+            permanentZones.add(zone);
+        }
+    }
+
+    private void spawnPlayers(int count) {
+        List<Player> online = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // 50% wander, 30% rush incursion zones, 20% camp PoIs
+            int roll = random.nextInt(10);
+            SimPlayer.Script script = roll < 5 ? SimPlayer.Script.RANDOM_WALK
+                    : roll < 8 ? SimPlayer.Script.ZONE_RUSH
+                    : SimPlayer.Script.POI_CAMP;
+            Location spawn = randomPoint(WORLD_EXTENT);
+            SimPlayer simPlayer = new SimPlayer(i, world, script, i % TOWNS, spawn.getX(), spawn.getZ(),
+                    random.nextDouble(0, 2 * Math.PI));
+            players.add(simPlayer);
+            online.add(simPlayer.player());
+            registry.register(simPlayer.player());
+        }
+        SimServer.setOnlinePlayers(online);
+        SimTowns.install(players, TOWNS);
+    }
+
+    private Location randomPoint(double extent) {
+        return new Location(world, random.nextDouble(-extent, extent), 64, random.nextDouble(-extent, extent));
+    }
+
+    private void every(String name, long periodTicks, Runnable task) {
+        scheduler.every(name, periodTicks, task);
+        trackPhase(name);
+    }
+
+    private void everyPlayer(String name, int periodTicks, CosmosScheduler.PlayerPhase task) {
+        scheduler.everyPlayer(name, periodTicks, task);
+        trackPhase(name);
+    }
+
+    private void trackPhase(String name) {
+        phaseNames.add(name);
+        phaseTimers.add(perfMonitor.timer("task." + name));
+    }
+
+    // ── Run ──────────────────────────────────────────────────────────────────────
+
+    /**
+     * Warm up through one event of warmupTicks, then measure one event lifecycle: forced start after 5% of the
+     * ticks, the countdown, active until the last 10%, then a forced stop
+     */
+    SimulationResult run(int warmupTicks) {
+        lifecycle(new SimulationResult(players.size(), warmupTicks, phaseNames), warmupTicks);
+        return lifecycle(new SimulationResult(players.size(), ticks, phaseNames), ticks);
+    }
+
+    private SimulationResult lifecycle(SimulationResult result, int length) {
+        syncPhaseTotals();
+        int startAt = length / 20;
+        int endingAt = length - length / 10;
+        for (int tick = 0; tick < length; tick++) {
+            if (tick == startAt) eventManager.startEvent(true);
+            if (tick == endingAt) eventManager.forceStop();
+            tick(result);
+            if (eventManager.getState() == EventState.ACTIVE) result.activeTicks++;
+        }
+
+        // Let the next event check clear the event before anything else is measured
+        EventState state = eventManager.getState();
+        if (state != EventState.IDLE && state != EventState.ENDING) eventManager.forceStop();
+        while (eventManager.getState() != EventState.IDLE) {
+            tick(null);
+        }
+        return result;
+    }
+
+    private void tick(SimulationResult result) {
+        if (result != null) result.movement.begin();
+        List<IncursionZone> activeZones = List.copyOf(zoneManager.getActiveZones());
+        for (SimPlayer player : players) {
+            steer(player, activeZones);
+        }
+        if (result != null) result.movement.end();
+
+        if (result != null) result.tickTotal.begin();
+        SimServer.tick();
+        if (result != null) result.tickTotal.end();
+
+        if (result != null) recordPhases(result);
+        clock.advance(TICK);
+    }
+
+    private void syncPhaseTotals() {
+        phaseCalls = new long[phaseTimers.size()];
+        phaseNanos = new long[phaseTimers.size()];
+        for (int i = 0; i < phaseTimers.size(); i++) {
+            phaseCalls[i] = phaseTimers.get(i).getTotalCalls();
+            phaseNanos[i] = phaseTimers.get(i).getTotalNanos();
+        }
+    }
+
+    /**
+     * One sample per phase that ran this tick, from the scheduler's own phase timers
+     */
+    private void recordPhases(SimulationResult result) {
+        for (int i = 0; i < phaseTimers.size(); i++) {
+            PerfMonitor.Timer timer = phaseTimers.get(i);
+            long calls = timer.getTotalCalls();
+            if (calls == phaseCalls[i]) continue;
+            long nanos = timer.getTotalNanos();
+            result.phases.get(i).record(nanos - phaseNanos[i]);
+            phaseCalls[i] = calls;
+            phaseNanos[i] = nanos;
+        }
+    }
+
+    // ── Movement scripts ─────────────────────────────────────────────────────────
+
+    private void steer(SimPlayer player, List<IncursionZone> activeZones) {
+        switch (player.script()) {
+            case ZONE_RUSH -> {
+                if (activeZones.isEmpty()) {
+                    player.setTarget(null, 0);
+                } else if (!player.hasTarget()) {
+                    IncursionZone zone = activeZones.get(random.nextInt(activeZones.size()));
+                    double r = zone.getRadius() * 0.6 * Math.sqrt(random.nextDouble());
+                    double angle = random.nextDouble(0, 2 * Math.PI);
+                    player.setTarget(zone.getCenter().clone().add(r * Math.cos(angle), 0, r * Math.sin(angle)), 2.0);
+                }
+                if (player.move(random, WORLD_EXTENT) && !activeZones.isEmpty()) {
+                    // Reached: pick the next spot, usually in another zone
+                    player.setTarget(null, 0);
+                }
+            }
+            case POI_CAMP -> {
+                PointOfInterest poi = campedPoIs.get(player);
+                if (poi == null || !poi.isActive()) {
+                    // Depleted or rotated out: move on to another active PoI
+                    poi = randomActivePoI();
+                    campedPoIs.put(player, poi);
+                    player.setTarget(poi != null ? poi.getLocation() : null, poi != null ? poi.getExtractionRadius() * 0.5 : 0);
+                }
+                player.move(random, WORLD_EXTENT);
+            }
+            case RANDOM_WALK -> player.move(random, WORLD_EXTENT);
+        }
+    }
+
+    private PointOfInterest randomActivePoI() {
+        PermanentZone zone = permanentZones.get(random.nextInt(permanentZones.size()));
+        List<PointOfInterest> pois = permanentZoneManager.getActivePoIs(zone);
+        for (int attempt = 0; attempt < pois.size(); attempt++) {
+            PointOfInterest poi = pois.get(random.nextInt(pois.size()));
+            if (poi.isActive()) return poi;
+        }
+        return null;
+    }
+
+    // ── Zone task stand-ins ──────────────────────────────────────────────────────
+
+    /**
+     * ZoneCheckTask's membership step: apply the incursion zone changes the latest frame reports while active
+     */
+    private void applyIncursionFrame() {
+        if (eventManager.getState() != EventState.ACTIVE) return;
+        ZoneMembershipPipeline.Frame frame = membership.getFrame();
+        for (int slot : frame.getIncursionDeltaSlots()) {
+            Player player = registry.playerAt(slot);
+            if (player == null || !frame.covers(slot, player)) continue;
+            IncursionZone zone = frame.incursionZone(slot);
+            if (zone != zoneManager.getPlayerZone(player)) {
+                zoneManager.updatePlayerZone(player, zone);
+            }
+        }
+    }
+
+    /**
+     * PermanentZonePlayerTask's membership step: track the permanent zone the latest frame puts the player in
+     */
+    private void applyPermanentFrame(Player player, int slot) {
+        ZoneMembershipPipeline.Frame frame = membership.getFrame();
+        if (!frame.covers(slot, player)) return;
+        PermanentZone zone = frame.permanentZone(slot);
+        if (zone != permanentZoneManager.getPlayerZone(slot)) {
+            permanentZoneManager.updatePlayerZone(player.getUniqueId(), zone);
+        }
+    }
+
+    // ── Event side effects ───────────────────────────────────────────────────────
+
+    /**
+     * Event side effects without a server: every simulated player counts as online, zones land at random
+     * points, and an active event runs the real capture task without its UI setup or physical beacons
+     */
+    private final class HeadlessEffects implements EventEffects {
+
+        private PlatformScheduler.Task beaconCaptureTask;
+
+        @Override
+        public int onlinePlayers() {
+            return players.size();
+        }
+
+        @Override
+        public void broadcast(String message) {
+        }
+
+        @Override
+        public CompletableFuture<List<IncursionZone>> placeZones() {
+            ZoneTier[] tiers = ZoneTier.values();
+            eventNumber++;
+            List<IncursionZone> zones = new ArrayList<>(INCURSION_ZONES);
+            for (int i = 0; i < INCURSION_ZONES; i++) {
+                zones.add(new IncursionZone("sim-" + eventNumber + "-zone-" + i, randomPoint(WORLD_EXTENT * 0.8),
+                        random.nextDouble(80, 160), tiers[i % tiers.length]));
+            }
+            return CompletableFuture.completedFuture(zones);
+        }
+
+        @Override
+        public void eventStarted(IncursionEvent event) {
+            if (beaconManager.hasBeacons()) {
+                beaconCaptureTask = scheduler.every("beacon-capture", 20L,
+                        new BeaconCaptureTask(plugin, beaconManager, beaconUIManager));
+            }
+        }
+
+        @Override
+        public void eventEnding() {
+        }
+
+        @Override
+        public void eventCleared(IncursionEvent event) {
+            if (beaconCaptureTask != null) {
+                beaconCaptureTask.cancel();
+                beaconCaptureTask = null;
+            }
+            beaconUIManager.cleanupAllUI();
+        }
+
+        @Override
+        public void townWon(int townId) {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
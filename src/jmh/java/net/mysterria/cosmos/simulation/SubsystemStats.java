@@ -0,0 +1,89 @@
+package net.mysterria.cosmos.simulation;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Per-run timings for one simulated subsystem: wall time, thread CPU time and allocated
+ * bytes for every tick it ran on. Subsystems timed from outside ({@link #record}) carry wall time only.
+ */
+final class SubsystemStats {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    final String name;
+    private long[] wallNanos;
+    private long cpuNanos;
+    private long allocatedBytes;
+    private int runs;
+    private boolean threadTimed;
+
+    // Open measurement
+    private long startWall;
+    private long startCpu;
+    private long startBytes;
+
+    SubsystemStats(String name, int expectedRuns) {
+        this.name = name;
+        this.wallNanos = new long[Math.max(16, expectedRuns)];
+    }
+
+    void begin() {
+        startBytes = THREADS.getCurrentThreadAllocatedBytes();
+        startCpu = THREADS.getCurrentThreadCpuTime();
+        startWall = System.nanoTime();
+    }
+
+    void end() {
+        long wall = System.nanoTime() - startWall;
+        cpuNanos += THREADS.getCurrentThreadCpuTime() - startCpu;
+        allocatedBytes += THREADS.getCurrentThreadAllocatedBytes() - startBytes;
+        threadTimed = true;
+        record(wall);
+    }
+
+    /**
+     * Add a run measured elsewhere, wall time only
+     */
+    void record(long wallNanos) {
+        if (runs == this.wallNanos.length) {
+            this.wallNanos = Arrays.copyOf(this.wallNanos, runs * 2);
+        }
+        this.wallNanos[runs++] = wallNanos;
+    }
+
+    int runs() {
+        return runs;
+    }
+
+    /**
+     * Whether CPU time and allocation were measured, not just wall time
+     */
+    boolean threadTimed() {
+        return threadTimed;
+    }
+
+    long[] sortedWallNanos() {
+        long[] sorted = Arrays.copyOf(wallNanos, runs);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Nearest-rank percentile of wall time over the ticks this subsystem ran, in ms
+     */
+    static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1_000_000.0;
+    }
+
+    double cpuMsPerTick(int ticks) {
+        return ticks == 0 ? 0 : cpuNanos / 1_000_000.0 / ticks;
+    }
+
+    double allocatedKbPerTick(int ticks) {
+        return ticks == 0 ? 0 : allocatedBytes / 1024.0 / ticks;
+    }
+}
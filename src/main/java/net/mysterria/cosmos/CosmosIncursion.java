@@ -39,27 +39,44 @@ import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
 import net.mysterria.cosmos.domain.exclusion.task.*;
 import net.mysterria.cosmos.domain.guide.CosmosGuideGUI;
 import net.mysterria.cosmos.domain.incursion.service.EventManager;
+import net.mysterria.cosmos.domain.incursion.service.LiveEventEffects;
 import net.mysterria.cosmos.domain.incursion.service.PlayerStateManager;
 import net.mysterria.cosmos.domain.incursion.service.ZoneManager;
 import net.mysterria.cosmos.domain.incursion.task.EventCheckTask;
+import net.mysterria.cosmos.domain.incursion.task.ZoneCandidateScanTask;
 import net.mysterria.cosmos.domain.incursion.task.ZoneCheckTask;
 import net.mysterria.cosmos.toolkit.BuffToolkit;
+import net.mysterria.cosmos.toolkit.ChunkPrewarmer;
 import net.mysterria.cosmos.toolkit.CitizensToolkit;
+import net.mysterria.cosmos.toolkit.CosmosMetrics;
+import net.mysterria.cosmos.toolkit.CosmosScheduler;
 import net.mysterria.cosmos.toolkit.EffectsToolkit;
+import net.mysterria.cosmos.toolkit.EnforcementTeleporter;
+import net.mysterria.cosmos.toolkit.ExpiryService;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.LoadGovernor;
+import net.mysterria.cosmos.toolkit.MetricsExporter;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
+import net.mysterria.cosmos.toolkit.PlatformScheduler;
+import net.mysterria.cosmos.toolkit.PlayerRegistry;
+import net.mysterria.cosmos.toolkit.ZoneMembershipPipeline;
 import net.mysterria.cosmos.toolkit.map.MapIntegration;
 import net.mysterria.cosmos.toolkit.map.impl.BlueMapIntegration;
 import net.mysterria.cosmos.toolkit.map.impl.NoOpMapIntegration;
 import net.mysterria.cosmos.toolkit.map.impl.SquareMapIntegration;
+import net.mysterria.cosmos.toolkit.towns.HuskTownsClaimCacheListener;
+import net.mysterria.cosmos.toolkit.towns.LandsClaimCacheListener;
 import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
 import net.william278.husktowns.api.HuskTownsAPI;
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 
 @Getter
-public final class CosmosIncursion extends JavaPlugin {
+public final class CosmosIncursion extends JavaPlugin implements CosmosPlugin {
 
     @Getter
     private static CosmosIncursion instance;
@@ -72,11 +89,37 @@ public final class CosmosIncursion extends JavaPlugin {
     // Configuration
     private ConfigLoader configLoader;
 
+    // Paper/Folia task dispatch (global, per-region and per-entity)
+    private PlatformScheduler platformScheduler;
+
+    // Online player slots and slot-indexed per-player state
+    private PlayerRegistry playerRegistry;
+
+    // Timing wheel that expires cooldowns, statuses and other time-limited state
+    private ExpiryService expiryService;
+
+    // Per-component tick-time histograms for /cosmos admin perf
+    private PerfMonitor perfMonitor;
+
+    // Prometheus counters and gauges, and the endpoint (or file) that publishes them
+    private CosmosMetrics metrics;
+    private MetricsExporter metricsExporter;
+
+    // Single per-tick driver for every recurring task (named, staggered, budgeted phases)
+    private CosmosScheduler cosmosScheduler;
+
+    // Per-player action bar, title and sound coalescing (one of each per tick, duplicates suppressed)
+    private HudCompositor hudCompositor;
+
+    // MSPT-aware degradation of cosmetic work (particles, refresh rates, map markers, displays)
+    private LoadGovernor loadGovernor;
+
     // Core managers
     private ZoneManager zoneManager;
     private BeaconManager beaconManager;
     private PermanentZoneManager permanentZoneManager;
     private EventManager eventManager;
+    private LiveEventEffects eventEffects;
     private PlayerStateManager playerStateManager;
     private KillTracker killTracker;
     private DeathHandler deathHandler;
@@ -88,6 +131,9 @@ public final class CosmosIncursion extends JavaPlugin {
     private MapIntegration mapIntegration;
     private CitizensToolkit citizensToolkit;
     private CombatLogHandler combatLogHandler;
+    private ChunkPrewarmer chunkPrewarmer;
+    private EnforcementTeleporter enforcementTeleporter;
+    private ZoneMembershipPipeline zoneMembership;
 
     // Shop
     private ZoneShopManager zoneShopManager;
@@ -116,6 +162,10 @@ public final class CosmosIncursion extends JavaPlugin {
         configLoader = new ConfigLoader(this);
         configLoader.load();
 
+        // Initialize platform scheduler (before anything that schedules work)
+        platformScheduler = new PlatformScheduler(this);
+        log("Scheduler: " + (platformScheduler.isFolia() ? "Folia regionized mode" : "Paper main-thread mode"));
+
         // Enable API integrations
         log("Enabling COI API...");
         enableCoiApi();
@@ -124,6 +174,40 @@ public final class CosmosIncursion extends JavaPlugin {
         initializeTownsPlugins();
         if (!isEnabled()) return; // disabled if no towns plugin found
 
+        // Initialize player registry (players already online after a reload get slots now)
+        log("Initializing player registry...");
+        playerRegistry = new PlayerRegistry(Bukkit.getMaxPlayers());
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!player.hasMetadata("NPC")) {
+                playerRegistry.register(player);
+            }
+        }
+
+        // Initialize expiry service (before anything that registers expiring state)
+        log("Initializing expiry service...");
+        expiryService = new ExpiryService(this);
+
+        // Initialize perf timers (before the scheduler, which times every phase)
+        log("Initializing perf monitor...");
+        perfMonitor = new PerfMonitor(configLoader);
+
+        // Initialize metrics (before the managers that update them)
+        log("Initializing metrics...");
+        metrics = new CosmosMetrics(perfMonitor);
+        metricsExporter = new MetricsExporter(this);
+
+        // Initialize phase scheduler (phases are registered in startTasks and by the event lifecycle)
+        log("Initializing phase scheduler...");
+        cosmosScheduler = new CosmosScheduler(this);
+
+        // Initialize HUD compositor (before any task or listener that shows action bars, titles or sounds)
+        log("Initializing HUD compositor...");
+        hudCompositor = new HudCompositor(this);
+
+        // Initialize load governor (before any cosmetic task or marker sync consults it)
+        log("Initializing load governor...");
+        loadGovernor = new LoadGovernor(this);
+
         // Initialize zone manager
         log("Initializing zone manager...");
         zoneManager = new ZoneManager(this);
@@ -179,6 +263,14 @@ public final class CosmosIncursion extends JavaPlugin {
         log("Initializing guide GUI...");
         guideGUI = new CosmosGuideGUI(this);
 
+        // Initialize chunk pre-warmer (before permanent zones so their PoIs get pinned)
+        log("Initializing chunk pre-warmer...");
+        chunkPrewarmer = new ChunkPrewarmer(this);
+
+        // Initialize enforcement teleporter (async push-outs, pull-backs and extraction exits)
+        log("Initializing enforcement teleporter...");
+        enforcementTeleporter = new EnforcementTeleporter(this);
+
         // Initialize permanent zone manager
         log("Initializing permanent zone manager...");
         permanentZoneManager = new PermanentZoneManager(this);
@@ -192,6 +284,10 @@ public final class CosmosIncursion extends JavaPlugin {
             permanentZoneManager.spawnExtractionPoints(zone);
         }
 
+        // Initialize zone membership pipeline (position snapshots evaluated on worker threads)
+        log("Initializing zone membership pipeline...");
+        zoneMembership = new ZoneMembershipPipeline(this, zoneManager, permanentZoneManager);
+
         // Initialize zone shop
         log("Initializing zone shop...");
         zoneShopManager = new ZoneShopManager(this);
@@ -202,7 +298,8 @@ public final class CosmosIncursion extends JavaPlugin {
 
         // Initialize event manager
         log("Initializing event manager...");
-        eventManager = new EventManager(this, zoneManager, beaconManager, buffToolkit, mapIntegration, beaconUIManager);
+        eventEffects = new LiveEventEffects(this, zoneManager, beaconManager, buffToolkit, mapIntegration, beaconUIManager);
+        eventManager = new EventManager(this, zoneManager, beaconManager, eventEffects);
 
         // Register commands
         log("Registering commands...");
@@ -216,6 +313,9 @@ public final class CosmosIncursion extends JavaPlugin {
         log("Starting background tasks...");
         startTasks();
 
+        // Start the metrics endpoint last, once every series has its initial value
+        metricsExporter.start();
+
         log("Cosmos Incursion enabled!");
     }
 
@@ -223,6 +323,31 @@ public final class CosmosIncursion extends JavaPlugin {
     public void onDisable() {
         log("Disabling Cosmos Incursion...");
 
+        // Stop serving metrics
+        if (metricsExporter != null) {
+            metricsExporter.stop();
+        }
+
+        // Stop background zone generation workers
+        if (eventManager != null) {
+            eventManager.shutdown();
+        }
+
+        // Stop every recurring phase
+        if (cosmosScheduler != null) {
+            cosmosScheduler.stop();
+        }
+
+        // Stop zone membership workers
+        if (zoneMembership != null) {
+            zoneMembership.shutdown();
+        }
+
+        // Destroy Hollow Body NPCs and flush their files (they are respawned on next start)
+        if (citizensToolkit != null) {
+            citizensToolkit.shutdown();
+        }
+
         // Save buff data
         if (buffToolkit != null) {
             buffToolkit.saveBuffData();
@@ -235,6 +360,11 @@ public final class CosmosIncursion extends JavaPlugin {
             permanentZoneManager.saveBalances();
         }
 
+        // Release pre-warmed chunk tickets
+        if (chunkPrewarmer != null) {
+            chunkPrewarmer.releaseAll();
+        }
+
         // Unregister commands
         if (liteCommands != null) {
             liteCommands.unregister();
@@ -253,7 +383,7 @@ public final class CosmosIncursion extends JavaPlugin {
         incursionZoneHorseListener = new IncursionZoneHorseListener(this, permanentZoneManager);
 
         if (getServer().getPluginManager().getPlugin("GSit") != null) {
-            gsitZoneListener = new GSitZoneListener(playerStateManager, permanentZoneManager);
+            gsitZoneListener = new GSitZoneListener(playerStateManager, permanentZoneManager, hudCompositor);
             getServer().getPluginManager().registerEvents(gsitZoneListener, this);
             log("GSit integration active — sitting/riding blocked in PvP zones");
         }
@@ -266,7 +396,7 @@ public final class CosmosIncursion extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new BeaconProtectionListener(this), this);
         getServer().getPluginManager().registerEvents(new PaperAngelListener(this), this);
         getServer().getPluginManager().registerEvents(new ExclusionZoneListener(this, permanentZoneManager), this);
-        getServer().getPluginManager().registerEvents(new IncursionZoneListener(playerStateManager), this);
+        getServer().getPluginManager().registerEvents(new IncursionZoneListener(playerStateManager, perfMonitor), this);
         getServer().getPluginManager().registerEvents(new ExclusionZoneCompassListener(this), this);
         getServer().getPluginManager().registerEvents(incursionZoneHorseListener, this);
 
@@ -274,53 +404,59 @@ public final class CosmosIncursion extends JavaPlugin {
         if (huskTownsAPI != null) {
             getServer().getPluginManager().registerEvents(
                     new HuskTownsZoneProtectionListener(permanentZoneManager), this);
+            getServer().getPluginManager().registerEvents(new HuskTownsClaimCacheListener(), this);
             log("Registered HuskTowns zone protection listener");
         }
         if (landsIntegration != null) {
             getServer().getPluginManager().registerEvents(
                     new LandsZoneProtectionListener(permanentZoneManager), this);
+            getServer().getPluginManager().registerEvents(new LandsClaimCacheListener(), this);
             log("Registered Lands zone protection listener");
         }
     }
 
     private void startTasks() {
-        // Event check task - runs every second
-        new EventCheckTask(eventManager).runTaskTimer(this, 0L, 20L);
+        // Phases run in this order every tick; periodic phases get staggered offsets within their period
 
-        // Zone check task - runs every 5 ticks (4 times per second) for reliable zone detection
-        new ZoneCheckTask(this, zoneManager, playerStateManager, effectsToolkit, eventManager, gsitZoneListener).runTaskTimer(this, 0L, 5L);
+        // Zone membership snapshot - every tick; geometry is computed on worker threads
+        cosmosScheduler.every("zone-membership", 1L, zoneMembership::tick);
 
-        // Hollow Body cleanup task - runs every 30 seconds
-        if (citizensToolkit.isAvailable()) {
-            getServer().getScheduler().runTaskTimer(this, () -> {
-                citizensToolkit.cleanupExpired();
-            }, 600L, 600L);  // 30 seconds = 600 ticks
-        }
+        // Expiry wheel - every tick; expires Hollow Bodies, Corrupted Monsters, buffs and cooldowns
+        cosmosScheduler.every("expiry", 1L, expiryService::tick);
+
+        // Event check - every second
+        cosmosScheduler.every("event-check", 20L, new EventCheckTask(eventManager));
+
+        // Zone candidate pre-scanner - every tick under its own time budget, scans only while idle
+        cosmosScheduler.every("zone-candidate-scan", 1L, new ZoneCandidateScanTask(eventManager, eventEffects.getZonePlacer().getCandidatePool()));
+
+        // Zone check - every 5 ticks (4 times per second), applies membership changes
+        cosmosScheduler.every("zone-check", 5L, new ZoneCheckTask(this, zoneManager, playerStateManager, effectsToolkit, eventManager, gsitZoneListener));
+
+        // Permanent zone per-player phases - each player is visited once per period, slots spread across ticks
+        cosmosScheduler.everyPlayer("permanent-zone-players", 5, new PermanentZonePlayerTask(this, permanentZoneManager, incursionZoneHorseListener, gsitZoneListener));
+        cosmosScheduler.everyPlayer("resource-accumulation", 20, new ResourceAccumulationTask(this, permanentZoneManager, incursionZoneHorseListener));
+        cosmosScheduler.everyPlayer("extraction", 20, new ExtractionTask(this, permanentZoneManager));
+
+        // Permanent zone world phases
+        cosmosScheduler.every("poi-rotation", 20L, new PoIRotationTask(this, permanentZoneManager));
+        cosmosScheduler.every("permanent-zone-particles", 40L, loadGovernor.cosmetic(new PermanentZoneBoundaryParticleTask(this, permanentZoneManager)));
+        cosmosScheduler.every("poi-visualization", 5L, loadGovernor.cosmetic(new PoIVisualizationTask(this, permanentZoneManager)));
+
+        // Sample MSPT/TPS and step cosmetic work up or down (every 1 second)
+        cosmosScheduler.every("load-governor", 20L, loadGovernor::sample);
+
+        // HUD flush - every tick, after the phases above have submitted (Paper; Folia flushes per player)
+        cosmosScheduler.every("hud", 1L, hudCompositor::flush);
 
-        // Corrupted Monster cleanup task - runs every 60 seconds
-        getServer().getScheduler().runTaskTimer(this, () -> {
-            killTracker.cleanupExpired();
-        }, 1200L, 1200L);  // 60 seconds = 1200 ticks
-
-        // Buff cleanup task - runs every 5 minutes
-        getServer().getScheduler().runTaskTimer(this, () -> {
-            buffToolkit.cleanupExpired();
-        }, 6000L, 6000L);  // 5 minutes = 6000 ticks
-
-        // Permanent zone tasks
-        new PermanentZonePlayerTask(this, permanentZoneManager, incursionZoneHorseListener, gsitZoneListener).runTaskTimer(this, 0L, 5L);
-        new ResourceAccumulationTask(this, permanentZoneManager, incursionZoneHorseListener).runTaskTimer(this, 0L, 20L);
-        new ExtractionTask(this, permanentZoneManager).runTaskTimer(this, 0L, 20L);
-        new PoIRotationTask(permanentZoneManager).runTaskTimer(this, 0L, 20L);
-        new PermanentZoneBoundaryParticleTask(this, permanentZoneManager).runTaskTimer(this, 0L, 40L);
-        new PoIVisualizationTask(this, permanentZoneManager).runTaskTimer(this, 0L, 5L);
+        cosmosScheduler.start();
     }
 
     private void initializeCitizensWithRetry(int attempt) {
         final int maxAttempts = 10;
         final long delayTicks = 20L; // 1 second between attempts
 
-        getServer().getScheduler().runTaskLater(this, () -> {
+        platformScheduler.runLater(() -> {
             boolean success = citizensToolkit.initialize();
 
             if (!success && attempt < maxAttempts - 1) {
@@ -393,7 +529,7 @@ public final class CosmosIncursion extends JavaPlugin {
         final int maxAttempts = 10;
         final long delayTicks = 20L;
 
-        getServer().getScheduler().runTaskLater(this, () -> {
+        platformScheduler.runLater(() -> {
             Plugin landsPlugin = getServer().getPluginManager().getPlugin("Lands");
             if (landsPlugin == null || !landsPlugin.isEnabled()) return;
             try {
@@ -401,6 +537,7 @@ public final class CosmosIncursion extends JavaPlugin {
                 TownsToolkit.init(huskTownsAPI, landsIntegration);
                 getServer().getPluginManager().registerEvents(
                         new LandsZoneProtectionListener(permanentZoneManager), this);
+                getServer().getPluginManager().registerEvents(new LandsClaimCacheListener(), this);
                 log("Towns: Lands integration active (deferred)");
             } catch (Throwable t) {
                 if (attempt < maxAttempts - 1) {
@@ -439,6 +576,8 @@ public final class CosmosIncursion extends JavaPlugin {
     public void reloadPlugin() {
         log("Reloading Cosmos Incursion configuration...");
         configLoader.reload();
+        loadGovernor.loadSettings();
+        metricsExporter.restart();
         refreshPermanentZoneMarkers();
         log("Configuration reloaded successfully!");
     }
@@ -0,0 +1,71 @@
+package net.mysterria.cosmos;
+
+import net.mysterria.cosmos.config.ConfigLoader;
+import net.mysterria.cosmos.domain.acting.ActingRewardManager;
+import net.mysterria.cosmos.domain.beacon.service.BeaconManager;
+import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
+import net.mysterria.cosmos.domain.incursion.service.PlayerStateManager;
+import net.mysterria.cosmos.toolkit.ChunkPrewarmer;
+import net.mysterria.cosmos.toolkit.CosmosMetrics;
+import net.mysterria.cosmos.toolkit.CosmosScheduler;
+import net.mysterria.cosmos.toolkit.EnforcementTeleporter;
+import net.mysterria.cosmos.toolkit.ExpiryService;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.LoadGovernor;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
+import net.mysterria.cosmos.toolkit.PlatformScheduler;
+import net.mysterria.cosmos.toolkit.PlayerRegistry;
+import net.mysterria.cosmos.toolkit.ZoneMembershipPipeline;
+import net.mysterria.cosmos.toolkit.map.MapIntegration;
+import org.bukkit.NamespacedKey;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * The plugin as its services see it: the Bukkit plugin plus the shared collaborators they look up at runtime.
+ * <p>
+ * {@link CosmosIncursion} is the only production implementation. Services take this type instead of the
+ * plugin class so benchmarks and the load simulators can hand them a stand-in without a running server.
+ */
+public interface CosmosPlugin extends Plugin {
+
+    // Configuration
+    ConfigLoader getConfigLoader();
+
+    // Toolkit
+    PlatformScheduler getPlatformScheduler();
+
+    PlayerRegistry getPlayerRegistry();
+
+    ExpiryService getExpiryService();
+
+    PerfMonitor getPerfMonitor();
+
+    CosmosMetrics getMetrics();
+
+    CosmosScheduler getCosmosScheduler();
+
+    HudCompositor getHudCompositor();
+
+    LoadGovernor getLoadGovernor();
+
+    ChunkPrewarmer getChunkPrewarmer();
+
+    EnforcementTeleporter getEnforcementTeleporter();
+
+    ZoneMembershipPipeline getZoneMembership();
+
+    MapIntegration getMapIntegration();
+
+    // Managers
+    BeaconManager getBeaconManager();
+
+    PlayerStateManager getPlayerStateManager();
+
+    ActingRewardManager getActingRewardManager();
+
+    PermanentZoneManager getPermanentZoneManager();
+
+    void log(String message);
+
+    NamespacedKey getKey(String key);
+}
@@ -12,6 +12,10 @@ import net.mysterria.cosmos.CosmosIncursion;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
 import net.mysterria.cosmos.domain.market.model.ShopItem;
 import net.mysterria.cosmos.toolkit.CoiItemResolver;
+import net.mysterria.cosmos.toolkit.CosmosMetrics;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.LoadGovernor;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
 import net.mysterria.cosmos.toolkit.item.PaperAngelToolkit;
 import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
 import net.mysterria.cosmos.domain.incursion.service.ZoneManager;
@@ -84,6 +88,94 @@ public class AdminCommand {
         }
     }
 
+    @Execute(name = "admin load")
+    @Permission("cosmos.admin")
+    public void load(@Context CommandSender sender) {
+        LoadGovernor governor = plugin.getLoadGovernor();
+        LoadGovernor.Level current = governor.getLevel();
+
+        sender.sendMessage(Component.text("=== Load Governor ===").color(NamedTextColor.GOLD));
+        sender.sendMessage(Component.text("Level: ").color(NamedTextColor.YELLOW)
+                .append(Component.text(current.name()).color(current == LoadGovernor.Level.NORMAL ? NamedTextColor.GREEN : NamedTextColor.RED))
+                .append(Component.text(String.format(" (MSPT %.1f, TPS %.1f)", governor.getLastMspt(), governor.getLastTps())).color(NamedTextColor.GRAY)));
+        for (LoadGovernor.Level level : LoadGovernor.Level.values()) {
+            LoadGovernor.Thresholds t = governor.getThresholds(level);
+            if (t == null) continue;
+            sender.sendMessage(
+                Component.text("- " + level.name()).color(level.ordinal() <= current.ordinal() ? NamedTextColor.RED : NamedTextColor.WHITE)
+                    .append(Component.text(String.format(" [MSPT >= %.1f or TPS <= %.1f]", t.mspt(), t.tps())).color(NamedTextColor.GRAY))
+            );
+        }
+    }
+
+    @Execute(name = "admin perf")
+    @Permission("cosmos.admin")
+    public void perf(@Context CommandSender sender) {
+        showPerf(sender, PerfMonitor.Window.FIVE_MINUTES);
+    }
+
+    @Execute(name = "admin perf")
+    @Permission("cosmos.admin")
+    public void perf(@Context CommandSender sender, @Arg String window) {
+        PerfMonitor.Window parsed = PerfMonitor.Window.fromLabel(window);
+        if (parsed == null) {
+            sender.sendMessage(Component.text("[Cosmos Incursion] ").color(NamedTextColor.GOLD).append(Component.text("Unknown window '" + window + "'. Use 1m, 5m or 15m").color(NamedTextColor.RED)));
+            return;
+        }
+        showPerf(sender, parsed);
+    }
+
+    @Execute(name = "admin perf reset")
+    @Permission("cosmos.admin")
+    public void perfReset(@Context CommandSender sender) {
+        plugin.getPerfMonitor().reset();
+        sender.sendMessage(Component.text("[Cosmos Incursion] ").color(NamedTextColor.GOLD).append(Component.text("Perf timers reset").color(NamedTextColor.GREEN)));
+    }
+
+    @Execute(name = "admin hud")
+    @Permission("cosmos.admin")
+    public void hud(@Context CommandSender sender) {
+        HudCompositor hud = plugin.getHudCompositor();
+        sender.sendMessage(Component.text("=== HUD (since startup) ===").color(NamedTextColor.GOLD));
+        showHudCounters(sender, "action bars", hud.getActionBarCounters());
+        showHudCounters(sender, "titles", hud.getTitleCounters());
+        showHudCounters(sender, "sounds", hud.getSoundCounters());
+    }
+
+    private void showHudCounters(CommandSender sender, String kind, HudCompositor.Counters counters) {
+        long submitted = counters.submitted();
+        double savedPercent = submitted == 0 ? 0 : (submitted - counters.sent()) * 100.0 / submitted;
+        sender.sendMessage(
+            Component.text("- " + kind).color(NamedTextColor.YELLOW)
+                .append(Component.text(String.format(" %d submitted, %d sent", submitted, counters.sent())).color(NamedTextColor.WHITE))
+                .append(Component.text(String.format(" | %d duplicate, %d superseded (%.1f%% not sent)",
+                        counters.duplicates(), counters.superseded(), savedPercent)).color(NamedTextColor.GRAY))
+        );
+    }
+
+    private void showPerf(CommandSender sender, PerfMonitor.Window window) {
+        PerfMonitor perfMonitor = plugin.getPerfMonitor();
+        if (!perfMonitor.isEnabled()) {
+            sender.sendMessage(Component.text("[Cosmos Incursion] ").color(NamedTextColor.GOLD).append(Component.text("Perf timing is disabled (perf.enabled: false)").color(NamedTextColor.YELLOW)));
+            return;
+        }
+
+        var summaries = perfMonitor.summarize(window);
+        sender.sendMessage(Component.text("=== Perf (" + window.label() + ") ===").color(NamedTextColor.GOLD));
+        if (summaries.isEmpty()) {
+            sender.sendMessage(Component.text("Nothing recorded yet").color(NamedTextColor.GRAY));
+            return;
+        }
+        for (PerfMonitor.Summary summary : summaries) {
+            sender.sendMessage(
+                Component.text("- " + summary.name()).color(NamedTextColor.YELLOW)
+                    .append(Component.text(String.format(" %d calls, total %.1fms", summary.calls(), summary.totalNanos() / 1_000_000.0)).color(NamedTextColor.WHITE))
+                    .append(Component.text(String.format(" | p50 %.3fms p99 %.3fms max %.3fms",
+                            summary.p50Nanos() / 1_000_000.0, summary.p99Nanos() / 1_000_000.0, summary.maxNanos() / 1_000_000.0)).color(NamedTextColor.GRAY))
+            );
+        }
+    }
+
     @Execute(name = "admin zone list")
     @Permission("cosmos.admin")
     public void zoneList(@Context CommandSender sender) {
@@ -211,6 +303,7 @@ public class AdminCommand {
         }
 
         zone.get().setTier(tier);
+        plugin.getMetrics().zoneTier(CosmosMetrics.INCURSION, zone.get().getName(), tier.name());
         sender.sendMessage(Component.text("[Cosmos Incursion] ").color(NamedTextColor.GOLD)
             .append(Component.text("Zone '" + name + "' tier set to " + tier.name()).color(NamedTextColor.GREEN)));
     }
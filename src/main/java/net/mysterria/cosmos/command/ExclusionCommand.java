@@ -13,6 +13,8 @@ import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
 import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
 import net.mysterria.cosmos.domain.exclusion.model.source.ExclusionZoneTier;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
+import net.mysterria.cosmos.toolkit.CosmosMetrics;
+import net.mysterria.cosmos.toolkit.GameClock;
 import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -225,7 +227,7 @@ public class ExclusionCommand {
                         .append(Component.text(poi.getResourceType().name(), NamedTextColor.AQUA))
                         .append(Component.text(" cap=" + String.format("%.2f", poi.getResourceCap()), NamedTextColor.WHITE))
                         .append(Component.text(" rem=" + String.format("%.2f", poi.getResourcesRemaining()), NamedTextColor.GREEN))
-                        .append(Component.text(" expires in " + ((poi.getActiveUntil() - System.currentTimeMillis()) / 1000) + "s", NamedTextColor.DARK_GRAY))));
+                        .append(Component.text(" expires in " + ((poi.getActiveUntil() - GameClock.millis()) / 1000) + "s", NamedTextColor.DARK_GRAY))));
     }
 
     @Execute(name = "exclusion tier")
@@ -248,6 +250,7 @@ public class ExclusionCommand {
         }
         PermanentZone zone = zoneOpt.get();
         zone.setTier(tier);
+        plugin.getMetrics().zoneTier(CosmosMetrics.PERMANENT, zone.getName(), tier.name());
         mgr.saveZones();
         plugin.refreshPermanentZoneMarkers();
         sender.sendMessage(Component.text("[Cosmos] ", NamedTextColor.GOLD)
@@ -1,33 +1,49 @@
 package net.mysterria.cosmos.config;
 
-import lombok.Getter;
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.exclusion.model.source.ExclusionZoneTier;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
 import net.mysterria.cosmos.domain.incursion.model.source.ZoneTier;
 import org.bukkit.configuration.file.FileConfiguration;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 
+/**
+ * Reads config.yml into {@link CosmosConfig} snapshots.
+ * <p>
+ * Each {@link #load()} builds a fresh snapshot, precomputes its derived values and publishes it with a
+ * single volatile write, so a reload never exposes a half-populated config. Callers that keep a reference
+ * across ticks should re-read {@link #getConfig()} instead of caching the snapshot.
+ */
 public class ConfigLoader {
 
     private static final double LEGACY_ACTING_POINTS_PER_EFFORT = 10.0;
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
 
-    @Getter
-    private final CosmosConfig config;
+    private volatile CosmosConfig config;
 
-    public ConfigLoader(CosmosIncursion plugin) {
+    public ConfigLoader(CosmosPlugin plugin) {
         this.plugin = plugin;
-        this.config = new CosmosConfig();
+        CosmosConfig defaults = new CosmosConfig();
+        defaults.precompute();
+        this.config = defaults;
+    }
+
+    /**
+     * The current snapshot; replaced, never mutated, on reload
+     */
+    public CosmosConfig getConfig() {
+        return config;
     }
 
     public void load() {
         plugin.saveDefaultConfig();
         plugin.reloadConfig();
         FileConfiguration fileConfig = plugin.getConfig();
+        CosmosConfig config = new CosmosConfig();
 
         // Event settings
         config.setEventAutoStart(fileConfig.getBoolean("event.auto-start", true));
@@ -89,6 +105,14 @@ public class ConfigLoader {
         config.setZoneRadius(fileConfig.getDouble("zones.radius", 150.0));
         config.setTownBuffer(fileConfig.getDouble("zones.town-buffer", 50.0));
         config.setMinZoneSeparation(fileConfig.getDouble("zones.min-separation", 500.0));
+        config.setZoneCandidatePoolEnabled(fileConfig.getBoolean("zones.candidate-pool.enabled", true));
+        config.setZoneCandidatePoolSize(fileConfig.getInt("zones.candidate-pool.size", 40));
+        config.setZoneCandidatePoolTickBudgetMs(fileConfig.getDouble("zones.candidate-pool.tick-budget-ms", 2.0));
+        config.setZoneCandidatePoolMaxAgeMinutes(fileConfig.getInt("zones.candidate-pool.max-age-minutes", 60));
+        config.setChunkPrewarmEnabled(fileConfig.getBoolean("zones.chunk-prewarm.enabled", true));
+        config.setChunkPrewarmZoneRadiusChunks(fileConfig.getInt("zones.chunk-prewarm.zone-radius-chunks", 3));
+        config.setChunkPrewarmPointRadiusChunks(fileConfig.getInt("zones.chunk-prewarm.point-radius-chunks", 1));
+        config.setMembershipThreads(fileConfig.getInt("zones.membership-threads", 0));
 
         // Spirit Weight (high-tier penalties)
         config.setSpiritWeightMinSequence(fileConfig.getInt("balancing.spirit-weight.min-sequence", 4));
@@ -112,6 +136,7 @@ public class ConfigLoader {
         // Combat logging
         config.setNpcDurationMinutes(fileConfig.getInt("combat-log.npc-duration-minutes", 5));
         config.setNpcNameFormat(fileConfig.getString("combat-log.npc-name-format", "Hollow Body of %player%"));
+        config.setNpcPoolSize(fileConfig.getInt("combat-log.npc-pool-size", 4));
 
         // Beacons
         config.setBeaconCaptureRadius(fileConfig.getDouble("beacons.capture-radius", 20.0));
@@ -206,8 +231,9 @@ public class ConfigLoader {
                     defaultExclusionPvpActingEffort[i],
                     "permanent-zones.tiers." + key + ".pvp-acting-reward");
 
-            exclusionTierConfigs.put(tier, new CosmosConfig.ExclusionZoneTierConfig(
-                    dropChance, dailyBudget, poiCap, extractionActingEffort, pvpActingEffort));
+            exclusionTierConfigs.put(tier, new CosmosConfig.ExclusionZoneTierConfig(dropChance,
+                    Collections.unmodifiableMap(dailyBudget), Collections.unmodifiableMap(poiCap),
+                    extractionActingEffort, pvpActingEffort));
         }
         config.setExclusionTierConfigs(exclusionTierConfigs);
 
@@ -228,10 +254,27 @@ public class ConfigLoader {
             reward.put(ResourceType.GOLD,   fileConfig.getDouble("rewards.winner-resources." + key + ".gold",   defaultWinnerResources[i][0]));
             reward.put(ResourceType.SILVER, fileConfig.getDouble("rewards.winner-resources." + key + ".silver", defaultWinnerResources[i][1]));
             reward.put(ResourceType.GEMS,   fileConfig.getDouble("rewards.winner-resources." + key + ".gems",   defaultWinnerResources[i][2]));
-            winnerResourcesByTier.put(tier, reward);
+            winnerResourcesByTier.put(tier, Collections.unmodifiableMap(reward));
         }
         config.setEventWinnerResourcesByTier(winnerResourcesByTier);
 
+        // Scheduler
+        config.setSchedulerTickBudgetMs(fileConfig.getDouble("scheduler.tick-budget-ms", 10.0));
+        config.setSchedulerPlayerPhaseBudgetMs(fileConfig.getDouble("scheduler.player-phase-budget-ms", 1.0));
+
+        // Perf timers
+        config.setPerfEnabled(fileConfig.getBoolean("perf.enabled", true));
+
+        // HUD compositor
+        config.setHudActionBarHoldTicks(Math.max(1, fileConfig.getInt("hud.action-bar-hold-ticks", 40)));
+
+        // Prometheus metrics
+        config.setMetricsEnabled(fileConfig.getBoolean("metrics.enabled", false));
+        config.setMetricsMode(fileConfig.getString("metrics.mode", "http"));
+        config.setMetricsBindAddress(fileConfig.getString("metrics.bind-address", "127.0.0.1"));
+        config.setMetricsPort(fileConfig.getInt("metrics.port", 9464));
+        config.setMetricsFileIntervalSeconds(fileConfig.getInt("metrics.file-interval-seconds", 15));
+
         // Messages
         config.setMsgEventStarting(fileConfig.getString("messages.event-starting",
                 "<red>[Cosmos Incursion]</red> <white>An incursion begins in %countdown% seconds!</white>"));
@@ -254,6 +297,8 @@ public class ConfigLoader {
         config.setMsgPaperAngelSaved(fileConfig.getString("messages.paper-angel-saved",
                 "<green>Your Paper Angel has protected you from regression!</green>"));
 
+        config.precompute();
+        this.config = config;
         plugin.log("Configuration loaded successfully");
     }
 
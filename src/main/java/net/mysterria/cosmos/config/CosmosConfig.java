@@ -1,16 +1,28 @@
 package net.mysterria.cosmos.config;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import net.mysterria.cosmos.domain.exclusion.model.source.ExclusionZoneTier;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
 import net.mysterria.cosmos.domain.incursion.model.source.ZoneTier;
+import org.bukkit.Color;
+import org.bukkit.Particle;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 
+/**
+ * One immutable snapshot of config.yml, built and published by {@link ConfigLoader}.
+ * <p>
+ * Setters are package-private and only used while the loader populates a fresh snapshot; once
+ * {@link #precompute()} has run the snapshot is never written again, and a reload swaps in a new one.
+ * Values that hot paths would otherwise derive every tick (squared radii, tier lookups, boundary dust,
+ * PoI accrual rates) are computed once here.
+ */
 @Getter
-@Setter
+@Setter(AccessLevel.PACKAGE)
 public class CosmosConfig {
 
     /** Per-tier settings for incursion zone drop chance, reward command, and particle color. */
@@ -59,6 +71,20 @@ public class CosmosConfig {
     private double townBuffer = 50.0;
     private double minZoneSeparation = 500.0;
 
+    // Background zone candidate pool (pre-scanned between events)
+    private boolean zoneCandidatePoolEnabled = true;
+    private int zoneCandidatePoolSize = 40;
+    private double zoneCandidatePoolTickBudgetMs = 2.0;
+    private int zoneCandidatePoolMaxAgeMinutes = 60;
+
+    // Chunk pre-warming around zones, beacons, PoIs and extraction points
+    private boolean chunkPrewarmEnabled = true;
+    private int chunkPrewarmZoneRadiusChunks = 3;
+    private int chunkPrewarmPointRadiusChunks = 1;
+
+    // Worker threads computing zone membership off the tick thread (0 = cores - 1)
+    private int membershipThreads = 0;
+
     // Spirit Weight (high-tier penalties)
     private int spiritWeightMinSequence = 4;
     private int spiritWeightMaxSequence = 5;
@@ -81,6 +107,7 @@ public class CosmosConfig {
     // Combat logging
     private int npcDurationMinutes = 5;
     private String npcNameFormat = "Hollow Body of %player%";
+    private int npcPoolSize = 4;
 
     // Beacons
     private double beaconCaptureRadius = 20.0;
@@ -138,6 +165,23 @@ public class CosmosConfig {
     private double permanentZonePoiBonusAmount = 0.5;
     private int permanentZonePoiBonusInterval = 30;
 
+    // Phase scheduler budgets
+    private double schedulerTickBudgetMs = 10.0;
+    private double schedulerPlayerPhaseBudgetMs = 1.0;
+
+    // Perf timers (/cosmos admin perf)
+    private boolean perfEnabled = true;
+
+    // HUD compositor: how long a submitted action bar holds its slot, and the resend interval for unchanged text
+    private int hudActionBarHoldTicks = 40;
+
+    // Prometheus metrics
+    private boolean metricsEnabled = false;
+    private String metricsMode = "http";
+    private String metricsBindAddress = "127.0.0.1";
+    private int metricsPort = 9464;
+    private int metricsFileIntervalSeconds = 15;
+
     // Messages
     private String msgEventStarting = "<red>[Cosmos Incursion]</red> <white>An incursion begins in %countdown% seconds!</white>";
     private String msgEventStarted = "<red>[Cosmos Incursion]</red> <white>The incursion has begun! %zones% zones active.</white>";
@@ -150,4 +194,97 @@ public class CosmosConfig {
     private String msgDeathRegression = "<red>Your sequence has regressed due to death in the incursion.</red>";
     private String msgPaperAngelSaved = "<green>Your Paper Angel has protected you from regression!</green>";
 
+    // ── Derived (filled by precompute) ───────────────────────────────────────────
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ZoneTierConfig[] tierConfigsByOrdinal = new ZoneTierConfig[ZoneTier.values().length];
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ExclusionZoneTierConfig[] exclusionTierConfigsByOrdinal = new ExclusionZoneTierConfig[ExclusionZoneTier.values().length];
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Particle.DustOptions[] tierBoundaryDust = new Particle.DustOptions[ZoneTier.values().length];
+
+    @Setter(AccessLevel.NONE)
+    private double beaconCaptureRadiusSquared;
+    @Setter(AccessLevel.NONE)
+    private double beaconUIRadiusSquared;
+    /** Radius to search for players around a beacon: covers both capture and UI range */
+    @Setter(AccessLevel.NONE)
+    private double beaconQueryRadius;
+    @Setter(AccessLevel.NONE)
+    private double zoneBoundaryParticleViewDistanceSquared;
+    /** Base PoI accrual per second (base amount spread over the base interval) */
+    @Setter(AccessLevel.NONE)
+    private double permanentZonePoiBaseRate;
+    /** Extra PoI accrual per second for each completed bonus interval of continuous stay */
+    @Setter(AccessLevel.NONE)
+    private double permanentZonePoiBonusRate;
+
+    /**
+     * Seal the collections and compute the derived values; called once by {@link ConfigLoader}
+     * before the snapshot is published
+     */
+    void precompute() {
+        tierConfigs = Collections.unmodifiableMap(tierConfigs);
+        tierDistribution = Collections.unmodifiableMap(tierDistribution);
+        exclusionTierConfigs = Collections.unmodifiableMap(exclusionTierConfigs);
+        eventWinnerResourcesByTier = Collections.unmodifiableMap(eventWinnerResourcesByTier);
+        poiIconPaths = Collections.unmodifiableMap(poiIconPaths);
+
+        for (Map.Entry<ZoneTier, ZoneTierConfig> entry : tierConfigs.entrySet()) {
+            ZoneTierConfig tierConfig = entry.getValue();
+            int ordinal = entry.getKey().ordinal();
+            tierConfigsByOrdinal[ordinal] = tierConfig;
+            tierBoundaryDust[ordinal] = new Particle.DustOptions(
+                    Color.fromRGB(tierConfig.particleR(), tierConfig.particleG(), tierConfig.particleB()), 2.0f);
+        }
+        for (Map.Entry<ExclusionZoneTier, ExclusionZoneTierConfig> entry : exclusionTierConfigs.entrySet()) {
+            exclusionTierConfigsByOrdinal[entry.getKey().ordinal()] = entry.getValue();
+        }
+
+        beaconCaptureRadiusSquared = beaconCaptureRadius * beaconCaptureRadius;
+        beaconUIRadiusSquared = beaconUIRadius * beaconUIRadius;
+        beaconQueryRadius = Math.max(beaconCaptureRadius, beaconUIRadius);
+        zoneBoundaryParticleViewDistanceSquared = zoneBoundaryParticleViewDistance * zoneBoundaryParticleViewDistance;
+
+        int baseInterval = Math.max(1, permanentZonePoiBaseInterval);
+        permanentZonePoiBaseRate = permanentZonePoiBaseAmount / baseInterval;
+        permanentZonePoiBonusRate = permanentZonePoiBonusAmount / baseInterval;
+    }
+
+    /**
+     * Settings for an incursion zone tier, or null if the tier is not configured
+     */
+    public ZoneTierConfig tierConfig(ZoneTier tier) {
+        return tierConfigsByOrdinal[tier.ordinal()];
+    }
+
+    /**
+     * Settings for a permanent zone tier, or null if the tier is not configured
+     */
+    public ExclusionZoneTierConfig exclusionTierConfig(ExclusionZoneTier tier) {
+        return exclusionTierConfigsByOrdinal[tier.ordinal()];
+    }
+
+    /**
+     * Boundary particle dust in the tier's configured color, or null if the tier is not configured
+     */
+    public Particle.DustOptions tierBoundaryDust(ZoneTier tier) {
+        return tierBoundaryDust[tier.ordinal()];
+    }
+
+    /**
+     * PoI accrual per second for a player who has stayed in the capture radius for {@code staySeconds}:
+     * the base rate plus one bonus rate for each completed bonus interval
+     */
+    public double permanentZonePoiRate(int staySeconds) {
+        double rate = permanentZonePoiBaseRate;
+        if (permanentZonePoiBonusInterval > 0 && staySeconds >= permanentZonePoiBonusInterval) {
+            rate += permanentZonePoiBonusRate * (staySeconds / permanentZonePoiBonusInterval);
+        }
+        return rate;
+    }
+
 }
@@ -1,15 +1,14 @@
 package net.mysterria.cosmos.domain.acting;
 
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.domain.exclusion.model.source.ExclusionZoneTier;
 import net.mysterria.cosmos.domain.incursion.model.source.ZoneTier;
 import net.mysterria.cosmos.toolkit.CoiToolkit;
+import net.mysterria.cosmos.toolkit.GameClock;
 import org.bukkit.entity.Player;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Grants CircleOfImagination acting effort for completing Cosmos Incursion objectives:
@@ -22,21 +21,19 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class ActingRewardManager {
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
 
-    // killer UUID -> victim UUID -> repeat-kill state. Applies exponential backoff to
+    // (killer, victim) -> repeat-kill streak. Applies exponential backoff to
     // repeated kills of the same victim so farming a single target loses value fast.
-    private final Map<UUID, Map<UUID, RepeatKillState>> pvpRepeatKills = new ConcurrentHashMap<>();
+    private final RepeatKillTable pvpRepeatKills = new RepeatKillTable();
 
-    private record RepeatKillState(int streak, long lastGrantMillis) {}
-
-    public ActingRewardManager(CosmosIncursion plugin) {
+    public ActingRewardManager(CosmosPlugin plugin) {
         this.plugin = plugin;
     }
 
     /** Grants acting for a successful resource extraction from a permanent zone of the given tier. */
     public void grantExtractionActing(Player player, ExclusionZoneTier tier) {
-        double effort = config().getExclusionTierConfigs().get(tier).extractionActingEffort();
+        double effort = config().exclusionTierConfig(tier).extractionActingEffort();
         if (effort <= 0) return;
         CoiToolkit.grantActingEffort(player, CoiToolkit.SOURCE_WORLD_CONTENT, effort);
     }
@@ -53,7 +50,7 @@ public class ActingRewardManager {
      * Caller must have already verified this isn't a griefing/Corrupted Monster kill.
      */
     public void grantIncursionPvpActing(Player killer, Player victim, ZoneTier tier) {
-        double effort = config().getTierConfigs().get(tier).pvpActingEffort();
+        double effort = config().tierConfig(tier).pvpActingEffort();
         grantPvpActing(killer, victim, effort);
     }
 
@@ -62,7 +59,7 @@ public class ActingRewardManager {
      * Caller must have already verified this isn't a griefing/Corrupted Monster kill.
      */
     public void grantExclusionPvpActing(Player killer, Player victim, ExclusionZoneTier tier) {
-        double effort = config().getExclusionTierConfigs().get(tier).pvpActingEffort();
+        double effort = config().exclusionTierConfig(tier).pvpActingEffort();
         grantPvpActing(killer, victim, effort);
     }
 
@@ -83,17 +80,10 @@ public class ActingRewardManager {
      * floored at the configured minimum.
      */
     private double nextRepeatMultiplier(UUID killerId, UUID victimId) {
-        long now = System.currentTimeMillis();
+        long now = GameClock.millis();
         long resetMillis = config().getPvpRepeatKillResetSeconds() * 1000L;
 
-        Map<UUID, RepeatKillState> victims = pvpRepeatKills.computeIfAbsent(killerId, k -> new ConcurrentHashMap<>());
-        RepeatKillState previous = victims.get(victimId);
-
-        int streak = (previous == null || (now - previous.lastGrantMillis()) >= resetMillis)
-                ? 0
-                : previous.streak() + 1;
-
-        victims.put(victimId, new RepeatKillState(streak, now));
+        int streak = pvpRepeatKills.recordKill(killerId, victimId, now, resetMillis);
 
         double multiplier = Math.pow(config().getPvpRepeatKillDecayFactor(), streak);
         return Math.max(multiplier, config().getPvpRepeatKillMinMultiplier());
@@ -0,0 +1,118 @@
+package net.mysterria.cosmos.domain.acting;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Fixed-size open-addressing table of repeat-kill streaks keyed by a 64-bit hash of (killer, victim).
+ * <p>
+ * Streak and last-grant time live in primitive columns, so recording a kill allocates nothing and the
+ * table never grows. Entries past the reset window count as free and are overwritten in place by later
+ * inserts (lazy eviction). If a probe run is full of live entries, the one with the oldest grant is
+ * replaced, which at worst resets that pair's streak early.
+ */
+public final class RepeatKillTable {
+
+    public static final int DEFAULT_CAPACITY = 1 << 15;
+
+    // Longest linear probe run; inserts never place a key further than this from its home slot
+    private static final int MAX_PROBE = 16;
+    private static final long EMPTY = 0L;
+
+    private final int mask;
+    private final long[] keys;
+    private final int[] streaks;
+    private final long[] lastGrantMillis;
+
+    public RepeatKillTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public RepeatKillTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(MAX_PROBE, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.keys = new long[size];
+        this.streaks = new int[size];
+        this.lastGrantMillis = new long[size];
+    }
+
+    /**
+     * Record a kill and return its streak: 0 for the first kill of this victim within the reset
+     * window, then 1, 2, ... for each further kill inside it
+     */
+    public synchronized int recordKill(UUID killerId, UUID victimId, long now, long resetMillis) {
+        long key = pairKey(killerId, victimId);
+        int home = (int) (key ^ (key >>> 32)) & mask;
+
+        int target = -1;
+        int oldestSlot = home;
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            int slot = (home + probe) & mask;
+            long slotKey = keys[slot];
+
+            if (slotKey == key) {
+                // Existing pair: the streak continues only inside the reset window
+                int streak = now - lastGrantMillis[slot] >= resetMillis ? 0 : streaks[slot] + 1;
+                streaks[slot] = streak;
+                lastGrantMillis[slot] = now;
+                return streak;
+            }
+            if (slotKey == EMPTY) {
+                // Nothing was ever placed past an empty slot, so the pair is absent
+                if (target < 0) target = slot;
+                break;
+            }
+            if (target < 0 && now - lastGrantMillis[slot] >= resetMillis) {
+                // Expired entry: reusable, but keep probing in case the pair sits further along
+                target = slot;
+            }
+            if (lastGrantMillis[slot] < lastGrantMillis[oldestSlot]) {
+                oldestSlot = slot;
+            }
+        }
+
+        if (target < 0) {
+            target = oldestSlot;
+        }
+        keys[target] = key;
+        streaks[target] = 0;
+        lastGrantMillis[target] = now;
+        return 0;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(streaks, 0);
+        Arrays.fill(lastGrantMillis, 0L);
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Order-sensitive 64-bit hash of the pair; never returns the empty marker
+     */
+    static long pairKey(UUID killerId, UUID victimId) {
+        long hash = mix(killerId.getMostSignificantBits() ^ Long.rotateLeft(killerId.getLeastSignificantBits(), 17));
+        hash = mix(hash ^ victimId.getMostSignificantBits());
+        hash = mix(hash ^ Long.rotateLeft(victimId.getLeastSignificantBits(), 31));
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+}
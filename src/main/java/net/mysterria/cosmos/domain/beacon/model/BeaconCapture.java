@@ -2,6 +2,7 @@ package net.mysterria.cosmos.domain.beacon.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import net.mysterria.cosmos.toolkit.GameClock;
 import net.mysterria.cosmos.toolkit.towns.TownData;
 
 /**
@@ -33,7 +34,7 @@ public class BeaconCapture {
         this.owningTownName = null;
         this.captureProgress = 0.0;
         this.contested = false;
-        this.lastUpdateTime = System.currentTimeMillis();
+        this.lastUpdateTime = GameClock.millis();
         this.totalOwnershipTime = 0;
     }
 
@@ -44,7 +45,7 @@ public class BeaconCapture {
      * @param maxPoints Maximum capture points needed
      */
     public void updateProgress(double delta, TownData capturingTown, double maxPoints) {
-        long now = System.currentTimeMillis();
+        long now = GameClock.millis();
 
         // Track ownership time if beacon is owned
         if (owningTownId != 0 && !contested) {
@@ -119,7 +120,7 @@ public class BeaconCapture {
         this.owningTownName = null;
         this.captureProgress = 0.0;
         this.contested = false;
-        this.lastUpdateTime = System.currentTimeMillis();
+        this.lastUpdateTime = GameClock.millis();
         this.totalOwnershipTime = 0;
         this.justCaptured = false;
     }
@@ -132,7 +133,7 @@ public class BeaconCapture {
 
         // Add current ownership time if owned and not contested
         if (owningTownId != 0 && !contested) {
-            long elapsed = System.currentTimeMillis() - lastUpdateTime;
+            long elapsed = GameClock.millis() - lastUpdateTime;
             total += elapsed;
         }
 
@@ -2,6 +2,7 @@ package net.mysterria.cosmos.domain.beacon.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import net.kyori.adventure.text.Component;
 import org.bukkit.scoreboard.Scoreboard;
 
 import java.util.HashMap;
@@ -44,17 +45,14 @@ public class PlayerBeaconUIState {
      */
     private String currentBeaconId;
     /**
-     * Reference to player's personal scoreboard (if active)
+     * Shared sidebar scoreboard for the player's town perspective (if active)
      */
     private Scoreboard scoreboard;
     /**
-     * Last action bar message sent (for duplicate prevention)
+     * Last action bar message built, and its parsed form (reused while the text is unchanged)
      */
     private String lastActionBarMessage;
-    /**
-     * Timestamp when scoreboard was last updated
-     */
-    private long lastScoreboardUpdate;
+    private Component lastActionBarComponent;
 
     public PlayerBeaconUIState() {
         this.activeBossbars = new HashSet<>();
@@ -64,7 +62,6 @@ public class PlayerBeaconUIState {
         this.currentBeaconId = null;
         this.scoreboard = null;
         this.lastActionBarMessage = "";
-        this.lastScoreboardUpdate = 0;
     }
 
     /**
@@ -139,22 +136,6 @@ public class PlayerBeaconUIState {
         lastBeaconStates.put(beaconId, stateHash);
     }
 
-    /**
-     * Check if scoreboard needs update (based on config interval)
-     * @param updateIntervalMillis Minimum time between updates
-     * @return true if should update
-     */
-    public boolean shouldUpdateScoreboard(long updateIntervalMillis) {
-        return System.currentTimeMillis() - lastScoreboardUpdate >= updateIntervalMillis;
-    }
-
-    /**
-     * Record scoreboard update
-     */
-    public void recordScoreboardUpdate() {
-        lastScoreboardUpdate = System.currentTimeMillis();
-    }
-
     /**
      * Clear all UI state (for cleanup)
      */
@@ -166,6 +147,6 @@ public class PlayerBeaconUIState {
         currentBeaconId = null;
         scoreboard = null;
         lastActionBarMessage = "";
-        lastScoreboardUpdate = 0;
+        lastActionBarComponent = null;
     }
 }
@@ -0,0 +1,74 @@
+package net.mysterria.cosmos.domain.beacon.service;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of block positions occupied by physical beacon structures, as packed longs per world.
+ * Filled by {@link BeaconVisualsManager} when a structure is built and cleared when it is restored,
+ * so block protection is a single set probe instead of a geometry check against every beacon.
+ */
+public class BeaconBlockIndex {
+
+    /**
+     * Every material a beacon structure is built from (iron base, beacon, stained glass)
+     */
+    public static final Set<Material> STRUCTURE_MATERIALS = structureMaterials();
+
+    private final Map<UUID, Set<Long>> protectedBlocks = new ConcurrentHashMap<>();
+
+    public void add(Location location) {
+        World world = location.getWorld();
+        if (world == null) return;
+        protectedBlocks.computeIfAbsent(world.getUID(), k -> ConcurrentHashMap.newKeySet())
+                .add(pack(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+    }
+
+    public void remove(Location location) {
+        World world = location.getWorld();
+        if (world == null) return;
+        Set<Long> blocks = protectedBlocks.get(world.getUID());
+        if (blocks != null) {
+            blocks.remove(pack(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+        }
+    }
+
+    /**
+     * Check if a block position belongs to a beacon structure
+     */
+    public boolean contains(Block block) {
+        Set<Long> blocks = protectedBlocks.get(block.getWorld().getUID());
+        return blocks != null && blocks.contains(pack(block.getX(), block.getY(), block.getZ()));
+    }
+
+    public void clear() {
+        protectedBlocks.clear();
+    }
+
+    /**
+     * Pack block coordinates as 26 bits X, 26 bits Z, 12 bits Y
+     */
+    private static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static Set<Material> structureMaterials() {
+        EnumSet<Material> materials = EnumSet.of(Material.BEACON, Material.IRON_BLOCK);
+        for (Material material : Material.values()) {
+            String name = material.name();
+            if (name.endsWith("STAINED_GLASS") && !name.startsWith("LEGACY_")) {
+                materials.add(material);
+            }
+        }
+        return materials;
+    }
+
+}
@@ -1,6 +1,6 @@
 package net.mysterria.cosmos.domain.beacon.service;
 
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.beacon.model.BeaconCapture;
 import net.mysterria.cosmos.domain.beacon.model.SpiritBeacon;
 import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
@@ -15,15 +15,17 @@ import java.util.*;
  */
 public class BeaconManager {
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final Map<String, SpiritBeacon> beacons;
     private final Map<String, BeaconCapture> captureStates;
+    private final BeaconBlockIndex blockIndex;
     private FileConfiguration beaconsConfig;
 
-    public BeaconManager(CosmosIncursion plugin) {
+    public BeaconManager(CosmosPlugin plugin) {
         this.plugin = plugin;
         this.beacons = new LinkedHashMap<>();
         this.captureStates = new HashMap<>();
+        this.blockIndex = new BeaconBlockIndex();
     }
 
     /**
@@ -35,6 +37,7 @@ public class BeaconManager {
         for (SpiritBeacon beacon : beacons.values()) {
             captureStates.put(beacon.id(), new BeaconCapture(beacon));
         }
+        plugin.getMetrics().beaconsReset();
 
         plugin.log("Initialized capture states for " + captureStates.size() + " beacons");
     }
@@ -46,6 +49,7 @@ public class BeaconManager {
         for (BeaconCapture capture : captureStates.values()) {
             capture.reset();
         }
+        plugin.getMetrics().beaconsReset();
         plugin.log("Reset all beacon capture states");
     }
 
@@ -157,6 +161,7 @@ public class BeaconManager {
         // Clear existing beacons
         beacons.clear();
         captureStates.clear();
+        plugin.getMetrics().beaconsReset();
 
         int beaconCounter = 0;
         for (IncursionZone zone : zones) {
@@ -182,12 +187,20 @@ public class BeaconManager {
         plugin.log("Generated beacon: " + beacon);
     }
 
+    /**
+     * Get the index of blocks occupied by physical beacon structures
+     */
+    public BeaconBlockIndex getBlockIndex() {
+        return blockIndex;
+    }
+
     /**
      * Clear all beacons and capture states
      */
     public void clearAllBeacons() {
         beacons.clear();
         captureStates.clear();
+        plugin.getMetrics().beaconsReset();
         plugin.log("Cleared all beacons");
     }
 
@@ -0,0 +1,243 @@
+package net.mysterria.cosmos.domain.beacon.service;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.mysterria.cosmos.config.ConfigLoader;
+import net.mysterria.cosmos.domain.beacon.model.BeaconCapture;
+import net.mysterria.cosmos.toolkit.towns.TownData;
+import org.bukkit.Bukkit;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.ScoreboardManager;
+import org.bukkit.scoreboard.Team;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Beacon status sidebar, rendered once per town perspective instead of once per player.
+ * <p>
+ * Every viewer in the same town (observers share {@link TownData#NO_OWNER}) shares a single
+ * {@link Scoreboard}. Each beacon line is a team whose prefix/suffix is derived from a fingerprint of
+ * the beacon state as seen from that perspective (owner, contested flag, own-town flag, percent).
+ * Only lines whose fingerprint changed are touched, so a long stable hold sends no scoreboard packets,
+ * and rendered components are cached by fingerprint so identical lines are shared across perspectives.
+ */
+public class BeaconSidebar {
+
+    private final ConfigLoader configLoader;
+    private final MiniMessage miniMessage;
+
+    // Town ID (0 = observer) -> shared scoreboard for that perspective
+    private final Map<Integer, Perspective> perspectives = new HashMap<>();
+
+    // Rendered prefix/suffix by line fingerprint, shared across perspectives
+    private final Map<LineState, RenderedLine> renderedLines = new HashMap<>();
+
+    // Perspectives with at least one viewer in the current pass
+    private final Set<Integer> viewedPerspectives = new HashSet<>();
+
+    private long lastRenderMillis;
+
+    public BeaconSidebar(ConfigLoader configLoader, MiniMessage miniMessage) {
+        this.configLoader = configLoader;
+        this.miniMessage = miniMessage;
+    }
+
+    /**
+     * Get the shared scoreboard for a town perspective, creating and rendering it on first use
+     * @return null if the scoreboard manager is unavailable
+     */
+    public Scoreboard boardFor(int townId, Collection<BeaconCapture> captures) {
+        viewedPerspectives.add(townId);
+
+        Perspective perspective = perspectives.get(townId);
+        if (perspective == null) {
+            ScoreboardManager manager = Bukkit.getScoreboardManager();
+            if (manager == null) return null;
+
+            perspective = new Perspective(townId, manager.getNewScoreboard());
+            perspectives.put(townId, perspective);
+            render(perspective, captures);
+        }
+        return perspective.scoreboard;
+    }
+
+    /**
+     * Re-render every viewed perspective, at most once per configured scoreboard interval.
+     * Unchanged lines are skipped.
+     */
+    public void renderViewed(Collection<BeaconCapture> captures) {
+        long now = System.currentTimeMillis();
+        long updateInterval = configLoader.getConfig().getBeaconScoreboardUpdateTicks() * 50L; // Convert ticks to milliseconds
+        if (now - lastRenderMillis >= updateInterval) {
+            lastRenderMillis = now;
+            for (int townId : viewedPerspectives) {
+                Perspective perspective = perspectives.get(townId);
+                if (perspective != null) {
+                    render(perspective, captures);
+                }
+            }
+        }
+        viewedPerspectives.clear();
+    }
+
+    /**
+     * Drop all shared scoreboards. Viewers must be moved back to the main scoreboard first.
+     */
+    public void clear() {
+        perspectives.clear();
+        renderedLines.clear();
+        viewedPerspectives.clear();
+        lastRenderMillis = 0;
+    }
+
+    private void render(Perspective perspective, Collection<BeaconCapture> captures) {
+        Scoreboard scoreboard = perspective.scoreboard;
+
+        // Get or create objective
+        Objective objective = scoreboard.getObjective("beacons");
+        if (objective == null) {
+            objective = scoreboard.registerNewObjective("beacons", "dummy",
+                    miniMessage.deserialize("<gold>⚡ BEACON STATUS</gold>"));
+            objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        }
+
+        int beaconIndex = 0;
+        for (BeaconCapture capture : captures) {
+            LineState line = LineState.of(capture, perspective.townId, configLoader.getConfig().getBeaconCapturePoints());
+
+            if (beaconIndex >= perspective.lines.size()) {
+                // First render of this line: one team and score per beacon, kept for the whole event
+                // Use regular spaces to create unique entries
+                String entryName = " ".repeat(beaconIndex + 1);
+                Team team = scoreboard.registerNewTeam("team_" + beaconIndex);
+                team.addEntry(entryName);
+                objective.getScore(entryName).setScore(15 - beaconIndex);
+                perspective.teams.add(team);
+                perspective.lines.add(null);
+            }
+
+            if (!line.equals(perspective.lines.get(beaconIndex))) {
+                RenderedLine rendered = renderedLines.computeIfAbsent(line, this::renderLine);
+                Team team = perspective.teams.get(beaconIndex);
+                team.prefix(rendered.prefix());
+                team.suffix(rendered.suffix());
+                perspective.lines.set(beaconIndex, line);
+            }
+
+            beaconIndex++;
+        }
+    }
+
+    /**
+     * Build the prefix (colored status) and suffix (beacon name) for a line fingerprint
+     */
+    private RenderedLine renderLine(LineState line) {
+        String beaconName = line.beaconName();
+
+        if (line.contested()) {
+            // Contested - Yellow gradient with swords
+            return new RenderedLine(
+                    miniMessage.deserialize("<gradient:yellow:gold>⚔ CONTESTED</gradient>"),
+                    miniMessage.deserialize(" <gradient:white:gray>" + beaconName + "</gradient>"));
+        }
+
+        if (line.ownerId() != TownData.NO_OWNER) {
+            // Truncate long town names
+            String owner = line.ownerName();
+            if (owner.length() > 8) {
+                owner = owner.substring(0, 8);
+            }
+
+            if (line.ownedByViewer()) {
+                // Your town - Green gradient
+                return new RenderedLine(
+                        miniMessage.deserialize("<gradient:green:dark_green>✓ " + owner + "</gradient>"),
+                        miniMessage.deserialize(" <gradient:white:green>" + beaconName + " " + line.percent() + "%</gradient>"));
+            }
+            // Enemy town - Red gradient
+            return new RenderedLine(
+                    miniMessage.deserialize("<gradient:red:dark_red>✗ " + owner + "</gradient>"),
+                    miniMessage.deserialize(" <gradient:white:red>" + beaconName + " " + line.percent() + "%</gradient>"));
+        }
+
+        // Neutral - Gray gradient
+        return new RenderedLine(
+                miniMessage.deserialize("<gradient:gray:dark_gray>◆ Neutral</gradient>"),
+                miniMessage.deserialize(" <gradient:white:gray>" + beaconName + "</gradient>"));
+    }
+
+    /**
+     * Extract a short identifier from beacon name
+     * Examples: "North Zone - Beacon" -> "North"
+     *          "Zone South - Beacon" -> "South"
+     *          "Beacon #3" -> "#3"
+     */
+    static String extractShortBeaconName(String fullName) {
+        // Remove common prefixes/suffixes
+        String name = fullName.replace("Zone ", "")
+                .replace(" Zone", "")
+                .replace(" - Beacon", "")
+                .replace("Beacon ", "")
+                .trim();
+
+        // If still too long, take first word only
+        if (name.length() > 10) {
+            String[] parts = name.split("[\\s-]+");
+            if (parts.length > 0) {
+                name = parts[0];
+            }
+        }
+
+        // Final truncation if still too long
+        if (name.length() > 10) {
+            name = name.substring(0, 10);
+        }
+
+        return name;
+    }
+
+    /**
+     * Everything a sidebar line shows. Percent is only part of the fingerprint when it is displayed.
+     */
+    private record LineState(String beaconName, int ownerId, String ownerName, boolean contested,
+                             boolean ownedByViewer, int percent) {
+
+        static LineState of(BeaconCapture capture, int viewerTownId, double capturePoints) {
+            String beaconName = extractShortBeaconName(capture.getBeacon().name());
+            if (capture.isContested()) {
+                return new LineState(beaconName, TownData.NO_OWNER, "", true, false, -1);
+            }
+            int ownerId = capture.getOwningTownId();
+            if (ownerId == TownData.NO_OWNER) {
+                return new LineState(beaconName, TownData.NO_OWNER, "", false, false, -1);
+            }
+            int percent = (int) ((capture.getCaptureProgress() / capturePoints) * 100);
+            return new LineState(beaconName, ownerId, Objects.requireNonNullElse(capture.getOwningTownName(), ""),
+                    false, viewerTownId != TownData.NO_OWNER && capture.isOwnedBy(viewerTownId), percent);
+        }
+    }
+
+    private record RenderedLine(Component prefix, Component suffix) {}
+
+    private static final class Perspective {
+        private final int townId;
+        private final Scoreboard scoreboard;
+        private final List<Team> teams = new ArrayList<>();
+        private final List<LineState> lines = new ArrayList<>();
+
+        private Perspective(int townId, Scoreboard scoreboard) {
+            this.townId = townId;
+            this.scoreboard = scoreboard;
+        }
+    }
+
+}
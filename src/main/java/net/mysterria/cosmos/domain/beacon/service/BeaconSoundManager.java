@@ -3,7 +3,8 @@ package net.mysterria.cosmos.domain.beacon.service;
 import net.mysterria.cosmos.domain.beacon.model.BeaconCapture;
 import net.mysterria.cosmos.domain.beacon.model.PlayerBeaconUIState;
 import net.mysterria.cosmos.domain.beacon.model.SpiritBeacon;
-import net.mysterria.cosmos.config.CosmosConfig;
+import net.mysterria.cosmos.config.ConfigLoader;
+import net.mysterria.cosmos.toolkit.HudCompositor;
 import net.mysterria.cosmos.toolkit.towns.TownData;
 import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
 import org.bukkit.Location;
@@ -33,10 +34,12 @@ public class BeaconSoundManager {
     private static final long COOLDOWN_LOST = 10000;      // 10 seconds
     // Sound radius
     private static final double SOUND_RADIUS = 50.0;
-    private final CosmosConfig config;
+    private final ConfigLoader configLoader;
+    private final HudCompositor hud;
 
-    public BeaconSoundManager(CosmosConfig config) {
-        this.config = config;
+    public BeaconSoundManager(ConfigLoader configLoader, HudCompositor hud) {
+        this.configLoader = configLoader;
+        this.hud = hud;
     }
 
     /**
@@ -67,7 +70,7 @@ public class BeaconSoundManager {
             // Check for specific state changes
             if (capture.isContested() && previousStateHash != currentStateHash) {
                 playEnemyDetectedSound(player, beacon, state);
-            } else if (isOwnedByPlayer && capture.getCaptureProgress() >= config.getBeaconCapturePoints()) {
+            } else if (isOwnedByPlayer && capture.getCaptureProgress() >= configLoader.getConfig().getBeaconCapturePoints()) {
                 playCaptureCompleteSound(player, beacon, state);
             } else if (!isOwnedByPlayer && capture.getOwningTownId() != 0) {
                 playBeaconLostSound(player, beacon, state);
@@ -173,7 +176,7 @@ public class BeaconSoundManager {
     private void playSound(Player player, Location location, Sound sound, float volume, float pitch) {
         // Only play if player is within sound radius
         if (player.getLocation().distance(location) <= SOUND_RADIUS) {
-            player.playSound(location, sound, SoundCategory.BLOCKS, volume, pitch);
+            hud.sound(player, location, sound, SoundCategory.BLOCKS, volume, pitch);
         }
     }
 }
@@ -3,12 +3,17 @@ package net.mysterria.cosmos.domain.beacon.service;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.title.Title;
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.beacon.model.BeaconCapture;
 import net.mysterria.cosmos.domain.beacon.model.PlayerBeaconUIState;
 import net.mysterria.cosmos.domain.beacon.model.SpiritBeacon;
 import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.domain.beacon.task.BeaconParticleTask;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.PlatformScheduler;
+import net.mysterria.cosmos.toolkit.PlayerPositionSnapshot;
+import net.mysterria.cosmos.toolkit.PlayerRegistry;
+import net.mysterria.cosmos.toolkit.PlayerPositionSnapshot.PlayerPosition;
 import net.mysterria.cosmos.toolkit.towns.TownData;
 import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
 import org.bukkit.Bukkit;
@@ -21,6 +26,7 @@ import org.bukkit.scoreboard.*;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Central manager for all beacon-related UI elements
@@ -28,70 +34,111 @@ import java.util.*;
  */
 public class BeaconUIManager {
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final BeaconManager beaconManager;
-    private final CosmosConfig config;
     private final MiniMessage miniMessage;
     private final Map<String, BeaconVisualsManager> physicalBeacons;
-    // Per-player UI state tracking
-    private final Map<UUID, PlayerBeaconUIState> playerStates;
+    // Per-player UI state tracking, indexed by registry slot
+    private final PlayerRegistry playerRegistry;
+    private final PlayerRegistry.ObjectColumn<PlayerBeaconUIState> playerStates;
     // Boss bars per beacon
     private final Map<String, BossBar> beaconBossBars;
     // Town color cache
     private final Map<Integer, String> townColorCache;
+    // Beacon sidebar, one shared scoreboard per town perspective; off on Folia, which has no scoreboard API
+    private final BeaconSidebar sidebar;
+    private final boolean sidebarEnabled;
+    // Shared position snapshot from the current capture pass, and the last pass each slot was near a beacon in
+    private final PlayerRegistry.LongColumn nearBeaconPass;
+    private volatile long updatePass;
+    private volatile PlayerPositionSnapshot positions;
+    // Whether this pass refreshes action bars, boss bars, sounds and the sidebar (the load governor may skip it)
+    private volatile boolean cosmeticPass = true;
     // UI component managers
     private BeaconSoundManager soundManager;
-    private BeaconParticleTask particleTask;
+    private PlatformScheduler.Task particleTask;
 
-    public BeaconUIManager(CosmosIncursion plugin, BeaconManager beaconManager) {
+    public BeaconUIManager(CosmosPlugin plugin, BeaconManager beaconManager) {
         this.plugin = plugin;
         this.beaconManager = beaconManager;
-        this.config = plugin.getConfigLoader().getConfig();
         this.miniMessage = MiniMessage.miniMessage();
 
-        this.playerStates = new HashMap<>();
-        this.beaconBossBars = new HashMap<>();
-        this.physicalBeacons = new HashMap<>();
-        this.townColorCache = new HashMap<>();
+        this.playerRegistry = plugin.getPlayerRegistry();
+        this.playerStates = playerRegistry.objectColumn();
+        this.beaconBossBars = new ConcurrentHashMap<>();
+        this.physicalBeacons = new ConcurrentHashMap<>();
+        this.townColorCache = new ConcurrentHashMap<>();
+        this.sidebar = new BeaconSidebar(plugin.getConfigLoader(), miniMessage);
+        this.sidebarEnabled = !plugin.getPlatformScheduler().isFolia();
+        this.nearBeaconPass = playerRegistry.longColumn();
     }
 
     /**
      * Initialize UI systems when event becomes active
      */
     public void initializeEventUI() {
-        if (!config.isBeaconUIEnabled()) {
+        if (!config().isBeaconUIEnabled()) {
             return;
         }
 
         // Initialize sound manager
-        if (config.isBeaconSoundsEnabled()) {
-            soundManager = new BeaconSoundManager(config);
+        if (config().isBeaconSoundsEnabled()) {
+            soundManager = new BeaconSoundManager(plugin.getConfigLoader(), plugin.getHudCompositor());
         }
 
         // Start particle task
-        if (config.isBeaconParticlesEnabled()) {
-            particleTask = new BeaconParticleTask(plugin, beaconManager, config, this);
-            particleTask.runTaskTimer(plugin, 0L, config.getBeaconParticleUpdateTicks());
+        if (config().isBeaconParticlesEnabled()) {
+            particleTask = plugin.getCosmosScheduler().every("beacon-particles",
+                    config().getBeaconParticleUpdateTicks(),
+                    plugin.getLoadGovernor().cosmetic(new BeaconParticleTask(plugin, beaconManager, this)));
         }
 
         plugin.log("Beacon UI systems initialized");
     }
 
+    /**
+     * Start a capture pass; beacon updates in this pass share the given position snapshot
+     */
+    public void beginUpdate(PlayerPositionSnapshot positions) {
+        this.positions = positions;
+        updatePass++;
+        cosmeticPass = plugin.getLoadGovernor().allowCosmeticPass(updatePass);
+    }
+
     /**
      * Main update method called from BeaconCaptureTask every second
      * @param capture The beacon capture state
      * @param beacon The beacon
+     * @param candidates Players the capture task already found near this beacon (superset of the UI radius)
      */
-    public void updateBeaconUI(BeaconCapture capture, SpiritBeacon beacon) {
+    public void updateBeaconUI(BeaconCapture capture, SpiritBeacon beacon, List<PlayerPosition> candidates) {
+        CosmosConfig config = config();
         if (!config.isBeaconUIEnabled()) {
             return;
         }
 
-        String beaconId = beacon.id();
-        List<Player> nearbyPlayers = getNearbyPlayers(beacon.location(), config.getBeaconUIRadius());
+        double uiRadiusSquared = config.getBeaconUIRadiusSquared();
+        Location beaconLocation = beacon.location();
 
-        for (Player player : nearbyPlayers) {
-            PlayerBeaconUIState state = getOrCreatePlayerState(player);
+        for (PlayerPosition position : candidates) {
+            if (position.distanceSquared(beaconLocation) > uiRadiusSquared) {
+                continue;
+            }
+
+            Player player = position.player();
+            int slot = playerRegistry.slotOf(player);
+            nearBeaconPass.set(slot, updatePass);
+            PlayerBeaconUIState state = getOrCreatePlayerState(slot);
+
+            // Attach the shared sidebar for the player's town
+            updateScoreboard(player, state);
+
+            // Send titles on state changes
+            sendBeaconTitle(player, capture, beacon, state);
+
+            if (!cosmeticPass) {
+                continue;
+            }
 
             // Update actionbar
             updateActionBar(player, capture, beacon, state);
@@ -99,19 +146,24 @@ public class BeaconUIManager {
             // Update bossbar
             updateBossBar(player, capture, beacon, state);
 
-            // Update scoreboard (every 2 seconds)
-            updateScoreboard(player, state);
-
             // Play sounds
             if (soundManager != null) {
                 soundManager.updateSounds(player, capture, beacon, state);
             }
-
-            // Send titles on state changes
-            sendBeaconTitle(player, capture, beacon, state);
         }
+    }
 
-        // Remove players who moved away from all beacons
+    /**
+     * Finish a capture pass: re-render changed sidebar lines and remove UI from players
+     * who moved away from all beacons
+     */
+    public void finishUpdate() {
+        if (!config().isBeaconUIEnabled()) {
+            return;
+        }
+        if (cosmeticPass && sidebarEnabled) {
+            sidebar.renderViewed(beaconManager.getAllCaptureStates());
+        }
         removeDistantPlayers();
     }
 
@@ -131,11 +183,12 @@ public class BeaconUIManager {
             message = buildParticipantActionBar(capture, beacon, playerTown.get());
         }
 
-        // Only send if message changed
-        if (!message.equals(state.getLastActionBarMessage())) {
-            player.sendActionBar(miniMessage.deserialize(message));
+        // Only re-parse if the message changed; the compositor drops unchanged resends
+        if (!message.equals(state.getLastActionBarMessage()) || state.getLastActionBarComponent() == null) {
+            state.setLastActionBarComponent(miniMessage.deserialize(message));
             state.setLastActionBarMessage(message);
         }
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.BEACON, state.getLastActionBarComponent());
     }
 
     /**
@@ -148,7 +201,7 @@ public class BeaconUIManager {
             return String.format("<gray>Observing: %s - <white>%s</white> (%.0f%%)</gray>",
                     beacon.name(),
                     capture.getOwningTownName(),
-                    (capture.getCaptureProgress() / config.getBeaconCapturePoints()) * 100);
+                    (capture.getCaptureProgress() / config().getBeaconCapturePoints()) * 100);
         } else {
             return "<gray>Observing: " + beacon.name() + " - <white>Neutral</white></gray>";
         }
@@ -159,7 +212,7 @@ public class BeaconUIManager {
      */
     private String buildParticipantActionBar(BeaconCapture capture, SpiritBeacon beacon, TownData playerTown) {
         boolean isOwnedByPlayer = capture.isOwnedBy(playerTown.id());
-        int percent = (int) ((capture.getCaptureProgress() / config.getBeaconCapturePoints()) * 100);
+        int percent = (int) ((capture.getCaptureProgress() / config().getBeaconCapturePoints()) * 100);
 
         if (capture.isContested()) {
             return "<red>⚠ CONTESTED - " + beacon.name() + "</red>";
@@ -227,7 +280,7 @@ public class BeaconUIManager {
         bossBar.setTitle(title);
 
         // Update progress
-        double progress = Math.min(1.0, Math.max(0.0, capture.getCaptureProgress() / config.getBeaconCapturePoints()));
+        double progress = Math.min(1.0, Math.max(0.0, capture.getCaptureProgress() / config().getBeaconCapturePoints()));
         bossBar.setProgress(progress);
 
         // Update color based on ownership
@@ -244,136 +297,21 @@ public class BeaconUIManager {
     }
 
     /**
-     * Update scoreboard for a player
+     * Point the player at the shared sidebar for their town perspective.
+     * Lines are re-rendered once per pass in {@link #finishUpdate()}, not per viewer.
      */
     private void updateScoreboard(Player player, PlayerBeaconUIState state) {
-        long updateInterval = config.getBeaconScoreboardUpdateTicks() * 50L; // Convert ticks to milliseconds
-
-        if (!state.shouldUpdateScoreboard(updateInterval)) {
-            return;
-        }
+        if (!sidebarEnabled) return;
 
-        // Get or create scoreboard
-        Scoreboard scoreboard = state.getScoreboard();
-        if (scoreboard == null) {
-            ScoreboardManager manager = Bukkit.getScoreboardManager();
-            if (manager == null) return;
+        int townId = TownsToolkit.getPlayerTown(player).map(TownData::id).orElse(TownData.NO_OWNER);
+        Scoreboard scoreboard = sidebar.boardFor(townId, beaconManager.getAllCaptureStates());
+        if (scoreboard == null) return;
 
-            scoreboard = manager.getNewScoreboard();
+        // Only switch when the perspective changed (first view, or the player changed town)
+        if (state.getScoreboard() != scoreboard) {
             state.setScoreboard(scoreboard);
             player.setScoreboard(scoreboard);
         }
-
-        // Get or create objective
-        Objective objective = scoreboard.getObjective("beacons");
-        if (objective == null) {
-            objective = scoreboard.registerNewObjective("beacons", "dummy",
-                    miniMessage.deserialize("<gold>⚡ BEACON STATUS</gold>"));
-            objective.setDisplaySlot(DisplaySlot.SIDEBAR);
-        }
-
-        // Clear existing scores and teams
-        for (String entry : scoreboard.getEntries()) {
-            scoreboard.resetScores(entry);
-        }
-        for (Team team : scoreboard.getTeams()) {
-            team.unregister();
-        }
-
-        // Add beacon status for each beacon
-        Optional<TownData> playerTown = TownsToolkit.getPlayerTown(player);
-        int score = 15;  // Start from top
-
-        int beaconIndex = 0;
-        for (BeaconCapture capture : beaconManager.getAllCaptureStates()) {
-            SpiritBeacon beacon = capture.getBeacon();
-
-            // Use regular spaces to create unique entries
-            String entryName = " ".repeat(beaconIndex + 1);
-
-            // Create team for this entry to support Adventure components
-            Team team = scoreboard.registerNewTeam("team_" + beaconIndex);
-            team.addEntry(entryName);
-
-            // Set prefix (colored status) and suffix (beacon name)
-            buildScoreboardLine(team, capture, beacon, playerTown);
-
-            // Add score
-            Score beaconScore = objective.getScore(entryName);
-            beaconScore.setScore(score--);
-
-            beaconIndex++;
-        }
-
-        state.recordScoreboardUpdate();
-    }
-
-    /**
-     * Build scoreboard line for a beacon using Team prefix/suffix
-     */
-    private void buildScoreboardLine(Team team, BeaconCapture capture, SpiritBeacon beacon, Optional<TownData> playerTown) {
-        // Extract short identifier from beacon name
-        String beaconName = extractShortBeaconName(beacon.name());
-        int percent = (int) ((capture.getCaptureProgress() / config.getBeaconCapturePoints()) * 100);
-
-        if (capture.isContested()) {
-            // Contested - Yellow gradient with swords
-            team.prefix(miniMessage.deserialize("<gradient:yellow:gold>⚔ CONTESTED</gradient>"));
-            team.suffix(miniMessage.deserialize(" <gradient:white:gray>" + beaconName + "</gradient>"));
-        } else if (capture.getOwningTownId() != 0) {
-            // Owned by a town
-            boolean isOwnedByPlayer = playerTown.isPresent() && capture.isOwnedBy(playerTown.get().id());
-            String owner = capture.getOwningTownName();
-
-            // Truncate long town names
-            if (owner.length() > 8) {
-                owner = owner.substring(0, 8);
-            }
-
-            if (isOwnedByPlayer) {
-                // Your town - Green gradient
-                team.prefix(miniMessage.deserialize("<gradient:green:dark_green>✓ " + owner + "</gradient>"));
-                team.suffix(miniMessage.deserialize(" <gradient:white:green>" + beaconName + " " + percent + "%</gradient>"));
-            } else {
-                // Enemy town - Red gradient
-                team.prefix(miniMessage.deserialize("<gradient:red:dark_red>✗ " + owner + "</gradient>"));
-                team.suffix(miniMessage.deserialize(" <gradient:white:red>" + beaconName + " " + percent + "%</gradient>"));
-            }
-        } else {
-            // Neutral - Gray gradient
-            team.prefix(miniMessage.deserialize("<gradient:gray:dark_gray>◆ Neutral</gradient>"));
-            team.suffix(miniMessage.deserialize(" <gradient:white:gray>" + beaconName + "</gradient>"));
-        }
-    }
-
-    /**
-     * Extract a short identifier from beacon name
-     * Examples: "North Zone - Beacon" -> "North"
-     *          "Zone South - Beacon" -> "South"
-     *          "Beacon #3" -> "#3"
-     */
-    private String extractShortBeaconName(String fullName) {
-        // Remove common prefixes/suffixes
-        String name = fullName.replace("Zone ", "")
-                .replace(" Zone", "")
-                .replace(" - Beacon", "")
-                .replace("Beacon ", "")
-                .trim();
-
-        // If still too long, take first word only
-        if (name.length() > 10) {
-            String[] parts = name.split("[\\s-]+");
-            if (parts.length > 0) {
-                name = parts[0];
-            }
-        }
-
-        // Final truncation if still too long
-        if (name.length() > 10) {
-            name = name.substring(0, 10);
-        }
-
-        return name;
     }
 
     /**
@@ -391,7 +329,7 @@ public class BeaconUIManager {
 
         // Check if player just entered beacon range
         boolean justEntered = !beaconId.equals(state.getCurrentBeaconId());
-        if (justEntered && beacon.isWithinCaptureRadius(player.getLocation(), config.getBeaconCaptureRadius())) {
+        if (justEntered && beacon.isWithinCaptureRadius(player.getLocation(), config().getBeaconCaptureRadius())) {
             sendEnteringTitle(player, beacon, playerTown.isPresent());
             state.recordTitleSent(beaconId);
             state.setCurrentBeaconId(beaconId);
@@ -415,7 +353,7 @@ public class BeaconUIManager {
             boolean nowContested = capture.isContested();
             boolean wasContested = ((previousHash >> 1) & 0x1) == 1;  // Second bit = was contested
 
-            if (nowOwned && !wasOwned && capture.getCaptureProgress() >= config.getBeaconCapturePoints()) {
+            if (nowOwned && !wasOwned && capture.getCaptureProgress() >= config().getBeaconCapturePoints()) {
                 // Successful capture
                 sendCapturedTitle(player, beacon);
                 state.recordTitleSent(beaconId);
@@ -451,7 +389,7 @@ public class BeaconUIManager {
         hash |= (capture.getOwningTownId() & 0xFF) << 2;
 
         // Bits 10-17: Capture progress (in 10% increments)
-        int progressBucket = (int) ((capture.getCaptureProgress() / config.getBeaconCapturePoints()) * 10);
+        int progressBucket = (int) ((capture.getCaptureProgress() / config().getBeaconCapturePoints()) * 10);
         hash |= (progressBucket & 0xFF) << 10;
 
         return hash;
@@ -476,7 +414,7 @@ public class BeaconUIManager {
                 Duration.ofMillis(500)    // fade out
         );
 
-        player.showTitle(Title.title(title, subtitle, times));
+        plugin.getHudCompositor().title(player, HudCompositor.Slot.BEACON, Title.title(title, subtitle, times));
     }
 
     /**
@@ -492,7 +430,7 @@ public class BeaconUIManager {
                 Duration.ofMillis(700)    // fade out
         );
 
-        player.showTitle(Title.title(title, subtitle, times));
+        plugin.getHudCompositor().title(player, HudCompositor.Slot.BEACON, Title.title(title, subtitle, times));
     }
 
     /**
@@ -508,7 +446,7 @@ public class BeaconUIManager {
                 Duration.ofMillis(500)    // fade out
         );
 
-        player.showTitle(Title.title(title, subtitle, times));
+        plugin.getHudCompositor().title(player, HudCompositor.Slot.BEACON, Title.title(title, subtitle, times));
     }
 
     /**
@@ -524,35 +462,64 @@ public class BeaconUIManager {
                 Duration.ofMillis(500)    // fade out
         );
 
-        player.showTitle(Title.title(title, subtitle, times));
+        plugin.getHudCompositor().title(player, HudCompositor.Slot.BEACON, Title.title(title, subtitle, times));
     }
 
     /**
-     * Create physical beacon blocks
+     * Create physical beacon blocks, on the thread that owns the beacon's location
      * @param beacon The beacon to visualize
      */
     public void createPhysicalBeacon(SpiritBeacon beacon) {
-        if (!config.isBeaconPhysicalEnabled()) {
+        if (!config().isBeaconPhysicalEnabled()) {
             return;
         }
 
         BeaconVisualsManager visuals = new BeaconVisualsManager(plugin, beacon);
-        visuals.createBeacon();
         physicalBeacons.put(beacon.id(), visuals);
+        plugin.getPlatformScheduler().runAt(beacon.location(), visuals::createBeacon);
     }
 
     /**
      * Get or create player UI state
      */
-    private PlayerBeaconUIState getOrCreatePlayerState(Player player) {
-        return playerStates.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerBeaconUIState());
+    private PlayerBeaconUIState getOrCreatePlayerState(int slot) {
+        PlayerBeaconUIState state = playerStates.get(slot);
+        if (state == null) {
+            state = new PlayerBeaconUIState();
+            playerStates.set(slot, state);
+        }
+        return state;
     }
 
     /**
-     * Get players near a location within radius
+     * Get players near a location within radius.
+     * Uses the latest capture-pass snapshot (at most a second old) when one is available.
+     * On Folia the lookup is region-local and must run on the region owning the location.
      */
     public List<Player> getNearbyPlayers(Location location, double radius) {
         List<Player> nearby = new ArrayList<>();
+
+        if (plugin.getPlatformScheduler().isFolia()) {
+            for (Player player : location.getWorld().getNearbyPlayers(location, radius)) {
+                if (!player.hasMetadata("NPC")) {
+                    nearby.add(player);
+                }
+            }
+            return nearby;
+        }
+
+        PlayerPositionSnapshot snapshot = positions;
+        if (snapshot != null) {
+            List<PlayerPosition> candidates = new ArrayList<>();
+            snapshot.collectWithin(location, radius, candidates);
+            for (PlayerPosition position : candidates) {
+                if (position.player().isOnline()) {
+                    nearby.add(position.player());
+                }
+            }
+            return nearby;
+        }
+
         double radiusSquared = radius * radius;
 
         for (Player player : Bukkit.getOnlinePlayers()) {
@@ -576,33 +543,22 @@ public class BeaconUIManager {
      * Remove players who are no longer near any beacon
      */
     private void removeDistantPlayers() {
-        for (Iterator<Map.Entry<UUID, PlayerBeaconUIState>> it = playerStates.entrySet().iterator(); it.hasNext(); ) {
-            Map.Entry<UUID, PlayerBeaconUIState> entry = it.next();
-            Player player = Bukkit.getPlayer(entry.getKey());
-
-            if (player == null || !player.isOnline()) {
-                // Player offline - cleanup
-                removePlayerFromBossBars(player, entry.getValue());
-                clearPlayerScoreboard(player, entry.getValue());
-                it.remove();
-                continue;
-            }
-
-            // Check if player is near any beacon
-            boolean nearAnyBeacon = false;
-            for (SpiritBeacon beacon : beaconManager.getAllBeacons()) {
-                if (beacon.isWithinCaptureRadius(player.getLocation(), config.getBeaconUIRadius())) {
-                    nearAnyBeacon = true;
-                    break;
-                }
-            }
-
-            if (!nearAnyBeacon) {
-                // Remove from all bossbars
-                removePlayerFromBossBars(player, entry.getValue());
-                // Clear scoreboard
-                clearPlayerScoreboard(player, entry.getValue());
-                entry.getValue().setLastActionBarMessage(""); // Reset for next time
+        // Offline players need no sweep here: their slot state is dropped in handlePlayerQuit
+        for (int slot = 0; slot < playerRegistry.getSlotLimit(); slot++) {
+            PlayerBeaconUIState state = playerStates.get(slot);
+            if (state == null) continue;
+
+            // Check if player was near any beacon in this pass
+            if (nearBeaconPass.get(slot) != updatePass) {
+                Player player = playerRegistry.playerAt(slot);
+                if (player == null) continue;
+                plugin.getPlatformScheduler().runFor(player, () -> {
+                    // Remove from all bossbars
+                    removePlayerFromBossBars(player, state);
+                    // Clear scoreboard
+                    clearPlayerScoreboard(player, state);
+                    state.setLastActionBarMessage(""); // Reset for next time
+                });
             }
         }
     }
@@ -634,8 +590,7 @@ public class BeaconUIManager {
      * Handle player quit - cleanup all UI elements
      */
     public void handlePlayerQuit(Player player) {
-        UUID playerId = player.getUniqueId();
-        PlayerBeaconUIState state = playerStates.remove(playerId);
+        PlayerBeaconUIState state = playerStates.remove(playerRegistry.slotOf(player));
 
         if (state == null) {
             return;
@@ -668,21 +623,24 @@ public class BeaconUIManager {
         beaconBossBars.clear();
 
         // Clear all player states
-        for (Map.Entry<UUID, PlayerBeaconUIState> entry : playerStates.entrySet()) {
-            Player player = Bukkit.getPlayer(entry.getKey());
+        for (int slot = 0; slot < playerRegistry.getSlotLimit(); slot++) {
+            PlayerBeaconUIState state = playerStates.remove(slot);
+            if (state == null) continue;
+
+            Player player = playerRegistry.playerAt(slot);
             if (player != null && player.isOnline()) {
                 // Clear scoreboard
-                if (entry.getValue().getScoreboard() != null) {
+                if (state.getScoreboard() != null) {
                     player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
                 }
             }
-            entry.getValue().clear();
+            state.clear();
         }
-        playerStates.clear();
+        sidebar.clear();
 
         // Remove physical beacons
         for (BeaconVisualsManager visuals : physicalBeacons.values()) {
-            visuals.removeBeacon();
+            plugin.getPlatformScheduler().runAt(visuals.getLocation(), visuals::removeBeacon);
         }
         physicalBeacons.clear();
 
@@ -695,6 +653,9 @@ public class BeaconUIManager {
         // Clear town color cache
         townColorCache.clear();
 
+        // Drop the last position snapshot
+        positions = null;
+
         plugin.log("Beacon UI cleanup complete");
     }
 
@@ -716,6 +677,10 @@ public class BeaconUIManager {
      * Get player UI state (for external access)
      */
     public PlayerBeaconUIState getPlayerState(UUID playerId) {
-        return playerStates.get(playerId);
+        return playerStates.get(playerRegistry.slotOf(playerId));
+    }
+
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
     }
 }
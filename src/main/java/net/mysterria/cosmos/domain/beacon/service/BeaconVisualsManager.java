@@ -1,6 +1,6 @@
 package net.mysterria.cosmos.domain.beacon.service;
 
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.beacon.model.SpiritBeacon;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -20,12 +20,12 @@ import java.util.Map;
  */
 public class BeaconVisualsManager {
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final SpiritBeacon beacon;
     private final Map<Location, BlockData> originalBlocks;
     private boolean beaconCreated;
 
-    public BeaconVisualsManager(CosmosIncursion plugin, SpiritBeacon beacon) {
+    public BeaconVisualsManager(CosmosPlugin plugin, SpiritBeacon beacon) {
         this.plugin = plugin;
         this.beacon = beacon;
         this.originalBlocks = new HashMap<>();
@@ -75,10 +75,12 @@ public class BeaconVisualsManager {
             }
         }
 
-        // Store original blocks
+        // Store original blocks and protect their positions
+        BeaconBlockIndex blockIndex = plugin.getBeaconManager().getBlockIndex();
         for (Location loc : blocksToPlace) {
             Block block = world.getBlockAt(loc);
             originalBlocks.put(loc.clone(), block.getBlockData().clone());
+            blockIndex.add(loc);
         }
 
         // Place beacon structure
@@ -153,6 +155,13 @@ public class BeaconVisualsManager {
         }
     }
 
+    /**
+     * Location of the beacon this structure belongs to
+     */
+    public Location getLocation() {
+        return beacon.location();
+    }
+
     /**
      * Remove beacon and restore original blocks
      */
@@ -167,10 +176,12 @@ public class BeaconVisualsManager {
             return;
         }
 
-        // Restore all original blocks
+        // Restore all original blocks and release their protection
+        BeaconBlockIndex blockIndex = plugin.getBeaconManager().getBlockIndex();
         for (Map.Entry<Location, BlockData> entry : originalBlocks.entrySet()) {
             Location loc = entry.getKey();
             BlockData originalData = entry.getValue();
+            blockIndex.remove(loc);
 
             Block block = world.getBlockAt(loc);
             block.setBlockData(originalData, false);  // false = no physics update
@@ -1,17 +1,19 @@
 package net.mysterria.cosmos.domain.beacon.task;
 
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.beacon.model.BeaconCapture;
 import net.mysterria.cosmos.domain.beacon.service.BeaconManager;
 import net.mysterria.cosmos.domain.beacon.model.SpiritBeacon;
 import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.domain.beacon.service.BeaconUIManager;
+import net.mysterria.cosmos.toolkit.PlayerPositionSnapshot;
+import net.mysterria.cosmos.toolkit.PlayerPositionSnapshot.PlayerPosition;
+import net.mysterria.cosmos.toolkit.jfr.BeaconCaptureEvent;
 import net.mysterria.cosmos.toolkit.towns.TownData;
 import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
-import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -21,46 +23,87 @@ import java.util.Optional;
 
 /**
  * Task that runs every second to update beacon capture progress
+ * - Snapshots player positions once and queries it per beacon
  * - Counts players per town in capture radius
  * - Calculates capture rate (1 point/player/second)
  * - Handles contested state and decay
  */
-public class BeaconCaptureTask extends BukkitRunnable {
+public class BeaconCaptureTask implements Runnable {
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final BeaconManager beaconManager;
     private final BeaconUIManager beaconUIManager;
-    private final CosmosConfig config;
 
-    public BeaconCaptureTask(CosmosIncursion plugin, BeaconManager beaconManager,
+    // Reused across beacons and runs (Paper; Folia runs allocate per beacon)
+    private final List<PlayerPosition> nearby = new ArrayList<>();
+    private final Map<Integer, List<Player>> townPlayers = new HashMap<>();
+
+    public BeaconCaptureTask(CosmosPlugin plugin, BeaconManager beaconManager,
                              BeaconUIManager beaconUIManager) {
         this.plugin = plugin;
         this.beaconManager = beaconManager;
         this.beaconUIManager = beaconUIManager;
-        this.config = plugin.getConfigLoader().getConfig();
     }
 
     @Override
     public void run() {
         try {
+            double queryRadius = config().getBeaconQueryRadius();
+            if (plugin.getPlatformScheduler().isFolia()) {
+                runRegionized(queryRadius);
+                return;
+            }
+
+            // One position snapshot per run, bucketed by the larger of the two radii so each
+            // beacon query touches at most 3×3 cells
+            PlayerPositionSnapshot positions = PlayerPositionSnapshot.capture(queryRadius);
+            beaconUIManager.beginUpdate(positions);
+
             // Process each beacon
             for (BeaconCapture capture : beaconManager.getAllCaptureStates()) {
-                processBeacon(capture);
+                nearby.clear();
+                positions.collectWithin(capture.getBeacon().location(), queryRadius, nearby);
+                processBeacon(capture, nearby, townPlayers);
             }
+
+            beaconUIManager.finishUpdate();
         } catch (Exception e) {
             plugin.log("Error in BeaconCaptureTask: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    /**
+     * Folia: each beacon is processed on the region that owns it, from a region-local player lookup.
+     * The UI pass is closed at the start of the next run, once every region has reported.
+     */
+    private void runRegionized(double queryRadius) {
+        beaconUIManager.finishUpdate();
+        beaconUIManager.beginUpdate(null);
+
+        for (BeaconCapture capture : beaconManager.getAllCaptureStates()) {
+            Location location = capture.getBeacon().location();
+            plugin.getPlatformScheduler().runAt(location, () -> {
+                List<PlayerPosition> regionNearby = new ArrayList<>();
+                for (Player player : location.getWorld().getNearbyPlayers(location, queryRadius)) {
+                    if (player.hasMetadata("NPC")) continue;
+                    Location playerLocation = player.getLocation();
+                    regionNearby.add(new PlayerPosition(player, playerLocation.getX(), playerLocation.getY(), playerLocation.getZ()));
+                }
+                processBeacon(capture, regionNearby, new HashMap<>());
+            });
+        }
+    }
+
     /**
      * Process capture mechanics for a single beacon
      */
-    private void processBeacon(BeaconCapture capture) {
+    private void processBeacon(BeaconCapture capture, List<PlayerPosition> nearbyPlayers,
+                               Map<Integer, List<Player>> townPlayers) {
         SpiritBeacon beacon = capture.getBeacon();
 
         // Group players near the beacon by town
-        Map<Integer, List<Player>> townPlayers = playersNearBeacon(beacon);
+        groupPlayersNearBeacon(beacon, nearbyPlayers, townPlayers);
 
         // Determine capture state
         if (townPlayers.isEmpty()) {
@@ -76,33 +119,29 @@ public class BeaconCaptureTask extends BukkitRunnable {
         }
 
         // Update UI for all nearby players
-        beaconUIManager.updateBeaconUI(capture, beacon);
+        beaconUIManager.updateBeaconUI(capture, beacon, nearbyPlayers);
     }
 
     /**
      * Group players by town among those within capture radius
      */
-    private Map<Integer, List<Player>> playersNearBeacon(SpiritBeacon beacon) {
-        Map<Integer, List<Player>> byTown = new HashMap<>();
-        double captureRadius = config.getBeaconCaptureRadius();
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            // Skip Citizens NPCs (they have "NPC" metadata)
-            if (player.hasMetadata("NPC")) {
-                continue;
-            }
-
-            // Check if player is within capture radius
-            if (!beacon.isWithinCaptureRadius(player.getLocation(), captureRadius)) {
+    private void groupPlayersNearBeacon(SpiritBeacon beacon, List<PlayerPosition> nearbyPlayers,
+                                        Map<Integer, List<Player>> townPlayers) {
+        townPlayers.clear();
+        double captureRadiusSquared = config().getBeaconCaptureRadiusSquared();
+        Location beaconLocation = beacon.location();
+
+        for (PlayerPosition position : nearbyPlayers) {
+            // Check if player is within capture radius (the snapshot query used the larger UI radius)
+            if (position.distanceSquared(beaconLocation) > captureRadiusSquared) {
                 continue;
             }
 
+            Player player = position.player();
             if (player.getGameMode() != GameMode.SURVIVAL){
                 continue;
             }
 
-
-
             // Get player's town
             Optional<TownData> townOpt = TownsToolkit.getPlayerTown(player);
             if (townOpt.isEmpty()) {
@@ -110,10 +149,8 @@ public class BeaconCaptureTask extends BukkitRunnable {
             }
 
             TownData town = townOpt.get();
-            byTown.computeIfAbsent(town.id(), k -> new ArrayList<>()).add(player);
+            townPlayers.computeIfAbsent(town.id(), k -> new ArrayList<>()).add(player);
         }
-
-        return byTown;
     }
 
     /**
@@ -131,15 +168,18 @@ public class BeaconCaptureTask extends BukkitRunnable {
         TownData town = townOpt.get();
 
         // Calculate capture delta
-        double pointsPerPlayer = config.getPointsPerPlayer();
+        double pointsPerPlayer = config().getPointsPerPlayer();
         double delta = pointsPerPlayer * players.size();  // Per second
 
         // Apply capture progress
-        capture.updateProgress(delta, town, config.getBeaconCapturePoints());
+        String previousOwner = capture.getOwningTownName();
+        capture.updateProgress(delta, town, config().getBeaconCapturePoints());
 
         // Beacon just completed capture this tick - log and reward the players who secured it
         if (capture.consumeJustCaptured()) {
             plugin.log("Beacon " + capture.getBeacon().name() + " captured by " + town.name());
+            plugin.getMetrics().beaconCaptured(previousOwner, town.name());
+            BeaconCaptureEvent.record(capture.getBeacon().name(), BeaconCaptureEvent.CAPTURED, town.name(), capture.getCaptureProgress());
             for (Player player : players) {
                 plugin.getActingRewardManager().grantBeaconCaptureActing(player);
             }
@@ -152,6 +192,8 @@ public class BeaconCaptureTask extends BukkitRunnable {
     private void handleContested(BeaconCapture capture) {
         if (!capture.isContested()) {
             plugin.log("Beacon " + capture.getBeacon().name() + " is now contested");
+            BeaconCaptureEvent.record(capture.getBeacon().name(), BeaconCaptureEvent.CONTESTED,
+                    capture.getOwningTownName(), capture.getCaptureProgress());
         }
         capture.setContested(true);
         // No progress change when contested
@@ -165,9 +207,17 @@ public class BeaconCaptureTask extends BukkitRunnable {
 
         // Only decay if beacon is not at zero
         if (capture.getCaptureProgress() > 0) {
-            double decayRate = config.getDecayRate();
-            capture.updateProgress(-decayRate, null, config.getBeaconCapturePoints());
+            String previousOwner = capture.getOwningTownName();
+            double decayRate = config().getDecayRate();
+            capture.updateProgress(-decayRate, null, config().getBeaconCapturePoints());
+            if (previousOwner != null && capture.getOwningTownId() == 0) {
+                plugin.getMetrics().beaconLost(previousOwner);
+                BeaconCaptureEvent.record(capture.getBeacon().name(), BeaconCaptureEvent.LOST, previousOwner, capture.getCaptureProgress());
+            }
         }
     }
 
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
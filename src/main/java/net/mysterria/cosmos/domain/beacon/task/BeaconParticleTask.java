@@ -1,16 +1,14 @@
 package net.mysterria.cosmos.domain.beacon.task;
 
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.beacon.model.BeaconCapture;
 import net.mysterria.cosmos.domain.beacon.service.BeaconManager;
 import net.mysterria.cosmos.domain.beacon.model.SpiritBeacon;
-import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.domain.beacon.service.BeaconUIManager;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.List;
 
@@ -19,32 +17,33 @@ import java.util.List;
  * Runs every 0.5 seconds (10 ticks)
  * Spawns colored particles at beacon centers
  */
-public class BeaconParticleTask extends BukkitRunnable {
+public class BeaconParticleTask implements Runnable {
 
     private static final double PARTICLE_RADIUS = 64.0;  // Client render distance consideration
     private static final int MAX_PARTICLES_PER_BEACON = 20;
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final BeaconManager beaconManager;
-    private final CosmosConfig config;
     private final BeaconUIManager uiManager;
 
-    public BeaconParticleTask(CosmosIncursion plugin, BeaconManager beaconManager,
-                              CosmosConfig config, BeaconUIManager uiManager) {
+    public BeaconParticleTask(CosmosPlugin plugin, BeaconManager beaconManager,
+                              BeaconUIManager uiManager) {
         this.plugin = plugin;
         this.beaconManager = beaconManager;
-        this.config = config;
         this.uiManager = uiManager;
     }
 
     @Override
     public void run() {
-        try {
-            for (BeaconCapture capture : beaconManager.getAllCaptureStates()) {
-                spawnBeaconParticles(capture);
-            }
-        } catch (Exception e) {
-            plugin.log("Error in BeaconParticleTask: " + e.getMessage());
-            e.printStackTrace();
+        // Each beacon is drawn on the region that owns it
+        for (BeaconCapture capture : beaconManager.getAllCaptureStates()) {
+            plugin.getPlatformScheduler().runAt(capture.getBeacon().location(), () -> {
+                try {
+                    spawnBeaconParticles(capture);
+                } catch (Exception e) {
+                    plugin.log("Error in BeaconParticleTask: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            });
         }
     }
 
@@ -62,10 +61,11 @@ public class BeaconParticleTask extends BukkitRunnable {
         }
 
         // Calculate particle count based on capture progress
-        double progress = capture.getCaptureProgress() / config.getBeaconCapturePoints();
+        double progress = capture.getCaptureProgress() / plugin.getConfigLoader().getConfig().getBeaconCapturePoints();
         int baseParticles = 5;
         int progressParticles = (int) (progress * 10);
-        int particleCount = Math.min(baseParticles + progressParticles, MAX_PARTICLES_PER_BEACON);
+        int particleCount = plugin.getLoadGovernor()
+                .scaleParticles(Math.min(baseParticles + progressParticles, MAX_PARTICLES_PER_BEACON));
 
         // Get color based on ownership
         Color particleColor = getTownParticleColor(capture);
@@ -1,6 +1,7 @@
 package net.mysterria.cosmos.domain.combat.listener;
 
 import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.domain.combat.service.DeathHandler;
 import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
 import net.mysterria.cosmos.domain.exclusion.model.source.ExclusionZoneTier;
@@ -77,7 +78,7 @@ public class PlayerDeathListener implements Listener {
             return;
         }
 
-        double dropChance = plugin.getConfigLoader().getConfig().getTierConfigs().get(tier).dropChance();
+        double dropChance = plugin.getConfigLoader().getConfig().tierConfig(tier).dropChance();
 
         // IMPORTANT: Clear event drops FIRST to prevent any default drops.
         // This prevents graves plugins from creating graves and avoids item duplication.
@@ -129,9 +130,12 @@ public class PlayerDeathListener implements Listener {
         }
 
         // Apply inventory item drops based on permanent zone tier
-        double dropChance = plugin.getConfigLoader().getConfig().getExclusionTierConfigs()
-                .getOrDefault(tier, plugin.getConfigLoader().getConfig().getExclusionTierConfigs().get(ExclusionZoneTier.MEDIUM))
-                .dropChance();
+        CosmosConfig config = plugin.getConfigLoader().getConfig();
+        CosmosConfig.ExclusionZoneTierConfig tierConfig = config.exclusionTierConfig(tier);
+        if (tierConfig == null) {
+            tierConfig = config.exclusionTierConfig(ExclusionZoneTier.MEDIUM);
+        }
+        double dropChance = tierConfig.dropChance();
         Location deathLocation = victim.getLocation();
         event.getDrops().clear();
         ItemStack[] keptItems = dropItemsWithChance(victim, deathLocation, dropChance);
@@ -13,6 +13,7 @@ import org.bukkit.persistence.PersistentDataType;
 
 /**
  * Listens for player joins to:
+ * - Assign the player's registry slot
  * - Check for combat log penalties
  * - Reapply territory reward buffs
  * - Clean up cosmos items if player joins outside the zone
@@ -29,6 +30,14 @@ public class PlayerJoinListener implements Listener {
         this.buffToolkit = buffToolkit;
     }
 
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoinEarly(PlayerJoinEvent event) {
+        // Assign the slot before any other join handler touches slot-indexed state
+        if (!event.getPlayer().hasMetadata("NPC")) {
+            plugin.getPlayerRegistry().register(event.getPlayer());
+        }
+    }
+
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
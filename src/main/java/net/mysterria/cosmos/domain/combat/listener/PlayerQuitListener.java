@@ -19,6 +19,7 @@ import org.bukkit.inventory.ItemStack;
  * Listens for player disconnects to:
  * - Spawn Hollow Body NPCs for combat logging
  * - Clean up buff tracking
+ * - Free the player's registry slot
  */
 public class PlayerQuitListener implements Listener {
 
@@ -71,6 +72,9 @@ public class PlayerQuitListener implements Listener {
 
         // Clean up permanent zone tracking
         plugin.getPermanentZoneManager().updatePlayerZone(player.getUniqueId(), null);
+
+        // Free the registry slot last, once every handler above has read its slot state
+        plugin.getPlayerRegistry().unregister(player.getUniqueId());
     }
 
 }
@@ -1,6 +1,9 @@
 package net.mysterria.cosmos.domain.combat.model;
 
 import lombok.Getter;
+import lombok.Setter;
+import net.mysterria.cosmos.toolkit.GameClock;
+import net.mysterria.cosmos.toolkit.HollowBodyStore;
 import org.bukkit.Location;
 import org.bukkit.inventory.ItemStack;
 
@@ -9,20 +12,29 @@ import java.util.UUID;
 /**
  * Represents a Hollow Body NPC spawned when a player combat logs
  * Stores data needed for penalty application
+ * <p>
+ * The captured items are held as live copies only until the background save has serialized them;
+ * after that the body keeps the compact byte form and deserializes on demand.
  */
 @Getter
 public class HollowBody {
 
     private final UUID playerId;
     private final String playerName;
-    private final int npcId;
+    @Setter
+    private int npcId;
     private final Location spawnLocation;
     private final long spawnTime;
     private final long despawnTime;
-    private final ItemStack[] inventory;
-    private final ItemStack[] armor;
+    // Volatile: compacted on one thread, read on whichever thread resolves the body
+    private volatile ItemStack[] capturedInventory;
+    private volatile ItemStack[] capturedArmor;
+    private volatile byte[] itemData;
     private boolean wasKilled;
     private Location deathLocation;
+    // Signed profile textures, so a restored NPC needs no skin lookup; null if the profile had none
+    private String skinTexture;
+    private String skinSignature;
 
     public HollowBody(UUID playerId, String playerName, int npcId, Location spawnLocation,
                       long durationMillis, ItemStack[] inventory, ItemStack[] armor) {
@@ -30,14 +42,81 @@ public class HollowBody {
         this.playerName = playerName;
         this.npcId = npcId;
         this.spawnLocation = spawnLocation.clone();
-        this.spawnTime = System.currentTimeMillis();
+        this.spawnTime = GameClock.millis();
         this.despawnTime = spawnTime + durationMillis;
-        this.inventory = inventory;
-        this.armor = armor;
+        this.capturedInventory = inventory;
+        this.capturedArmor = armor;
         this.wasKilled = false;
         this.deathLocation = null;
     }
 
+    private HollowBody(UUID playerId, String playerName, Location spawnLocation, long spawnTime, long despawnTime,
+                       boolean wasKilled, Location deathLocation, byte[] itemData,
+                       String skinTexture, String skinSignature) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.npcId = -1;
+        this.spawnLocation = spawnLocation;
+        this.spawnTime = spawnTime;
+        this.despawnTime = despawnTime;
+        this.itemData = itemData;
+        this.wasKilled = wasKilled;
+        this.deathLocation = deathLocation;
+        this.skinTexture = skinTexture;
+        this.skinSignature = skinSignature;
+    }
+
+    /**
+     * Rebuild a persisted Hollow Body; it has no NPC until one is assigned
+     */
+    public static HollowBody restore(UUID playerId, String playerName, Location spawnLocation, long spawnTime,
+                                     long despawnTime, boolean wasKilled, Location deathLocation, byte[] itemData,
+                                     String skinTexture, String skinSignature) {
+        return new HollowBody(playerId, playerName, spawnLocation, spawnTime, despawnTime,
+                wasKilled, deathLocation, itemData, skinTexture, skinSignature);
+    }
+
+    /**
+     * Remember the player's signed skin textures for restoring the NPC after a restart
+     */
+    public void setSkin(String texture, String signature) {
+        this.skinTexture = texture;
+        this.skinSignature = signature;
+    }
+
+    /**
+     * Swap the live item copies for their serialized form once the background save is done
+     */
+    public void compact(byte[] serialized) {
+        this.itemData = serialized;
+        this.capturedInventory = null;
+        this.capturedArmor = null;
+    }
+
+    /**
+     * Get the stored inventory contents, deserializing them if already compacted
+     */
+    public ItemStack[] getInventory() {
+        ItemStack[] live = capturedInventory;
+        return live != null ? live : deserialize()[0];
+    }
+
+    /**
+     * Get the stored armor contents, deserializing them if already compacted
+     */
+    public ItemStack[] getArmor() {
+        ItemStack[] live = capturedArmor;
+        return live != null ? live : deserialize()[1];
+    }
+
+    private ItemStack[][] deserialize() {
+        byte[] data = itemData;
+        if (data == null) {
+            return new ItemStack[][]{null, null};
+        }
+        return HollowBodyStore.deserializeItems(data);
+    }
+
     /**
      * Mark this Hollow Body as killed at a specific location
      */
@@ -50,14 +129,14 @@ public class HollowBody {
      * Check if this Hollow Body should despawn (timeout)
      */
     public boolean shouldDespawn() {
-        return System.currentTimeMillis() >= despawnTime;
+        return GameClock.millis() >= despawnTime;
     }
 
     /**
      * Get remaining time until despawn (in seconds)
      */
     public long getRemainingSeconds() {
-        long remaining = (despawnTime - System.currentTimeMillis()) / 1000L;
+        long remaining = (despawnTime - GameClock.millis()) / 1000L;
         return Math.max(0, remaining);
     }
 
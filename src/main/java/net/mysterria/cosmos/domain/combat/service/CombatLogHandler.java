@@ -4,12 +4,15 @@ import net.citizensnpcs.api.event.NPCDeathEvent;
 import net.mysterria.cosmos.CosmosIncursion;
 import net.mysterria.cosmos.domain.combat.model.HollowBody;
 import net.mysterria.cosmos.toolkit.CitizensToolkit;
+import net.mysterria.cosmos.toolkit.EnforcementTeleporter;
 import net.mysterria.cosmos.domain.incursion.service.PlayerStateManager;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Handles combat logging mechanics
  * - Spawns Hollow Body NPCs when players disconnect in zones
@@ -95,17 +98,19 @@ public class CombatLogHandler implements Listener {
                 player.getInventory().clear();
                 player.getInventory().setArmorContents(null);
 
-                // Teleport player to death location
-                if (hollowBody.getDeathLocation() != null) {
-                    player.teleport(hollowBody.getDeathLocation());
-                }
-
-                // Kill the player to apply death mechanics and sequence regression
-                // Delay by 1 tick to ensure player is fully loaded
-                plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                    player.setHealth(0);
-                    plugin.log("Player " + player.getName() + " killed due to Hollow Body death");
-                }, 1L);
+                // Teleport player to death location, then kill them to apply death mechanics
+                // and sequence regression. The kill runs regardless of the teleport outcome.
+                CompletableFuture<EnforcementTeleporter.Result> teleport = hollowBody.getDeathLocation() != null
+                        ? plugin.getEnforcementTeleporter().teleport(player, hollowBody.getDeathLocation(), EnforcementTeleporter.Placement.EXACT)
+                        : CompletableFuture.completedFuture(EnforcementTeleporter.Result.NO_SAFE_SPOT);
+
+                // Delay by 1 tick after landing to ensure player is fully loaded
+                teleport.whenComplete((result, throwable) ->
+                        plugin.getPlatformScheduler().runForLater(player, () -> {
+                            if (!player.isOnline()) return;
+                            player.setHealth(0);
+                            plugin.log("Player " + player.getName() + " killed due to Hollow Body death");
+                        }, 1L));
             } else {
                 plugin.log("Player " + player.getName() + " reconnected - Hollow Body survived, restoring inventory");
                 // Restore inventory since player's items were cleared at disconnect
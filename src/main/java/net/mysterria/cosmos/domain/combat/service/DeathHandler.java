@@ -7,6 +7,7 @@ import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.domain.incursion.service.PlayerStateManager;
 import net.mysterria.cosmos.domain.incursion.model.source.ZoneTier;
 import net.mysterria.cosmos.toolkit.CoiToolkit;
+import net.mysterria.cosmos.toolkit.GameClock;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -27,7 +28,6 @@ public class DeathHandler {
     private final CosmosIncursion plugin;
     private final PlayerStateManager playerStateManager;
     private final RewardHandler rewardHandler;
-    private final CosmosConfig config;
     private final MiniMessage miniMessage;
 
     private final ConcurrentHashMap<UUID, Long> lastDeathPenaltyTime = new ConcurrentHashMap<>();
@@ -37,7 +37,6 @@ public class DeathHandler {
         this.plugin = plugin;
         this.playerStateManager = playerStateManager;
         this.rewardHandler = new RewardHandler(plugin, killTracker);
-        this.config = plugin.getConfigLoader().getConfig();
         this.miniMessage = MiniMessage.miniMessage();
     }
 
@@ -99,7 +98,7 @@ public class DeathHandler {
                    (killer != null ? " (killed by " + killer.getName() + ")" : " (natural death)"));
 
         // Dispatch tier-specific reward command to the killer (if configured)
-        String rewardCommand = plugin.getConfigLoader().getConfig().getTierConfigs().get(tier).rewardCommand();
+        String rewardCommand = plugin.getConfigLoader().getConfig().tierConfig(tier).rewardCommand();
         if (killer != null && !killer.equals(victim) && rewardCommand != null && !rewardCommand.isBlank()) {
             String cmd = rewardCommand.replace("%player%", killer.getName());
             plugin.getServer().dispatchCommand(plugin.getServer().getConsoleSender(), cmd);
@@ -120,9 +119,9 @@ public class DeathHandler {
         int victimSequence = CoiToolkit.getBeyonderSequence(victim);
 
         // Check if sequence qualifies for regression (Seq 4 by default)
-        if (victimSequence > config.getRegressionSequence()) {
+        if (victimSequence > config().getRegressionSequence()) {
             plugin.log("Victim sequence " + victimSequence + " does not trigger regression (requires Seq " +
-                       config.getRegressionSequence() + " or lower)");
+                       config().getRegressionSequence() + " or lower)");
             return;
         }
 
@@ -145,7 +144,7 @@ public class DeathHandler {
             plugin.log("Paper Angel protected " + victim.getName() + " from regression");
 
             // Send protection message
-            Component message = miniMessage.deserialize(config.getMsgPaperAngelSaved());
+            Component message = miniMessage.deserialize(config().getMsgPaperAngelSaved());
             victim.sendMessage(message);
 
             return;
@@ -154,15 +153,19 @@ public class DeathHandler {
         // Apply death penalty (either acting loss or sequence regression)
         boolean didRegress = CoiToolkit.lowerByOneSequence(victim);
 
-        // Record this death penalty time
-        lastDeathPenaltyTime.put(victim.getUniqueId(), System.currentTimeMillis());
+        // Record this death penalty time, dropped again once the cooldown has passed
+        UUID victimId = victim.getUniqueId();
+        long penaltyTime = GameClock.millis();
+        lastDeathPenaltyTime.put(victimId, penaltyTime);
+        plugin.getExpiryService().schedule(config().getDeathPenaltyCooldownSeconds() * 1000L,
+                () -> lastDeathPenaltyTime.remove(victimId, penaltyTime));
 
         if (didRegress) {
             // Full sequence regression occurred
             plugin.log("Regressed " + victim.getName() + " from Seq " + victimSequence + " to Seq " + (victimSequence + 1));
 
             // Send regression message
-            Component message = miniMessage.deserialize(config.getMsgDeathRegression());
+            Component message = miniMessage.deserialize(config().getMsgDeathRegression());
             victim.sendMessage(message);
 
             // Drop characteristic item at death location
@@ -277,8 +280,8 @@ public class DeathHandler {
         }
 
         long lastPenaltyTime = lastDeathPenaltyTime.get(player.getUniqueId());
-        long cooldownMillis = config.getDeathPenaltyCooldownSeconds() * 1000L;
-        long elapsed = System.currentTimeMillis() - lastPenaltyTime;
+        long cooldownMillis = config().getDeathPenaltyCooldownSeconds() * 1000L;
+        long elapsed = GameClock.millis() - lastPenaltyTime;
 
         return elapsed < cooldownMillis;
     }
@@ -292,8 +295,8 @@ public class DeathHandler {
         }
 
         long lastPenaltyTime = lastDeathPenaltyTime.get(player.getUniqueId());
-        long cooldownMillis = config.getDeathPenaltyCooldownSeconds() * 1000L;
-        long elapsed = System.currentTimeMillis() - lastPenaltyTime;
+        long cooldownMillis = config().getDeathPenaltyCooldownSeconds() * 1000L;
+        long elapsed = GameClock.millis() - lastPenaltyTime;
         long remaining = cooldownMillis - elapsed;
 
         return Math.max(0, remaining / 1000);
@@ -313,4 +316,7 @@ public class DeathHandler {
         lastDeathPenaltyTime.clear();
     }
 
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
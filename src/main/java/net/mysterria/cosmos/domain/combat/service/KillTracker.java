@@ -2,15 +2,14 @@ package net.mysterria.cosmos.domain.combat.service;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.toolkit.map.MapIntegration;
 import net.mysterria.cosmos.toolkit.CoiToolkit;
+import net.mysterria.cosmos.toolkit.GameClock;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,23 +20,21 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class KillTracker {
 
-    private final CosmosIncursion plugin;
-    private final CosmosConfig config;
+    private final CosmosPlugin plugin;
     private final MapIntegration mapIntegration;
     private final MiniMessage miniMessage;
 
-    // Map of killer UUID -> list of kill timestamps
-    private final Map<UUID, List<Long>> killTimestamps;
+    // Map of killer UUID -> ring buffer of recent griefing kill timestamps
+    private final Map<UUID, KillWindow> killWindows;
 
     // Set of players currently marked as Corrupted Monster
     private final Map<UUID, Long> corruptedMonsters;  // UUID -> expiry time
 
-    public KillTracker(CosmosIncursion plugin, MapIntegration mapIntegration) {
+    public KillTracker(CosmosPlugin plugin, MapIntegration mapIntegration) {
         this.plugin = plugin;
-        this.config = plugin.getConfigLoader().getConfig();
         this.mapIntegration = mapIntegration;
         this.miniMessage = MiniMessage.miniMessage();
-        this.killTimestamps = new ConcurrentHashMap<>();
+        this.killWindows = new ConcurrentHashMap<>();
         this.corruptedMonsters = new ConcurrentHashMap<>();
     }
 
@@ -51,32 +48,37 @@ public class KillTracker {
             return false;
         }
 
-        UUID killerId = killer.getUniqueId();
-        long now = System.currentTimeMillis();
+        long timeWindowMillis = config().getGriefTimeWindowSeconds() * 1000L;
+        int threshold = Math.max(1, config().getGriefKillThreshold());
+        int killsInWindow = recordGriefingKill(killer.getUniqueId(), GameClock.millis(), timeWindowMillis, threshold);
 
-        // Get or create kill list for this killer
-        List<Long> kills = killTimestamps.computeIfAbsent(killerId, k -> new ArrayList<>());
-
-        // Add this kill
-        kills.add(now);
-
-        // Remove old kills outside the time window
-        long timeWindowMillis = config.getGriefTimeWindowSeconds() * 1000L;
-        kills.removeIf(timestamp -> (now - timestamp) > timeWindowMillis);
-
-        // Update the map
-        killTimestamps.put(killerId, kills);
-
-        plugin.log("Player " + killer.getName() + " has " + kills.size() + " griefing kills in time window");
+        plugin.log("Player " + killer.getName() + " has " + killsInWindow + " griefing kills in time window");
 
         // Check if threshold is reached
-        if (kills.size() >= config.getGriefKillThreshold()) {
+        if (killsInWindow >= threshold) {
             markAsCorruptedMonster(killer);
         }
 
         return true;  // This is a griefing kill
     }
 
+    /**
+     * Add a griefing kill to the killer's window and return how many kills are inside the time window.
+     * Package-private for the JMH benchmarks.
+     */
+    int recordGriefingKill(UUID killerId, long now, long timeWindowMillis, int threshold) {
+        // Get or create the kill window for this killer (recreated if the threshold was reloaded)
+        KillWindow window = killWindows.get(killerId);
+        if (window == null || window.capacity() != threshold) {
+            window = new KillWindow(threshold);
+            killWindows.put(killerId, window);
+            scheduleIdleEviction(killerId, window, timeWindowMillis);
+        }
+
+        // Add this kill, dropping kills outside the time window
+        return window.record(now, timeWindowMillis);
+    }
+
     /**
      * Check if a kill qualifies as griefing
      * Griefing = high-tier killing low-tier with sequence difference > threshold
@@ -95,7 +97,7 @@ public class KillTracker {
         int sequenceDifference = victimSequence - killerSequence;
 
         // Check if difference exceeds threshold
-        if (sequenceDifference >= config.getGriefSequenceDifference()) {
+        if (sequenceDifference >= config().getGriefSequenceDifference()) {
             plugin.log("Griefing kill detected: " + killer.getName() + " (Seq " + killerSequence +
                        ") killed " + victim.getName() + " (Seq " + victimSequence + ")");
             return true;
@@ -117,17 +119,18 @@ public class KillTracker {
         }
 
         // Calculate expiry time
-        long durationMillis = config.getCorruptedDurationMinutes() * 60_000L;
-        long expiryTime = System.currentTimeMillis() + durationMillis;
+        long durationMillis = config().getCorruptedDurationMinutes() * 60_000L;
+        long expiryTime = GameClock.millis() + durationMillis;
 
         // Mark as corrupted
         corruptedMonsters.put(playerId, expiryTime);
+        plugin.getExpiryService().scheduleAt(expiryTime, () -> expireCorruptedStatus(playerId, expiryTime));
 
         plugin.log("Marked " + player.getName() + " as Corrupted Monster for " +
-                   config.getCorruptedDurationMinutes() + " minutes");
+                   config().getCorruptedDurationMinutes() + " minutes");
 
         // Broadcast to all players
-        String message = config.getMsgCorruptedMonster().replace("%player%", player.getName());
+        String message = config().getMsgCorruptedMonster().replace("%player%", player.getName());
         Component component = miniMessage.deserialize(message);
         Bukkit.getServer().sendMessage(component);
 
@@ -137,7 +140,7 @@ public class KillTracker {
         }
 
         // Clear kill history
-        killTimestamps.remove(playerId);
+        killWindows.remove(playerId);
     }
 
     /**
@@ -164,7 +167,7 @@ public class KillTracker {
         }
 
         // Check if expired
-        if (System.currentTimeMillis() >= expiryTime) {
+        if (GameClock.millis() >= expiryTime) {
             removeCorruptedStatus(playerId);
             return false;
         }
@@ -180,24 +183,35 @@ public class KillTracker {
     }
 
     /**
-     * Clean up expired Corrupted Monster statuses
-     * Should be called periodically
+     * Expire a Corrupted Monster status, unless it was removed or replaced since
      */
-    public void cleanupExpired() {
-        long now = System.currentTimeMillis();
+    private void expireCorruptedStatus(UUID playerId, long expiryTime) {
+        if (corruptedMonsters.remove(playerId, expiryTime)) {
+            plugin.log("Corrupted Monster status expired for player " + playerId);
 
-        corruptedMonsters.entrySet().removeIf(entry -> {
-            if (now >= entry.getValue()) {
-                plugin.log("Corrupted Monster status expired for player " + entry.getKey());
-
-                // Remove BlueMap marker
-                if (mapIntegration.isAvailable()) {
-                    mapIntegration.removeCorruptedMonsterMarker(entry.getKey());
-                }
+            // Remove BlueMap marker
+            if (mapIntegration.isAvailable()) {
+                mapIntegration.removeCorruptedMonsterMarker(playerId);
+            }
+        }
+    }
 
-                return true;
+    /**
+     * Drop a killer's window once a full time window passes without a griefing kill.
+     * One timer per active killer, re-armed at most once per window instead of once per kill.
+     */
+    private void scheduleIdleEviction(UUID killerId, KillWindow window, long delayMillis) {
+        plugin.getExpiryService().schedule(delayMillis, () -> {
+            if (killWindows.get(killerId) != window) {
+                return; // Replaced or cleared since
+            }
+            long timeWindowMillis = config().getGriefTimeWindowSeconds() * 1000L;
+            long idleMillis = GameClock.millis() - window.lastKillMillis();
+            if (idleMillis >= timeWindowMillis) {
+                killWindows.remove(killerId, window);
+            } else {
+                scheduleIdleEviction(killerId, window, timeWindowMillis - idleMillis);
             }
-            return false;
         });
     }
 
@@ -210,8 +224,53 @@ public class KillTracker {
             return 0;
         }
 
-        long remaining = (expiryTime - System.currentTimeMillis()) / 1000L;
+        long remaining = (expiryTime - GameClock.millis()) / 1000L;
         return Math.max(0, remaining);
     }
 
+    /**
+     * Fixed-capacity ring buffer of one killer's griefing kill timestamps, oldest first.
+     * Capacity is the kill threshold: older kills can never matter once that many newer ones exist.
+     */
+    private static final class KillWindow {
+        private final long[] timestamps;
+        private int oldest;
+        private int size;
+
+        KillWindow(int capacity) {
+            this.timestamps = new long[capacity];
+        }
+
+        /**
+         * Add a kill and return how many kills (including it) are inside the time window
+         */
+        synchronized int record(long now, long timeWindowMillis) {
+            // Drop kills that left the window, oldest first
+            while (size > 0 && now - timestamps[oldest] > timeWindowMillis) {
+                oldest = (oldest + 1) % timestamps.length;
+                size--;
+            }
+
+            timestamps[(oldest + size) % timestamps.length] = now;
+            if (size < timestamps.length) {
+                size++;
+            } else {
+                // Full: the slot just written was the oldest kill
+                oldest = (oldest + 1) % timestamps.length;
+            }
+            return size;
+        }
+
+        synchronized long lastKillMillis() {
+            return size == 0 ? 0L : timestamps[(oldest + size - 1) % timestamps.length];
+        }
+
+        int capacity() {
+            return timestamps.length;
+        }
+    }
+
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
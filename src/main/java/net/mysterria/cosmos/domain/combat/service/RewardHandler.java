@@ -16,12 +16,10 @@ import org.bukkit.entity.Player;
 public class RewardHandler {
 
     private final CosmosIncursion plugin;
-    private final CosmosConfig config;
     private final KillTracker killTracker;
 
     public RewardHandler(CosmosIncursion plugin, KillTracker killTracker) {
         this.plugin = plugin;
-        this.config = plugin.getConfigLoader().getConfig();
         this.killTracker = killTracker;
     }
 
@@ -37,7 +35,7 @@ public class RewardHandler {
 
         try {
             // Get crate command from config
-            String command = config.getCrateCommand().replace("%player%", player.getName());
+            String command = config().getCrateCommand().replace("%player%", player.getName());
 
             // Execute command as console
             boolean success = Bukkit.getServer().dispatchCommand(
@@ -94,7 +92,10 @@ public class RewardHandler {
         int sequenceDifference = victimSequence - killerSequence;
 
         // Check if difference exceeds threshold
-        return sequenceDifference >= config.getGriefSequenceDifference();
+        return sequenceDifference >= config().getGriefSequenceDifference();
     }
 
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
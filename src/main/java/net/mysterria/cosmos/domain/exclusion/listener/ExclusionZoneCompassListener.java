@@ -4,6 +4,7 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.toolkit.HudCompositor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -63,7 +64,7 @@ public class ExclusionZoneCompassListener implements Listener {
                 .set(plugin.getKey(COMPASS_MODE_KEY), PersistentDataType.BYTE, (byte) (nowExtraction ? 1 : 0));
         item.setItemMeta(meta);
 
-        event.getPlayer().sendActionBar(nowExtraction
+        plugin.getHudCompositor().actionBar(event.getPlayer(), HudCompositor.Slot.ALERT, nowExtraction
             ? Component.text("Compass: ", NamedTextColor.GRAY)
                 .append(Component.text("Extraction Points", NamedTextColor.GREEN))
                 .decoration(TextDecoration.ITALIC, false)
@@ -15,6 +15,8 @@ import net.mysterria.cosmos.domain.exclusion.model.PlayerResourceBuffer;
 import net.mysterria.cosmos.domain.exclusion.model.source.ExclusionZoneTier;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
 import net.mysterria.cosmos.toolkit.CoiToolkit;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Sound;
@@ -50,10 +52,14 @@ public class ExclusionZoneListener implements Listener {
     private final CosmosIncursion plugin;
     private final PermanentZoneManager permanentZoneManager;
     private final Map<UUID, Long> lastMessageTime = new ConcurrentHashMap<>();
+    private final PerfMonitor.Timer moveTimer;
+    private final PerfMonitor.Timer teleportTimer;
 
     public ExclusionZoneListener(CosmosIncursion plugin, PermanentZoneManager permanentZoneManager) {
         this.plugin = plugin;
         this.permanentZoneManager = permanentZoneManager;
+        this.moveTimer = plugin.getPerfMonitor().timer("listener.exclusion-move");
+        this.teleportTimer = plugin.getPerfMonitor().timer("listener.exclusion-teleport");
     }
 
     // ── Exit prevention ───────────────────────────────────────────────────────────
@@ -63,6 +69,15 @@ public class ExclusionZoneListener implements Listener {
      */
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onPlayerTeleport(PlayerTeleportEvent event) {
+        long start = teleportTimer.start();
+        try {
+            handlePlayerTeleport(event);
+        } finally {
+            teleportTimer.stop(start);
+        }
+    }
+
+    private void handlePlayerTeleport(PlayerTeleportEvent event) {
         Player player = event.getPlayer();
         if (player.hasMetadata("cosmos_extraction_exit")) return;
 
@@ -84,6 +99,15 @@ public class ExclusionZoneListener implements Listener {
      */
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
+        long start = moveTimer.start();
+        try {
+            handlePlayerMove(event);
+        } finally {
+            moveTimer.stop(start);
+        }
+    }
+
+    private void handlePlayerMove(PlayerMoveEvent event) {
         if (!event.hasChangedBlock()) return;
 
         Player player = event.getPlayer();
@@ -112,7 +136,7 @@ public class ExclusionZoneListener implements Listener {
         if (channel == null) return;
 
         permanentZoneManager.cancelExtractionChannel(player.getUniqueId());
-        player.sendActionBar(Component.text("Extraction interrupted by damage!", NamedTextColor.RED));
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ALERT, Component.text("Extraction interrupted by damage!", NamedTextColor.RED));
     }
 
     // ── Resource transfer on kill ─────────────────────────────────────────────────
@@ -235,9 +259,9 @@ public class ExclusionZoneListener implements Listener {
         event.getItem().remove();
 
         permanentZoneManager.getBuffer(player.getUniqueId()).add(type, amount);
-        player.sendActionBar(Component.text("Reclaimed ", NamedTextColor.GREEN)
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.RESOURCES, Component.text("Reclaimed ", NamedTextColor.GREEN)
                 .append(Component.text(type.displayName() + " +" + String.format("%.1f", amount), resourceColor(type))));
-        player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1f, 1f);
+        plugin.getHudCompositor().sound(player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1f, 1f);
     }
 
     private NamedTextColor resourceColor(ResourceType type) {
@@ -4,7 +4,7 @@ import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.domain.exclusion.model.ExtractionChannelState;
 import net.mysterria.cosmos.domain.exclusion.model.PlayerResourceBuffer;
@@ -13,7 +13,18 @@ import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
 import net.mysterria.cosmos.domain.exclusion.model.PointOfInterest;
 import net.mysterria.cosmos.domain.exclusion.model.source.ExclusionZoneTier;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
+import net.mysterria.cosmos.toolkit.ChunkPrewarmer;
+import net.mysterria.cosmos.toolkit.CosmosMetrics;
+import net.mysterria.cosmos.toolkit.GameClock;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
+import net.mysterria.cosmos.toolkit.PlayerRegistry;
+import net.mysterria.cosmos.toolkit.ZoneMembershipPipeline;
 import net.mysterria.cosmos.toolkit.item.ResourceItemToolkit;
+import net.mysterria.cosmos.toolkit.jfr.ExtractionEvent;
+import net.mysterria.cosmos.toolkit.jfr.PersistenceWriteEvent;
+import net.mysterria.cosmos.toolkit.jfr.PoIEvent;
+import net.mysterria.cosmos.toolkit.jfr.TownBalanceEvent;
+import net.mysterria.cosmos.toolkit.jfr.ZoneTransitionEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
@@ -26,18 +37,19 @@ import java.io.*;
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class PermanentZoneManager {
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final File dataFile;
     private final Gson gson;
 
     // Zone registry
     private final Map<UUID, PermanentZone> zones = new ConcurrentHashMap<>();
 
-    // Per-zone active PoIs
+    // Per-zone active PoIs (copy-on-write: rotated on the zone's region, read from player regions on Folia)
     private final Map<UUID, List<PointOfInterest>> activePoIs = new ConcurrentHashMap<>();
 
     // Per-zone active extraction points
@@ -46,20 +58,26 @@ public class PermanentZoneManager {
     // Per-player carried resources
     private final Map<UUID, PlayerResourceBuffer> buffers = new ConcurrentHashMap<>();
 
+    // Online player slots; hot per-player fields below are indexed by slot
+    private final PlayerRegistry playerRegistry;
+
     // Tracks which permanent zone each online player is in (null = not in zone)
-    private final Map<UUID, PermanentZone> playerZones = new ConcurrentHashMap<>();
+    private final PlayerRegistry.ObjectColumn<PermanentZone> playerZones;
 
     // Per-player active extraction channel
     private final Map<UUID, ExtractionChannelState> extractionChannels = new ConcurrentHashMap<>();
 
-    // Per-player PoI stay tracking: playerId -> poiId
-    private final Map<UUID, UUID> playerCurrentPoI = new ConcurrentHashMap<>();
-    // Per-player PoI stay start: playerId -> timestamp
-    private final Map<UUID, Long> playerPoIStayStart = new ConcurrentHashMap<>();
+    // Per-player PoI stay tracking: slot -> poiId
+    private final PlayerRegistry.ObjectColumn<UUID> playerCurrentPoI;
+    // Per-player PoI stay start: slot -> timestamp
+    private final PlayerRegistry.LongColumn playerPoIStayStart;
 
     // PoI UUID → live ItemDisplay entity (for rotation and cleanup)
     private final Map<UUID, Entity> poiDisplayEntities = new ConcurrentHashMap<>();
 
+    // Zones whose map markers changed while the load governor suspended map refreshes
+    private final Set<UUID> deferredMarkerZones = ConcurrentHashMap.newKeySet();
+
     // Per-zone queue of scheduled PoI respawn timestamps (epoch ms)
     private final Map<UUID, List<Long>> poiRespawnSchedule = new ConcurrentHashMap<>();
 
@@ -71,7 +89,7 @@ public class PermanentZoneManager {
     private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
 
     // Players currently hidden on the live map (entered zone but have no resources yet)
-    private final Set<UUID> mapHiddenPlayers = ConcurrentHashMap.newKeySet();
+    private final PlayerRegistry.FlagColumn mapHiddenPlayers;
 
     // Death cooldown: player cannot re-enter the specific zone they died in for 1 hour
     private static final long ZONE_DEATH_COOLDOWN_MS = 3_600_000L;
@@ -81,17 +99,28 @@ public class PermanentZoneManager {
     private final Map<Integer, Map<ResourceType, Double>> townBalances = new ConcurrentHashMap<>();
     private final File balanceFile;
 
-    public PermanentZoneManager(CosmosIncursion plugin) {
+    private final PerfMonitor.Timer zonesSaveTimer;
+    private final PerfMonitor.Timer balancesSaveTimer;
+
+    public PermanentZoneManager(CosmosPlugin plugin) {
         this.plugin = plugin;
         this.dataFile = new File(plugin.getDataFolder(), "zones_permanent.json");
         this.balanceFile = new File(plugin.getDataFolder(), "permanent_zone_balances.json");
         this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.playerRegistry = plugin.getPlayerRegistry();
+        this.playerZones = playerRegistry.objectColumn();
+        this.playerCurrentPoI = playerRegistry.objectColumn();
+        this.playerPoIStayStart = playerRegistry.longColumn();
+        this.mapHiddenPlayers = playerRegistry.flagColumn();
+        this.zonesSaveTimer = plugin.getPerfMonitor().timer("io.permanent-zones-save");
+        this.balancesSaveTimer = plugin.getPerfMonitor().timer("io.permanent-balances-save");
     }
 
     // ── Zone CRUD ───────────────────────────────────────────────────────────────
 
     public void addZone(PermanentZone zone) {
         zones.put(zone.getId(), zone);
+        plugin.getMetrics().zoneTier(CosmosMetrics.PERMANENT, zone.getName(), zone.getTier().name());
         saveZones();
         plugin.getMapIntegration().createPermanentZoneMarker(zone);
     }
@@ -100,8 +129,15 @@ public class PermanentZoneManager {
         List<PointOfInterest> pois = activePoIs.getOrDefault(zoneId, Collections.emptyList());
         for (PointOfInterest poi : pois) {
             removeDisplayEntity(poi.getId());
+            plugin.getChunkPrewarmer().release(ChunkPrewarmer.POI_PREFIX + poi.getId());
+        }
+        for (ExtractionPoint ep : extractionPoints.getOrDefault(zoneId, Collections.emptyList())) {
+            plugin.getChunkPrewarmer().release(ChunkPrewarmer.EXTRACTION_PREFIX + ep.getId());
+        }
+        PermanentZone removed = zones.remove(zoneId);
+        if (removed != null) {
+            plugin.getMetrics().zoneRemoved(CosmosMetrics.PERMANENT, removed.getName());
         }
-        zones.remove(zoneId);
         activePoIs.remove(zoneId);
         extractionPoints.remove(zoneId);
         zoneDailyBudgetRemaining.remove(zoneId);
@@ -143,6 +179,8 @@ public class PermanentZoneManager {
     // ── Persistence ─────────────────────────────────────────────────────────────
 
     public void saveZones() {
+        long start = zonesSaveTimer.start();
+        PersistenceWriteEvent write = PersistenceWriteEvent.start(dataFile.getName());
         List<Map<String, Object>> list = new ArrayList<>();
         for (PermanentZone zone : zones.values()) {
             Map<String, Object> entry = new LinkedHashMap<>();
@@ -165,6 +203,9 @@ public class PermanentZoneManager {
             gson.toJson(list, fw);
         } catch (IOException e) {
             plugin.log("Failed to save permanent zones: " + e.getMessage());
+        } finally {
+            zonesSaveTimer.stop(start);
+            write.finish(list.size());
         }
     }
 
@@ -210,6 +251,7 @@ public class PermanentZoneManager {
                     } catch (IllegalArgumentException ignored) {}
                 }
                 zones.put(id, zone);
+                plugin.getMetrics().zoneTier(CosmosMetrics.PERMANENT, zone.getName(), zone.getTier().name());
             }
             plugin.log("Loaded " + zones.size() + " permanent zone(s)");
         } catch (IOException e) {
@@ -218,6 +260,8 @@ public class PermanentZoneManager {
     }
 
     public void saveBalances() {
+        long start = balancesSaveTimer.start();
+        PersistenceWriteEvent write = PersistenceWriteEvent.start(balanceFile.getName());
         try (FileWriter fw = new FileWriter(balanceFile)) {
             Map<String, Map<String, Double>> serializable = new LinkedHashMap<>();
             for (Map.Entry<Integer, Map<ResourceType, Double>> entry : townBalances.entrySet()) {
@@ -230,6 +274,9 @@ public class PermanentZoneManager {
             gson.toJson(serializable, fw);
         } catch (IOException e) {
             plugin.log("Failed to save permanent zone balances: " + e.getMessage());
+        } finally {
+            balancesSaveTimer.stop(start);
+            write.finish(townBalances.size());
         }
     }
 
@@ -261,21 +308,29 @@ public class PermanentZoneManager {
      * resource budget to the full tier values. Called before every PoI spawn attempt.
      */
     private void checkAndResetDailyBudget(PermanentZone zone) {
-        long now = System.currentTimeMillis();
+        long now = GameClock.millis();
         long dayStart = zoneDayStartMillis.getOrDefault(zone.getId(), 0L);
         if (now - dayStart >= DAY_MILLIS) {
             CosmosConfig.ExclusionZoneTierConfig tierConfig =
-                    plugin.getConfigLoader().getConfig().getExclusionTierConfigs().get(zone.getTier());
+                    plugin.getConfigLoader().getConfig().exclusionTierConfig(zone.getTier());
             Map<ResourceType, Double> budget = new EnumMap<>(ResourceType.class);
             if (tierConfig != null) {
                 budget.putAll(tierConfig.dailyBudget());
             }
             zoneDailyBudgetRemaining.put(zone.getId(), budget);
             zoneDayStartMillis.put(zone.getId(), now);
+            plugin.getMetrics().budgetRemaining(zone.getName(), budget);
             plugin.log("Daily budget reset for zone '" + zone.getName() + "': " + budget);
         }
     }
 
+    /**
+     * Epoch-ms when the zone's current budget day started, or 0 before its first reset
+     */
+    public long getBudgetDayStart(PermanentZone zone) {
+        return zoneDayStartMillis.getOrDefault(zone.getId(), 0L);
+    }
+
     /**
      * Returns a shuffled list of resource types that still have daily budget remaining for this zone.
      * Types with no remaining budget are excluded so PoIs of those types stop spawning.
@@ -299,7 +354,7 @@ public class PermanentZoneManager {
      */
     private double allocatePoiCap(PermanentZone zone, ResourceType type) {
         CosmosConfig config = plugin.getConfigLoader().getConfig();
-        CosmosConfig.ExclusionZoneTierConfig tierConfig = config.getExclusionTierConfigs().get(zone.getTier());
+        CosmosConfig.ExclusionZoneTierConfig tierConfig = config.exclusionTierConfig(zone.getTier());
         if (tierConfig == null) return 0;
 
         double maxPoiCap = tierConfig.poiCap().getOrDefault(type, 0.0);
@@ -326,6 +381,7 @@ public class PermanentZoneManager {
         List<PointOfInterest> existing = activePoIs.getOrDefault(zone.getId(), Collections.emptyList());
         for (PointOfInterest poi : existing) {
             removeDisplayEntity(poi.getId());
+            plugin.getChunkPrewarmer().release(ChunkPrewarmer.POI_PREFIX + poi.getId());
         }
 
         // Clear any stale respawn schedule so fresh PoIs spawn immediately on zone init
@@ -351,9 +407,12 @@ public class PermanentZoneManager {
             Location loc = randomLocationInsideZone(zone, rng);
             PointOfInterest poi = new PointOfInterest(loc, type, poiRadius, durationMillis, cap);
             pois.add(poi);
+            plugin.getChunkPrewarmer().pinPoint(ChunkPrewarmer.POI_PREFIX + poi.getId(), loc);
+            PoIEvent.record(PoIEvent.SPAWNED, zone.getName(), type.name(), cap, cap);
         }
-        activePoIs.put(zone.getId(), pois);
-        plugin.getMapIntegration().syncPermanentZonePoIs(zone, poisVisibleOnMap(zone, pois));
+        activePoIs.put(zone.getId(), new CopyOnWriteArrayList<>(pois));
+        publishPoIMetrics(zone, pois);
+        syncPoIMarkers(zone, pois);
     }
 
     /**
@@ -363,8 +422,8 @@ public class PermanentZoneManager {
     public void rotatePoIs(PermanentZone zone) {
         checkAndResetDailyBudget(zone);
 
-        List<PointOfInterest> pois = activePoIs.computeIfAbsent(zone.getId(), k -> new ArrayList<>());
-        List<Long> schedule = poiRespawnSchedule.computeIfAbsent(zone.getId(), k -> new ArrayList<>());
+        List<PointOfInterest> pois = activePoIs.computeIfAbsent(zone.getId(), k -> new CopyOnWriteArrayList<>());
+        List<Long> schedule = poiRespawnSchedule.computeIfAbsent(zone.getId(), k -> new CopyOnWriteArrayList<>());
 
         CosmosConfig config = plugin.getConfigLoader().getConfig();
         long durationMillis = config.getPermanentZonePoiDurationSeconds() * 1000L;
@@ -378,16 +437,19 @@ public class PermanentZoneManager {
         // Remove inactive PoIs and schedule their replacements
         for (PointOfInterest poi : new ArrayList<>(pois)) {
             if (!poi.isActive()) {
+                PoIEvent.record(poi.isDepleted() ? PoIEvent.DEPLETED : PoIEvent.EXPIRED, zone.getName(),
+                        poi.getResourceType().name(), poi.getResourceCap(), poi.getResourcesRemaining());
                 removeDisplayEntity(poi.getId());
+                plugin.getChunkPrewarmer().release(ChunkPrewarmer.POI_PREFIX + poi.getId());
                 pois.remove(poi);
                 long delay = (minDelay + rng.nextInt(Math.max(1, maxDelay - minDelay))) * 1000L;
-                schedule.add(System.currentTimeMillis() + delay);
+                schedule.add(GameClock.millis() + delay);
                 changed = true;
             }
         }
 
         // Spawn scheduled PoIs whose delay has elapsed
-        long now = System.currentTimeMillis();
+        long now = GameClock.millis();
         List<Long> ready = schedule.stream().filter(t -> now >= t).toList();
         if (!ready.isEmpty()) {
             schedule.removeAll(ready);
@@ -402,16 +464,25 @@ public class PermanentZoneManager {
                 Location loc = randomLocationInsideZone(zone, rng);
                 PointOfInterest poi = new PointOfInterest(loc, type, poiRadius, durationMillis, cap);
                 pois.add(poi);
+                plugin.getChunkPrewarmer().pinPoint(ChunkPrewarmer.POI_PREFIX + poi.getId(), loc);
+                PoIEvent.record(PoIEvent.SPAWNED, zone.getName(), type.name(), cap, cap);
                 announcePoISpawned(zone, poi);
             }
             changed = true;
         }
 
         if (changed) {
-            plugin.getMapIntegration().syncPermanentZonePoIs(zone, poisVisibleOnMap(zone, pois));
+            publishPoIMetrics(zone, pois);
+            syncPoIMarkers(zone, pois);
         }
     }
 
+    private void publishPoIMetrics(PermanentZone zone, List<PointOfInterest> pois) {
+        plugin.getMetrics().activePoIs(zone.getName(), pois.size());
+        plugin.getMetrics().budgetRemaining(zone.getName(),
+                zoneDailyBudgetRemaining.getOrDefault(zone.getId(), Collections.emptyMap()));
+    }
+
     private void announcePoISpawned(PermanentZone zone, PointOfInterest poi) {
         NamedTextColor color = switch (poi.getResourceType()) {
             case GOLD -> NamedTextColor.GOLD;
@@ -424,9 +495,10 @@ public class PermanentZoneManager {
             .append(Component.text(" Point of Interest has emerged in ", NamedTextColor.WHITE))
             .append(Component.text(zone.getName().replace('_', ' '), NamedTextColor.YELLOW))
             .append(Component.text("! Contest it before it runs dry.", NamedTextColor.WHITE));
-        for (Map.Entry<UUID, PermanentZone> entry : playerZones.entrySet()) {
-            if (!entry.getValue().getId().equals(zone.getId())) continue;
-            Player player = Bukkit.getPlayer(entry.getKey());
+        for (int slot = 0; slot < playerRegistry.getSlotLimit(); slot++) {
+            PermanentZone playerZone = playerZones.get(slot);
+            if (playerZone == null || !playerZone.getId().equals(zone.getId())) continue;
+            Player player = playerRegistry.playerAt(slot);
             if (player != null) player.sendMessage(msg);
         }
     }
@@ -434,17 +506,24 @@ public class PermanentZoneManager {
     /**
      * Filters {@code pois} to those that have at least one zone player within
      * 35 % of the zone's approximate radius. Used to suppress remote PoI markers
-     * on the minimap until a player is close enough to discover them.
+     * on the minimap until a player is close enough to discover them. Positions come
+     * from the published membership frame: on Folia this runs on the zone's region,
+     * which cannot read other players' locations.
      */
     private List<PointOfInterest> poisVisibleOnMap(PermanentZone zone, List<PointOfInterest> pois) {
+        ZoneMembershipPipeline membership = plugin.getZoneMembership();
+        if (membership == null) {
+            return List.of(); // Still starting up: no positions yet
+        }
+        ZoneMembershipPipeline.Frame frame = membership.getFrame();
         double threshold = zone.getApproximateRadius() * 0.35;
         double thresholdSq = threshold * threshold;
         return pois.stream().filter(poi -> {
             Location poiLoc = poi.getLocation();
-            for (Map.Entry<UUID, PermanentZone> entry : playerZones.entrySet()) {
-                if (!entry.getValue().getId().equals(zone.getId())) continue;
-                Player player = Bukkit.getPlayer(entry.getKey());
-                if (player != null && player.getLocation().distanceSquared(poiLoc) <= thresholdSq) {
+            for (int slot = 0; slot < frame.slots(); slot++) {
+                PermanentZone playerZone = frame.permanentZone(slot);
+                if (playerZone == null || !playerZone.getId().equals(zone.getId())) continue;
+                if (frame.distanceSquared(slot, poiLoc) <= thresholdSq) {
                     return true;
                 }
             }
@@ -452,6 +531,42 @@ public class PermanentZoneManager {
         }).toList();
     }
 
+    /**
+     * Push the zone's discovered PoI markers to the map, or defer them while map refreshes are suspended
+     */
+    private void syncPoIMarkers(PermanentZone zone, List<PointOfInterest> pois) {
+        if (plugin.getLoadGovernor().isMapRefreshSuspended()) {
+            deferredMarkerZones.add(zone.getId());
+            return;
+        }
+        plugin.getMapIntegration().syncPermanentZonePoIs(zone, poisVisibleOnMap(zone, pois));
+    }
+
+    /**
+     * Push the zone's extraction point markers to the map, or defer them while map refreshes are suspended
+     */
+    private void syncExtractionMarkers(PermanentZone zone, List<ExtractionPoint> eps) {
+        if (plugin.getLoadGovernor().isMapRefreshSuspended()) {
+            deferredMarkerZones.add(zone.getId());
+            return;
+        }
+        plugin.getMapIntegration().syncPermanentZoneExtractionPoints(zone, eps);
+    }
+
+    /**
+     * Push the PoI and extraction point markers held back while the load governor suspended map refreshes
+     */
+    public void flushDeferredMarkers() {
+        if (deferredMarkerZones.isEmpty() || plugin.getLoadGovernor().isMapRefreshSuspended()) return;
+        for (UUID zoneId : deferredMarkerZones) {
+            deferredMarkerZones.remove(zoneId);
+            PermanentZone zone = zones.get(zoneId);
+            if (zone == null) continue;
+            syncPoIMarkers(zone, activePoIs.getOrDefault(zoneId, Collections.emptyList()));
+            syncExtractionMarkers(zone, extractionPoints.getOrDefault(zoneId, Collections.emptyList()));
+        }
+    }
+
     public void spawnExtractionPoints(PermanentZone zone) {
         CosmosConfig config = plugin.getConfigLoader().getConfig();
         int count = config.getPermanentZoneExtractionPointCount();
@@ -459,32 +574,44 @@ public class PermanentZoneManager {
         double radius = config.getPermanentZoneExtractionRadius();
         var rng = ThreadLocalRandom.current();
 
+        for (ExtractionPoint ep : extractionPoints.getOrDefault(zone.getId(), Collections.emptyList())) {
+            plugin.getChunkPrewarmer().release(ChunkPrewarmer.EXTRACTION_PREFIX + ep.getId());
+        }
+
         List<ExtractionPoint> eps = new ArrayList<>();
         for (int i = 0; i < count; i++) {
             Location loc = randomLocationNearBoundary(zone, rng);
-            eps.add(new ExtractionPoint(loc, radius, durationMillis));
+            ExtractionPoint ep = new ExtractionPoint(loc, radius, durationMillis);
+            eps.add(ep);
+            plugin.getChunkPrewarmer().pinPoint(ChunkPrewarmer.EXTRACTION_PREFIX + ep.getId(), loc);
         }
-        extractionPoints.put(zone.getId(), eps);
-        plugin.getMapIntegration().syncPermanentZoneExtractionPoints(zone, eps);
+        extractionPoints.put(zone.getId(), new CopyOnWriteArrayList<>(eps));
+        syncExtractionMarkers(zone, eps);
     }
 
     public void rotateExtractionPoints(PermanentZone zone) {
-        List<ExtractionPoint> eps = extractionPoints.computeIfAbsent(zone.getId(), k -> new ArrayList<>());
+        List<ExtractionPoint> eps = extractionPoints.computeIfAbsent(zone.getId(), k -> new CopyOnWriteArrayList<>());
         CosmosConfig config = plugin.getConfigLoader().getConfig();
         long durationMillis = config.getPermanentZoneExtractionPointDurationSeconds() * 1000L;
         double radius = config.getPermanentZoneExtractionRadius();
         var rng = ThreadLocalRandom.current();
 
         boolean anyExpired = eps.stream().anyMatch(ep -> !ep.isActive());
-        eps.removeIf(ep -> !ep.isActive());
+        eps.removeIf(ep -> {
+            if (ep.isActive()) return false;
+            plugin.getChunkPrewarmer().release(ChunkPrewarmer.EXTRACTION_PREFIX + ep.getId());
+            return true;
+        });
 
         int needed = config.getPermanentZoneExtractionPointCount() - eps.size();
         for (int i = 0; i < needed; i++) {
             Location loc = randomLocationNearBoundary(zone, rng);
-            eps.add(new ExtractionPoint(loc, radius, durationMillis));
+            ExtractionPoint ep = new ExtractionPoint(loc, radius, durationMillis);
+            eps.add(ep);
+            plugin.getChunkPrewarmer().pinPoint(ChunkPrewarmer.EXTRACTION_PREFIX + ep.getId(), loc);
         }
         if (anyExpired || needed > 0) {
-            plugin.getMapIntegration().syncPermanentZoneExtractionPoints(zone, eps);
+            syncExtractionMarkers(zone, eps);
         }
     }
 
@@ -493,6 +620,13 @@ public class PermanentZoneManager {
                 activePoIs.getOrDefault(zone.getId(), Collections.emptyList()));
     }
 
+    /**
+     * Number of PoI respawns scheduled for the zone that have not spawned yet
+     */
+    public int getQueuedPoIRespawnCount(PermanentZone zone) {
+        return poiRespawnSchedule.getOrDefault(zone.getId(), List.of()).size();
+    }
+
     public List<ExtractionPoint> getActiveExtractionPoints(PermanentZone zone) {
         return Collections.unmodifiableList(
                 extractionPoints.getOrDefault(zone.getId(), Collections.emptyList()));
@@ -504,7 +638,11 @@ public class PermanentZoneManager {
         Location loc = poi.getLocation().clone().add(0, 1.5, 0);
         World world = loc.getWorld();
         if (world == null) return;
-        if (!loc.getChunk().isLoaded()) loc.getChunk().load();
+        if (!world.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) {
+            // Never load synchronously; the pre-warmer brings the chunk in and the next pass spawns the display
+            plugin.getChunkPrewarmer().pinPoint(ChunkPrewarmer.POI_PREFIX + poi.getId(), poi.getLocation());
+            return;
+        }
 
         ItemDisplay display = (ItemDisplay) world.spawnEntity(loc, EntityType.ITEM_DISPLAY);
         display.setItemStack(new ItemStack(poi.getResourceType().getDefaultMaterial()));
@@ -556,7 +694,7 @@ public class PermanentZoneManager {
     public void cleanupOrphanedDisplaysNearPlayers() {
         NamespacedKey key = plugin.getKey("poi_display");
         Set<Entity> tracked = new HashSet<>(poiDisplayEntities.values());
-        for (org.bukkit.entity.Player player : Bukkit.getOnlinePlayers()) {
+        plugin.getPlatformScheduler().forEachPlayer((player, slot) -> {
             for (Entity entity : player.getWorld().getNearbyEntities(
                     player.getLocation(), 80, 80, 80)) {
                 if (!(entity instanceof ItemDisplay display)) continue;
@@ -565,7 +703,7 @@ public class PermanentZoneManager {
                     display.remove();
                 }
             }
-        }
+        });
     }
 
     /** Removes all live display entities. Call on plugin disable. */
@@ -580,6 +718,7 @@ public class PermanentZoneManager {
 
     public void startExtractionChannel(UUID playerId, ExtractionPoint ep) {
         extractionChannels.put(playerId, new ExtractionChannelState(playerId, ep));
+        ExtractionEvent.record(ExtractionEvent.START, playerId.toString(), zoneName(getPlayerZone(playerId)), 0, 0);
     }
 
     public ExtractionChannelState getExtractionChannel(UUID playerId) {
@@ -587,7 +726,27 @@ public class PermanentZoneManager {
     }
 
     public void cancelExtractionChannel(UUID playerId) {
-        extractionChannels.remove(playerId);
+        ExtractionChannelState channel = extractionChannels.remove(playerId);
+        if (channel != null) {
+            ExtractionEvent.record(ExtractionEvent.CANCEL, playerId.toString(), zoneName(getPlayerZone(playerId)),
+                    channel.getElapsedMillis(), 0);
+        }
+    }
+
+    /**
+     * End a channel that ran to completion
+     */
+    public void completeExtractionChannel(UUID playerId, Map<ResourceType, Double> extracted) {
+        ExtractionChannelState channel = extractionChannels.remove(playerId);
+        if (channel != null) {
+            double total = extracted.values().stream().mapToDouble(Double::doubleValue).sum();
+            ExtractionEvent.record(ExtractionEvent.COMPLETE, playerId.toString(), zoneName(getPlayerZone(playerId)),
+                    channel.getElapsedMillis(), total);
+        }
+    }
+
+    private static String zoneName(PermanentZone zone) {
+        return zone != null ? zone.getName() : null;
     }
 
     // ── Player buffer access ─────────────────────────────────────────────────────
@@ -675,22 +834,30 @@ public class PermanentZoneManager {
     }
 
     public void updatePoIStay(UUID playerId, UUID poiId) {
+        updatePoIStay(playerRegistry.slotOf(playerId), poiId);
+    }
+
+    public void updatePoIStay(int slot, UUID poiId) {
         if (poiId == null) {
-            playerCurrentPoI.remove(playerId);
-            playerPoIStayStart.remove(playerId);
+            playerCurrentPoI.set(slot, null);
+            playerPoIStayStart.set(slot, 0L);
             return;
         }
-        UUID current = playerCurrentPoI.get(playerId);
+        UUID current = playerCurrentPoI.get(slot);
         if (!poiId.equals(current)) {
-            playerCurrentPoI.put(playerId, poiId);
-            playerPoIStayStart.put(playerId, System.currentTimeMillis());
+            playerCurrentPoI.set(slot, poiId);
+            playerPoIStayStart.set(slot, GameClock.millis());
         }
     }
 
     public long getPoIStayMillis(UUID playerId) {
-        Long start = playerPoIStayStart.get(playerId);
-        if (start == null) return 0;
-        return System.currentTimeMillis() - start;
+        return getPoIStayMillis(playerRegistry.slotOf(playerId));
+    }
+
+    public long getPoIStayMillis(int slot) {
+        long start = playerPoIStayStart.get(slot);
+        if (start == 0L) return 0;
+        return GameClock.millis() - start;
     }
 
     /** Returns snapshot and removes the buffer entry. */
@@ -704,22 +871,40 @@ public class PermanentZoneManager {
     // ── Map visibility tracking ──────────────────────────────────────────────────
 
     public void markMapHidden(UUID playerId) {
-        mapHiddenPlayers.add(playerId);
+        markMapHidden(playerRegistry.slotOf(playerId));
+    }
+
+    public void markMapHidden(int slot) {
+        mapHiddenPlayers.set(slot);
     }
 
     public boolean isMapHidden(UUID playerId) {
-        return mapHiddenPlayers.contains(playerId);
+        return isMapHidden(playerRegistry.slotOf(playerId));
+    }
+
+    public boolean isMapHidden(int slot) {
+        return mapHiddenPlayers.get(slot);
     }
 
     /** Removes the hidden flag. Returns true if the player was actually hidden (caller should show them). */
     public boolean clearMapHidden(UUID playerId) {
-        return mapHiddenPlayers.remove(playerId);
+        return clearMapHidden(playerRegistry.slotOf(playerId));
+    }
+
+    public boolean clearMapHidden(int slot) {
+        return mapHiddenPlayers.unset(slot);
     }
 
     // ── Zone death cooldown ──────────────────────────────────────────────────────
 
     public void recordZoneDeath(UUID playerId, UUID zoneId) {
-        zoneDeathTimes.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>()).put(zoneId, System.currentTimeMillis());
+        long now = GameClock.millis();
+        zoneDeathTimes.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>()).put(zoneId, now);
+        plugin.getExpiryService().schedule(ZONE_DEATH_COOLDOWN_MS, () ->
+            zoneDeathTimes.computeIfPresent(playerId, (id, byZone) -> {
+                byZone.remove(zoneId, now);
+                return byZone.isEmpty() ? null : byZone;
+            }));
     }
 
     public boolean isOnZoneDeathCooldown(UUID playerId, UUID zoneId) {
@@ -727,7 +912,7 @@ public class PermanentZoneManager {
         if (byZone == null) return false;
         Long time = byZone.get(zoneId);
         if (time == null) return false;
-        return System.currentTimeMillis() - time < ZONE_DEATH_COOLDOWN_MS;
+        return GameClock.millis() - time < ZONE_DEATH_COOLDOWN_MS;
     }
 
     public long getZoneDeathCooldownRemainingSeconds(UUID playerId, UUID zoneId) {
@@ -735,23 +920,50 @@ public class PermanentZoneManager {
         if (byZone == null) return 0;
         Long time = byZone.get(zoneId);
         if (time == null) return 0;
-        long remaining = ZONE_DEATH_COOLDOWN_MS - (System.currentTimeMillis() - time);
+        long remaining = ZONE_DEATH_COOLDOWN_MS - (GameClock.millis() - time);
         return Math.max(0, remaining / 1000);
     }
 
+    /**
+     * Number of (player, zone) death cooldowns that have not expired yet
+     */
+    public int getZoneDeathCooldownCount() {
+        int count = 0;
+        for (Map<UUID, Long> byZone : zoneDeathTimes.values()) {
+            count += byZone.size();
+        }
+        return count;
+    }
+
     // ── Player zone tracking ─────────────────────────────────────────────────────
 
     public void updatePlayerZone(UUID playerId, PermanentZone zone) {
+        int slot = playerRegistry.slotOf(playerId);
+        PermanentZone previous = playerZones.get(slot);
+        if (previous != zone) {
+            if (previous != null) {
+                plugin.getMetrics().zoneLeft(CosmosMetrics.PERMANENT, previous.getName());
+                ZoneTransitionEvent.record(CosmosMetrics.PERMANENT, previous.getName(),
+                        previous.getTier().name(), playerId.toString(), false);
+            }
+            if (zone != null) {
+                plugin.getMetrics().zoneEntered(CosmosMetrics.PERMANENT, zone.getName());
+                ZoneTransitionEvent.record(CosmosMetrics.PERMANENT, zone.getName(),
+                        zone.getTier().name(), playerId.toString(), true);
+            }
+        }
         if (zone == null) {
-            playerZones.remove(playerId);
-            extractionChannels.remove(playerId);
-        } else {
-            playerZones.put(playerId, zone);
+            cancelExtractionChannel(playerId);
         }
+        playerZones.set(slot, zone);
     }
 
     public PermanentZone getPlayerZone(UUID playerId) {
-        return playerZones.get(playerId);
+        return getPlayerZone(playerRegistry.slotOf(playerId));
+    }
+
+    public PermanentZone getPlayerZone(int slot) {
+        return playerZones.get(slot);
     }
 
     // ── Town balance ─────────────────────────────────────────────────────────────
@@ -760,7 +972,8 @@ public class PermanentZoneManager {
         Map<ResourceType, Double> balance = townBalances.computeIfAbsent(townId,
                 k -> new EnumMap<>(ResourceType.class));
         for (Map.Entry<ResourceType, Double> entry : amounts.entrySet()) {
-            balance.merge(entry.getKey(), entry.getValue(), Double::sum);
+            double updated = balance.merge(entry.getKey(), entry.getValue(), Double::sum);
+            TownBalanceEvent.record(townId, entry.getKey().name(), TownBalanceEvent.DEPOSIT, entry.getValue(), updated);
         }
     }
 
@@ -778,6 +991,7 @@ public class PermanentZoneManager {
             double remaining = balance.getOrDefault(entry.getKey(), 0.0) - entry.getValue();
             if (remaining <= 0) balance.remove(entry.getKey());
             else balance.put(entry.getKey(), remaining);
+            TownBalanceEvent.record(townId, entry.getKey().name(), TownBalanceEvent.DEDUCT, -entry.getValue(), Math.max(0, remaining));
         }
         saveBalances();
         return true;
@@ -787,8 +1001,10 @@ public class PermanentZoneManager {
     public void setTownBalance(int townId, ResourceType type, double amount) {
         Map<ResourceType, Double> balance = townBalances.computeIfAbsent(townId,
                 k -> new EnumMap<>(ResourceType.class));
+        double previous = balance.getOrDefault(type, 0.0);
         if (amount <= 0) balance.remove(type);
         else balance.put(type, amount);
+        TownBalanceEvent.record(townId, type.name(), TownBalanceEvent.SET, Math.max(0, amount) - previous, Math.max(0, amount));
         saveBalances();
     }
 
@@ -800,6 +1016,7 @@ public class PermanentZoneManager {
         double result = Math.max(0, current + delta);
         if (result == 0) balance.remove(type);
         else balance.put(type, result);
+        TownBalanceEvent.record(townId, type.name(), TownBalanceEvent.ADJUST, result - current, result);
         saveBalances();
     }
 
@@ -814,8 +1031,21 @@ public class PermanentZoneManager {
      * Finds a safe location just outside the zone boundary.
      * Casts a ray from the centroid through {@code from}, finds where it exits the polygon,
      * then adds {@code bufferDistance} extra blocks so the player lands clearly outside.
+     * Loads the exit chunk synchronously if needed; enforcement teleports use
+     * {@link #findExitColumn} with the async teleporter instead.
      */
     public Location findExitPoint(PermanentZone zone, Location from, double bufferDistance) {
+        Location exit = findExitColumn(zone, from, bufferDistance);
+        if (exit == null) return null;
+        exit.setY(exit.getWorld().getHighestBlockYAt(exit.getBlockX(), exit.getBlockZ()) + 1.0);
+        return exit;
+    }
+
+    /**
+     * Same ray cast as {@link #findExitPoint}, but without touching the world: the returned
+     * location keeps {@code from}'s Y and must be placed on the surface by the caller.
+     */
+    public Location findExitColumn(PermanentZone zone, Location from, double bufferDistance) {
         Location centroid = zone.getCentroid();
         if (centroid == null) return null;
         World world = zone.getWorld();
@@ -850,16 +1080,14 @@ public class PermanentZoneManager {
                 // Found the exit boundary — step one more buffer distance outward
                 double exitX = centroid.getX() + dx * (r + bufferDistance);
                 double exitZ = centroid.getZ() + dz * (r + bufferDistance);
-                double exitY = world.getHighestBlockYAt((int) exitX, (int) exitZ) + 1.0;
-                return new Location(world, exitX, exitY, exitZ, from.getYaw(), 0);
+                return new Location(world, exitX, from.getY(), exitZ, from.getYaw(), 0);
             }
         }
 
         // Fallback: guaranteed-outside location
         double x = centroid.getX() + dx * (approxRadius + bufferDistance + 10);
         double z = centroid.getZ() + dz * (approxRadius + bufferDistance + 10);
-        double y = world.getHighestBlockYAt((int) x, (int) z) + 1.0;
-        return new Location(world, x, y, z, from.getYaw(), 0);
+        return new Location(world, x, from.getY(), z, from.getYaw(), 0);
     }
 
     // ── Helpers ──────────────────────────────────────────────────────────────────
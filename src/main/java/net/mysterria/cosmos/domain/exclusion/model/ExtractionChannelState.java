@@ -1,6 +1,7 @@
 package net.mysterria.cosmos.domain.exclusion.model;
 
 import lombok.Getter;
+import net.mysterria.cosmos.toolkit.GameClock;
 
 import java.util.UUID;
 
@@ -18,11 +19,11 @@ public class ExtractionChannelState {
     public ExtractionChannelState(UUID playerId, ExtractionPoint extractionPoint) {
         this.playerId = playerId;
         this.extractionPoint = extractionPoint;
-        this.startTimeMillis = System.currentTimeMillis();
+        this.startTimeMillis = GameClock.millis();
     }
 
     public long getElapsedMillis() {
-        return System.currentTimeMillis() - startTimeMillis;
+        return GameClock.millis() - startTimeMillis;
     }
 
     /** Returns extraction progress from 0.0 to 1.0. */
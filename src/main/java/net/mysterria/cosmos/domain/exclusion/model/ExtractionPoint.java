@@ -1,6 +1,7 @@
 package net.mysterria.cosmos.domain.exclusion.model;
 
 import lombok.Getter;
+import net.mysterria.cosmos.toolkit.GameClock;
 import org.bukkit.Location;
 
 import java.util.UUID;
@@ -22,11 +23,11 @@ public class ExtractionPoint {
 
     public ExtractionPoint(Location location, double captureRadius, long durationMillis) {
         this(UUID.randomUUID(), location, captureRadius,
-                System.currentTimeMillis() + durationMillis);
+                GameClock.millis() + durationMillis);
     }
 
     public boolean isActive() {
-        return System.currentTimeMillis() < activeUntil;
+        return GameClock.millis() < activeUntil;
     }
 
     public boolean isPlayerInRange(Location playerLoc) {
@@ -2,6 +2,7 @@ package net.mysterria.cosmos.domain.exclusion.model;
 
 import lombok.Getter;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
+import net.mysterria.cosmos.toolkit.GameClock;
 import org.bukkit.Location;
 
 import java.util.UUID;
@@ -31,14 +32,14 @@ public class PointOfInterest {
     public PointOfInterest(Location location, ResourceType resourceType,
                            double extractionRadius, long durationMillis, double resourceCap) {
         this(UUID.randomUUID(), location, resourceType, extractionRadius,
-                System.currentTimeMillis() + durationMillis, resourceCap);
+                GameClock.millis() + durationMillis, resourceCap);
     }
 
     /**
      * Consume up to {@code amount} from this PoI's remaining resources.
      * Returns the actual amount consumed (capped at remaining).
      */
-    public double consumeResource(double amount) {
+    public synchronized double consumeResource(double amount) {
         double actual = Math.min(amount, resourcesRemaining);
         resourcesRemaining -= actual;
         return actual;
@@ -50,7 +51,7 @@ public class PointOfInterest {
 
     /** Active while time hasn't expired AND resources haven't been fully drained. */
     public boolean isActive() {
-        return System.currentTimeMillis() < activeUntil && !isDepleted();
+        return GameClock.millis() < activeUntil && !isDepleted();
     }
 
     public boolean isPlayerInRange(Location playerLoc) {
@@ -3,70 +3,74 @@ package net.mysterria.cosmos.domain.exclusion.task;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.title.Title;
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
 import net.mysterria.cosmos.domain.exclusion.model.ExtractionChannelState;
 import net.mysterria.cosmos.domain.exclusion.model.ExtractionPoint;
 import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
 import net.mysterria.cosmos.domain.exclusion.model.PlayerResourceBuffer;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
+import net.mysterria.cosmos.toolkit.CosmosScheduler;
+import net.mysterria.cosmos.toolkit.EnforcementTeleporter;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.ZoneMembershipPipeline;
 import net.mysterria.cosmos.toolkit.towns.TownData;
 import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.time.Duration;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 /**
- * Runs every 20 ticks (1 second). Manages channel-based extraction at extraction points.
+ * Visits each player every 20 ticks (1 second). Manages channel-based extraction at extraction points.
  *
  * Players must stand at an extraction point for the full channel duration
  * (permanent-zones.extraction-channel-seconds). Moving out of range cancels the channel.
  * On completion, ALL carried resources are deposited to the player's town at once.
  */
-public class ExtractionTask extends BukkitRunnable {
+public class ExtractionTask implements CosmosScheduler.PlayerPhase {
 
-    private final CosmosIncursion plugin;
+    // Lets the exit teleport pass zone-exit enforcement; checked by ExclusionZoneListener
+    private static final String EXIT_BYPASS = "cosmos_extraction_exit";
+    // Async exit attempts that may come back BUSY before falling back to the direct exit
+    private static final int EXIT_ATTEMPTS = 3;
+
+    private final CosmosPlugin plugin;
     private final PermanentZoneManager permanentZoneManager;
 
-    public ExtractionTask(CosmosIncursion plugin, PermanentZoneManager permanentZoneManager) {
+    public ExtractionTask(CosmosPlugin plugin, PermanentZoneManager permanentZoneManager) {
         this.plugin = plugin;
         this.permanentZoneManager = permanentZoneManager;
     }
 
     @Override
-    public void run() {
-        long channelMillis = plugin.getConfigLoader().getConfig().getPermanentZoneExtractionChannelSeconds() * 1000L;
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.hasMetadata("NPC")) continue;
+    public void tickPlayer(Player player, int slot) {
+        ZoneMembershipPipeline.Frame frame = plugin.getZoneMembership().getFrame();
+        if (!frame.covers(slot, player)) return;
 
-            ExtractionChannelState channel = permanentZoneManager.getExtractionChannel(player.getUniqueId());
+        long channelMillis = plugin.getConfigLoader().getConfig().getPermanentZoneExtractionChannelSeconds() * 1000L;
+        ExtractionChannelState channel = permanentZoneManager.getExtractionChannel(player.getUniqueId());
 
-            if (channel != null) {
-                tickActiveChannel(player, channel, channelMillis);
-            } else {
-                tryStartChannel(player);
-            }
+        if (channel != null) {
+            tickActiveChannel(player, channel, frame.extractionPoint(slot), channelMillis);
+        } else {
+            tryStartChannel(player, frame.extractionPoint(slot));
         }
     }
 
-    private void tickActiveChannel(Player player, ExtractionChannelState channel, long channelMillis) {
+    private void tickActiveChannel(Player player, ExtractionChannelState channel, ExtractionPoint inRange, long channelMillis) {
         ExtractionPoint ep = channel.getExtractionPoint();
 
-        if (!ep.isActive() || !ep.isPlayerInRange(player.getLocation())) {
+        if (!ep.isActive() || ep != inRange) {
             permanentZoneManager.cancelExtractionChannel(player.getUniqueId());
-            player.clearTitle();
-            player.sendActionBar(Component.text("Extraction interrupted! Stay at the extraction point.", NamedTextColor.RED));
+            plugin.getHudCompositor().clearTitle(player);
+            plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ALERT, Component.text("Extraction interrupted! Stay at the extraction point.", NamedTextColor.RED));
             return;
         }
 
@@ -83,28 +87,25 @@ public class ExtractionTask extends BukkitRunnable {
         Map<ResourceType, Double> extracted = buffer.snapshot();
         // Clear buffer first so zone-exit enforcement allows the teleport
         buffer.clear();
-        permanentZoneManager.cancelExtractionChannel(player.getUniqueId());
+        permanentZoneManager.completeExtractionChannel(player.getUniqueId(), extracted);
 
         depositToTown(player, extracted);
 
-        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
+        plugin.getHudCompositor().sound(player, player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
 
         // Teleport player out to the nearest safe point outside the zone
         if (zone != null) {
+            plugin.getMetrics().extracted(zone.getName(), extracted);
             plugin.getActingRewardManager().grantExtractionActing(player, zone.getTier());
 
-            double exitBuffer = plugin.getConfigLoader().getConfig().getPermanentZoneExtractionExitBuffer();
-            Location exitLoc = permanentZoneManager.findExitPoint(zone, player.getLocation(), exitBuffer);
-            if (exitLoc != null) {
-                player.setMetadata("cosmos_extraction_exit", new FixedMetadataValue(plugin, true));
-                player.teleport(exitLoc);
-                player.removeMetadata("cosmos_extraction_exit", plugin);
-            }
+            // Bypass metadata stays set until one of the exit moves has landed
+            player.setMetadata(EXIT_BYPASS, new FixedMetadataValue(plugin, true));
+            moveOut(player, zone, EXIT_ATTEMPTS);
         }
 
         // Hunt Showdown-style extraction effects
         player.addPotionEffect(new PotionEffect(PotionEffectType.DARKNESS, 20 * 5, 0, false, false));
-        player.showTitle(Title.title(
+        plugin.getHudCompositor().title(player, HudCompositor.Slot.EXTRACTION, Title.title(
             Component.text("EXTRACTED", NamedTextColor.GOLD),
             buildExtractedSubtitle(extracted),
             Title.Times.times(Duration.ofMillis(300), Duration.ofSeconds(3), Duration.ofMillis(800))
@@ -112,6 +113,55 @@ public class ExtractionTask extends BukkitRunnable {
         notifyExtracted(player, extracted);
     }
 
+    /**
+     * Move an extracted player out of the zone through the async teleporter. A push-back already in
+     * flight is waited out and the exit retried; if no exit can be resolved, the synchronous exit point
+     * is used instead.
+     */
+    private void moveOut(Player player, PermanentZone zone, int attemptsLeft) {
+        if (!player.isOnline()) {
+            player.removeMetadata(EXIT_BYPASS, plugin);
+            return;
+        }
+
+        double exitBuffer = plugin.getConfigLoader().getConfig().getPermanentZoneExtractionExitBuffer();
+        Location exitLoc = permanentZoneManager.findExitColumn(zone, player.getLocation(), exitBuffer);
+        if (exitLoc == null || attemptsLeft <= 0) {
+            moveOutDirect(player, zone, exitBuffer);
+            return;
+        }
+
+        EnforcementTeleporter teleporter = plugin.getEnforcementTeleporter();
+        teleporter.teleport(player, exitLoc, EnforcementTeleporter.Placement.SURFACE).thenAccept(result -> {
+            switch (result) {
+                case MOVED -> player.removeMetadata(EXIT_BYPASS, plugin);
+                case BUSY -> teleporter.whenIdle(player.getUniqueId()).thenRun(() ->
+                        plugin.getPlatformScheduler().runFor(player, () -> moveOut(player, zone, attemptsLeft - 1)));
+                case NO_SAFE_SPOT, REFUSED -> plugin.getPlatformScheduler().runFor(player,
+                        () -> moveOutDirect(player, zone, exitBuffer));
+            }
+        });
+    }
+
+    /**
+     * Fallback exit: the surface exit point resolved synchronously, as extraction did before the
+     * async teleporter, or one cast from the zone's first vertex if the player stands on the centroid
+     */
+    private void moveOutDirect(Player player, PermanentZone zone, double exitBuffer) {
+        Location exitLoc = player.isOnline() ? permanentZoneManager.findExitPoint(zone, player.getLocation(), exitBuffer) : null;
+        if (exitLoc == null && player.isOnline() && !zone.getVertices().isEmpty()) {
+            exitLoc = permanentZoneManager.findExitPoint(zone, zone.getVertices().get(0), exitBuffer);
+        }
+        if (exitLoc == null) {
+            if (player.isOnline()) {
+                plugin.log("No extraction exit found for " + player.getName() + " in " + zone.getName());
+            }
+            player.removeMetadata(EXIT_BYPASS, plugin);
+            return;
+        }
+        player.teleportAsync(exitLoc).whenComplete((moved, throwable) -> player.removeMetadata(EXIT_BYPASS, plugin));
+    }
+
     private Component buildExtractedSubtitle(Map<ResourceType, Double> extracted) {
         Component sub = Component.empty();
         boolean first = true;
@@ -128,24 +178,19 @@ public class ExtractionTask extends BukkitRunnable {
         return sub;
     }
 
-    private void tryStartChannel(Player player) {
+    private void tryStartChannel(Player player, ExtractionPoint inRange) {
         PermanentZone zone = permanentZoneManager.getPlayerZone(player.getUniqueId());
         if (zone == null) return;
 
         PlayerResourceBuffer buffer = permanentZoneManager.getBuffer(player.getUniqueId());
         if (buffer.isEmpty()) return;
 
-        List<ExtractionPoint> eps = permanentZoneManager.getActiveExtractionPoints(zone);
-        for (ExtractionPoint ep : eps) {
-            if (!ep.isActive()) continue;
-            if (ep.isPlayerInRange(player.getLocation())) {
-                permanentZoneManager.startExtractionChannel(player.getUniqueId(), ep);
-                player.sendActionBar(Component.text("Extracting... hold position! ", NamedTextColor.GREEN)
-                    .append(Component.text("[0%]", NamedTextColor.YELLOW)));
-                player.playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.5f, 1.5f);
-                break;
-            }
-        }
+        // Extraction point occupancy was computed off-thread
+        if (inRange == null || !inRange.isActive()) return;
+        permanentZoneManager.startExtractionChannel(player.getUniqueId(), inRange);
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.EXTRACTION, Component.text("Extracting... hold position! ", NamedTextColor.GREEN)
+            .append(Component.text("[0%]", NamedTextColor.YELLOW)));
+        plugin.getHudCompositor().sound(player, player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.5f, 1.5f);
     }
 
     private void depositToTown(Player player, Map<ResourceType, Double> amounts) {
@@ -166,7 +211,7 @@ public class ExtractionTask extends BukkitRunnable {
             ));
             first = false;
         }
-        player.sendActionBar(msg);
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.EXTRACTION, msg);
     }
 
     private void showExtractionProgress(Player player, ExtractionChannelState channel, long channelMillis) {
@@ -175,7 +220,7 @@ public class ExtractionTask extends BukkitRunnable {
         int secondsLeft = (int) Math.ceil(Math.max(0, remaining) / 1000.0);
 
         // Countdown title — stay duration slightly over 1s so it persists between ticks
-        player.showTitle(Title.title(
+        plugin.getHudCompositor().title(player, HudCompositor.Slot.EXTRACTION, Title.title(
             Component.text(secondsLeft + "s", secondsLeft <= 3 ? NamedTextColor.RED : NamedTextColor.YELLOW),
             Component.text("Hold position!", NamedTextColor.GREEN),
             Title.Times.times(Duration.ZERO, Duration.ofMillis(1200), Duration.ZERO)
@@ -183,7 +228,7 @@ public class ExtractionTask extends BukkitRunnable {
 
         int filled = (int) (progress * 20);
         String bar = "█".repeat(filled) + "░".repeat(20 - filled);
-        player.sendActionBar(Component.text("Extracting: ", NamedTextColor.GREEN)
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.EXTRACTION, Component.text("Extracting: ", NamedTextColor.GREEN)
             .append(Component.text("[" + bar + "] ", NamedTextColor.YELLOW))
             .append(Component.text((int) (progress * 100) + "%", NamedTextColor.WHITE)));
     }
@@ -8,7 +8,6 @@ import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Collection;
 import java.util.List;
@@ -24,7 +23,7 @@ import java.util.List;
  * Runs every 40 ticks (2 seconds). Uses per-player checks so particles only
  * render for nearby players.
  */
-public class PermanentZoneBoundaryParticleTask extends BukkitRunnable {
+public class PermanentZoneBoundaryParticleTask implements Runnable {
 
     private static final Color BOUNDARY_COLOR = Color.fromRGB(180, 0, 0);
     /** Horizontal distance between sample points along each edge (blocks). */
@@ -51,20 +50,24 @@ public class PermanentZoneBoundaryParticleTask extends BukkitRunnable {
 
         tOffset = (tOffset + 0.12) % 1.0;
 
+        // Each zone is drawn on the region that owns its centroid
+        double offset = tOffset;
         for (PermanentZone zone : permanentZoneManager.getAllZones()) {
             if (!zone.isActive()) continue;
             List<Location> verts = zone.getVertices();
-            if (verts.size() < 3) continue;
-            spawnBoundaryParticles(zone, verts);
+            Location centroid = zone.getCentroid();
+            if (verts.size() < 3 || centroid == null) continue;
+            plugin.getPlatformScheduler().runAt(centroid, () -> spawnBoundaryParticles(zone, verts, offset));
         }
     }
 
-    private void spawnBoundaryParticles(PermanentZone zone, List<Location> verts) {
+    private void spawnBoundaryParticles(PermanentZone zone, List<Location> verts, double tOffset) {
         World world = zone.getWorld();
         if (world == null) return;
 
         Particle.DustOptions dust = new Particle.DustOptions(BOUNDARY_COLOR, PARTICLE_SIZE);
         int n = verts.size();
+        int sampleStep = plugin.getLoadGovernor().particleStep();
 
         for (int i = 0; i < n; i++) {
             Location a = verts.get(i);
@@ -77,7 +80,7 @@ public class PermanentZoneBoundaryParticleTask extends BukkitRunnable {
 
             int steps = Math.max(1, (int) Math.ceil(length / SAMPLE_INTERVAL));
 
-            for (int s = 0; s < steps; s++) {
+            for (int s = 0; s < steps; s += sampleStep) {
                 double t = ((double) s / steps + tOffset) % 1.0;
                 double x = a.getX() + t * dx;
                 double z = a.getZ() + t * dz;
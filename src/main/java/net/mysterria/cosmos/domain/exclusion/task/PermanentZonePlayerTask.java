@@ -12,6 +12,11 @@ import net.mysterria.cosmos.domain.exclusion.model.PlayerResourceBuffer;
 import net.mysterria.cosmos.domain.exclusion.model.PointOfInterest;
 import net.mysterria.cosmos.domain.incursion.listener.GSitZoneListener;
 import net.mysterria.cosmos.domain.incursion.listener.IncursionZoneHorseListener;
+import net.mysterria.cosmos.toolkit.CosmosScheduler;
+import net.mysterria.cosmos.toolkit.EnforcementTeleporter;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.PlayerRegistry;
+import net.mysterria.cosmos.toolkit.ZoneMembershipPipeline;
 import net.mysterria.cosmos.toolkit.towns.TownData;
 import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
 import org.bukkit.Bukkit;
@@ -29,23 +34,27 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Runs every 5 ticks. Handles zone entry/exit tracking, compass updates,
+ * Visits each player every 5 ticks. Handles zone entry/exit tracking, compass updates,
  * squaremap visibility, and acts as a last-resort backup for escaped players.
+ * Zone membership comes from the latest {@link ZoneMembershipPipeline} frame.
  */
-public class PermanentZonePlayerTask extends BukkitRunnable {
+public class PermanentZonePlayerTask implements CosmosScheduler.PlayerPhase {
 
     private final CosmosIncursion plugin;
     private final PermanentZoneManager permanentZoneManager;
     private final IncursionZoneHorseListener horseListener;
     private final GSitZoneListener gsitZoneListener;
-    private final Map<UUID, BossBar> zoneBossBars = new HashMap<>();
-    private final Set<UUID> compassHolders = new HashSet<>();
+    private final PlayerRegistry playerRegistry;
+    private final PlayerRegistry.ObjectColumn<BossBar> zoneBossBars;
+    private final PlayerRegistry.FlagColumn compassHolders;
     private int tickCount = 0;
+    // Horses already checked this cycle, or null when the cycle skips the horse sweep
+    private volatile Set<UUID> checkedHorses;
 
     public PermanentZonePlayerTask(CosmosIncursion plugin, PermanentZoneManager permanentZoneManager,
                                    IncursionZoneHorseListener horseListener, GSitZoneListener gsitZoneListener) {
@@ -53,115 +62,125 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
         this.permanentZoneManager = permanentZoneManager;
         this.horseListener = horseListener;
         this.gsitZoneListener = gsitZoneListener;
+        this.playerRegistry = plugin.getPlayerRegistry();
+        this.zoneBossBars = playerRegistry.objectColumn();
+        this.compassHolders = playerRegistry.flagColumn();
     }
 
     @Override
-    public void run() {
+    public void beginCycle() {
         tickCount++;
         boolean checkHorses = (tickCount % 4 == 0);
-        Set<UUID> checkedHorses = checkHorses ? new HashSet<>() : null;
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.hasMetadata("NPC")) continue;
-
-            PermanentZone currentZone = permanentZoneManager.getZoneAt(player.getLocation());
-            PermanentZone trackedZone = permanentZoneManager.getPlayerZone(player.getUniqueId());
+        checkedHorses = checkHorses ? ConcurrentHashMap.newKeySet() : null;
+    }
 
-            // Backup enforcement: player escaped with resources or while PvP tagged — return them immediately
-            if (trackedZone != null && currentZone == null) {
-                PlayerResourceBuffer buffer = permanentZoneManager.getBuffer(player.getUniqueId());
-                boolean inCombat = TownsToolkit.isPlayerInCombat(player);
-                if (!buffer.isEmpty() || inCombat) {
-                    forceTeleportBack(player, trackedZone, buffer.isEmpty() && inCombat);
-                    continue;
-                }
+    @Override
+    public void tickPlayer(Player player, int slot) {
+        ZoneMembershipPipeline.Frame frame = plugin.getZoneMembership().getFrame();
+        Set<UUID> checkedHorses = this.checkedHorses;
+
+        // Zone state is re-evaluated once a pending enforcement teleport has landed
+        if (plugin.getEnforcementTeleporter().isPending(player.getUniqueId())) return;
+        // Just joined: wait for the off-thread membership pass to include this player
+        if (!frame.covers(slot, player)) return;
+
+        PermanentZone currentZone = frame.permanentZone(slot);
+        PermanentZone trackedZone = permanentZoneManager.getPlayerZone(slot);
+
+        // Backup enforcement: player escaped with resources or while PvP tagged — return them immediately
+        if (trackedZone != null && currentZone == null) {
+            PlayerResourceBuffer buffer = permanentZoneManager.getBuffer(player.getUniqueId());
+            boolean inCombat = TownsToolkit.isPlayerInCombat(player);
+            if (!buffer.isEmpty() || inCombat) {
+                forceTeleportBack(player, trackedZone, buffer.isEmpty() && inCombat);
+                return;
             }
+        }
 
-            // Normal zone entry/exit tracking
-            if (!zonesEqual(currentZone, trackedZone)) {
-                if (trackedZone != null) onExit(player, trackedZone);
-                if (currentZone != null) {
-                    if (permanentZoneManager.isOnZoneDeathCooldown(player.getUniqueId(), currentZone.getId())) {
-                        pushOutsideZone(player, currentZone);
-                        long remaining = permanentZoneManager.getZoneDeathCooldownRemainingSeconds(player.getUniqueId(), currentZone.getId());
-                        player.sendActionBar(Component.text("Cannot enter — cooldown: ", NamedTextColor.RED)
-                            .append(Component.text(formatCooldown(remaining), NamedTextColor.YELLOW)));
-                        // Do NOT update tracked zone — keep it null so this check fires every tick
-                        continue;
-                    }
-                    onEnter(player, currentZone);
+        // Normal zone entry/exit tracking
+        if (!zonesEqual(currentZone, trackedZone)) {
+            if (trackedZone != null) onExit(player, trackedZone);
+            if (currentZone != null) {
+                if (permanentZoneManager.isOnZoneDeathCooldown(player.getUniqueId(), currentZone.getId())) {
+                    pushOutsideZone(player, currentZone);
+                    long remaining = permanentZoneManager.getZoneDeathCooldownRemainingSeconds(player.getUniqueId(), currentZone.getId());
+                    plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ALERT, Component.text("Cannot enter — cooldown: ", NamedTextColor.RED)
+                        .append(Component.text(formatCooldown(remaining), NamedTextColor.YELLOW)));
+                    // Do NOT update tracked zone — keep it null so this check fires every tick
+                    return;
                 }
-                permanentZoneManager.updatePlayerZone(player.getUniqueId(), currentZone);
+                onEnter(player, currentZone);
             }
+            permanentZoneManager.updatePlayerZone(player.getUniqueId(), currentZone);
+        }
 
-            // Force-dismount if player enters combat while riding a cosmos horse
-            if (currentZone != null && horseListener.hasActiveHorse(player) && TownsToolkit.isPlayerInCombat(player)) {
-                horseListener.dismountForCombat(player);
-            }
+        // Force-dismount if player enters combat while riding a cosmos horse
+        if (currentZone != null && horseListener.hasActiveHorse(player) && TownsToolkit.isPlayerInCombat(player)) {
+            horseListener.dismountForCombat(player);
+        }
 
-            // Update compass and ensure saddle for players already tracked in a zone
-            if (currentZone != null && zonesEqual(currentZone, trackedZone)) {
-                updateCompass(player, currentZone);
-                horseListener.giveSaddle(player); // idempotent — no-ops if already held
-            } else if (currentZone != null) {
-                updateCompass(player, currentZone);
-            } else {
-                if (permanentZoneManager.clearMapHidden(player.getUniqueId())) {
-                    plugin.getMapIntegration().showPlayerOnMap(player);
-                }
+        // Update compass and ensure saddle for players already tracked in a zone
+        if (currentZone != null && zonesEqual(currentZone, trackedZone)) {
+            updateCompass(player, slot, currentZone);
+            horseListener.giveSaddle(player); // idempotent — no-ops if already held
+        } else if (currentZone != null) {
+            updateCompass(player, slot, currentZone);
+        } else {
+            if (permanentZoneManager.clearMapHidden(slot)) {
+                plugin.getMapIntegration().showPlayerOnMap(player);
             }
+        }
 
-            // Check nearby horses to see if they are Zone Mounts outside of any zone
-            if (checkHorses) {
-                for (Entity entity : player.getNearbyEntities(80, 80, 80)) {
-                    if (entity instanceof Horse horse && checkedHorses.add(horse.getUniqueId())) {
-                        if (horse.getPersistentDataContainer().has(plugin.getKey("cosmos_incursion_horse"), PersistentDataType.BOOLEAN)) {
-                            if (!permanentZoneManager.isInsideAnyZone(horse.getLocation())) {
-                                horse.eject();
-                                horse.remove();
-                            }
+        // Check nearby horses to see if they are Zone Mounts outside of any zone
+        if (checkedHorses != null) {
+            for (Entity entity : player.getNearbyEntities(80, 80, 80)) {
+                if (entity instanceof Horse horse && checkedHorses.add(horse.getUniqueId())) {
+                    if (horse.getPersistentDataContainer().has(plugin.getKey("cosmos_incursion_horse"), PersistentDataType.BOOLEAN)) {
+                        if (!permanentZoneManager.isInsideAnyZone(horse.getLocation())) {
+                            horse.eject();
+                            horse.remove();
                         }
                     }
                 }
             }
+        }
 
-            // Invisibility blocking check
-            if (currentZone != null) {
-                PlayerResourceBuffer buffer = permanentZoneManager.getBuffer(player.getUniqueId());
-                if (buffer != null && !buffer.isEmpty()) {
-                    if (player.hasPotionEffect(PotionEffectType.INVISIBILITY)) {
-                        player.removePotionEffect(PotionEffectType.INVISIBILITY);
-                        player.sendMessage(Component.text("[Cosmos] ", NamedTextColor.DARK_RED)
-                            .append(Component.text("gaze of cosmos doesnt allow you to become invisible", NamedTextColor.RED)));
-                    }
+        // Invisibility blocking check
+        if (currentZone != null) {
+            PlayerResourceBuffer buffer = permanentZoneManager.getBuffer(player.getUniqueId());
+            if (buffer != null && !buffer.isEmpty()) {
+                if (player.hasPotionEffect(PotionEffectType.INVISIBILITY)) {
+                    player.removePotionEffect(PotionEffectType.INVISIBILITY);
+                    player.sendMessage(Component.text("[Cosmos] ", NamedTextColor.DARK_RED)
+                        .append(Component.text("gaze of cosmos doesnt allow you to become invisible", NamedTextColor.RED)));
                 }
             }
+        }
 
-            // Dynamic map visibility check
-            updateMapVisibility(player, currentZone);
+        // Dynamic map visibility check
+        updateMapVisibility(player, slot, currentZone);
 
-            // Update carrying resources metadata (exposed for other plugins without class dependencies)
-            boolean carrying = (currentZone != null);
-            if (carrying) {
-                PlayerResourceBuffer buffer = permanentZoneManager.getBuffer(player.getUniqueId());
-                carrying = (buffer != null && !buffer.isEmpty());
-            }
+        // Update carrying resources metadata (exposed for other plugins without class dependencies)
+        boolean carrying = (currentZone != null);
+        if (carrying) {
+            PlayerResourceBuffer buffer = permanentZoneManager.getBuffer(player.getUniqueId());
+            carrying = (buffer != null && !buffer.isEmpty());
+        }
 
-            if (carrying) {
-                if (!player.hasMetadata("cosmos_carrying_resources")) {
-                    player.setMetadata("cosmos_carrying_resources", new FixedMetadataValue(plugin, true));
-                }
-            } else {
-                if (player.hasMetadata("cosmos_carrying_resources")) {
-                    player.removeMetadata("cosmos_carrying_resources", plugin);
-                }
+        if (carrying) {
+            if (!player.hasMetadata("cosmos_carrying_resources")) {
+                player.setMetadata("cosmos_carrying_resources", new FixedMetadataValue(plugin, true));
+            }
+        } else {
+            if (player.hasMetadata("cosmos_carrying_resources")) {
+                player.removeMetadata("cosmos_carrying_resources", plugin);
             }
         }
     }
 
-    private void updateMapVisibility(Player player, PermanentZone currentZone) {
+    private void updateMapVisibility(Player player, int slot, PermanentZone currentZone) {
         if (currentZone == null) {
-            if (permanentZoneManager.clearMapHidden(player.getUniqueId())) {
+            if (permanentZoneManager.clearMapHidden(slot)) {
                 plugin.getMapIntegration().showPlayerOnMap(player);
             }
             return;
@@ -175,16 +194,16 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
             Optional<TownData> townOpt = TownsToolkit.getPlayerTown(player);
             if (townOpt.isPresent()) {
                 java.util.Set<UUID> members = townOpt.get().memberUuids();
-                for (Player online : Bukkit.getOnlinePlayers()) {
-                    if (online.hasMetadata("NPC")) continue;
-                    if (members.contains(online.getUniqueId())) {
-                        PermanentZone mateZone = permanentZoneManager.getPlayerZone(online.getUniqueId());
-                        if (mateZone != null && mateZone.getId().equals(currentZone.getId())) {
-                            PlayerResourceBuffer mateBuffer = permanentZoneManager.getBuffer(online.getUniqueId());
-                            if (mateBuffer != null && !mateBuffer.isEmpty()) {
-                                shouldShow = true;
-                                break;
-                            }
+                for (int mateSlot = 0; mateSlot < playerRegistry.getSlotLimit(); mateSlot++) {
+                    // Check the slot column first: most players are not in this zone
+                    PermanentZone mateZone = permanentZoneManager.getPlayerZone(mateSlot);
+                    if (mateZone == null || !mateZone.getId().equals(currentZone.getId())) continue;
+                    Player online = playerRegistry.playerAt(mateSlot);
+                    if (online != null && members.contains(online.getUniqueId())) {
+                        PlayerResourceBuffer mateBuffer = permanentZoneManager.getBuffer(online.getUniqueId());
+                        if (mateBuffer != null && !mateBuffer.isEmpty()) {
+                            shouldShow = true;
+                            break;
                         }
                     }
                 }
@@ -192,12 +211,12 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
         }
 
         if (shouldShow) {
-            if (permanentZoneManager.clearMapHidden(player.getUniqueId())) {
+            if (permanentZoneManager.clearMapHidden(slot)) {
                 plugin.getMapIntegration().showPlayerOnMap(player);
             }
         } else {
-            if (!permanentZoneManager.isMapHidden(player.getUniqueId())) {
-                permanentZoneManager.markMapHidden(player.getUniqueId());
+            if (!permanentZoneManager.isMapHidden(slot)) {
+                permanentZoneManager.markMapHidden(slot);
                 plugin.getMapIntegration().hidePlayerOnMap(player);
             }
         }
@@ -219,25 +238,25 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
             ? Component.text(" while PvP tagged!", NamedTextColor.RED)
             : Component.text(" while carrying resources!", NamedTextColor.RED);
 
+        // Default to the centroid if the ray never re-enters the polygon
+        Location target = new Location(centroid.getWorld(), centroid.getX(), outside.getY(), centroid.getZ());
         for (double step = 1.0; step <= dist + 1; step += 1.0) {
             double x = outside.getX() + dx * step;
             double z = outside.getZ() + dz * step;
             if (zone.contains(new Location(outside.getWorld(), x, 64, z))) {
-                double y = outside.getWorld().getHighestBlockYAt((int) x, (int) z) + 1.0;
-                player.teleport(new Location(outside.getWorld(), x, y, z,
-                    outside.getYaw(), outside.getPitch()));
-                player.sendActionBar(Component.text("You cannot leave ", NamedTextColor.RED)
-                    .append(Component.text(formatZoneName(zone.getName()), NamedTextColor.YELLOW))
-                    .append(reason));
-                return;
+                target = new Location(outside.getWorld(), x, outside.getY(), z, outside.getYaw(), outside.getPitch());
+                break;
             }
         }
 
-        double y = centroid.getWorld().getHighestBlockYAt(centroid) + 1.0;
-        player.teleport(new Location(centroid.getWorld(), centroid.getX(), y, centroid.getZ()));
-        player.sendActionBar(Component.text("You cannot leave ", NamedTextColor.RED)
-            .append(Component.text(formatZoneName(zone.getName()), NamedTextColor.YELLOW))
-            .append(reason));
+        plugin.getEnforcementTeleporter()
+            .teleport(player, target, EnforcementTeleporter.Placement.SURFACE)
+            .thenAccept(result -> {
+                if (result != EnforcementTeleporter.Result.MOVED) return;
+                plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ALERT, Component.text("You cannot leave ", NamedTextColor.RED)
+                    .append(Component.text(formatZoneName(zone.getName()), NamedTextColor.YELLOW))
+                    .append(reason));
+            });
     }
 
     private void onEnter(Player player, PermanentZone zone) {
@@ -247,7 +266,7 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
         if (gsitZoneListener != null) gsitZoneListener.dismountIfSitting(player);
         permanentZoneManager.markMapHidden(player.getUniqueId());
         plugin.getMapIntegration().hidePlayerOnMap(player);
-        player.sendActionBar(
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ZONE,
             Component.text("Entered extraction zone: ", NamedTextColor.DARK_RED)
                 .append(Component.text(formatZoneName(zone.getName()), NamedTextColor.RED))
                 .append(Component.text(" | You cannot leave while carrying resources!", NamedTextColor.DARK_RED))
@@ -262,7 +281,7 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
         if (permanentZoneManager.clearMapHidden(player.getUniqueId())) {
             plugin.getMapIntegration().showPlayerOnMap(player);
         }
-        player.sendActionBar(
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ZONE,
             Component.text("You have left ", NamedTextColor.GRAY)
                 .append(Component.text(formatZoneName(zone.getName()), NamedTextColor.WHITE))
         );
@@ -275,7 +294,7 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
         ItemStack compass = buildCompass(zone, player.getLocation(),
             permanentZoneManager.getActivePoIs(zone));
         player.getInventory().addItem(compass);
-        compassHolders.add(player.getUniqueId());
+        compassHolders.set(playerRegistry.slotOf(player));
         player.sendMessage(Component.text("[Cosmos] ", NamedTextColor.DARK_RED)
             .append(Component.text("You received a ", NamedTextColor.GRAY))
             .append(Component.text("Zone Compass", NamedTextColor.AQUA))
@@ -283,7 +302,7 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
     }
 
     private void removeCompass(Player player) {
-        if (!compassHolders.remove(player.getUniqueId())) return;
+        if (!compassHolders.unset(playerRegistry.slotOf(player))) return;
         ItemStack[] contents = player.getInventory().getContents();
         for (int i = 0; i < contents.length; i++) {
             if (isCosmosCompass(contents[i])) {
@@ -292,8 +311,8 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
         }
     }
 
-    private void updateCompass(Player player, PermanentZone zone) {
-        if (!compassHolders.contains(player.getUniqueId())) return;
+    private void updateCompass(Player player, int slot, PermanentZone zone) {
+        if (!compassHolders.get(slot)) return;
         ItemStack[] contents = player.getInventory().getContents();
         for (int i = 0; i < contents.length; i++) {
             ItemStack item = contents[i];
@@ -501,12 +520,12 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
     }
 
     private boolean hasCosmosCompass(Player player) {
-        UUID uuid = player.getUniqueId();
-        if (compassHolders.contains(uuid)) return true;
-        // Slow path: re-sync set after server restart
+        int slot = playerRegistry.slotOf(player);
+        if (compassHolders.get(slot)) return true;
+        // Slow path: re-sync flag after server restart or rejoin
         for (ItemStack item : player.getInventory().getContents()) {
             if (isCosmosCompass(item)) {
-                compassHolders.add(uuid);
+                compassHolders.set(slot);
                 return true;
             }
         }
@@ -548,11 +567,11 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
         BossBar bar = Bukkit.createBossBar(barTitle, barColor, BarStyle.SOLID);
         bar.setProgress(1.0);
         bar.addPlayer(player);
-        zoneBossBars.put(player.getUniqueId(), bar);
+        zoneBossBars.set(playerRegistry.slotOf(player), bar);
     }
 
     private void removeZoneBossBar(Player player) {
-        BossBar bar = zoneBossBars.remove(player.getUniqueId());
+        BossBar bar = zoneBossBars.remove(playerRegistry.slotOf(player));
         if (bar != null) bar.removePlayer(player);
     }
 
@@ -578,18 +597,17 @@ public class PermanentZonePlayerTask extends BukkitRunnable {
         if (dist < 0.1) { dx = 1; dz = 0; } else { dx /= dist; dz /= dist; }
 
         // Walk outward from centroid in 1-block steps until outside the polygon
+        // Fallback: teleport to centroid (shouldn't happen)
+        Location target = new Location(centroid.getWorld(), centroid.getX(), loc.getY(), centroid.getZ());
         for (double step = dist + 1; step <= dist + 200; step += 1.0) {
             double tx = centroid.getX() + dx * step;
             double tz = centroid.getZ() + dz * step;
             if (!zone.contains(new Location(loc.getWorld(), tx, 64, tz))) {
-                double ty = loc.getWorld().getHighestBlockYAt((int) tx, (int) tz) + 1.0;
-                player.teleport(new Location(loc.getWorld(), tx, ty, tz, loc.getYaw(), loc.getPitch()));
-                return;
+                target = new Location(loc.getWorld(), tx, loc.getY(), tz, loc.getYaw(), loc.getPitch());
+                break;
             }
         }
-        // Fallback: teleport to centroid (shouldn't happen)
-        double ty = centroid.getWorld().getHighestBlockYAt(centroid) + 1.0;
-        player.teleport(new Location(centroid.getWorld(), centroid.getX(), ty, centroid.getZ()));
+        plugin.getEnforcementTeleporter().teleport(player, target, EnforcementTeleporter.Placement.SURFACE);
     }
 
     private static String formatCooldown(long totalSeconds) {
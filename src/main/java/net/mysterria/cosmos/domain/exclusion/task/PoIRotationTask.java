@@ -1,27 +1,34 @@
 package net.mysterria.cosmos.domain.exclusion.task;
 
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
 import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * Runs every 20 ticks (1 second). Checks each permanent zone's PoIs and extraction
  * points, replacing expired ones with fresh ones.
  */
-public class PoIRotationTask extends BukkitRunnable {
+public class PoIRotationTask implements Runnable {
 
+    private final CosmosPlugin plugin;
     private final PermanentZoneManager permanentZoneManager;
 
-    public PoIRotationTask(PermanentZoneManager permanentZoneManager) {
+    public PoIRotationTask(CosmosPlugin plugin, PermanentZoneManager permanentZoneManager) {
+        this.plugin = plugin;
         this.permanentZoneManager = permanentZoneManager;
     }
 
     @Override
     public void run() {
+        permanentZoneManager.flushDeferredMarkers();
+
+        // Each zone rotates on the region that owns its centroid
         for (PermanentZone zone : permanentZoneManager.getAllZones()) {
-            if (!zone.isActive()) continue;
-            permanentZoneManager.rotatePoIs(zone);
-            permanentZoneManager.rotateExtractionPoints(zone);
+            if (!zone.isActive() || zone.getCentroid() == null) continue;
+            plugin.getPlatformScheduler().runAt(zone.getCentroid(), () -> {
+                permanentZoneManager.rotatePoIs(zone);
+                permanentZoneManager.rotateExtractionPoints(zone);
+            });
         }
     }
 }
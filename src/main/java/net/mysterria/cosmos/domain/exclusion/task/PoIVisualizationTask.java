@@ -12,7 +12,6 @@ import org.bukkit.Particle;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.ItemDisplay;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Transformation;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
@@ -33,7 +32,7 @@ import org.joml.Vector3f;
  *   - SOUL_FIRE_FLAME cap at beam top (distinctive teal flame)
  *   - Wide floor disc to mark the landing zone
  */
-public class PoIVisualizationTask extends BukkitRunnable {
+public class PoIVisualizationTask implements Runnable {
 
     private static final Color EP_COLOR = Color.fromRGB(0, 220, 200);
 
@@ -62,7 +61,8 @@ public class PoIVisualizationTask extends BukkitRunnable {
 
     private final CosmosIncursion plugin;
     private final PermanentZoneManager permanentZoneManager;
-    private double ringAngleOffset = 0;
+    // Volatile: advanced on the global tick, read by region threads on Folia
+    private volatile double ringAngleOffset = 0;
     private int cleanupTick = 0;
 
     public PoIVisualizationTask(CosmosIncursion plugin, PermanentZoneManager permanentZoneManager) {
@@ -76,35 +76,18 @@ public class PoIVisualizationTask extends BukkitRunnable {
 
         ringAngleOffset = (ringAngleOffset + Math.PI / 18) % (2 * Math.PI);
 
+        // Each PoI and extraction point is drawn on the region that owns it
         for (PermanentZone zone : permanentZoneManager.getAllZones()) {
             if (!zone.isActive()) continue;
 
             for (PointOfInterest poi : permanentZoneManager.getActivePoIs(zone)) {
-                if (!poi.isActive()) {
-                    permanentZoneManager.removeDisplayEntity(poi.getId());
-                    continue;
-                }
-
-                Location center = poi.getLocation();
-                World world = center.getWorld();
-                if (world == null) continue;
-
-                boolean playerNearby = !world.getNearbyPlayers(center, VIEW_DISTANCE).isEmpty();
-
-                if (playerNearby) {
-                    if (permanentZoneManager.getPoIDisplayEntity(poi.getId()) == null) {
-                        permanentZoneManager.spawnDisplayEntityForPoI(poi);
-                    }
-                    rotateDisplayEntity(permanentZoneManager.getPoIDisplayEntity(poi.getId()));
-                    spawnPoIParticles(poi);
-                } else {
-                    permanentZoneManager.removeDisplayEntity(poi.getId());
-                }
+                if (poi.getLocation().getWorld() == null) continue;
+                plugin.getPlatformScheduler().runAt(poi.getLocation(), () -> visualizePoI(poi));
             }
 
             for (ExtractionPoint ep : permanentZoneManager.getActiveExtractionPoints(zone)) {
                 if (!ep.isActive()) continue;
-                spawnExtractionPointParticles(ep);
+                plugin.getPlatformScheduler().runAt(ep.getLocation(), () -> spawnExtractionPointParticles(ep));
             }
         }
 
@@ -114,6 +97,28 @@ public class PoIVisualizationTask extends BukkitRunnable {
         }
     }
 
+    private void visualizePoI(PointOfInterest poi) {
+        if (!poi.isActive()) {
+            permanentZoneManager.removeDisplayEntity(poi.getId());
+            return;
+        }
+
+        Location center = poi.getLocation();
+        boolean playerNearby = !center.getWorld().getNearbyPlayers(center, VIEW_DISTANCE).isEmpty();
+
+        if (playerNearby) {
+            if (permanentZoneManager.getPoIDisplayEntity(poi.getId()) == null) {
+                permanentZoneManager.spawnDisplayEntityForPoI(poi);
+            }
+            if (!plugin.getLoadGovernor().isDisplayRotationPaused()) {
+                rotateDisplayEntity(permanentZoneManager.getPoIDisplayEntity(poi.getId()));
+            }
+            spawnPoIParticles(poi);
+        } else {
+            permanentZoneManager.removeDisplayEntity(poi.getId());
+        }
+    }
+
     // ── Item display rotation ─────────────────────────────────────────────────────
 
     private void rotateDisplayEntity(Entity entity) {
@@ -141,13 +146,15 @@ public class PoIVisualizationTask extends BukkitRunnable {
         Particle.DustOptions ringDust = new Particle.DustOptions(color, RING_PARTICLE_SIZE);
         Particle.DustOptions beamDust = new Particle.DustOptions(color, BEAM_PARTICLE_SIZE);
         double radius = poi.getExtractionRadius();
+        int pointStep = plugin.getLoadGovernor().particleStep();
+        int beamCount = plugin.getLoadGovernor().scaleParticles(BEAM_COUNT);
 
         // Three stacked horizontal rings — creates a visible cylinder at any elevation
         for (int level = 0; level < RING_LEVELS; level++) {
             double ringY = center.getY() + 0.2 + level * RING_LEVEL_GAP;
             // Alternate rotation direction per level for visual depth
             double angleDir = (level % 2 == 0) ? 1 : -1;
-            for (int i = 0; i < RING_POINTS; i++) {
+            for (int i = 0; i < RING_POINTS; i += pointStep) {
                 double angle = (2 * Math.PI * i / RING_POINTS) + angleDir * ringAngleOffset;
                 double rx = center.getX() + radius * Math.cos(angle);
                 double rz = center.getZ() + radius * Math.sin(angle);
@@ -163,7 +170,7 @@ public class PoIVisualizationTask extends BukkitRunnable {
             double twist = Math.sin((time / 400.0) + h * 0.4) * 0.08;
             world.spawnParticle(Particle.DUST,
                 center.getX() + twist, beamY, center.getZ() + twist,
-                BEAM_COUNT, BEAM_SPREAD, 0.05, BEAM_SPREAD, 0, beamDust);
+                beamCount, BEAM_SPREAD, 0.05, BEAM_SPREAD, 0, beamDust);
         }
 
         // END_ROD sparkle cap — white sparkles at beam top; highly visible even far away
@@ -188,12 +195,14 @@ public class PoIVisualizationTask extends BukkitRunnable {
         Particle.DustOptions ringDust = new Particle.DustOptions(EP_COLOR, RING_PARTICLE_SIZE);
         Particle.DustOptions beamDust = new Particle.DustOptions(EP_COLOR, BEAM_PARTICLE_SIZE);
         double radius = ep.getCaptureRadius();
+        int pointStep = plugin.getLoadGovernor().particleStep();
+        int beamCount = plugin.getLoadGovernor().scaleParticles(BEAM_COUNT);
 
         // Three stacked rings at capture radius — shows exactly where to stand
         for (int level = 0; level < RING_LEVELS; level++) {
             double ringY = center.getY() + 0.2 + level * RING_LEVEL_GAP;
             double angleDir = (level % 2 == 0) ? -1 : 1; // counter-rotation for EP
-            for (int i = 0; i < RING_POINTS; i++) {
+            for (int i = 0; i < RING_POINTS; i += pointStep) {
                 double angle = (2 * Math.PI * i / RING_POINTS) + angleDir * ringAngleOffset;
                 double rx = center.getX() + radius * Math.cos(angle);
                 double rz = center.getZ() + radius * Math.sin(angle);
@@ -205,7 +214,7 @@ public class PoIVisualizationTask extends BukkitRunnable {
         double floorStep = 1.2;
         for (double r = floorStep; r < radius; r += floorStep) {
             int pointsAtRadius = Math.max(6, (int) (2 * Math.PI * r / floorStep));
-            for (int i = 0; i < pointsAtRadius; i++) {
+            for (int i = 0; i < pointsAtRadius; i += pointStep) {
                 double angle = (2 * Math.PI * i / pointsAtRadius) - ringAngleOffset;
                 double fx = center.getX() + r * Math.cos(angle);
                 double fz = center.getZ() + r * Math.sin(angle);
@@ -225,7 +234,7 @@ public class PoIVisualizationTask extends BukkitRunnable {
                 double hz = center.getZ() + 0.45 * Math.sin(helixAngle);
                 world.spawnParticle(Particle.DUST,
                     hx, helixY, hz,
-                    BEAM_COUNT, BEAM_SPREAD * 0.6, 0.05, BEAM_SPREAD * 0.6, 0, beamDust);
+                    beamCount, BEAM_SPREAD * 0.6, 0.05, BEAM_SPREAD * 0.6, 0, beamDust);
             }
         }
 
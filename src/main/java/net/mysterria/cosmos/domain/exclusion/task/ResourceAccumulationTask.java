@@ -2,31 +2,30 @@ package net.mysterria.cosmos.domain.exclusion.task;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
 import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
 import net.mysterria.cosmos.domain.exclusion.model.PlayerResourceBuffer;
 import net.mysterria.cosmos.domain.exclusion.model.PointOfInterest;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
 import net.mysterria.cosmos.domain.incursion.listener.IncursionZoneHorseListener;
-import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
+import net.mysterria.cosmos.toolkit.CosmosScheduler;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.ZoneMembershipPipeline;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-
-import java.util.List;
 
 /**
- * Runs every 20 ticks (1 second). Checks if players inside permanent zones are
+ * Visits each player every 20 ticks (1 second). Checks if players inside permanent zones are
  * standing near an active PoI and credits their resource buffer.
  */
-public class ResourceAccumulationTask extends BukkitRunnable {
+public class ResourceAccumulationTask implements CosmosScheduler.PlayerPhase {
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final PermanentZoneManager permanentZoneManager;
     private final IncursionZoneHorseListener horseListener;
 
-    public ResourceAccumulationTask(CosmosIncursion plugin, PermanentZoneManager permanentZoneManager,
+    public ResourceAccumulationTask(CosmosPlugin plugin, PermanentZoneManager permanentZoneManager,
                                     IncursionZoneHorseListener horseListener) {
         this.plugin = plugin;
         this.permanentZoneManager = permanentZoneManager;
@@ -34,72 +33,49 @@ public class ResourceAccumulationTask extends BukkitRunnable {
     }
 
     @Override
-    public void run() {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.hasMetadata("NPC")) continue;
-            if (player.getGameMode() != GameMode.SURVIVAL && player.getGameMode() != GameMode.ADVENTURE) continue;
-
-            PermanentZone zone = permanentZoneManager.getPlayerZone(player.getUniqueId());
-            if (zone == null) {
-                permanentZoneManager.updatePoIStay(player.getUniqueId(), null);
-                continue;
-            }
-
-            List<PointOfInterest> pois = permanentZoneManager.getActivePoIs(zone);
-            PointOfInterest activePoi = null;
-            for (PointOfInterest poi : pois) {
-                if (!poi.isActive()) continue;
-                if (poi.isPlayerInRange(player.getLocation())) {
-                    activePoi = poi;
-                    break;
-                }
-            }
+    public void tickPlayer(Player player, int slot) {
+        if (player.getGameMode() != GameMode.SURVIVAL && player.getGameMode() != GameMode.ADVENTURE) return;
+        ZoneMembershipPipeline.Frame frame = plugin.getZoneMembership().getFrame();
+        if (!frame.covers(slot, player)) return;
+
+        PermanentZone zone = permanentZoneManager.getPlayerZone(slot);
+        if (zone == null) {
+            permanentZoneManager.updatePoIStay(slot, null);
+            return;
+        }
 
-            permanentZoneManager.updatePoIStay(player.getUniqueId(), activePoi != null ? activePoi.getId() : null);
+        // PoI occupancy was computed off-thread; it may have been depleted since
+        PointOfInterest activePoi = frame.poi(slot);
+        if (activePoi != null && !activePoi.isActive()) {
+            activePoi = null;
+        }
 
-            if (activePoi != null) {
-                double rate = calculateRate(player);
-                double actual = activePoi.consumeResource(rate);
-                if (actual <= 0) continue; // depleted mid-tick, skip
-                PlayerResourceBuffer buffer = permanentZoneManager.getBuffer(player.getUniqueId());
-                boolean wasEmpty = buffer.isEmpty();
-                buffer.add(activePoi.getResourceType(), actual);
-                if (wasEmpty) {
-                    // First resource gain: reveal on live map and dismount horse
-                    if (permanentZoneManager.clearMapHidden(player.getUniqueId())) {
-                        plugin.getMapIntegration().showPlayerOnMap(player);
-                    }
-                    horseListener.cleanupPlayer(player);
+        permanentZoneManager.updatePoIStay(slot, activePoi != null ? activePoi.getId() : null);
+
+        if (activePoi != null) {
+            double rate = calculateRate(slot);
+            double actual = activePoi.consumeResource(rate);
+            if (actual <= 0) return; // depleted mid-tick, skip
+            PlayerResourceBuffer buffer = permanentZoneManager.getBuffer(player.getUniqueId());
+            boolean wasEmpty = buffer.isEmpty();
+            buffer.add(activePoi.getResourceType(), actual);
+            if (wasEmpty) {
+                // First resource gain: reveal on live map and dismount horse
+                if (permanentZoneManager.clearMapHidden(slot)) {
+                    plugin.getMapIntegration().showPlayerOnMap(player);
                 }
-                sendBufferActionBar(player, buffer);
+                horseListener.cleanupPlayer(player);
             }
+            sendBufferActionBar(player, buffer);
         }
     }
 
     /**
      * Calculates the per-second extraction rate based on base config and stay duration.
      */
-    private double calculateRate(Player player) {
-        var config = plugin.getConfigLoader().getConfig();
-        double baseAmount = config.getPermanentZonePoiBaseAmount();
-        int baseInterval = Math.max(1, config.getPermanentZonePoiBaseInterval());
-
-        double baseRate = baseAmount / baseInterval;
-
-        long stayMillis = permanentZoneManager.getPoIStayMillis(player.getUniqueId());
-        int staySeconds = (int) (stayMillis / 1000);
-
-        double bonusAmount = config.getPermanentZonePoiBonusAmount();
-        int bonusInterval = config.getPermanentZonePoiBonusInterval();
-
-        double totalRate = baseRate;
-        if (bonusInterval > 0 && staySeconds >= bonusInterval) {
-            int tiers = staySeconds / bonusInterval;
-            double bonusRate = (bonusAmount * tiers) / baseInterval;
-            totalRate += bonusRate;
-        }
-
-        return totalRate;
+    private double calculateRate(int slot) {
+        int staySeconds = (int) (permanentZoneManager.getPoIStayMillis(slot) / 1000);
+        return plugin.getConfigLoader().getConfig().permanentZonePoiRate(staySeconds);
     }
 
     private void sendBufferActionBar(Player player, PlayerResourceBuffer buffer) {
@@ -109,7 +85,7 @@ public class ResourceAccumulationTask extends BukkitRunnable {
                 .append(Component.text("Silver: " + format(buffer.get(ResourceType.SILVER)), NamedTextColor.GRAY))
                 .append(Component.text(" | ", NamedTextColor.DARK_GRAY))
                 .append(Component.text("Gems: " + format(buffer.get(ResourceType.GEMS)), NamedTextColor.GREEN));
-        player.sendActionBar(msg);
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.RESOURCES, msg);
     }
 
     private String format(double value) {
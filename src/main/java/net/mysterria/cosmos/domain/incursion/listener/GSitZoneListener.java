@@ -10,6 +10,7 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
 import net.mysterria.cosmos.domain.incursion.service.PlayerStateManager;
+import net.mysterria.cosmos.toolkit.HudCompositor;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -23,10 +24,13 @@ public class GSitZoneListener implements Listener {
 
     private final PlayerStateManager playerStateManager;
     private final PermanentZoneManager permanentZoneManager;
+    private final HudCompositor hud;
 
-    public GSitZoneListener(PlayerStateManager playerStateManager, PermanentZoneManager permanentZoneManager) {
+    public GSitZoneListener(PlayerStateManager playerStateManager, PermanentZoneManager permanentZoneManager,
+                            HudCompositor hud) {
         this.playerStateManager = playerStateManager;
         this.permanentZoneManager = permanentZoneManager;
+        this.hud = hud;
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
@@ -35,7 +39,7 @@ public class GSitZoneListener implements Listener {
         if (!(entity instanceof Player player)) return;
         if (isInPvpZone(player)) {
             event.setCancelled(true);
-            player.sendActionBar(DENIED_MSG);
+            hud.actionBar(player, HudCompositor.Slot.ALERT, DENIED_MSG);
         }
     }
 
@@ -45,7 +49,7 @@ public class GSitZoneListener implements Listener {
 
         if (isInPvpZone(player)) {
             event.setCancelled(true);
-            player.sendActionBar(Component.text("You cannot crawl in a PvP zone!", NamedTextColor.RED));
+            hud.actionBar(player, HudCompositor.Slot.ALERT, Component.text("You cannot crawl in a PvP zone!", NamedTextColor.RED));
         }
     }
 
@@ -55,7 +59,7 @@ public class GSitZoneListener implements Listener {
 
         if (isInPvpZone(player)) {
             event.setCancelled(true);
-            player.sendActionBar(Component.text("You cannot crawl in a PvP zone!", NamedTextColor.RED));
+            hud.actionBar(player, HudCompositor.Slot.ALERT, Component.text("You cannot crawl in a PvP zone!", NamedTextColor.RED));
         }
     }
 
@@ -66,12 +70,12 @@ public class GSitZoneListener implements Listener {
 
         if (isInPvpZone(rider)) {
             event.setCancelled(true);
-            rider.sendActionBar(Component.text("You cannot ride players in a PvP zone!", NamedTextColor.RED));
+            hud.actionBar(rider, HudCompositor.Slot.ALERT, Component.text("You cannot ride players in a PvP zone!", NamedTextColor.RED));
             return;
         }
         if (isInPvpZone(target)) {
             event.setCancelled(true);
-            rider.sendActionBar(Component.text("Cannot ride players in a PvP zone!", NamedTextColor.RED));
+            hud.actionBar(rider, HudCompositor.Slot.ALERT, Component.text("Cannot ride players in a PvP zone!", NamedTextColor.RED));
         }
     }
 
@@ -80,7 +84,7 @@ public class GSitZoneListener implements Listener {
      */
     public void dismountIfSitting(Player player) {
         GSitAPI.stopPlayerSit(player, StopReason.PLUGIN);
-        player.sendActionBar(DISMOUNTED_MSG);
+        hud.actionBar(player, HudCompositor.Slot.ALERT, DISMOUNTED_MSG);
     }
 
     private boolean isInPvpZone(Player player) {
@@ -3,8 +3,10 @@ package net.mysterria.cosmos.domain.incursion.listener;
 import io.papermc.paper.event.entity.EntityLungeEvent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.PlayerRegistry;
 import net.mysterria.cosmos.toolkit.towns.TownData;
 import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
 import org.bukkit.Bukkit;
@@ -39,19 +41,22 @@ public class IncursionZoneHorseListener implements Listener {
 
     private static final double HORSE_SPEED = 0.6; // ~3× normal horse speed
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final PermanentZoneManager permanentZoneManager;
 
     /**
      * Player UUID → horse entity UUID (only set while actively riding).
      */
     private final ConcurrentHashMap<UUID, UUID> playerHorses = new ConcurrentHashMap<>();
-    private final Set<UUID> saddleHolders = new HashSet<>();
+    private final PlayerRegistry playerRegistry;
+    private final PlayerRegistry.FlagColumn saddleHolders;
 
-    public IncursionZoneHorseListener(CosmosIncursion plugin,
+    public IncursionZoneHorseListener(CosmosPlugin plugin,
                                       PermanentZoneManager permanentZoneManager) {
         this.plugin = plugin;
         this.permanentZoneManager = permanentZoneManager;
+        this.playerRegistry = plugin.getPlayerRegistry();
+        this.saddleHolders = playerRegistry.flagColumn();
     }
 
     // ── Zone entry / exit helpers (called from ZoneCheckTask) ───────────────────
@@ -60,16 +65,16 @@ public class IncursionZoneHorseListener implements Listener {
      * Give the cosmos saddle to a player on incursion zone entry.
      */
     public void giveSaddle(Player player) {
-        UUID uuid = player.getUniqueId();
-        if (saddleHolders.contains(uuid)) return; // fast path
-        // Slow path: re-sync set after server restart
+        int slot = playerRegistry.slotOf(player);
+        if (saddleHolders.get(slot)) return; // fast path
+        // Slow path: re-sync flag after server restart or rejoin
         if (hasCosmosSaddle(player)) {
-            saddleHolders.add(uuid);
+            saddleHolders.set(slot);
             return;
         }
         ItemStack saddle = buildSaddle();
         player.getInventory().addItem(saddle);
-        saddleHolders.add(uuid);
+        saddleHolders.set(slot);
         player.sendMessage(Component.text("[Cosmos] ", NamedTextColor.DARK_RED)
                 .append(Component.text("You received a ", NamedTextColor.GRAY))
                 .append(Component.text("Zone Saddle", NamedTextColor.GOLD))
@@ -114,7 +119,7 @@ public class IncursionZoneHorseListener implements Listener {
         }
 
         if (playerHorses.containsKey(player.getUniqueId())) {
-            player.sendActionBar(Component.text("You already have an active mount!", NamedTextColor.RED));
+            plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ALERT, Component.text("You already have an active mount!", NamedTextColor.RED));
             return;
         }
 
@@ -147,7 +152,7 @@ public class IncursionZoneHorseListener implements Listener {
         playerHorses.remove(player.getUniqueId());
 
         // Delay removal by 1 tick so the dismount completes cleanly
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        plugin.getPlatformScheduler().runForLater(dismounted, () -> {
             if (!dismounted.isDead()) dismounted.remove();
         }, 1L);
 
@@ -227,7 +232,7 @@ public class IncursionZoneHorseListener implements Listener {
         Entity horse = Bukkit.getEntity(horseId);
         if (horse != null && !horse.isDead()) {
             horse.eject();
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            plugin.getPlatformScheduler().runForLater(horse, () -> {
                 if (!horse.isDead()) horse.remove();
             }, 1L);
         }
@@ -240,7 +245,7 @@ public class IncursionZoneHorseListener implements Listener {
 
     private void summonHorse(Player player, ItemStack saddleItem) {
         saddleItem.setAmount(saddleItem.getAmount() - 1);
-        saddleHolders.remove(player.getUniqueId()); // consumed — allow re-grant on dismount
+        saddleHolders.unset(playerRegistry.slotOf(player)); // consumed — allow re-grant on dismount
 
         Horse horse = (Horse) player.getWorld().spawnEntity(player.getLocation(), EntityType.HORSE);
         horse.setTamed(true);
@@ -259,7 +264,7 @@ public class IncursionZoneHorseListener implements Listener {
         playerHorses.put(player.getUniqueId(), horse.getUniqueId());
         horse.addPassenger(player);
 
-        player.sendActionBar(Component.text("Mount summoned! Dismount to dismiss it.", NamedTextColor.GOLD));
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ALERT, Component.text("Mount summoned! Dismount to dismiss it.", NamedTextColor.GOLD));
     }
 
     private boolean hasAnyTownResources(Player player) {
@@ -284,7 +289,7 @@ public class IncursionZoneHorseListener implements Listener {
     }
 
     private void forceRemoveSaddle(Player player) {
-        saddleHolders.remove(player.getUniqueId());
+        saddleHolders.unset(playerRegistry.slotOf(player));
         ItemStack[] contents = player.getInventory().getContents();
         for (int i = 0; i < contents.length; i++) {
             if (isCosmosSaddle(contents[i])) {
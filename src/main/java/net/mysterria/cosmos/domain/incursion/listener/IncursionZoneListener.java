@@ -9,6 +9,7 @@ import net.mysterria.cosmos.domain.incursion.model.PlayerZoneState;
 import net.mysterria.cosmos.domain.incursion.model.source.ZoneTier;
 import net.mysterria.cosmos.domain.incursion.service.PlayerStateManager;
 import net.mysterria.cosmos.toolkit.CoiToolkit;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -17,13 +18,24 @@ import org.bukkit.event.Listener;
 public class IncursionZoneListener implements Listener {
 
     private final PlayerStateManager playerStateManager;
+    private final PerfMonitor.Timer magicDamageTimer;
 
-    public IncursionZoneListener(PlayerStateManager playerStateManager) {
+    public IncursionZoneListener(PlayerStateManager playerStateManager, PerfMonitor perfMonitor) {
         this.playerStateManager = playerStateManager;
+        this.magicDamageTimer = perfMonitor.timer("listener.incursion-magic-damage");
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onMagicDamage(MagicDamageEvent event) {
+        long start = magicDamageTimer.start();
+        try {
+            normalizeMagicDamage(event);
+        } finally {
+            magicDamageTimer.stop(start);
+        }
+    }
+
+    private void normalizeMagicDamage(MagicDamageEvent event) {
         Player damager = event.getDamager();
         if (damager == null) return;
         if (!(event.getDamaged() instanceof Player damaged)) return;
@@ -1,6 +1,7 @@
 package net.mysterria.cosmos.domain.incursion.model;
 
 import lombok.Getter;
+import net.mysterria.cosmos.toolkit.GameClock;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,7 +24,7 @@ public class IncursionEvent {
 
     public IncursionEvent(long durationMillis) {
         this.eventId = UUID.randomUUID();
-        this.startTime = System.currentTimeMillis();
+        this.startTime = GameClock.millis();
         this.plannedEndTime = startTime + durationMillis;
         this.incursionZones = new ArrayList<>();
         this.countdownRemaining = 0;
@@ -61,14 +62,14 @@ public class IncursionEvent {
      * Check if event should end based on time
      */
     public boolean shouldEnd() {
-        return System.currentTimeMillis() >= plannedEndTime;
+        return GameClock.millis() >= plannedEndTime;
     }
 
     /**
      * Get remaining time in milliseconds
      */
     public long getRemainingTime() {
-        return Math.max(0, plannedEndTime - System.currentTimeMillis());
+        return Math.max(0, plannedEndTime - GameClock.millis());
     }
 
     /**
@@ -6,9 +6,9 @@ import net.mysterria.cosmos.domain.incursion.model.source.ZoneTier;
 import org.bukkit.Location;
 import org.bukkit.World;
 
-import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
 public class IncursionZone {
@@ -31,7 +31,7 @@ public class IncursionZone {
         this.radius = radius;
         this.tier = tier;
         this.active = false;
-        this.playersInside = new HashSet<>();
+        this.playersInside = ConcurrentHashMap.newKeySet();
     }
 
     /** Creates a zone with default DEATH tier (preserves backwards-compatible behavior). */
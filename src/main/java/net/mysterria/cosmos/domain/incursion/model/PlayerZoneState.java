@@ -3,6 +3,7 @@ package net.mysterria.cosmos.domain.incursion.model;
 import lombok.Getter;
 import lombok.Setter;
 import net.mysterria.cosmos.domain.incursion.model.source.PlayerTier;
+import net.mysterria.cosmos.toolkit.GameClock;
 
 import java.util.UUID;
 
@@ -21,7 +22,7 @@ public class PlayerZoneState {
         this.playerId = playerId;
         this.incursionZone = incursionZone;
         this.tier = tier;
-        this.entryTime = System.currentTimeMillis();
+        this.entryTime = GameClock.millis();
         this.safeModeBlocked = true; // Blocked by default when in zone
     }
 
@@ -29,7 +30,7 @@ public class PlayerZoneState {
      * Get time in zone in milliseconds
      */
     public long getTimeInZone() {
-        return System.currentTimeMillis() - entryTime;
+        return GameClock.millis() - entryTime;
     }
 
     /**
@@ -0,0 +1,57 @@
+package net.mysterria.cosmos.domain.incursion.service;
+
+import net.mysterria.cosmos.domain.incursion.model.IncursionEvent;
+import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * What {@link EventManager}'s state transitions do to the live server: broadcasts, zone placement on real
+ * terrain, scheduler tasks and changes to online players, markers and beacon structures.
+ * <p>
+ * The state machine itself (countdown, zone and beacon registration, winner rewards, cooldown) stays in
+ * {@link EventManager}, so a headless implementation can drive the real event cycle.
+ */
+public interface EventEffects {
+
+    /**
+     * Players counted against the minimum for starting an event
+     */
+    int onlinePlayers();
+
+    /**
+     * Broadcast a MiniMessage-formatted message to everyone
+     */
+    void broadcast(String message);
+
+    /**
+     * Find and place this event's zones. Called when the countdown starts; may complete on another thread.
+     */
+    CompletableFuture<List<IncursionZone>> placeZones();
+
+    /**
+     * The event went ACTIVE with its zones and beacons registered and capture states initialized
+     */
+    void eventStarted(IncursionEvent event);
+
+    /**
+     * The event entered ENDING
+     */
+    void eventEnding();
+
+    /**
+     * The event is being cleared, before player states are dropped and zones deactivated
+     */
+    void eventCleared(IncursionEvent event);
+
+    /**
+     * A town won the event by beacon control
+     */
+    void townWon(int townId);
+
+    /**
+     * Stop background workers (plugin disable)
+     */
+    void shutdown();
+}
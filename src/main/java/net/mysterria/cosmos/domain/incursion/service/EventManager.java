@@ -1,56 +1,43 @@
 package net.mysterria.cosmos.domain.incursion.service;
 
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.beacon.service.BeaconManager;
 import net.mysterria.cosmos.config.CosmosConfig;
-import net.mysterria.cosmos.domain.beacon.service.BeaconUIManager;
 import net.mysterria.cosmos.domain.incursion.model.IncursionEvent;
 import net.mysterria.cosmos.domain.incursion.model.source.EventState;
-import net.mysterria.cosmos.domain.incursion.task.ZoneBoundaryParticleTask;
-import net.mysterria.cosmos.toolkit.map.MapIntegration;
-import net.mysterria.cosmos.toolkit.BuffToolkit;
-import net.mysterria.cosmos.domain.beacon.task.BeaconCaptureTask;
+import net.mysterria.cosmos.toolkit.ChunkPrewarmer;
+import net.mysterria.cosmos.toolkit.GameClock;
 import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
-import net.mysterria.cosmos.toolkit.ZonePlacerToolkit;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Incursion event state machine (IDLE, STARTING, ACTIVE, ENDING). Everything a transition does to the
+ * live server goes through {@link EventEffects}.
+ */
 public class EventManager {
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final ZoneManager zoneManager;
     private final BeaconManager beaconManager;
-    private final BuffToolkit buffToolkit;
-    private final MapIntegration mapIntegration;
-    private final BeaconUIManager beaconUIManager;
-    private final CosmosConfig config;
-    private final MiniMessage miniMessage;
+    private final EventEffects effects;
     private final java.util.Set<Integer> announcedMinutes;
     private EventState currentState;
     private IncursionEvent activeEvent;
     private long cooldownEndTime;
-    private BeaconCaptureTask beaconCaptureTask;
-    private ZoneBoundaryParticleTask boundaryParticleTask;
+    private CompletableFuture<List<IncursionZone>> pendingZones;
 
-    public EventManager(CosmosIncursion plugin, ZoneManager zoneManager, BeaconManager beaconManager,
-                        BuffToolkit buffToolkit, MapIntegration mapIntegration,
-                        BeaconUIManager beaconUIManager) {
+    public EventManager(CosmosPlugin plugin, ZoneManager zoneManager, BeaconManager beaconManager,
+                        EventEffects effects) {
         this.plugin = plugin;
         this.zoneManager = zoneManager;
         this.beaconManager = beaconManager;
-        this.buffToolkit = buffToolkit;
-        this.mapIntegration = mapIntegration;
-        this.beaconUIManager = beaconUIManager;
-        this.config = plugin.getConfigLoader().getConfig();
-        this.miniMessage = MiniMessage.miniMessage();
+        this.effects = effects;
         this.currentState = EventState.IDLE;
+        plugin.getMetrics().eventState(currentState.name());
         this.cooldownEndTime = 0;
-        this.beaconCaptureTask = null;
-        this.boundaryParticleTask = null;
         this.announcedMinutes = new java.util.HashSet<>();
     }
 
@@ -71,18 +58,18 @@ public class EventManager {
      */
     private void tickIdle() {
         // Skip auto-start if disabled in config
-        if (!config.isEventAutoStart()) {
+        if (!config().isEventAutoStart()) {
             return;
         }
 
         // Check if still on cooldown
-        if (System.currentTimeMillis() < cooldownEndTime) {
+        if (GameClock.millis() < cooldownEndTime) {
             return;
         }
 
         // Check player count
-        int onlinePlayers = Bukkit.getOnlinePlayers().size();
-        if (onlinePlayers >= config.getMinPlayers()) {
+        int onlinePlayers = effects.onlinePlayers();
+        if (onlinePlayers >= config().getMinPlayers()) {
             startEvent(false);
         }
     }
@@ -97,22 +84,85 @@ public class EventManager {
             return;
         }
 
-        // Tick countdown
-        boolean countdownComplete = activeEvent.tickCountdown();
+        // Register zones as soon as asynchronous generation has finished
+        if (pendingZones != null && pendingZones.isDone() && !applyGeneratedZones()) {
+            return;
+        }
 
-        // Broadcast countdown at specific intervals
-        int remaining = activeEvent.getCountdownRemaining();
-        if (remaining == 60 || remaining == 30 || remaining == 10 || remaining <= 5) {
-            String message = config.getMsgEventStarting().replace("%countdown%", String.valueOf(remaining));
-            broadcastMessage(message);
+        if (activeEvent.getCountdownRemaining() > 0) {
+            // Tick countdown
+            boolean countdownComplete = activeEvent.tickCountdown();
+
+            // Broadcast countdown at specific intervals
+            int remaining = activeEvent.getCountdownRemaining();
+            if (remaining == 60 || remaining == 30 || remaining == 10 || remaining <= 5) {
+                String message = config().getMsgEventStarting().replace("%countdown%", String.valueOf(remaining));
+                broadcastMessage(message);
+            }
+
+            if (countdownComplete && pendingZones != null) {
+                plugin.log("Countdown finished, waiting for zone generation to complete");
+            }
         }
 
-        // Transition to ACTIVE when countdown reaches 0
-        if (countdownComplete) {
+        // Transition to ACTIVE once the countdown is over and zones are registered
+        if (activeEvent.getCountdownRemaining() == 0 && pendingZones == null) {
             transitionTo(EventState.ACTIVE);
         }
     }
 
+    /**
+     * Register the zones produced by the pending generation run
+     * @return false if generation failed and the event was cancelled
+     */
+    private boolean applyGeneratedZones() {
+        List<IncursionZone> incursionZones;
+        try {
+            incursionZones = pendingZones.join();
+        } catch (Exception e) {
+            pendingZones = null;
+            cancelStartingEvent("Exception during zone generation, aborting event: " + e.getMessage(),
+                    "zone generation failed");
+            return false;
+        }
+        pendingZones = null;
+
+        if (incursionZones.isEmpty()) {
+            cancelStartingEvent("Failed to generate any zones, aborting event",
+                    "could not find suitable zone locations");
+            return false;
+        }
+
+        // Register zones
+        zoneManager.clearAllZones();
+        for (IncursionZone incursionZone : incursionZones) {
+            zoneManager.registerZone(incursionZone);
+            activeEvent.addZone(incursionZone);
+        }
+
+        // Generate beacons automatically for all zones
+        beaconManager.generateBeaconsForZones(incursionZones);
+
+        // Load zone and beacon chunks during the remaining countdown so the first arrivals don't stall the tick
+        ChunkPrewarmer prewarmer = plugin.getChunkPrewarmer();
+        for (IncursionZone incursionZone : incursionZones) {
+            prewarmer.pinZone(ChunkPrewarmer.ZONE_PREFIX + incursionZone.getName(), incursionZone.getCenter());
+        }
+        for (var beacon : beaconManager.getAllBeacons()) {
+            prewarmer.pinPoint(ChunkPrewarmer.BEACON_PREFIX + beacon.id(), beacon.location());
+        }
+
+        plugin.log("Registered " + incursionZones.size() + " zones with " + activeEvent.getCountdownRemaining() + "s of countdown left");
+        return true;
+    }
+
+    private void cancelStartingEvent(String logMessage, String reason) {
+        plugin.log(logMessage);
+        broadcastMessage("<red>[Cosmos Incursion]</red> <white>Event cancelled - " + reason + "</white>");
+        activeEvent = null;
+        transitionTo(EventState.IDLE);
+    }
+
     /**
      * ACTIVE state: Event running
      */
@@ -145,7 +195,7 @@ public class EventManager {
 
         for (int threshold : minuteThresholds) {
             if (remainingMinutes == threshold && remainingSeconds >= 58 && !announcedMinutes.contains(threshold)) {
-                String message = config.getMsgEventTimeRemaining()
+                String message = config().getMsgEventTimeRemaining()
                         .replace("%minutes%", String.valueOf(threshold));
                 broadcastMessage(message);
                 announcedMinutes.add(threshold);
@@ -155,7 +205,7 @@ public class EventManager {
 
         // Announce at 30 seconds
         if (remainingMinutes == 0 && remainingSeconds == 30 && !announcedMinutes.contains(0)) {
-            String message = config.getMsgEventTimeRemaining()
+            String message = config().getMsgEventTimeRemaining()
                     .replace("%minutes%", "0")
                     .replace("minutes", "30 seconds");
             broadcastMessage(message);
@@ -182,6 +232,7 @@ public class EventManager {
         plugin.log("Event state transition: " + currentState + " -> " + newState);
         EventState oldState = currentState;
         currentState = newState;
+        plugin.getMetrics().eventState(newState.name());
 
         // Execute transition logic
         switch (newState) {
@@ -193,16 +244,20 @@ public class EventManager {
     }
 
     private void onEnterIdle(EventState fromState) {
+        // Discard a zone generation run that is still in flight
+        if (pendingZones != null) {
+            pendingZones.cancel(false);
+            pendingZones = null;
+        }
+
+        // Let zone and beacon chunks unload again
+        plugin.getChunkPrewarmer().releaseByPrefix(ChunkPrewarmer.ZONE_PREFIX);
+        plugin.getChunkPrewarmer().releaseByPrefix(ChunkPrewarmer.BEACON_PREFIX);
+
         // Cleanup from previous event
         if (activeEvent != null) {
-            // Remove effects from all players still in zones before cleanup
-            plugin.getPlayerStateManager().getAllStates().forEach(state -> {
-                org.bukkit.entity.Player player = plugin.getServer().getPlayer(state.getPlayerId());
-                if (player != null && player.isOnline()) {
-                    plugin.getEffectsToolkit().removeEffects(player);
-                    plugin.log("Removed zone effects from player: " + player.getName());
-                }
-            });
+            // Player effects, markers, tasks and UI go first, while player states are still tracked
+            effects.eventCleared(activeEvent);
 
             // Clear player states
             plugin.getPlayerStateManager().clearAll();
@@ -210,29 +265,6 @@ public class EventManager {
             // Deactivate all zones
             zoneManager.deactivateAllZones();
 
-            // Remove BlueMap markers
-            if (mapIntegration.isAvailable()) {
-                mapIntegration.removeAllZoneMarkers();
-                mapIntegration.removeAllBeaconMarkers();
-            }
-
-            // Stop beacon capture task
-            if (beaconCaptureTask != null) {
-                beaconCaptureTask.cancel();
-                beaconCaptureTask = null;
-                plugin.log("Stopped beacon capture task");
-            }
-
-            // Stop boundary particle task
-            if (boundaryParticleTask != null) {
-                boundaryParticleTask.cancel();
-                boundaryParticleTask = null;
-                plugin.log("Stopped boundary particle task");
-            }
-
-            // Cleanup all UI elements
-            beaconUIManager.cleanupAllUI();
-
             // Calculate winning town from beacon ownership
             if (beaconManager.hasBeacons()) {
                 int winningTownId = beaconManager.getWinningTown();
@@ -240,11 +272,11 @@ public class EventManager {
                     plugin.log("Winning town (most beacon control): " + winningTownId);
 
                     // Award Acting Speed buff to winning town
-                    buffToolkit.awardBuffToTown(winningTownId);
+                    effects.townWon(winningTownId);
 
                     // Deposit per-tier resources to winning town: one reward entry per zone in the event
                     java.util.Map<net.mysterria.cosmos.domain.incursion.model.source.ZoneTier, java.util.Map<net.mysterria.cosmos.domain.exclusion.model.source.ResourceType, Double>> rewardsByTier =
-                            config.getEventWinnerResourcesByTier();
+                            config().getEventWinnerResourcesByTier();
                     java.util.Map<net.mysterria.cosmos.domain.exclusion.model.source.ResourceType, Double> totalReward =
                             new java.util.EnumMap<>(net.mysterria.cosmos.domain.exclusion.model.source.ResourceType.class);
                     for (IncursionZone zone : activeEvent.getIncursionZones()) {
@@ -273,17 +305,13 @@ public class EventManager {
             // Clear auto-generated beacons
             beaconManager.clearAllBeacons();
 
-            // Clear all death penalty cooldowns
-            plugin.getDeathHandler().clearAllCooldowns();
-            plugin.log("Cleared all death penalty cooldowns");
-
             activeEvent = null;
         }
 
         // Start cooldown
         if (fromState == EventState.ENDING) {
-            cooldownEndTime = System.currentTimeMillis() + (config.getCooldownMinutes() * 60_000L);
-            plugin.log("Cooldown started for " + config.getCooldownMinutes() + " minutes");
+            cooldownEndTime = GameClock.millis() + (config().getCooldownMinutes() * 60_000L);
+            plugin.log("Cooldown started for " + config().getCooldownMinutes() + " minutes");
         }
     }
 
@@ -294,42 +322,19 @@ public class EventManager {
             return;
         }
 
-        // Generate zones BEFORE setting the countdown so a generation failure cancels cleanly
-        List<IncursionZone> incursionZones;
+        // Zones are generated asynchronously while the countdown runs; tickStarting registers
+        // them once ready and holds the event at zero if terrain scanning is still in progress
         try {
-            ZonePlacerToolkit placementStrategy = new ZonePlacerToolkit(plugin);
-            int zoneCount = placementStrategy.calculateZoneCount();
-            incursionZones = placementStrategy.generateZones(zoneCount);
+            pendingZones = effects.placeZones();
         } catch (Exception e) {
-            plugin.log("Exception during zone generation, aborting event: " + e.getMessage());
-            broadcastMessage("<red>[Cosmos Incursion]</red> <white>Event cancelled - zone generation failed</white>");
-            activeEvent = null;
-            transitionTo(EventState.IDLE);
+            cancelStartingEvent("Exception during zone generation, aborting event: " + e.getMessage(),
+                    "zone generation failed");
             return;
         }
 
-        if (incursionZones.isEmpty()) {
-            plugin.log("Failed to generate any zones, aborting event");
-            broadcastMessage("<red>[Cosmos Incursion]</red> <white>Event cancelled - could not find suitable zone locations</white>");
-            activeEvent = null;
-            transitionTo(EventState.IDLE);
-            return;
-        }
-
-        // Set countdown only after zones are confirmed
-        activeEvent.setCountdown(config.getCountdownSeconds());
-
-        // Register zones
-        zoneManager.clearAllZones();
-        for (IncursionZone incursionZone : incursionZones) {
-            zoneManager.registerZone(incursionZone);
-            activeEvent.addZone(incursionZone);
-        }
-
-        // Generate beacons automatically for all zones
-        beaconManager.generateBeaconsForZones(incursionZones);
+        activeEvent.setCountdown(config().getCountdownSeconds());
 
-        plugin.log("Event starting with " + incursionZones.size() + " zones, " + config.getCountdownSeconds() + "s countdown");
+        plugin.log("Event starting, generating zones during " + config().getCountdownSeconds() + "s countdown");
     }
 
     private void onEnterActive() {
@@ -353,24 +358,16 @@ public class EventManager {
         // Activate all zones
         zoneManager.activateAllZones();
 
-        // Handle players who are already inside zones when event starts
-        handleExistingPlayersInZones();
-
-        // Create BlueMap markers for all zones
-        if (mapIntegration.isAvailable()) {
-            for (IncursionZone incursionZone : activeEvent.getIncursionZones()) {
-                mapIntegration.createZoneMarker(incursionZone);
-            }
-
-            // Create BlueMap markers for all beacons
-            double captureRadius = config.getBeaconCaptureRadius();
-            for (var beacon : beaconManager.getAllBeacons()) {
-                mapIntegration.createBeaconMarker(beacon, captureRadius);
-            }
+        // Initialize beacon capture states
+        if (beaconManager.hasBeacons()) {
+            beaconManager.initializeCaptureStates();
         }
 
+        // Move players out of the zones, create markers, start capture and particle tasks, build beacons
+        effects.eventStarted(activeEvent);
+
         // Broadcast event started
-        String message = config.getMsgEventStarted()
+        String message = config().getMsgEventStarted()
                 .replace("%zones%", String.valueOf(activeEvent.getIncursionZones().size()));
         broadcastMessage(message);
 
@@ -388,45 +385,15 @@ public class EventManager {
             broadcastMessage(coordMessage);
         }
 
-        // Initialize beacon capture states
-        if (beaconManager.hasBeacons()) {
-            beaconManager.initializeCaptureStates();
-
-            // Start beacon capture task (runs every second)
-            beaconCaptureTask = new BeaconCaptureTask(plugin, beaconManager, beaconUIManager);
-            beaconCaptureTask.runTaskTimer(plugin, 0L, 20L);
-
-            plugin.log("Started beacon capture task for " + beaconManager.getBeaconCount() + " beacons");
-
-            // Initialize UI systems
-            beaconUIManager.initializeEventUI();
-
-            // Create physical beacons
-            for (var beacon : beaconManager.getAllBeacons()) {
-                beaconUIManager.createPhysicalBeacon(beacon);
-            }
-        }
-
-        // Start zone boundary particle task
-        if (config.isZoneBoundaryParticlesEnabled()) {
-            long particleInterval = config.getZoneBoundaryParticleUpdateTicks();
-            boundaryParticleTask = new ZoneBoundaryParticleTask(plugin, zoneManager);
-            boundaryParticleTask.runTaskTimer(plugin, 0L, particleInterval);
-            plugin.log("Started zone boundary particle task");
-        }
-
         plugin.log("Event is now ACTIVE");
     }
 
     private void onEnterEnding() {
         // Broadcast ending message
-        broadcastMessage(config.getMsgEventEnding());
+        broadcastMessage(config().getMsgEventEnding());
 
         // Despawn all remaining Hollow Body NPCs
-        if (plugin.getCitizensToolkit() != null && plugin.getCitizensToolkit().isAvailable()) {
-            plugin.getCitizensToolkit().despawnAllHollowBodies();
-            plugin.log("Despawned all remaining Hollow Body NPCs");
-        }
+        effects.eventEnding();
 
         // Territory rewards are handled via beacon ownership in onEnterIdle()
         // The winning town (most beacon control time) receives the Acting Speed buff
@@ -444,20 +411,20 @@ public class EventManager {
         }
 
         // Check cooldown (unless forced)
-        if (!forced && System.currentTimeMillis() < cooldownEndTime) {
-            long remainingMinutes = (cooldownEndTime - System.currentTimeMillis()) / 60_000L;
+        if (!forced && GameClock.millis() < cooldownEndTime) {
+            long remainingMinutes = (cooldownEndTime - GameClock.millis()) / 60_000L;
             plugin.log("Cannot start event - cooldown active for " + remainingMinutes + " more minutes");
             return false;
         }
 
         // Check player count (unless forced)
-        if (!forced && Bukkit.getOnlinePlayers().size() < config.getMinPlayers()) {
+        if (!forced && effects.onlinePlayers() < config().getMinPlayers()) {
             plugin.log("Cannot start event - not enough players online");
             return false;
         }
 
         // Create new event
-        long durationMillis = config.getDurationMinutes() * 60_000L;
+        long durationMillis = config().getDurationMinutes() * 60_000L;
         activeEvent = new IncursionEvent(durationMillis);
 
         // Transition to STARTING
@@ -491,41 +458,21 @@ public class EventManager {
     }
 
     /**
-     * Handle players who are already inside zones when the event activates
+     * Broadcast a message to all players
      */
-    private void handleExistingPlayersInZones() {
-        for (org.bukkit.entity.Player player : Bukkit.getOnlinePlayers()) {
-            // Skip Citizens NPCs (they have "NPC" metadata)
-            if (player.hasMetadata("NPC")) {
-                continue;
-            }
-
-            IncursionZone zone = zoneManager.getZoneAt(player.getLocation());
-
-            if (zone != null) {
-                // Player is inside a zone that just activated
-                // Teleport them just outside the zone boundary
-                Location safeLocation = zoneManager.findSafeLocationOutsideZone(player.getLocation(), zone);
-
-                if (safeLocation != null) {
-                    player.teleport(safeLocation);
-                    player.sendMessage(miniMessage.deserialize(
-                            "<red>[Cosmos Incursion]</red> <white>An incursion zone has appeared! You've been moved to safety.</white>"
-                    ));
-                    player.sendMessage(miniMessage.deserialize(
-                            "<gray>You must consent to the zone rules before entering. Approach the zone to see the agreement.</gray>"
-                    ));
-                }
-            }
-        }
+    private void broadcastMessage(String message) {
+        effects.broadcast(message);
     }
 
     /**
-     * Broadcast a message to all players
+     * Stop background workers (called on plugin disable)
      */
-    private void broadcastMessage(String message) {
-        Component component = miniMessage.deserialize(message);
-        Bukkit.getServer().sendMessage(component);
+    public void shutdown() {
+        if (pendingZones != null) {
+            pendingZones.cancel(false);
+            pendingZones = null;
+        }
+        effects.shutdown();
     }
 
     /**
@@ -546,10 +493,13 @@ public class EventManager {
      * Get remaining cooldown in seconds
      */
     public long getRemainingCooldownSeconds() {
-        if (System.currentTimeMillis() >= cooldownEndTime) {
+        if (GameClock.millis() >= cooldownEndTime) {
             return 0;
         }
-        return (cooldownEndTime - System.currentTimeMillis()) / 1000L;
+        return (cooldownEndTime - GameClock.millis()) / 1000L;
     }
 
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
@@ -0,0 +1,227 @@
+package net.mysterria.cosmos.domain.incursion.service;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.config.CosmosConfig;
+import net.mysterria.cosmos.domain.beacon.service.BeaconManager;
+import net.mysterria.cosmos.domain.beacon.service.BeaconUIManager;
+import net.mysterria.cosmos.domain.beacon.task.BeaconCaptureTask;
+import net.mysterria.cosmos.domain.incursion.model.IncursionEvent;
+import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
+import net.mysterria.cosmos.domain.incursion.task.ZoneBoundaryParticleTask;
+import net.mysterria.cosmos.toolkit.BuffToolkit;
+import net.mysterria.cosmos.toolkit.EnforcementTeleporter;
+import net.mysterria.cosmos.toolkit.PlatformScheduler;
+import net.mysterria.cosmos.toolkit.ZonePlacerToolkit;
+import net.mysterria.cosmos.toolkit.map.MapIntegration;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link EventEffects} on the running server
+ */
+public class LiveEventEffects implements EventEffects {
+
+    private final CosmosIncursion plugin;
+    private final ZoneManager zoneManager;
+    private final BeaconManager beaconManager;
+    private final BuffToolkit buffToolkit;
+    private final MapIntegration mapIntegration;
+    private final BeaconUIManager beaconUIManager;
+    private final MiniMessage miniMessage;
+    private final ZonePlacerToolkit zonePlacer;
+    private PlatformScheduler.Task beaconCaptureTask;
+    private PlatformScheduler.Task boundaryParticleTask;
+
+    public LiveEventEffects(CosmosIncursion plugin, ZoneManager zoneManager, BeaconManager beaconManager,
+                            BuffToolkit buffToolkit, MapIntegration mapIntegration,
+                            BeaconUIManager beaconUIManager) {
+        this.plugin = plugin;
+        this.zoneManager = zoneManager;
+        this.beaconManager = beaconManager;
+        this.buffToolkit = buffToolkit;
+        this.mapIntegration = mapIntegration;
+        this.beaconUIManager = beaconUIManager;
+        this.miniMessage = MiniMessage.miniMessage();
+        this.zonePlacer = new ZonePlacerToolkit(plugin);
+    }
+
+    @Override
+    public int onlinePlayers() {
+        return Bukkit.getOnlinePlayers().size();
+    }
+
+    @Override
+    public void broadcast(String message) {
+        Component component = miniMessage.deserialize(message);
+        Bukkit.getServer().sendMessage(component);
+    }
+
+    @Override
+    public CompletableFuture<List<IncursionZone>> placeZones() {
+        int zoneCount = zonePlacer.calculateZoneCount();
+        return zonePlacer.generateZones(zoneCount);
+    }
+
+    @Override
+    public void eventStarted(IncursionEvent event) {
+        // Handle players who are already inside zones when event starts
+        handleExistingPlayersInZones();
+
+        // Create BlueMap markers for all zones
+        if (mapIntegration.isAvailable()) {
+            for (IncursionZone incursionZone : event.getIncursionZones()) {
+                mapIntegration.createZoneMarker(incursionZone);
+            }
+
+            // Create BlueMap markers for all beacons
+            double captureRadius = config().getBeaconCaptureRadius();
+            for (var beacon : beaconManager.getAllBeacons()) {
+                mapIntegration.createBeaconMarker(beacon, captureRadius);
+            }
+        }
+
+        if (beaconManager.hasBeacons()) {
+            // Start beacon capture task (runs every second)
+            beaconCaptureTask = plugin.getCosmosScheduler()
+                    .every("beacon-capture", 20L, new BeaconCaptureTask(plugin, beaconManager, beaconUIManager));
+
+            plugin.log("Started beacon capture task for " + beaconManager.getBeaconCount() + " beacons");
+
+            // Initialize UI systems
+            beaconUIManager.initializeEventUI();
+
+            // Create physical beacons
+            for (var beacon : beaconManager.getAllBeacons()) {
+                beaconUIManager.createPhysicalBeacon(beacon);
+            }
+        }
+
+        // Start zone boundary particle task
+        if (config().isZoneBoundaryParticlesEnabled()) {
+            long particleInterval = config().getZoneBoundaryParticleUpdateTicks();
+            boundaryParticleTask = plugin.getCosmosScheduler()
+                    .every("zone-boundary-particles", particleInterval,
+                            plugin.getLoadGovernor().cosmetic(new ZoneBoundaryParticleTask(plugin, zoneManager)));
+            plugin.log("Started zone boundary particle task");
+        }
+    }
+
+    @Override
+    public void eventEnding() {
+        // Despawn all remaining Hollow Body NPCs
+        if (plugin.getCitizensToolkit() != null && plugin.getCitizensToolkit().isAvailable()) {
+            plugin.getCitizensToolkit().despawnAllHollowBodies();
+            plugin.log("Despawned all remaining Hollow Body NPCs");
+        }
+    }
+
+    @Override
+    public void eventCleared(IncursionEvent event) {
+        // Remove effects from all players still in zones, each on the player's own thread
+        plugin.getPlayerStateManager().getAllStates().forEach(state -> {
+            Player player = plugin.getServer().getPlayer(state.getPlayerId());
+            if (player != null && player.isOnline()) {
+                plugin.getPlatformScheduler().runFor(player, () -> {
+                    plugin.getEffectsToolkit().removeEffects(player);
+                    plugin.log("Removed zone effects from player: " + player.getName());
+                });
+            }
+        });
+
+        // Remove BlueMap markers
+        if (mapIntegration.isAvailable()) {
+            mapIntegration.removeAllZoneMarkers();
+            mapIntegration.removeAllBeaconMarkers();
+        }
+
+        // Stop beacon capture task
+        if (beaconCaptureTask != null) {
+            beaconCaptureTask.cancel();
+            beaconCaptureTask = null;
+            plugin.log("Stopped beacon capture task");
+        }
+
+        // Stop boundary particle task
+        if (boundaryParticleTask != null) {
+            boundaryParticleTask.cancel();
+            boundaryParticleTask = null;
+            plugin.log("Stopped boundary particle task");
+        }
+
+        // Cleanup all UI elements
+        beaconUIManager.cleanupAllUI();
+
+        // Clear all death penalty cooldowns
+        plugin.getDeathHandler().clearAllCooldowns();
+        plugin.log("Cleared all death penalty cooldowns");
+    }
+
+    @Override
+    public void townWon(int townId) {
+        // Award Acting Speed buff to winning town
+        buffToolkit.awardBuffToTown(townId);
+    }
+
+    @Override
+    public void shutdown() {
+        zonePlacer.shutdown();
+    }
+
+    /**
+     * Get the zone placer (owns the background candidate pool)
+     */
+    public ZonePlacerToolkit getZonePlacer() {
+        return zonePlacer;
+    }
+
+    /**
+     * Handle players who are already inside zones when the event activates.
+     * Each player is checked on their own thread, since their location can only be read there on Folia.
+     */
+    private void handleExistingPlayersInZones() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            // Skip Citizens NPCs (they have "NPC" metadata)
+            if (player.hasMetadata("NPC")) {
+                continue;
+            }
+            plugin.getPlatformScheduler().runFor(player, () -> moveOutOfNewZone(player));
+        }
+    }
+
+    private void moveOutOfNewZone(Player player) {
+        IncursionZone zone = zoneManager.getZoneAt(player.getLocation());
+        if (zone == null) {
+            return;
+        }
+
+        // Player is inside a zone that just activated
+        // Teleport them just outside the zone boundary
+        Location target = zoneManager.pointOutsideZone(player.getLocation(), zone);
+
+        EnforcementTeleporter teleporter = plugin.getEnforcementTeleporter();
+        teleporter.teleport(player, target, EnforcementTeleporter.Placement.NEAREST_GROUND)
+                // No ground near the player's height (cliffs, caves) - fall back to the surface
+                .thenCompose(result -> result == EnforcementTeleporter.Result.NO_SAFE_SPOT
+                        ? teleporter.teleport(player, target, EnforcementTeleporter.Placement.SURFACE)
+                        : CompletableFuture.completedFuture(result))
+                .thenAccept(result -> {
+                    if (result != EnforcementTeleporter.Result.MOVED) return;
+                    player.sendMessage(miniMessage.deserialize(
+                            "<red>[Cosmos Incursion]</red> <white>An incursion zone has appeared! You've been moved to safety.</white>"
+                    ));
+                    player.sendMessage(miniMessage.deserialize(
+                            "<gray>You must consent to the zone rules before entering. Approach the zone to see the agreement.</gray>"
+                    ));
+                });
+    }
+
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
+}
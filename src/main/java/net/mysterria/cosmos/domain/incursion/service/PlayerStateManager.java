@@ -1,10 +1,11 @@
 package net.mysterria.cosmos.domain.incursion.service;
 
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.domain.incursion.model.PlayerZoneState;
 import net.mysterria.cosmos.domain.incursion.model.source.PlayerTier;
 import net.mysterria.cosmos.toolkit.CoiToolkit;
+import net.mysterria.cosmos.toolkit.GameClock;
 import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
 import org.bukkit.entity.Player;
 
@@ -15,35 +16,42 @@ public class PlayerStateManager {
 
     public static final long INCURSION_DEATH_COOLDOWN_MS = 3_600_000L; // 1 hour
 
-    private final CosmosIncursion plugin;
-    private final CosmosConfig config;
+    private final CosmosPlugin plugin;
     private final Map<UUID, PlayerZoneState> playerStates;
     private final Map<UUID, Long> incursionDeathTimes = new ConcurrentHashMap<>();
 
-    public PlayerStateManager(CosmosIncursion plugin) {
+    public PlayerStateManager(CosmosPlugin plugin) {
         this.plugin = plugin;
-        this.config = plugin.getConfigLoader().getConfig();
         this.playerStates = new ConcurrentHashMap<>();
     }
 
     public void recordIncursionDeath(UUID playerId) {
-        incursionDeathTimes.put(playerId, System.currentTimeMillis());
+        long now = GameClock.millis();
+        incursionDeathTimes.put(playerId, now);
+        plugin.getExpiryService().schedule(INCURSION_DEATH_COOLDOWN_MS, () -> incursionDeathTimes.remove(playerId, now));
     }
 
     public boolean isOnIncursionDeathCooldown(UUID playerId) {
         Long time = incursionDeathTimes.get(playerId);
         if (time == null) return false;
-        return System.currentTimeMillis() - time < INCURSION_DEATH_COOLDOWN_MS;
+        return GameClock.millis() - time < INCURSION_DEATH_COOLDOWN_MS;
     }
 
     /** Returns remaining cooldown in seconds (0 if not on cooldown). */
     public long getIncursionCooldownRemainingSeconds(UUID playerId) {
         Long time = incursionDeathTimes.get(playerId);
         if (time == null) return 0;
-        long remaining = INCURSION_DEATH_COOLDOWN_MS - (System.currentTimeMillis() - time);
+        long remaining = INCURSION_DEATH_COOLDOWN_MS - (GameClock.millis() - time);
         return Math.max(0, remaining / 1000);
     }
 
+    /**
+     * Number of players whose incursion death cooldown has not expired yet
+     */
+    public int getIncursionDeathCooldownCount() {
+        return incursionDeathTimes.size();
+    }
+
     /**
      * Register a player entering a zone
      */
@@ -138,8 +146,8 @@ public class PlayerStateManager {
         int sequence = CoiToolkit.getBeyonderSequence(player);
 
         // Spirit Weight applies to sequences 4-5
-        if (sequence >= config.getSpiritWeightMinSequence() &&
-            sequence <= config.getSpiritWeightMaxSequence()) {
+        if (sequence >= config().getSpiritWeightMinSequence() &&
+            sequence <= config().getSpiritWeightMaxSequence()) {
             return PlayerTier.SPIRIT_WEIGHT;
         }
 
@@ -147,4 +155,7 @@ public class PlayerStateManager {
         return PlayerTier.INSIGNIFICANT;
     }
 
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
@@ -1,7 +1,9 @@
 package net.mysterria.cosmos.domain.incursion.service;
 
-import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.CosmosPlugin;
 import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
+import net.mysterria.cosmos.toolkit.CosmosMetrics;
+import net.mysterria.cosmos.toolkit.jfr.ZoneTransitionEvent;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
@@ -10,11 +12,11 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class ZoneManager {
 
-    private final CosmosIncursion plugin;
+    private final CosmosPlugin plugin;
     private final Map<UUID, IncursionZone> zones;
     private final Map<UUID, IncursionZone> playerZoneMap; // Quick lookup: which zone is a player in?
 
-    public ZoneManager(CosmosIncursion plugin) {
+    public ZoneManager(CosmosPlugin plugin) {
         this.plugin = plugin;
         this.zones = new ConcurrentHashMap<>();
         this.playerZoneMap = new ConcurrentHashMap<>();
@@ -25,6 +27,7 @@ public class ZoneManager {
      */
     public void registerZone(IncursionZone incursionZone) {
         zones.put(incursionZone.getId(), incursionZone);
+        plugin.getMetrics().zoneTier(CosmosMetrics.INCURSION, incursionZone.getName(), incursionZone.getTier().name());
         plugin.log("Registered zone: " + incursionZone.getName() + " at " +
                    String.format("(%.0f, %.0f, %.0f) with radius %.0f",
                            incursionZone.getCenter().getX(),
@@ -41,6 +44,7 @@ public class ZoneManager {
         if (incursionZone != null) {
             // Remove all players from this zone
             incursionZone.getPlayersInside().forEach(playerZoneMap::remove);
+            plugin.getMetrics().zoneRemoved(CosmosMetrics.INCURSION, incursionZone.getName());
             plugin.log("Unregistered zone: " + incursionZone.getName());
         }
     }
@@ -115,11 +119,17 @@ public class ZoneManager {
         // Remove from old zone
         if (oldIncursionZone != null) {
             oldIncursionZone.removePlayer(playerId);
+            plugin.getMetrics().zoneLeft(CosmosMetrics.INCURSION, oldIncursionZone.getName());
+            ZoneTransitionEvent.record(CosmosMetrics.INCURSION, oldIncursionZone.getName(),
+                    oldIncursionZone.getTier().name(), player.getName(), false);
         }
 
         // Add to new zone
         if (newIncursionZone != null) {
             newIncursionZone.addPlayer(playerId);
+            plugin.getMetrics().zoneEntered(CosmosMetrics.INCURSION, newIncursionZone.getName());
+            ZoneTransitionEvent.record(CosmosMetrics.INCURSION, newIncursionZone.getName(),
+                    newIncursionZone.getTier().name(), player.getName(), true);
             playerZoneMap.put(playerId, newIncursionZone);
         } else {
             playerZoneMap.remove(playerId);
@@ -144,6 +154,7 @@ public class ZoneManager {
             zone.getPlayersInside().clear();
         });
         playerZoneMap.clear();
+        plugin.getMetrics().zonesEmptied(CosmosMetrics.INCURSION);
         plugin.log("Deactivated all zones");
     }
 
@@ -152,6 +163,7 @@ public class ZoneManager {
      */
     public void clearAllZones() {
         deactivateAllZones();
+        zones.values().forEach(zone -> plugin.getMetrics().zoneRemoved(CosmosMetrics.INCURSION, zone.getName()));
         zones.clear();
         plugin.log("Cleared all zones");
     }
@@ -185,6 +197,29 @@ public class ZoneManager {
      * from the zone center through {@code fromLoc}, then dropped/raised onto solid ground.
      */
     public Location findSafeLocationOutsideZone(Location fromLoc, IncursionZone zone) {
+        Location safeLoc = pointOutsideZone(fromLoc, zone);
+
+        org.bukkit.World world = safeLoc.getWorld();
+        if (world != null) {
+            // Move up if in ground
+            while (safeLoc.getY() < 256 && !world.getBlockAt(safeLoc).isPassable()) {
+                safeLoc.add(0, 1, 0);
+            }
+
+            // Move down if in air
+            while (safeLoc.getY() > 0 && world.getBlockAt(safeLoc.clone().subtract(0, 1, 0)).isPassable()) {
+                safeLoc.subtract(0, 1, 0);
+            }
+        }
+
+        return safeLoc;
+    }
+
+    /**
+     * The point 5 blocks outside a zone boundary, radially outward from the center through
+     * {@code fromLoc}, at {@code fromLoc}'s height. Does not touch the world.
+     */
+    public Location pointOutsideZone(Location fromLoc, IncursionZone zone) {
         Location center = zone.getCenter();
         double radius = zone.getRadius();
 
@@ -202,23 +237,9 @@ public class ZoneManager {
             dz *= scale;
         }
 
-        Location safeLoc = center.clone().add(dx, 0, dz);
-        safeLoc.setY(fromLoc.getY());
-
-        org.bukkit.World world = safeLoc.getWorld();
-        if (world != null) {
-            // Move up if in ground
-            while (safeLoc.getY() < 256 && !world.getBlockAt(safeLoc).isPassable()) {
-                safeLoc.add(0, 1, 0);
-            }
-
-            // Move down if in air
-            while (safeLoc.getY() > 0 && world.getBlockAt(safeLoc.clone().subtract(0, 1, 0)).isPassable()) {
-                safeLoc.subtract(0, 1, 0);
-            }
-        }
-
-        return safeLoc;
+        Location point = center.clone().add(dx, 0, dz);
+        point.setY(fromLoc.getY());
+        return point;
     }
 
 }
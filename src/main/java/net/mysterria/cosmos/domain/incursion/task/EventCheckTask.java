@@ -1,9 +1,8 @@
 package net.mysterria.cosmos.domain.incursion.task;
 
 import net.mysterria.cosmos.domain.incursion.service.EventManager;
-import org.bukkit.scheduler.BukkitRunnable;
 
-public class EventCheckTask extends BukkitRunnable {
+public class EventCheckTask implements Runnable {
 
     private final EventManager eventManager;
 
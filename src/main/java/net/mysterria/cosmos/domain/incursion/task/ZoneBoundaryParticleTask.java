@@ -7,7 +7,6 @@ import net.mysterria.cosmos.domain.incursion.service.ZoneManager;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Collection;
 
@@ -15,21 +14,22 @@ import java.util.Collection;
  * Spawns particles around zone boundaries for visual indication
  * Only shows particles to nearby players for performance
  */
-public class ZoneBoundaryParticleTask extends BukkitRunnable {
+public class ZoneBoundaryParticleTask implements Runnable {
 
+    private final CosmosIncursion plugin;
     private final ZoneManager zoneManager;
-    private final CosmosConfig config;
 
     // Rotate angle for animated effect
     private double angleOffset = 0;
 
     public ZoneBoundaryParticleTask(CosmosIncursion plugin, ZoneManager zoneManager) {
+        this.plugin = plugin;
         this.zoneManager = zoneManager;
-        this.config = plugin.getConfigLoader().getConfig();
     }
 
     @Override
     public void run() {
+        CosmosConfig config = config();
         if (!config.isZoneBoundaryParticlesEnabled()) {
             return;
         }
@@ -45,19 +45,21 @@ public class ZoneBoundaryParticleTask extends BukkitRunnable {
             angleOffset = 0;
         }
 
-        // Process each active zone
+        // Process each active zone on the region that owns its center
+        double angle = angleOffset;
         for (IncursionZone zone : activeZones) {
-            spawnBoundaryParticles(zone);
+            plugin.getPlatformScheduler().runAt(zone.getCenter(), () -> spawnBoundaryParticles(zone, angle, config));
         }
     }
 
     /**
      * Spawn particles around a zone's boundary
      */
-    private void spawnBoundaryParticles(IncursionZone zone) {
+    private void spawnBoundaryParticles(IncursionZone zone, double angleOffset, CosmosConfig config) {
         Location center = zone.getCenter();
         double radius = zone.getRadius();
         double viewDistance = config.getZoneBoundaryParticleViewDistance();
+        double viewDistanceSquared = config.getZoneBoundaryParticleViewDistanceSquared();
 
         // Get nearby players who can see these particles
         Collection<Player> nearbyPlayers = center.getWorld().getNearbyPlayers(center, radius + viewDistance);
@@ -69,15 +71,12 @@ public class ZoneBoundaryParticleTask extends BukkitRunnable {
         int pointCount = (int) (radius / 2); // 1 point every 2 blocks (increased from 5)
         pointCount = Math.max(32, Math.min(pointCount, 128)); // Between 32 and 128 points
 
-        // Derive particle color from zone tier config
-        CosmosConfig.ZoneTierConfig tierCfg = config.getTierConfigs().get(zone.getTier());
-        Particle.DustOptions dustOptions = new Particle.DustOptions(
-                org.bukkit.Color.fromRGB(tierCfg.particleR(), tierCfg.particleG(), tierCfg.particleB()),
-                2.0f
-        );
+        // Particle color from the zone tier, built once per config load
+        Particle.DustOptions dustOptions = config.tierBoundaryDust(zone.getTier());
 
-        // Spawn particles in a circle with multiple height levels
-        for (int i = 0; i < pointCount; i++) {
+        // Spawn particles in a circle with multiple height levels (sparser while the load governor reduces particles)
+        int pointStep = plugin.getLoadGovernor().particleStep();
+        for (int i = 0; i < pointCount; i += pointStep) {
             double angle = (2 * Math.PI * i / pointCount) + angleOffset;
             double x = center.getX() + radius * Math.cos(angle);
             double z = center.getZ() + radius * Math.sin(angle);
@@ -93,7 +92,7 @@ public class ZoneBoundaryParticleTask extends BukkitRunnable {
                 // Only show to nearby players (client-side rendering)
                 for (Player player : nearbyPlayers) {
                     // Check if player is close enough to see this specific particle
-                    if (player.getLocation().distance(particleLocation) <= viewDistance) {
+                    if (player.getLocation().distanceSquared(particleLocation) <= viewDistanceSquared) {
                         player.spawnParticle(
                                 Particle.DUST,
                                 particleLocation,
@@ -108,4 +107,7 @@ public class ZoneBoundaryParticleTask extends BukkitRunnable {
         }
     }
 
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
@@ -0,0 +1,30 @@
+package net.mysterria.cosmos.domain.incursion.task;
+
+import net.mysterria.cosmos.domain.incursion.model.source.EventState;
+import net.mysterria.cosmos.domain.incursion.service.EventManager;
+import net.mysterria.cosmos.toolkit.ZoneCandidatePool;
+
+/**
+ * Drives the background zone candidate scanner every tick.
+ * New scans only start while no event is running; the pool enforces its own time budget.
+ */
+public class ZoneCandidateScanTask implements Runnable {
+
+    private final EventManager eventManager;
+    private final ZoneCandidatePool candidatePool;
+
+    public ZoneCandidateScanTask(EventManager eventManager, ZoneCandidatePool candidatePool) {
+        this.eventManager = eventManager;
+        this.candidatePool = candidatePool;
+    }
+
+    @Override
+    public void run() {
+        try {
+            candidatePool.tick(eventManager.getState() == EventState.IDLE);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+}
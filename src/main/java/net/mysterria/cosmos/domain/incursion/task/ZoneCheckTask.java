@@ -7,6 +7,10 @@ import net.kyori.adventure.title.Title;
 import net.mysterria.cosmos.CosmosIncursion;
 import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.toolkit.EffectsToolkit;
+import net.mysterria.cosmos.toolkit.EnforcementTeleporter;
+import net.mysterria.cosmos.toolkit.HudCompositor;
+import net.mysterria.cosmos.toolkit.PlayerRegistry;
+import net.mysterria.cosmos.toolkit.ZoneMembershipPipeline;
 import net.mysterria.cosmos.domain.incursion.service.EventManager;
 import net.mysterria.cosmos.domain.incursion.model.source.EventState;
 import net.mysterria.cosmos.domain.incursion.service.PlayerStateManager;
@@ -16,27 +20,29 @@ import net.mysterria.cosmos.domain.incursion.service.ZoneManager;
 import net.mysterria.cosmos.domain.incursion.listener.GSitZoneListener;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.World;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Checks all online players every N ticks to detect zone entry/exit
+ * Applies zone entry/exit and approach warnings every N ticks
  * More reliable than PlayerMoveEvent for handling edge cases
+ * <p>
+ * Membership is computed off-thread by {@link ZoneMembershipPipeline}; this task only visits the
+ * slots its latest frame reports as changed or inside a warning band.
  */
-public class ZoneCheckTask extends BukkitRunnable {
+public class ZoneCheckTask implements Runnable {
 
-    // Warning distances from zone edge (in blocks)
-    private static final double[] WARNING_DISTANCES = {500.0, 300.0, 200.0, 100.0, 50.0};
     private static final long WARNING_COOLDOWN = 10000; // 10 seconds cooldown between same-tier warnings
+    private static final Component SAFE_MESSAGE = Component.text("✓ You are now safe", NamedTextColor.GREEN);
 
     private final CosmosIncursion plugin;
     private final ZoneManager zoneManager;
@@ -44,10 +50,9 @@ public class ZoneCheckTask extends BukkitRunnable {
     private final EffectsToolkit effectsToolkit;
     private final EventManager eventManager;
     private final GSitZoneListener gsitZoneListener;
-    private final CosmosConfig config;
     private final MiniMessage miniMessage;
     private final Map<UUID, Map<Double, Long>> lastWarningTime;
-    private final Map<UUID, BossBar> zoneBossBars = new HashMap<>();
+    private final Map<UUID, BossBar> zoneBossBars = new ConcurrentHashMap<>();
 
     public ZoneCheckTask(CosmosIncursion plugin, ZoneManager zoneManager,
                          PlayerStateManager playerStateManager, EffectsToolkit effectsToolkit,
@@ -58,9 +63,8 @@ public class ZoneCheckTask extends BukkitRunnable {
         this.effectsToolkit = effectsToolkit;
         this.eventManager = eventManager;
         this.gsitZoneListener = gsitZoneListener;
-        this.config = plugin.getConfigLoader().getConfig();
         this.miniMessage = MiniMessage.miniMessage();
-        this.lastWarningTime = new HashMap<>();
+        this.lastWarningTime = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -70,43 +74,52 @@ public class ZoneCheckTask extends BukkitRunnable {
             if (!zoneBossBars.isEmpty()) {
                 for (Map.Entry<UUID, BossBar> entry : new HashMap<>(zoneBossBars).entrySet()) {
                     Player p = Bukkit.getPlayer(entry.getKey());
-                    if (p != null) entry.getValue().removePlayer(p);
+                    BossBar bar = entry.getValue();
+                    if (p != null) plugin.getPlatformScheduler().runFor(p, () -> bar.removePlayer(p));
                 }
                 zoneBossBars.clear();
             }
             return;
         }
 
-        try {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                // Skip Citizens NPCs (they have "NPC" metadata)
-                if (player.hasMetadata("NPC")) {
-                    continue;
+        // Only slots the off-thread pass flagged; on Folia each runs on its own region
+        ZoneMembershipPipeline.Frame frame = plugin.getZoneMembership().getFrame();
+        PlayerRegistry registry = plugin.getPlayerRegistry();
+        for (int slot : frame.getIncursionDeltaSlots()) {
+            Player player = registry.playerAt(slot);
+            if (player == null || !frame.covers(slot, player)) continue;
+
+            plugin.getPlatformScheduler().runFor(player, () -> {
+                try {
+                    checkPlayerZone(player, frame, slot);
+                } catch (Exception e) {
+                    plugin.log("Error in ZoneCheckTask: " + e.getMessage());
+                    e.printStackTrace();
                 }
-                checkPlayerZone(player);
-            }
-        } catch (Exception e) {
-            plugin.log("Error in ZoneCheckTask: " + e.getMessage());
-            e.printStackTrace();
+            });
         }
     }
 
     /**
      * Check if a player should be in a zone or not
      */
-    private void checkPlayerZone(Player player) {
-        IncursionZone currentZone = zoneManager.getZoneAt(player.getLocation());
+    private void checkPlayerZone(Player player, ZoneMembershipPipeline.Frame frame, int slot) {
+        IncursionZone currentZone = frame.incursionZone(slot);
         boolean isTracked = playerStateManager.isInZone(player);
 
         // Check if player is near a zone and show distance warnings
         if (currentZone == null && !isTracked) {
-            checkZoneWarnings(player);
+            checkZoneWarnings(player, frame, slot);
         }
 
         // Player is in a zone but not tracked
         if (currentZone != null && !isTracked) {
             // Check incursion death cooldown — block re-entry for 1 hour after dying in zone
             if (playerStateManager.isOnIncursionDeathCooldown(player.getUniqueId())) {
+                // A push-out is already on its way
+                if (plugin.getEnforcementTeleporter().isPending(player.getUniqueId())) {
+                    return;
+                }
                 pushPlayerOutOfZone(player, currentZone);
                 long remaining = playerStateManager.getIncursionCooldownRemainingSeconds(player.getUniqueId());
                 player.sendMessage(miniMessage.deserialize(
@@ -132,46 +145,39 @@ public class ZoneCheckTask extends BukkitRunnable {
     }
 
     /**
-     * Check if player is approaching a zone and show distance warnings.
+     * Show the distance warning for the band the off-thread pass placed the player in, if any.
      */
-    private void checkZoneWarnings(Player player) {
-
-        // Find nearest zone
-        IncursionZone nearestZone = zoneManager.getNearestZone(player.getLocation());
-        if (nearestZone == null) {
-            return;
-        }
-
-        double distanceFromEdge = nearestZone.getDistanceFromCenter(player.getLocation()) - nearestZone.getRadius();
-
-        // Player is already inside the zone
-        if (distanceFromEdge <= 0) {
+    private void checkZoneWarnings(Player player, ZoneMembershipPipeline.Frame frame, int slot) {
+        int band = frame.warningBand(slot);
+        if (band < 0) {
             return;
         }
 
-        // Check if we should show a warning for any distance tier
+        IncursionZone nearestZone = frame.warningZone(slot);
+        double distanceFromEdge = frame.edgeDistance(slot);
+        double warningDistance = ZoneMembershipPipeline.WARNING_DISTANCES[band];
         long now = System.currentTimeMillis();
         UUID playerId = player.getUniqueId();
 
-        for (double warningDistance : WARNING_DISTANCES) {
-            if (distanceFromEdge > 0 && distanceFromEdge <= warningDistance) {
-                // Check if we've already warned for this distance tier recently
-                Map<Double, Long> playerWarnings = lastWarningTime.computeIfAbsent(playerId, k -> new HashMap<>());
-                Long lastWarn = playerWarnings.get(warningDistance);
-
-                if (lastWarn == null || (now - lastWarn) > WARNING_COOLDOWN) {
-                    // Show warning based on distance
-                    String warningMessage = getWarningMessage(distanceFromEdge, formatZoneName(nearestZone.getName()));
-                    player.sendMessage(miniMessage.deserialize(warningMessage));
-
-                    // Play warning sound
-                    player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 0.5f);
-
-                    // Update last warning time for this tier
-                    playerWarnings.put(warningDistance, now);
-                }
-                break; // Only show one warning at a time (the closest tier)
-            }
+        // Check if we've already warned for this distance tier recently
+        Map<Double, Long> playerWarnings = lastWarningTime.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
+        Long lastWarn = playerWarnings.get(warningDistance);
+
+        if (lastWarn == null || (now - lastWarn) > WARNING_COOLDOWN) {
+            // Show warning based on distance
+            String warningMessage = getWarningMessage(distanceFromEdge, formatZoneName(nearestZone.getName()));
+            player.sendMessage(miniMessage.deserialize(warningMessage));
+
+            // Play warning sound
+            plugin.getHudCompositor().sound(player, player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 0.5f);
+
+            // Update last warning time for this tier, forgotten again after the cooldown
+            playerWarnings.put(warningDistance, now);
+            plugin.getExpiryService().schedule(WARNING_COOLDOWN, () ->
+                    lastWarningTime.computeIfPresent(playerId, (id, warnings) -> {
+                        warnings.remove(warningDistance, now);
+                        return warnings.isEmpty() ? null : warnings;
+                    }));
         }
     }
 
@@ -218,92 +224,26 @@ public class ZoneCheckTask extends BukkitRunnable {
             dz /= distance;
         }
 
-        // Calculate safe location outside zone (5 blocks past the edge)
+        // Calculate safe location outside zone (5 blocks past the edge), preserving look direction
         double safeDistance = zoneRadius + 5.0;
         double targetX = zoneCenter.getX() + (dx * safeDistance);
         double targetZ = zoneCenter.getZ() + (dz * safeDistance);
-
-        // Find safe Y coordinate (surface level)
-        Location targetLocation = new Location(playerLoc.getWorld(), targetX, playerLoc.getY(), targetZ);
-        Location safeLocation = findSafeLocation(targetLocation);
-
-        if (safeLocation != null) {
-            // Preserve player's looking direction
-            safeLocation.setYaw(playerLoc.getYaw());
-            safeLocation.setPitch(playerLoc.getPitch());
-
-            // Teleport to safe location
-            player.teleport(safeLocation);
-
-            // Apply gentle upward velocity to prevent fall damage
-            player.setVelocity(player.getVelocity().setY(0.3));
-        } else {
-            // Fallback: just push them up and away from center
-            player.teleport(playerLoc.add(0, 2.0, 0));
-            player.setVelocity(playerLoc.toVector()
-                    .subtract(zoneCenter.toVector())
-                    .normalize()
-                    .multiply(0.8)
-                    .setY(0.5));
-        }
-    }
-
-    /**
-     * Find a safe location at or near the target location
-     * Searches up and down to find solid ground with air above
-     */
-    private Location findSafeLocation(Location target) {
-        if (target.getWorld() == null) {
-            return null;
-        }
-
-        World world = target.getWorld();
-        int x = target.getBlockX();
-        int z = target.getBlockZ();
-        int startY = target.getBlockY();
-
-        // Search up to 20 blocks up and down
-        for (int dy = 0; dy <= 20; dy++) {
-            // Try going up first
-            int checkY = startY + dy;
-            if (checkY < world.getMaxHeight() - 2 && isSafeSpot(world, x, checkY, z)) {
-                return new Location(world, x + 0.5, checkY, z + 0.5);
-            }
-
-            // Then try going down
-            if (dy > 0) {
-                checkY = startY - dy;
-                if (checkY > world.getMinHeight() && isSafeSpot(world, x, checkY, z)) {
-                    return new Location(world, x + 0.5, checkY, z + 0.5);
-                }
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Check if a location is safe to teleport to (solid block below, air above)
-     */
-    private boolean isSafeSpot(org.bukkit.World world, int x, int y, int z) {
-        org.bukkit.block.Block ground = world.getBlockAt(x, y, z);
-        org.bukkit.block.Block above1 = world.getBlockAt(x, y + 1, z);
-        org.bukkit.block.Block above2 = world.getBlockAt(x, y + 2, z);
-
-        // Ground must be solid
-        if (!ground.getType().isSolid()) {
-            return false;
-        }
-
-        // Ground must not be lava or dangerous
-        if (ground.getType() == org.bukkit.Material.LAVA ||
-                ground.getType() == org.bukkit.Material.MAGMA_BLOCK ||
-                ground.getType() == org.bukkit.Material.CACTUS) {
-            return false;
-        }
-
-        // Two blocks above must be passable
-        return above1.isPassable() && above2.isPassable();
+        Location targetLocation = new Location(playerLoc.getWorld(), targetX, playerLoc.getY(), targetZ,
+                playerLoc.getYaw(), playerLoc.getPitch());
+
+        // Surface level is resolved from a snapshot of the target chunk once it has loaded
+        EnforcementTeleporter teleporter = plugin.getEnforcementTeleporter();
+        teleporter.teleport(player, targetLocation, EnforcementTeleporter.Placement.NEAREST_GROUND)
+                // No ground near the player's height (cliffs, caves) - fall back to the surface
+                .thenCompose(result -> result == EnforcementTeleporter.Result.NO_SAFE_SPOT
+                        ? teleporter.teleport(player, targetLocation, EnforcementTeleporter.Placement.SURFACE)
+                        : CompletableFuture.completedFuture(result))
+                .thenAccept(result -> {
+                    if (result == EnforcementTeleporter.Result.MOVED) {
+                        // Apply gentle upward velocity to prevent fall damage
+                        player.setVelocity(player.getVelocity().setY(0.3));
+                    }
+                });
     }
 
     private void onZoneEntry(Player player, IncursionZone incursionZone) {
@@ -319,12 +259,12 @@ public class ZoneCheckTask extends BukkitRunnable {
             case DEATH  -> "dark_red";
         };
 
-        Component title = miniMessage.deserialize(config.getMsgZoneEntry());
+        Component title = miniMessage.deserialize(config().getMsgZoneEntry());
         Component subtitle = miniMessage.deserialize(
                 "<white>You have entered <" + tierColor + ">" + formatZoneName(incursionZone.getName())
                 + " [" + incursionZone.getTier() + "]</" + tierColor + "></white>"
         );
-        player.showTitle(Title.title(title, subtitle,
+        plugin.getHudCompositor().title(player, HudCompositor.Slot.ZONE, Title.title(title, subtitle,
                 Title.Times.times(Duration.ofMillis(500), Duration.ofMillis(3000), Duration.ofMillis(1000))));
 
         String tierMessage = switch (incursionZone.getTier()) {
@@ -335,7 +275,7 @@ public class ZoneCheckTask extends BukkitRunnable {
                     ? "<dark_red>☠ DEATH ZONE — ALL items + sequence regression! You are SPIRIT WEIGHT!</dark_red>"
                     : "<dark_red>☠ DEATH ZONE — ALL items + sequence regression!</dark_red>";
         };
-        player.sendActionBar(miniMessage.deserialize(tierMessage));
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ZONE, miniMessage.deserialize(tierMessage));
 
         // Persistent boss bar showing zone name and risk while inside
         showZoneBossBar(player, incursionZone);
@@ -356,9 +296,9 @@ public class ZoneCheckTask extends BukkitRunnable {
 
         removeZoneBossBar(player);
 
-        Component message = miniMessage.deserialize(config.getMsgZoneExit());
+        Component message = miniMessage.deserialize(config().getMsgZoneExit());
         player.sendMessage(message);
-        player.sendActionBar(miniMessage.deserialize("<green>✓ You are now safe</green>"));
+        plugin.getHudCompositor().actionBar(player, HudCompositor.Slot.ZONE, SAFE_MESSAGE);
 
         if (exitedZone != null) {
             plugin.log("Player " + player.getName() + " exited zone: " + exitedZone.getName());
@@ -405,4 +345,7 @@ public class ZoneCheckTask extends BukkitRunnable {
         return seconds + "s";
     }
 
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
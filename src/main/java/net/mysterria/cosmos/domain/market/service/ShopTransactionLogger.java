@@ -2,6 +2,7 @@ package net.mysterria.cosmos.domain.market.service;
 
 import net.mysterria.cosmos.CosmosIncursion;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
+import net.mysterria.cosmos.toolkit.jfr.PersistenceWriteEvent;
 
 import java.io.*;
 import java.time.LocalDateTime;
@@ -32,6 +33,7 @@ public class ShopTransactionLogger {
         String priceSummary = buildPriceSummary(prices);
 
         Transaction tx = new Transaction(timestamp, playerName, townName, itemName, priceSummary);
+        plugin.getMetrics().shopPurchase(prices);
 
         // In-memory
         history.computeIfAbsent(townId, k -> new ArrayDeque<>());
@@ -46,12 +48,15 @@ public class ShopTransactionLogger {
         // File — one file per town inside /logs/
         String safeName = townName.replaceAll("[^a-zA-Z0-9_\\-]", "_");
         File townLog = new File(logDir, safeName + ".log");
+        PersistenceWriteEvent write = PersistenceWriteEvent.start("logs/" + townLog.getName());
         try (FileWriter fw = new FileWriter(townLog, true);
              BufferedWriter bw = new BufferedWriter(fw)) {
             bw.write(String.format("[%s] player=%s item=%s price=%s%n",
                 timestamp, playerName, itemName, priceSummary));
         } catch (IOException e) {
             plugin.log("[Shop] Failed to write transaction log: " + e.getMessage());
+        } finally {
+            write.finish(1);
         }
     }
 
@@ -5,6 +5,8 @@ import com.google.gson.reflect.TypeToken;
 import net.mysterria.cosmos.CosmosIncursion;
 import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
 import net.mysterria.cosmos.domain.market.model.ShopItem;
+import net.mysterria.cosmos.toolkit.PerfMonitor;
+import net.mysterria.cosmos.toolkit.jfr.PersistenceWriteEvent;
 import org.bukkit.inventory.ItemStack;
 
 import java.io.*;
@@ -17,11 +19,13 @@ public class ZoneShopManager {
     private final File shopFile;
     private final Gson gson;
     private final List<ShopItem> items = new ArrayList<>();
+    private final PerfMonitor.Timer saveTimer;
 
     public ZoneShopManager(CosmosIncursion plugin) {
         this.plugin   = plugin;
         this.shopFile = new File(plugin.getDataFolder(), "zone_shop.json");
         this.gson     = new GsonBuilder().setPrettyPrinting().create();
+        this.saveTimer = plugin.getPerfMonitor().timer("io.shop-save");
     }
 
     public List<ShopItem> getItems() {
@@ -40,6 +44,8 @@ public class ZoneShopManager {
     // ── Persistence ─────────────────────────────────────────────────────────────
 
     public void save() {
+        long start = saveTimer.start();
+        PersistenceWriteEvent write = PersistenceWriteEvent.start(shopFile.getName());
         List<Map<String, Object>> list = new ArrayList<>();
         for (ShopItem si : items) {
             Map<String, Object> entry = new LinkedHashMap<>();
@@ -62,6 +68,9 @@ public class ZoneShopManager {
             gson.toJson(list, fw);
         } catch (IOException e) {
             plugin.log("Failed to save zone shop: " + e.getMessage());
+        } finally {
+            saveTimer.stop(start);
+            write.finish(list.size());
         }
     }
 
@@ -7,6 +7,7 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.mysterria.cosmos.CosmosIncursion;
 import net.mysterria.cosmos.config.CosmosConfig;
+import net.mysterria.cosmos.toolkit.jfr.PersistenceWriteEvent;
 import net.mysterria.cosmos.toolkit.towns.TownData;
 import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
 import org.bukkit.Bukkit;
@@ -29,19 +30,19 @@ import java.util.concurrent.ConcurrentHashMap;
 public class BuffToolkit {
 
     private final CosmosIncursion plugin;
-    private final CosmosConfig config;
     private final Map<Integer, TownBuff> activeTownBuffs;
     private final Map<UUID, Long> activePlayerBuffs;  // Player UUID -> expiry time
     private final Gson gson;
     private final File buffDataFile;
+    private final PerfMonitor.Timer saveTimer;
 
     public BuffToolkit(CosmosIncursion plugin) {
         this.plugin = plugin;
-        this.config = plugin.getConfigLoader().getConfig();
         this.activeTownBuffs = new ConcurrentHashMap<>();
         this.activePlayerBuffs = new ConcurrentHashMap<>();
         this.gson = new GsonBuilder().setPrettyPrinting().create();
         this.buffDataFile = new File(plugin.getDataFolder(), "buff_data.json");
+        this.saveTimer = plugin.getPerfMonitor().timer("io.buffs-save");
     }
 
     /**
@@ -59,11 +60,21 @@ public class BuffToolkit {
             Map<Integer, TownBuff> loadedBuffs = gson.fromJson(reader, type);
 
             if (loadedBuffs != null) {
-                activeTownBuffs.putAll(loadedBuffs);
-                plugin.log("Loaded " + loadedBuffs.size() + " town buffs from file");
+                // Drop buffs that expired while the server was down, schedule expiry for the rest
+                int expired = 0;
+                for (TownBuff buff : loadedBuffs.values()) {
+                    if (buff.isExpired()) {
+                        expired++;
+                        continue;
+                    }
+                    activeTownBuffs.put(buff.townId(), buff);
+                    scheduleTownBuffExpiry(buff);
+                }
+                plugin.log("Loaded " + activeTownBuffs.size() + " town buffs from file (" + expired + " expired)");
 
-                // Remove expired buffs
-                cleanupExpired();
+                if (expired > 0) {
+                    saveBuffData();
+                }
             }
         } catch (IOException e) {
             plugin.log("Error loading buff data: " + e.getMessage());
@@ -75,12 +86,17 @@ public class BuffToolkit {
      * Save buff data to JSON file
      */
     public void saveBuffData() {
+        long start = saveTimer.start();
+        PersistenceWriteEvent write = PersistenceWriteEvent.start(buffDataFile.getName());
         try (FileWriter writer = new FileWriter(buffDataFile)) {
             gson.toJson(activeTownBuffs, writer);
             plugin.log("Saved " + activeTownBuffs.size() + " town buffs to file");
         } catch (IOException e) {
             plugin.log("Error saving buff data: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            saveTimer.stop(start);
+            write.finish(activeTownBuffs.size());
         }
     }
 
@@ -98,19 +114,20 @@ public class BuffToolkit {
         TownData town = townOpt.get();
 
         // Calculate expiry time
-        long durationMillis = config.getBuffDurationHours() * 60 * 60 * 1000L;
-        long expiryTime = System.currentTimeMillis() + durationMillis;
+        long durationMillis = config().getBuffDurationHours() * 60 * 60 * 1000L;
+        long expiryTime = GameClock.millis() + durationMillis;
 
         // Create buff
         TownBuff buff = new TownBuff(townId, town.name(), expiryTime);
         activeTownBuffs.put(townId, buff);
+        scheduleTownBuffExpiry(buff);
 
         // Apply to all online members
         int appliedCount = 0;
         for (UUID memberId : town.memberUuids()) {
             Player player = Bukkit.getPlayer(memberId);
             if (player != null && player.isOnline()) {
-                applyBuffToPlayer(player, expiryTime);
+                plugin.getPlatformScheduler().runFor(player, () -> applyBuffToPlayer(player, expiryTime));
                 appliedCount++;
             }
         }
@@ -119,7 +136,7 @@ public class BuffToolkit {
         Component message = Component.text("[Cosmos Incursion] ", NamedTextColor.GOLD)
                 .append(Component.text(town.name() + " has won the territory control! ", NamedTextColor.WHITE))
                 .append(Component.text("Members receive Acting Speed bonus for " +
-                                       config.getBuffDurationHours() + " hours!", NamedTextColor.GREEN));
+                                       config().getBuffDurationHours() + " hours!", NamedTextColor.GREEN));
         Bukkit.getServer().sendMessage(message);
 
         plugin.log("Awarded Acting Speed buff to town " + town.name() +
@@ -133,15 +150,17 @@ public class BuffToolkit {
      * Apply Acting Speed buff to a player
      */
     private void applyBuffToPlayer(Player player, long expiryTime) {
-        long remainingMillis = Math.max(0L, expiryTime - System.currentTimeMillis());
-        CoiToolkit.setActingSpeedMultiplier(player, config.getActingSpeedBonus(), remainingMillis);
+        long remainingMillis = Math.max(0L, expiryTime - GameClock.millis());
+        CoiToolkit.setActingSpeedMultiplier(player, config().getActingSpeedBonus(), remainingMillis);
 
-        activePlayerBuffs.put(player.getUniqueId(), expiryTime);
+        UUID playerId = player.getUniqueId();
+        activePlayerBuffs.put(playerId, expiryTime);
+        plugin.getExpiryService().scheduleAt(expiryTime, () -> expirePlayerBuff(playerId, expiryTime));
 
         player.sendMessage(
                 Component.text("[Cosmos Incursion] ", NamedTextColor.GOLD)
                         .append(Component.text("You received an Acting Speed bonus! ", NamedTextColor.GREEN))
-                        .append(Component.text("(+" + (int) (config.getActingSpeedBonus() * 100) + "%)", NamedTextColor.YELLOW))
+                        .append(Component.text("(+" + (int) (config().getActingSpeedBonus() * 100) + "%)", NamedTextColor.YELLOW))
         );
 
         plugin.log("Applied Acting Speed buff to player " + player.getName());
@@ -188,56 +207,55 @@ public class BuffToolkit {
         activePlayerBuffs.remove(player.getUniqueId());
     }
 
+    private void scheduleTownBuffExpiry(TownBuff buff) {
+        plugin.getExpiryService().scheduleAt(buff.expiryTime(), () -> expireTownBuff(buff));
+    }
+
     /**
-     * Clean up expired buffs
+     * Expire a town buff and remove it from online members, unless it was replaced since
      */
-    public void cleanupExpired() {
-        long now = System.currentTimeMillis();
-
-        // Remove expired town buffs
-        activeTownBuffs.entrySet().removeIf(entry -> {
-            TownBuff buff = entry.getValue();
-            if (buff.isExpired()) {
-                plugin.log("Town buff expired for " + buff.townName());
-
-                // Remove buff from all online members
-                Optional<TownData> townOpt = TownsToolkit.getTownById(entry.getKey());
-                if (townOpt.isPresent()) {
-                    for (UUID memberId : townOpt.get().memberUuids()) {
-                        Player player = Bukkit.getPlayer(memberId);
-                        if (player != null && player.isOnline()) {
-                            removeBuffFromPlayer(player);
-                        }
-                    }
-                }
-
-                return true;
-            }
-            return false;
-        });
-
-        // Remove expired player buffs
-        activePlayerBuffs.entrySet().removeIf(entry -> {
-            if (now >= entry.getValue()) {
-                Player player = Bukkit.getPlayer(entry.getKey());
-                if (player != null && player.isOnline()) {
-                    removeBuffFromPlayer(player);
+    private void expireTownBuff(TownBuff buff) {
+        if (!activeTownBuffs.remove(buff.townId(), buff)) {
+            return;
+        }
+        plugin.log("Town buff expired for " + buff.townName());
+
+        // Remove buff from all online members
+        Optional<TownData> townOpt = TownsToolkit.getTownById(buff.townId());
+        if (townOpt.isPresent()) {
+            for (UUID memberId : townOpt.get().memberUuids()) {
+                Player player = Bukkit.getPlayer(memberId);
+                if (player != null && player.isOnline() && activePlayerBuffs.containsKey(memberId)) {
+                    plugin.getPlatformScheduler().runFor(player, () -> removeBuffFromPlayer(player));
                 }
-                return true;
             }
-            return false;
-        });
+        }
 
-        // Save if anything was removed
         saveBuffData();
     }
 
+    /**
+     * Expire a player's buff, unless it was removed or refreshed since
+     */
+    private void expirePlayerBuff(UUID playerId, long expiryTime) {
+        Long current = activePlayerBuffs.get(playerId);
+        if (current == null || current != expiryTime) {
+            return;
+        }
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null && player.isOnline()) {
+            plugin.getPlatformScheduler().runFor(player, () -> removeBuffFromPlayer(player));
+        } else {
+            activePlayerBuffs.remove(playerId);
+        }
+    }
+
     /**
      * Check if a player has an active buff
      */
     public boolean hasPlayerBuff(UUID playerId) {
         Long expiryTime = activePlayerBuffs.get(playerId);
-        return expiryTime != null && System.currentTimeMillis() < expiryTime;
+        return expiryTime != null && GameClock.millis() < expiryTime;
     }
 
     /**
@@ -246,8 +264,11 @@ public class BuffToolkit {
     private record TownBuff(int townId, String townName, long expiryTime) {
 
         public boolean isExpired() {
-            return System.currentTimeMillis() >= expiryTime;
+            return GameClock.millis() >= expiryTime;
         }
     }
 
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
@@ -0,0 +1,184 @@
+package net.mysterria.cosmos.toolkit;
+
+import net.mysterria.cosmos.CosmosPlugin;
+import net.mysterria.cosmos.config.CosmosConfig;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads chunks asynchronously around points players are about to converge on (incursion zone
+ * centers, beacons, PoIs, extraction points) and pins them with plugin chunk tickets while the
+ * point is active, so the first arrivals never trigger synchronous chunk loads.
+ * <p>
+ * Targets are identified by a string key such as {@code "zone:<name>"} or {@code "poi:<uuid>"}.
+ * Overlapping targets share tickets through a per-chunk reference count, so a chunk stays loaded
+ * until the last target covering it is released. Pinning, releasing and the ticketing done in each chunk
+ * load callback share one lock, since on Folia they run on the region threads that rotate PoIs and
+ * extraction points and on the threads that complete chunk loads.
+ */
+public class ChunkPrewarmer {
+
+    public static final String ZONE_PREFIX = "zone:";
+    public static final String BEACON_PREFIX = "beacon:";
+    public static final String POI_PREFIX = "poi:";
+    public static final String EXTRACTION_PREFIX = "extraction:";
+
+    private final CosmosPlugin plugin;
+
+    // Target key -> chunks it holds tickets on
+    private final Map<String, PinnedTarget> targets = new ConcurrentHashMap<>();
+
+    // World UID -> packed chunk key -> number of targets holding that chunk
+    private final Map<UUID, Map<Long, Integer>> ticketCounts = new ConcurrentHashMap<>();
+
+    public ChunkPrewarmer(CosmosPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Pin chunks around an incursion zone center
+     */
+    public void pinZone(String key, Location center) {
+        pin(key, center, config().getChunkPrewarmZoneRadiusChunks());
+    }
+
+    /**
+     * Pin chunks around a beacon, PoI or extraction point
+     */
+    public void pinPoint(String key, Location center) {
+        pin(key, center, config().getChunkPrewarmPointRadiusChunks());
+    }
+
+    /**
+     * Start loading every chunk within chunkRadius of the center and ticket each one as it arrives.
+     * Does nothing if the key is already pinned.
+     */
+    public synchronized void pin(String key, Location center, int chunkRadius) {
+        if (!config().isChunkPrewarmEnabled()) {
+            return;
+        }
+        World world = center.getWorld();
+        if (world == null || targets.containsKey(key)) {
+            return;
+        }
+
+        PinnedTarget target = new PinnedTarget(world);
+        targets.put(key, target);
+
+        int centerX = center.getBlockX() >> 4;
+        int centerZ = center.getBlockZ() >> 4;
+        int radius = Math.max(0, chunkRadius);
+
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if (dx * dx + dz * dz > radius * radius) continue;
+
+                int chunkX = centerX + dx;
+                int chunkZ = centerZ + dz;
+                world.getChunkAtAsync(chunkX, chunkZ).thenAccept(chunk -> acquireTicket(key, target, chunkX, chunkZ)).exceptionally(throwable -> {
+                    plugin.log("Failed to pre-warm chunk " + chunkX + "," + chunkZ + " for " + key + ": " + throwable.getMessage());
+                    return null;
+                });
+            }
+        }
+    }
+
+    /**
+     * Release all tickets held for a target
+     */
+    public synchronized void release(String key) {
+        PinnedTarget target = targets.remove(key);
+        if (target == null) {
+            return;
+        }
+
+        Map<Long, Integer> counts = ticketCounts.get(target.world().getUID());
+        for (long chunkKey : target.ticketed()) {
+            if (counts == null) break;
+            Integer remaining = counts.computeIfPresent(chunkKey, (k, count) -> count > 1 ? count - 1 : null);
+            if (remaining == null) {
+                target.world().removePluginChunkTicket(chunkX(chunkKey), chunkZ(chunkKey), plugin);
+            }
+        }
+    }
+
+    /**
+     * Release every target whose key starts with the given prefix
+     */
+    public synchronized void releaseByPrefix(String prefix) {
+        for (String key : new ArrayList<>(targets.keySet())) {
+            if (key.startsWith(prefix)) {
+                release(key);
+            }
+        }
+    }
+
+    /**
+     * Release every ticket this plugin holds. Call on plugin disable.
+     */
+    public synchronized void releaseAll() {
+        targets.clear();
+        ticketCounts.clear();
+        for (World world : Bukkit.getWorlds()) {
+            world.removePluginChunkTickets(plugin);
+        }
+    }
+
+    public boolean isPinned(String key) {
+        return targets.containsKey(key);
+    }
+
+    public int getPinnedChunkCount() {
+        return ticketCounts.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Ticket a chunk that finished loading, under the same lock as release so a target released
+     * while the chunk was loading never gets a ticket nobody will remove
+     */
+    private synchronized void acquireTicket(String key, PinnedTarget target, int chunkX, int chunkZ) {
+        if (targets.get(key) != target) {
+            return;
+        }
+
+        long chunkKey = chunkKey(chunkX, chunkZ);
+        if (!target.ticketed().add(chunkKey)) {
+            return;
+        }
+
+        Map<Long, Integer> counts = ticketCounts.computeIfAbsent(target.world().getUID(), k -> new ConcurrentHashMap<>());
+        if (counts.merge(chunkKey, 1, Integer::sum) == 1) {
+            target.world().addPluginChunkTicket(chunkX, chunkZ, plugin);
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static int chunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int chunkZ(long key) {
+        return (int) key;
+    }
+
+    private record PinnedTarget(World world, Set<Long> ticketed) {
+        PinnedTarget(World world) {
+            this(world, new HashSet<>());
+        }
+    }
+
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
+}
@@ -1,5 +1,6 @@
 package net.mysterria.cosmos.toolkit;
 
+import com.destroystokyo.paper.profile.ProfileProperty;
 import net.citizensnpcs.api.CitizensAPI;
 import net.citizensnpcs.api.npc.NPC;
 import net.citizensnpcs.api.npc.NPCRegistry;
@@ -12,27 +13,38 @@ import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
  * Handles Citizens API integration for Hollow Body NPCs
  * Creates NPCs that represent combat-logged players
+ * <p>
+ * NPCs are taken from a warm pool of pre-created, despawned NPCs and returned to it when the body is
+ * resolved, so a wave of disconnects does not create and destroy an NPC per player. Captured items are
+ * serialized and written to disk by {@link HollowBodyStore} off the main thread, and surviving bodies
+ * are respawned after a restart.
  */
 public class CitizensToolkit {
 
+    private static final String POOLED_NPC_NAME = "Hollow Body";
+
     private final CosmosIncursion plugin;
-    private final CosmosConfig config;
     private final Map<UUID, HollowBody> hollowBodies;
     private final Map<Integer, UUID> npcIdToPlayerId;
+    private final Deque<NPC> npcPool;
+    private final HollowBodyStore store;
     private NPCRegistry registry;
 
     public CitizensToolkit(CosmosIncursion plugin) {
         this.plugin = plugin;
-        this.config = plugin.getConfigLoader().getConfig();
-        this.hollowBodies = new HashMap<>();
-        this.npcIdToPlayerId = new HashMap<>();
+        this.hollowBodies = new ConcurrentHashMap<>();
+        this.npcIdToPlayerId = new ConcurrentHashMap<>();
+        this.npcPool = new ConcurrentLinkedDeque<>();
+        this.store = new HollowBodyStore(plugin);
     }
 
     /**
@@ -51,7 +63,9 @@ public class CitizensToolkit {
                 plugin.log("Citizens registry is null - API not ready");
                 return false;
             }
-            plugin.log("Citizens integration enabled - Hollow Body NPCs active");
+            prewarmPool();
+            restorePersistedBodies();
+            plugin.log("Citizens integration enabled - Hollow Body NPCs active (" + npcPool.size() + " pooled)");
             return true;
         } catch (IllegalStateException e) {
             // Citizens API not ready yet
@@ -72,31 +86,21 @@ public class CitizensToolkit {
         }
 
         try {
-            // Capture player inventory before creating NPC
-            ItemStack[] inventory = player.getInventory().getContents().clone();
-            ItemStack[] armor = player.getInventory().getArmorContents().clone();
-
-            // Create NPC name from config
-            String npcName = config.getNpcNameFormat().replace("%player%", player.getName());
-
-            // Create NPC
-            NPC npc = registry.createNPC(EntityType.PLAYER, npcName);
-
-            // Make NPC vulnerable (can be killed)
-            npc.setProtected(false);
-
-            // Copy player appearance
-            npc.data().setPersistent(NPC.Metadata.NAMEPLATE_VISIBLE, true);
-            npc.data().setPersistent(NPC.Metadata.ALWAYS_USE_NAME_HOLOGRAM, false);
-            npc.data().set(NPC.Metadata.DEFAULT_PROTECTED, false);
+            // Capture private copies of the inventory; the player's own stacks are cleared below
+            ItemStack[] inventory = copyItems(player.getInventory().getContents());
+            ItemStack[] armor = copyItems(player.getInventory().getArmorContents());
 
-            // Set skin to match player
-            npc.getOrAddTrait(SkinTrait.class).setSkinName(player.getName());
+            // Take a pooled NPC and dress it as the player
+            NPC npc = acquireNPC(player.getName());
+            ProfileProperty textures = skinTextures(player);
+            String skinTexture = textures != null ? textures.getValue() : null;
+            String skinSignature = textures != null ? textures.getSignature() : null;
+            applySkin(npc, player.getName(), skinTexture, skinSignature);
 
             npc.spawn(location);
 
             // Calculate duration
-            long durationMillis = config.getNpcDurationMinutes() * 60_000L;
+            long durationMillis = config().getNpcDurationMinutes() * 60_000L;
 
             // Create HollowBody wrapper with inventory
             HollowBody hollowBody = new HollowBody(
@@ -108,6 +112,7 @@ public class CitizensToolkit {
                     inventory,
                     armor
             );
+            hollowBody.setSkin(skinTexture, skinSignature);
 
             // Clear player's actual inventory so only the NPC holds the items
             player.getInventory().clear();
@@ -116,6 +121,14 @@ public class CitizensToolkit {
             // Store mappings
             hollowBodies.put(player.getUniqueId(), hollowBody);
             npcIdToPlayerId.put(npc.getId(), player.getUniqueId());
+            plugin.getExpiryService().schedule(durationMillis, () -> expireHollowBody(hollowBody));
+
+            // Serialize and persist off-thread, then drop the live copies for the compact form
+            store.save(hollowBody).thenAccept(itemData -> plugin.getPlatformScheduler().run(() -> {
+                if (hollowBodies.get(hollowBody.getPlayerId()) == hollowBody) {
+                    hollowBody.compact(itemData);
+                }
+            }));
 
             plugin.log("Created Hollow Body NPC for " + player.getName() + " (ID: " + npc.getId() + ")");
             return hollowBody;
@@ -134,28 +147,165 @@ public class CitizensToolkit {
         if (hollowBody != null) {
             removeNPC(hollowBody.getNpcId());
             npcIdToPlayerId.remove(hollowBody.getNpcId());
+            store.delete(playerId);
             plugin.log("Removed Hollow Body for player " + playerId);
         }
     }
 
     /**
-     * Remove an NPC by ID
+     * Remove an NPC by ID, returning it to the pool
      */
     private void removeNPC(int npcId) {
-        if (registry == null) {
+        if (registry == null || npcId < 0) {
             return;
         }
 
         try {
             NPC npc = registry.getById(npcId);
             if (npc != null) {
-                npc.destroy();
+                releaseNPC(npc);
             }
         } catch (Exception e) {
             plugin.log("Error removing NPC " + npcId + ": " + e.getMessage());
         }
     }
 
+    // ── NPC pool ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Fill the pool up to its configured size
+     */
+    private void prewarmPool() {
+        while (npcPool.size() < config().getNpcPoolSize()) {
+            npcPool.push(createPooledNPC());
+        }
+    }
+
+    private NPC createPooledNPC() {
+        NPC npc = registry.createNPC(EntityType.PLAYER, POOLED_NPC_NAME);
+
+        // Make NPC vulnerable (can be killed)
+        npc.setProtected(false);
+
+        npc.data().setPersistent(NPC.Metadata.NAMEPLATE_VISIBLE, true);
+        npc.data().setPersistent(NPC.Metadata.ALWAYS_USE_NAME_HOLOGRAM, false);
+        npc.data().set(NPC.Metadata.DEFAULT_PROTECTED, false);
+        return npc;
+    }
+
+    /**
+     * Take a despawned NPC from the pool (or create one if it is empty) and name it for a player
+     */
+    private NPC acquireNPC(String playerName) {
+        NPC npc = npcPool.poll();
+        if (npc == null) {
+            npc = createPooledNPC();
+        }
+        npc.setName(config().getNpcNameFormat().replace("%player%", playerName));
+        return npc;
+    }
+
+    /**
+     * Despawn an NPC and keep it for reuse, or destroy it if the pool is full
+     */
+    private void releaseNPC(NPC npc) {
+        if (npc.isSpawned()) {
+            npc.despawn();
+        }
+        if (npcPool.size() < config().getNpcPoolSize()) {
+            npc.setName(POOLED_NPC_NAME);
+            npcPool.push(npc);
+        } else {
+            npc.destroy();
+        }
+    }
+
+    /**
+     * The player's signed profile textures, or null if the profile has none
+     */
+    private static ProfileProperty skinTextures(Player player) {
+        for (ProfileProperty property : player.getPlayerProfile().getProperties()) {
+            if ("textures".equals(property.getName()) && property.getSignature() != null) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Set the skin from signed textures, so no skin lookup is needed; falls back to a lookup by name
+     */
+    private void applySkin(NPC npc, String playerName, String texture, String signature) {
+        SkinTrait skin = npc.getOrAddTrait(SkinTrait.class);
+        if (texture != null && signature != null) {
+            skin.setSkinPersistent(playerName, signature, texture);
+        } else {
+            skin.setSkinName(playerName);
+        }
+    }
+
+    private static ItemStack[] copyItems(ItemStack[] items) {
+        ItemStack[] copy = new ItemStack[items.length];
+        for (int i = 0; i < items.length; i++) {
+            copy[i] = items[i] != null ? items[i].clone() : null;
+        }
+        return copy;
+    }
+
+    // ── Persistence ──────────────────────────────────────────────────────────────
+
+    /**
+     * Re-register Hollow Bodies saved before a restart. Surviving bodies get a pooled NPC again;
+     * killed ones stay registered without an NPC so the penalty still applies on reconnect.
+     */
+    private void restorePersistedBodies() {
+        int restored = 0;
+        for (HollowBody hollowBody : store.loadAll()) {
+            if (hollowBody.shouldDespawn() || hollowBodies.containsKey(hollowBody.getPlayerId())) {
+                store.delete(hollowBody.getPlayerId());
+                continue;
+            }
+
+            if (!hollowBody.isWasKilled()) {
+                NPC npc = acquireNPC(hollowBody.getPlayerName());
+                applySkin(npc, hollowBody.getPlayerName(), hollowBody.getSkinTexture(), hollowBody.getSkinSignature());
+                npc.spawn(hollowBody.getSpawnLocation());
+                hollowBody.setNpcId(npc.getId());
+                npcIdToPlayerId.put(npc.getId(), hollowBody.getPlayerId());
+            }
+
+            hollowBodies.put(hollowBody.getPlayerId(), hollowBody);
+            plugin.getExpiryService().scheduleAt(hollowBody.getDespawnTime(), () -> expireHollowBody(hollowBody));
+            restored++;
+        }
+
+        if (restored > 0) {
+            plugin.log("Restored " + restored + " Hollow Bodies from disk");
+        }
+    }
+
+    /**
+     * Destroy every pooled and active NPC and flush pending writes. Active bodies stay on disk
+     * and are respawned on the next start.
+     */
+    public void shutdown() {
+        if (registry != null) {
+            for (HollowBody hollowBody : hollowBodies.values()) {
+                NPC npc = hollowBody.getNpcId() >= 0 ? registry.getById(hollowBody.getNpcId()) : null;
+                if (npc != null) {
+                    npc.destroy();
+                }
+            }
+            for (NPC npc : npcPool) {
+                npc.destroy();
+            }
+        }
+        hollowBodies.clear();
+        npcIdToPlayerId.clear();
+        npcPool.clear();
+        store.shutdown();
+    }
+
     /**
      * Mark an NPC as killed and drop its inventory
      */
@@ -169,6 +319,9 @@ public class CitizensToolkit {
                 // Drop the player's inventory at death location
                 dropInventory(hollowBody, deathLocation);
 
+                // Persist the killed state so the penalty survives a restart
+                store.save(hollowBody);
+
                 plugin.log("Hollow Body NPC " + npcId + " was killed (player: " + playerId + ") - items dropped");
             }
         }
@@ -224,23 +377,20 @@ public class CitizensToolkit {
     }
 
     /**
-     * Clean up expired Hollow Bodies
+     * Despawn a Hollow Body on timeout, unless it was already removed or replaced
      */
-    public void cleanupExpired() {
+    private void expireHollowBody(HollowBody hollowBody) {
         if (registry == null) {
             return;
         }
 
-        hollowBodies.entrySet().removeIf(entry -> {
-            HollowBody hollowBody = entry.getValue();
-            if (hollowBody.shouldDespawn()) {
-                removeNPC(hollowBody.getNpcId());
-                npcIdToPlayerId.remove(hollowBody.getNpcId());
-                plugin.log("Hollow Body for " + hollowBody.getPlayerName() + " despawned (timeout)");
-                return true;
-            }
-            return false;
-        });
+        if (hollowBodies.remove(hollowBody.getPlayerId(), hollowBody)) {
+            // Fired from the expiry wheel; the NPC belongs to the region it stands in
+            plugin.getPlatformScheduler().runAt(hollowBody.getSpawnLocation(), () -> removeNPC(hollowBody.getNpcId()));
+            npcIdToPlayerId.remove(hollowBody.getNpcId());
+            store.delete(hollowBody.getPlayerId());
+            plugin.log("Hollow Body for " + hollowBody.getPlayerName() + " despawned (timeout)");
+        }
     }
 
     /**
@@ -255,6 +405,7 @@ public class CitizensToolkit {
         for (HollowBody hollowBody : new java.util.ArrayList<>(hollowBodies.values())) {
             removeNPC(hollowBody.getNpcId());
             npcIdToPlayerId.remove(hollowBody.getNpcId());
+            store.delete(hollowBody.getPlayerId());
             despawnedCount++;
         }
 
@@ -269,4 +420,7 @@ public class CitizensToolkit {
         return registry != null;
     }
 
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
@@ -0,0 +1,334 @@
+package net.mysterria.cosmos.toolkit;
+
+import net.mysterria.cosmos.domain.exclusion.model.source.ResourceType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Supplier;
+
+/**
+ * Zone gameplay and plugin performance metrics in Prometheus text format, served by {@link MetricsExporter}.
+ * <p>
+ * Every series is an adder or atomic that is updated inline where the event happens (zone transitions,
+ * PoI spawns, extractions, captures, purchases, queued writes). A scrape only walks the registered series
+ * and the {@link PerfMonitor} running totals, never players or zones, and is safe from any thread.
+ * <p>
+ * Zone tiers live on a separate {@code cosmos_zone_info} series so that changing a zone's tier does not
+ * orphan its player gauge; join on {@code kind, zone} to group players by tier.
+ */
+public class CosmosMetrics {
+
+    /** Value of the {@code kind} label for incursion zones */
+    public static final String INCURSION = "incursion";
+    /** Value of the {@code kind} label for permanent zones */
+    public static final String PERMANENT = "permanent";
+
+    private final PerfMonitor perfMonitor;
+    private final List<Family<?>> families = new ArrayList<>();
+
+    private final Family<Gauge> eventState = gauge("cosmos_event_state",
+            "1 for the incursion event's current state", "state");
+    private final Family<Gauge> zonePlayers = gauge("cosmos_zone_players",
+            "Players currently inside a zone", "kind", "zone");
+    private final Family<Gauge> zoneInfo = gauge("cosmos_zone_info",
+            "Always 1; carries the zone's current tier", "kind", "zone", "tier");
+    private final Family<Gauge> activePoIs = gauge("cosmos_zone_active_pois",
+            "Active points of interest in a permanent zone", "zone");
+    private final Family<Gauge> budgetRemaining = gauge("cosmos_zone_daily_budget_remaining",
+            "Resources a permanent zone can still hand out to new PoIs today", "zone", "resource");
+    private final Family<Counter> extractions = counter("cosmos_extractions_total",
+            "Completed extractions", "zone");
+    private final Family<Counter> extracted = counter("cosmos_extracted_resources_total",
+            "Resources deposited to towns by extraction", "zone", "resource");
+    private final Family<Gauge> beaconsOwned = gauge("cosmos_beacons_owned",
+            "Spirit beacons currently owned by a town", "town");
+    private final Family<Counter> beaconCaptures = counter("cosmos_beacon_captures_total",
+            "Spirit beacon captures", "town");
+    private final Family<Counter> shopPurchases = counter("cosmos_shop_purchases_total",
+            "Zone shop purchases");
+    private final Family<Counter> shopSpent = counter("cosmos_shop_spent_total",
+            "Town resources spent in the zone shop", "resource");
+    private final Family<Gauge> persistenceQueue = gauge("cosmos_persistence_queue_depth",
+            "Writes queued on a background persistence worker", "store");
+
+    public CosmosMetrics(PerfMonitor perfMonitor) {
+        this.perfMonitor = perfMonitor;
+    }
+
+    // ── Event ────────────────────────────────────────────────────────────────────
+
+    public void eventState(String state) {
+        eventState.clear();
+        eventState.labels(state).set(1);
+    }
+
+    // ── Zones ────────────────────────────────────────────────────────────────────
+
+    public void zoneEntered(String kind, String zone) {
+        zonePlayers.labels(kind, zone).add(1);
+    }
+
+    public void zoneLeft(String kind, String zone) {
+        zonePlayers.decrementExisting(kind, zone);
+    }
+
+    /**
+     * Record a zone's tier, on creation, load and tier change
+     */
+    public void zoneTier(String kind, String zone, String tier) {
+        zoneInfo.removeMatching(kind, zone);
+        zoneInfo.labels(kind, zone, tier).set(1);
+    }
+
+    /**
+     * Drop every series for a zone that no longer exists
+     */
+    public void zoneRemoved(String kind, String zone) {
+        zonePlayers.removeMatching(kind, zone);
+        zoneInfo.removeMatching(kind, zone);
+        if (PERMANENT.equals(kind)) {
+            activePoIs.removeMatching(zone);
+            budgetRemaining.removeMatching(zone);
+        }
+    }
+
+    /**
+     * Zero the player gauges of every zone of a kind, when all of them are emptied at once
+     */
+    public void zonesEmptied(String kind) {
+        zonePlayers.removeMatching(kind);
+    }
+
+    public void activePoIs(String zone, int count) {
+        activePoIs.labels(zone).set(count);
+    }
+
+    public void budgetRemaining(String zone, Map<ResourceType, Double> remaining) {
+        for (ResourceType type : ResourceType.values()) {
+            budgetRemaining.labels(zone, type.name()).set(remaining.getOrDefault(type, 0.0));
+        }
+    }
+
+    public void extracted(String zone, Map<ResourceType, Double> amounts) {
+        extractions.labels(zone).inc();
+        for (Map.Entry<ResourceType, Double> entry : amounts.entrySet()) {
+            if (entry.getValue() > 0) {
+                extracted.labels(zone, entry.getKey().name()).add(entry.getValue());
+            }
+        }
+    }
+
+    // ── Beacons ──────────────────────────────────────────────────────────────────
+
+    /**
+     * @param previousTown the town that owned the beacon before, or null
+     */
+    public void beaconCaptured(String previousTown, String town) {
+        if (previousTown != null) {
+            beaconsOwned.decrementExisting(previousTown);
+        }
+        beaconsOwned.labels(town).add(1);
+        beaconCaptures.labels(town).inc();
+    }
+
+    public void beaconLost(String town) {
+        beaconsOwned.decrementExisting(town);
+    }
+
+    public void beaconsReset() {
+        beaconsOwned.clear();
+    }
+
+    // ── Shop ─────────────────────────────────────────────────────────────────────
+
+    public void shopPurchase(Map<ResourceType, Double> prices) {
+        shopPurchases.labels().inc();
+        for (Map.Entry<ResourceType, Double> entry : prices.entrySet()) {
+            if (entry.getValue() > 0) {
+                shopSpent.labels(entry.getKey().name()).add(entry.getValue());
+            }
+        }
+    }
+
+    // ── Persistence ──────────────────────────────────────────────────────────────
+
+    public void writeQueued(String store) {
+        persistenceQueue.labels(store).add(1);
+    }
+
+    public void writeDone(String store) {
+        persistenceQueue.decrementExisting(store);
+    }
+
+    // ── Exposition ───────────────────────────────────────────────────────────────
+
+    /**
+     * Render every series, then the perf timers' running totals (task costs and write latency)
+     */
+    public String render() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Family<?> family : families) {
+            family.render(out);
+        }
+
+        header(out, "cosmos_timer_calls_total", "Calls timed by /cosmos admin perf since startup", "counter");
+        for (PerfMonitor.Timer timer : perfMonitor.getTimers()) {
+            sample(out, "cosmos_timer_calls_total", new String[]{"timer"}, List.of(timer.getName()), timer.getTotalCalls());
+        }
+        header(out, "cosmos_timer_seconds_total", "Time spent in calls timed by /cosmos admin perf since startup", "counter");
+        for (PerfMonitor.Timer timer : perfMonitor.getTimers()) {
+            sample(out, "cosmos_timer_seconds_total", new String[]{"timer"}, List.of(timer.getName()), timer.getTotalNanos() / 1e9);
+        }
+        return out.toString();
+    }
+
+    private Family<Counter> counter(String name, String help, String... labelNames) {
+        Family<Counter> family = new Family<>(name, help, "counter", labelNames, Counter::new);
+        families.add(family);
+        return family;
+    }
+
+    private Family<Gauge> gauge(String name, String help, String... labelNames) {
+        Family<Gauge> family = new Family<>(name, help, "gauge", labelNames, Gauge::new);
+        families.add(family);
+        return family;
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String[] labelNames, List<String> labelValues, double value) {
+        out.append(name);
+        if (labelNames.length > 0) {
+            out.append('{');
+            for (int i = 0; i < labelNames.length; i++) {
+                if (i > 0) out.append(',');
+                out.append(labelNames[i]).append("=\"");
+                escape(out, labelValues.get(i));
+                out.append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static void escape(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    /**
+     * One metric name and its labelled series
+     */
+    private static final class Family<S extends Value> {
+
+        private final String name;
+        private final String help;
+        private final String type;
+        private final String[] labelNames;
+        private final Supplier<S> factory;
+        private final Map<List<String>, S> series = new ConcurrentHashMap<>();
+
+        private Family(String name, String help, String type, String[] labelNames, Supplier<S> factory) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.labelNames = labelNames;
+            this.factory = factory;
+        }
+
+        S labels(String... values) {
+            return series.computeIfAbsent(List.of(values), key -> factory.get());
+        }
+
+        /**
+         * Decrement a gauge, unless its series was removed (zone deleted, gauges reset) since it was raised
+         */
+        void decrementExisting(String... values) {
+            S value = series.get(List.of(values));
+            if (value instanceof Gauge gauge) {
+                gauge.add(-1);
+            }
+        }
+
+        /**
+         * Remove the series whose leading label values equal {@code prefix}
+         */
+        void removeMatching(String... prefix) {
+            List<String> match = Arrays.asList(prefix);
+            series.keySet().removeIf(labels -> labels.subList(0, prefix.length).equals(match));
+        }
+
+        void clear() {
+            series.clear();
+        }
+
+        void render(StringBuilder out) {
+            header(out, name, help, type);
+            series.forEach((labels, value) -> sample(out, name, labelNames, labels, value.get()));
+        }
+    }
+
+    private interface Value {
+        double get();
+    }
+
+    private static final class Counter implements Value {
+
+        private final DoubleAdder value = new DoubleAdder();
+
+        void inc() {
+            value.add(1);
+        }
+
+        void add(double amount) {
+            value.add(amount);
+        }
+
+        @Override
+        public double get() {
+            return value.sum();
+        }
+    }
+
+    private static final class Gauge implements Value {
+
+        private final AtomicLong bits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+
+        void set(double value) {
+            bits.set(Double.doubleToRawLongBits(value));
+        }
+
+        void add(double delta) {
+            long current;
+            do {
+                current = bits.get();
+            } while (!bits.compareAndSet(current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + delta)));
+        }
+
+        @Override
+        public double get() {
+            return Double.longBitsToDouble(bits.get());
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package net.mysterria.cosmos.toolkit;
+
+import net.mysterria.cosmos.CosmosPlugin;
+import net.mysterria.cosmos.config.CosmosConfig;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Single per-tick driver for every recurring plugin task.
+ * <p>
+ * Tasks register as named phases and run in registration order from one global timer:
+ * <ul>
+ *   <li><b>Periodic phases</b> run every N ticks. Each gets the offset within its period that collides
+ *       least with the phases already registered, so a 5-tick and a 20-tick phase no longer both land on
+ *       tick 20. Once the tick's work exceeds {@code scheduler.tick-budget-ms}, due phases are carried to
+ *       the next tick, but never so late that a run is skipped.</li>
+ *   <li><b>Player phases</b> visit each registered player once every N ticks, a bucket of slots
+ *       ({@code slot mod N}) per tick. Each player phase stops when it has used
+ *       {@code scheduler.player-phase-budget-ms} in a tick, or the tick budget is already spent, and resumes
+ *       from the same slot on the next. Only the newest bucket is deferred that way; a bucket left over from
+ *       the previous tick is always finished, so no player misses a cycle.</li>
+ * </ul>
+ * Runs on the global tick thread; on Folia per-player work is handed to each player's entity scheduler.
+ */
+public class CosmosScheduler {
+
+    private final CosmosPlugin plugin;
+    private final PlayerRegistry playerRegistry;
+    private final List<Phase> phases = new CopyOnWriteArrayList<>();
+
+    private final PerfMonitor perfMonitor;
+    private final PerfMonitor.Timer driverTimer;
+
+    private long currentTick;
+    private PlatformScheduler.Task driver;
+
+    public CosmosScheduler(CosmosPlugin plugin) {
+        this.plugin = plugin;
+        this.playerRegistry = plugin.getPlayerRegistry();
+        this.perfMonitor = plugin.getPerfMonitor();
+        this.driverTimer = perfMonitor.timer("scheduler.tick");
+    }
+
+    /**
+     * Start the driver timer
+     */
+    public void start() {
+        if (driver == null) {
+            driver = plugin.getPlatformScheduler().runTimer(this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop the driver and drop every phase
+     */
+    public void stop() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+        phases.clear();
+    }
+
+    // ── Registration ─────────────────────────────────────────────────────────────
+
+    /**
+     * Run a task every periodTicks, at the least crowded offset
+     */
+    public PlatformScheduler.Task every(String name, long periodTicks, Runnable task) {
+        long period = Math.max(1L, periodTicks);
+        PeriodicPhase phase = new PeriodicPhase(name, period, task);
+        phase.nextDue = currentTick + 1 + Math.floorMod(pickOffset(period) - (currentTick + 1), period);
+        return register(phase);
+    }
+
+    /**
+     * Visit every registered player once every periodTicks, spreading players across ticks by slot
+     */
+    public PlatformScheduler.Task everyPlayer(String name, int periodTicks, PlayerPhase task) {
+        return register(new PlayerSlicePhase(name, Math.max(1, periodTicks), task));
+    }
+
+    private PlatformScheduler.Task register(Phase phase) {
+        phases.add(phase);
+        return () -> phases.remove(phase);
+    }
+
+    /**
+     * Offset in [0, period) sharing the fewest ticks with existing periodic phases. Two periods p and q
+     * with offsets a and b coincide iff a ≡ b (mod gcd(p, q)), once every lcm(p, q) ticks.
+     */
+    private long pickOffset(long period) {
+        long best = 0;
+        double bestCost = Double.MAX_VALUE;
+        for (long offset = 0; offset < period; offset++) {
+            double cost = 0;
+            for (Phase phase : phases) {
+                if (!(phase instanceof PeriodicPhase other) || other.period == 1) continue;
+                long gcd = gcd(period, other.period);
+                if (Math.floorMod(offset - other.nextDue, gcd) == 0) {
+                    cost += (double) gcd / (period * other.period);
+                }
+            }
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = offset;
+            }
+        }
+        return best;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    // ── Driver ───────────────────────────────────────────────────────────────────
+
+    private void tick() {
+        currentTick++;
+        long timerStart = driverTimer.start();
+        long tickStart = System.nanoTime();
+        long tickBudget = (long) (config().getSchedulerTickBudgetMs() * 1_000_000L);
+
+        for (Phase phase : phases) {
+            try {
+                phase.tick(tickStart, tickBudget);
+            } catch (Exception e) {
+                plugin.log("Error in scheduler phase " + phase.name + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+        driverTimer.stop(timerStart);
+    }
+
+    private abstract class Phase {
+
+        final String name;
+        // Recorded only on ticks the phase does work
+        final PerfMonitor.Timer timer;
+
+        Phase(String name) {
+            this.name = name;
+            this.timer = perfMonitor.timer("task." + name);
+        }
+
+        abstract void tick(long tickStart, long tickBudget);
+    }
+
+    private final class PeriodicPhase extends Phase {
+
+        final long period;
+        final Runnable task;
+        long nextDue;
+
+        PeriodicPhase(String name, long period, Runnable task) {
+            super(name);
+            this.period = period;
+            this.task = task;
+        }
+
+        @Override
+        void tick(long tickStart, long tickBudget) {
+            if (currentTick < nextDue) return;
+
+            // Over budget: carry to the next tick, unless that would skip a whole run
+            boolean overBudget = System.nanoTime() - tickStart > tickBudget;
+            if (overBudget && currentTick - nextDue < period - 1) return;
+
+            nextDue += period;
+            long start = timer.start();
+            try {
+                task.run();
+            } finally {
+                timer.stop(start);
+            }
+        }
+    }
+
+    private final class PlayerSlicePhase extends Phase {
+
+        final int stride;
+        final PlayerPhase task;
+        int bucket;
+        // Next slot to visit in the current bucket, or -1 if the bucket has not started
+        int nextSlot = -1;
+        // Buckets that are due but not finished: the current one, plus at most one carried from last tick
+        int dueBuckets;
+
+        PlayerSlicePhase(String name, int stride, PlayerPhase task) {
+            super(name);
+            this.stride = stride;
+            this.task = task;
+        }
+
+        @Override
+        void tick(long tickStart, long tickBudget) {
+            dueBuckets++;
+            boolean overTickBudget = System.nanoTime() - tickStart > tickBudget;
+            if (overTickBudget && dueBuckets == 1) return;
+
+            long start = System.nanoTime();
+            long budget = overTickBudget ? 0L : (long) (config().getSchedulerPlayerPhaseBudgetMs() * 1_000_000L);
+            // On Folia only the dispatch is timed; the per-player work runs on region threads
+            long timerStart = timer.start();
+            try {
+                visitDueBuckets(start, budget);
+            } finally {
+                timer.stop(timerStart);
+            }
+        }
+
+        /**
+         * Visit due buckets until they run out or the budget is spent. Only the newest bucket waits for the
+         * budget; one carried over from the previous tick is finished regardless.
+         */
+        private void visitDueBuckets(long start, long budget) {
+            while (dueBuckets > 0) {
+                boolean deferrable = dueBuckets == 1;
+                if (nextSlot < 0) {
+                    if (deferrable && System.nanoTime() - start > budget) return;
+                    if (bucket == 0) task.beginCycle();
+                    nextSlot = bucket;
+                }
+
+                int limit = playerRegistry.getSlotLimit();
+                while (nextSlot < limit) {
+                    // Stop at the budget and resume here next tick
+                    if (deferrable && System.nanoTime() - start > budget) return;
+                    int slot = nextSlot;
+                    nextSlot += stride;
+                    Player player = playerRegistry.playerAt(slot);
+                    if (player != null) {
+                        dispatch(player, slot);
+                    }
+                }
+
+                nextSlot = -1;
+                bucket = (bucket + 1) % stride;
+                dueBuckets--;
+            }
+        }
+
+        private void dispatch(Player player, int slot) {
+            plugin.getPlatformScheduler().runFor(player, () -> {
+                // On Folia the slot may have been freed before this runs
+                if (playerRegistry.slotOf(player) != slot) return;
+                try {
+                    task.tickPlayer(player, slot);
+                } catch (Exception e) {
+                    plugin.log("Error in scheduler phase " + name + " for " + player.getName() + ": " + e.getMessage());
+                    e.printStackTrace();
+                }
+            });
+        }
+    }
+
+    /**
+     * Per-player work driven by {@link #everyPlayer}
+     */
+    public interface PlayerPhase {
+
+        /**
+         * Called on the tick thread before the first bucket of each cycle
+         */
+        default void beginCycle() {
+        }
+
+        void tickPlayer(Player player, int slot);
+    }
+
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
+}
@@ -0,0 +1,208 @@
+package net.mysterria.cosmos.toolkit;
+
+import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.toolkit.jfr.EnforcementTeleportEvent;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.metadata.FixedMetadataValue;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single entry point for teleports the plugin forces on players: zone push-outs and pull-backs,
+ * extraction exits and Hollow Body reconnects.
+ * <p>
+ * The destination chunk is loaded with {@code getChunkAtAsync}, the landing spot is resolved from a
+ * snapshot of that chunk on the thread that owns it, and the player is moved with {@code teleportAsync}
+ * from the player's own thread, so enforcement never blocks the tick thread on chunk I/O. At most one enforcement teleport per player is in flight;
+ * further requests for that player return {@link Result#BUSY} until it lands ({@link #whenIdle} to wait).
+ */
+public class EnforcementTeleporter {
+
+    // Blocks searched above and below the requested Y for NEAREST_GROUND
+    private static final int GROUND_SEARCH_RANGE = 20;
+
+    public enum Placement {
+        /** Use the target as-is */
+        EXACT,
+        /** Stand on the highest block of the target column */
+        SURFACE,
+        /** Nearest solid, non-hazardous ground with two passable blocks above, searched around the target Y */
+        NEAREST_GROUND
+    }
+
+    public enum Result {
+        MOVED,
+        NO_SAFE_SPOT,
+        REFUSED,
+        BUSY
+    }
+
+    private final CosmosIncursion plugin;
+    // Player -> completes with the in-flight teleport's result
+    private final Map<UUID, CompletableFuture<Result>> pending = new ConcurrentHashMap<>();
+
+    public EnforcementTeleporter(CosmosIncursion plugin) {
+        this.plugin = plugin;
+    }
+
+    public CompletableFuture<Result> teleport(Player player, Location target, Placement placement) {
+        return teleport(player, target, placement, null);
+    }
+
+    /**
+     * Resolve a landing spot near the target and move the player there.
+     * @param bypassMetadata metadata key set on the player until the teleport completes (lets it pass
+     *                       zone-exit checks), or null
+     * @return completes on the player's thread once the player has moved or the request was dropped;
+     *         {@link Result#BUSY} completes at once, and {@link Result#REFUSED} on any thread if the player
+     *         was removed first
+     */
+    public CompletableFuture<Result> teleport(Player player, Location target, Placement placement, String bypassMetadata) {
+        World world = target.getWorld();
+        if (world == null) {
+            return CompletableFuture.completedFuture(Result.NO_SAFE_SPOT);
+        }
+        UUID playerId = player.getUniqueId();
+        CompletableFuture<Result> done = new CompletableFuture<>();
+        if (pending.putIfAbsent(playerId, done) != null) {
+            return CompletableFuture.completedFuture(Result.BUSY);
+        }
+
+        Location requested = target.clone();
+        EnforcementTeleportEvent event = EnforcementTeleportEvent.start(player.getName(), world.getName(),
+                requested.getBlockX(), requested.getBlockZ(), placement.name(), bypassMetadata);
+        PlatformScheduler scheduler = plugin.getPlatformScheduler();
+        world.getChunkAtAsync(requested.getBlockX() >> 4, requested.getBlockZ() >> 4)
+                // The chunk may only be read on the region that owns it
+                .thenApplyAsync(chunk -> resolve(chunk, requested, placement), scheduler.at(requested))
+                .thenCompose(destination -> {
+                    if (destination == null) {
+                        return CompletableFuture.completedFuture(Result.NO_SAFE_SPOT);
+                    }
+                    CompletableFuture<Result> moved = new CompletableFuture<>();
+                    scheduler.runFor(player, () -> {
+                        if (!player.isOnline()) {
+                            moved.complete(Result.REFUSED);
+                            return;
+                        }
+                        if (bypassMetadata != null) {
+                            player.setMetadata(bypassMetadata, new FixedMetadataValue(plugin, true));
+                        }
+                        player.teleportAsync(destination).whenComplete((teleported, throwable) -> {
+                            if (throwable != null) {
+                                moved.completeExceptionally(throwable);
+                            } else {
+                                moved.complete(teleported ? Result.MOVED : Result.REFUSED);
+                            }
+                        });
+                    }, () -> moved.complete(Result.REFUSED));
+                    return moved;
+                })
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        plugin.log("Enforcement teleport failed for " + player.getName() + ": " + throwable.getMessage());
+                    }
+                    Result outcome = throwable != null ? Result.REFUSED : result;
+                    event.finish(throwable != null ? "FAILED" : outcome.name());
+                    // Resolve and chunk-load stages finish on other threads; hand the result back to the player's
+                    scheduler.runFor(player,
+                            () -> finish(player, done, outcome, bypassMetadata),
+                            () -> finish(player, done, Result.REFUSED, bypassMetadata));
+                });
+        return done;
+    }
+
+    private void finish(Player player, CompletableFuture<Result> done, Result result, String bypassMetadata) {
+        pending.remove(player.getUniqueId(), done);
+        if (bypassMetadata != null) {
+            player.removeMetadata(bypassMetadata, plugin);
+        }
+        done.complete(result);
+    }
+
+    /**
+     * Check if an enforcement teleport is still in flight for the player
+     */
+    public boolean isPending(UUID playerId) {
+        return pending.containsKey(playerId);
+    }
+
+    /**
+     * Completes once the player's in-flight enforcement teleport has finished, or at once if there is none.
+     * May complete on any thread.
+     */
+    public CompletableFuture<Void> whenIdle(UUID playerId) {
+        CompletableFuture<Result> inFlight = pending.get(playerId);
+        return inFlight == null ? CompletableFuture.completedFuture(null) : inFlight.thenApply(result -> null);
+    }
+
+    private Location resolve(Chunk chunk, Location target, Placement placement) {
+        if (placement == Placement.EXACT) {
+            return target;
+        }
+
+        ChunkSnapshot snapshot = chunk.getChunkSnapshot(placement == Placement.SURFACE, false, false);
+        int localX = target.getBlockX() & 15;
+        int localZ = target.getBlockZ() & 15;
+
+        if (placement == Placement.SURFACE) {
+            Location destination = target.clone();
+            destination.setY(snapshot.getHighestBlockYAt(localX, localZ) + 1.0);
+            return destination;
+        }
+
+        World world = chunk.getWorld();
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
+        int startY = target.getBlockY();
+
+        // Try going up first, then down, widening one block at a time
+        for (int dy = 0; dy <= GROUND_SEARCH_RANGE; dy++) {
+            int checkY = startY + dy;
+            if (isSafeSpot(snapshot, localX, checkY, localZ, minY, maxY)) {
+                return groundLocation(target, checkY);
+            }
+            if (dy > 0) {
+                checkY = startY - dy;
+                if (isSafeSpot(snapshot, localX, checkY, localZ, minY, maxY)) {
+                    return groundLocation(target, checkY);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Location groundLocation(Location target, int y) {
+        return new Location(target.getWorld(), target.getBlockX() + 0.5, y, target.getBlockZ() + 0.5,
+                target.getYaw(), target.getPitch());
+    }
+
+    /**
+     * Solid, non-hazardous ground with two passable blocks above
+     */
+    private static boolean isSafeSpot(ChunkSnapshot snapshot, int x, int y, int z, int minY, int maxY) {
+        if (y <= minY || y >= maxY - 2) {
+            return false;
+        }
+
+        Material ground = snapshot.getBlockType(x, y, z);
+        if (!ground.isSolid() || ground == Material.MAGMA_BLOCK || ground == Material.CACTUS) {
+            return false;
+        }
+
+        return isPassable(snapshot.getBlockType(x, y + 1, z)) && isPassable(snapshot.getBlockType(x, y + 2, z));
+    }
+
+    private static boolean isPassable(Material type) {
+        return !type.isSolid() && type != Material.LAVA;
+    }
+
+}
@@ -0,0 +1,185 @@
+package net.mysterria.cosmos.toolkit;
+
+import net.mysterria.cosmos.CosmosPlugin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for expiring per-player and per-town state.
+ * <p>
+ * Components register an expiry callback when they write a time-limited entry (cooldowns, repeat-kill
+ * streaks, Corrupted Monster status, Hollow Bodies, buffs) and remove the entry from inside the callback,
+ * so nothing is ever found by sweeping a whole map. Each callback fires exactly once, on the first tick
+ * at or after its deadline, unless cancelled first.
+ * <p>
+ * Five levels of 64 slots each cover 1 tick, 64 ticks, ~3.4 minutes, ~3.6 hours and ~9.7 days per slot
+ * (about 621 days in total). Entries sit in the coarsest level that fits and cascade down as their slot
+ * comes up, so each tick touches one level-0 bucket and, every 64 ticks, one higher-level bucket.
+ * The wheel follows {@link GameClock} time: if the server lags, the next {@link #tick()} catches up and fires
+ * everything that fell due in the meantime. Scheduling and cancelling are thread-safe (on Folia they
+ * happen on region threads); callbacks run on the thread that calls {@link #tick()}, outside the lock.
+ */
+public class ExpiryService {
+
+    private static final long TICK_MILLIS = 50L;
+    private static final int LEVELS = 5;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final CosmosPlugin plugin;
+    private final long startMillis;
+    private final List<List<Timer>> wheels = new ArrayList<>(LEVELS * SLOTS);
+
+    private long currentTick;
+    private int pendingCount;
+
+    public ExpiryService(CosmosPlugin plugin) {
+        this.plugin = plugin;
+        this.startMillis = GameClock.millis();
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            wheels.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Run a callback once the delay has elapsed
+     */
+    public synchronized Timer schedule(long delayMillis, Runnable onExpire) {
+        long delayTicks = Math.max(1L, (delayMillis + TICK_MILLIS - 1) / TICK_MILLIS);
+        // Count from the clock, not the last tick(): after a stall currentTick lags until the catch-up
+        long nowTick = Math.max(currentTick, clockTick());
+        long deadlineTick = Math.min(nowTick + delayTicks, currentTick + MAX_DELAY_TICKS);
+        Timer timer = new Timer(deadlineTick, onExpire);
+        insert(timer);
+        pendingCount++;
+        return timer;
+    }
+
+    /**
+     * Run a callback once the game clock reaches the given epoch millisecond
+     */
+    public Timer scheduleAt(long epochMillis, Runnable onExpire) {
+        return schedule(epochMillis - GameClock.millis(), onExpire);
+    }
+
+    /**
+     * Advance the wheel to the current game-clock tick, firing everything that fell due.
+     * Called every server tick.
+     */
+    public void tick() {
+        List<Timer> due = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = clockTick();
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                collectDue(due);
+            }
+        }
+
+        for (Timer timer : due) {
+            try {
+                timer.onExpire.run();
+            } catch (Exception e) {
+                plugin.log("Expiry callback failed: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Number of scheduled callbacks that have neither fired nor been cancelled
+     */
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    private long clockTick() {
+        return (GameClock.millis() - startMillis) / TICK_MILLIS;
+    }
+
+    private void cascade() {
+        // A level's slot comes up once every lower level has wrapped around
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            List<Timer> bucket = takeBucket(level, (int) ((currentTick >>> shift) & SLOT_MASK));
+            for (Timer timer : bucket) {
+                if (!timer.cancelled) {
+                    insert(timer);
+                }
+            }
+        }
+    }
+
+    private void collectDue(List<Timer> due) {
+        List<Timer> bucket = takeBucket(0, (int) (currentTick & SLOT_MASK));
+        for (Timer timer : bucket) {
+            if (timer.cancelled) continue;
+            timer.cancelled = true;
+            pendingCount--;
+            due.add(timer);
+        }
+    }
+
+    private void insert(Timer timer) {
+        long delta = timer.deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        // Already due (only during a cascade): the current level-0 slot is fired right after
+        long deadline = Math.max(timer.deadlineTick, currentTick);
+        int slot = (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        wheels.get(level * SLOTS + slot).add(timer);
+    }
+
+    private List<Timer> takeBucket(int level, int slot) {
+        int index = level * SLOTS + slot;
+        List<Timer> bucket = wheels.get(index);
+        if (bucket.isEmpty()) {
+            return bucket;
+        }
+        // Swap in a fresh list so the bucket can be drained while new timers land in this slot
+        wheels.set(index, new ArrayList<>());
+        return bucket;
+    }
+
+    /**
+     * Handle to a scheduled callback
+     */
+    public final class Timer {
+        private final long deadlineTick;
+        private final Runnable onExpire;
+        private boolean cancelled;
+
+        private Timer(long deadlineTick, Runnable onExpire) {
+            this.deadlineTick = deadlineTick;
+            this.onExpire = onExpire;
+        }
+
+        /**
+         * Stop the callback from firing. The slot entry is dropped when its bucket comes up.
+         */
+        public void cancel() {
+            synchronized (ExpiryService.this) {
+                if (!cancelled) {
+                    cancelled = true;
+                    pendingCount--;
+                }
+            }
+        }
+
+        public boolean isCancelled() {
+            synchronized (ExpiryService.this) {
+                return cancelled;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package net.mysterria.cosmos.toolkit;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Current time for gameplay state: event duration and cooldown, capture decay, PoI and extraction point
+ * lifetimes, daily budgets, death and Corrupted Monster cooldowns, buffs, Hollow Bodies and the
+ * {@link ExpiryService} wheel.
+ * <p>
+ * Defaults to the system clock. The headless cycle simulator installs a manually advanced clock so whole
+ * event cycles and budget days replay in milliseconds. Tick-time measurement, cache ages, message
+ * throttles and particle animation stay on the real clock.
+ */
+public final class GameClock {
+
+    private static volatile Clock clock = Clock.systemUTC();
+
+    private GameClock() {
+    }
+
+    /**
+     * Current gameplay time in epoch milliseconds
+     */
+    public static long millis() {
+        return clock.millis();
+    }
+
+    public static Clock get() {
+        return clock;
+    }
+
+    /**
+     * Replace the clock, for simulation only; live code never calls this
+     */
+    public static void set(Clock replacement) {
+        clock = Objects.requireNonNull(replacement, "clock");
+    }
+
+    /**
+     * Go back to the system clock
+     */
+    public static void reset() {
+        clock = Clock.systemUTC();
+    }
+}
@@ -0,0 +1,314 @@
+package net.mysterria.cosmos.toolkit;
+
+import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.domain.combat.model.HollowBody;
+import net.mysterria.cosmos.toolkit.jfr.PersistenceWriteEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes Hollow Body inventories to compact byte arrays and persists Hollow Bodies across restarts.
+ * <p>
+ * Item serialization ({@link ItemStack#serializeAsBytes()}) and file I/O run on a single worker thread,
+ * so a mass disconnect never serializes inventories on the tick thread. One file per combat-logged player
+ * lives under {@code hollow_bodies/}; it is written when the body is created or killed and deleted when
+ * the body is resolved or expires.
+ */
+public class HollowBodyStore {
+
+    // 2: signed skin textures; version 1 files are still read, without a skin
+    private static final int FORMAT_VERSION = 2;
+    private static final String METRICS_STORE = "hollow-bodies";
+
+    private final CosmosIncursion plugin;
+    private final File directory;
+    private final ExecutorService ioWorker;
+    private final PerfMonitor.Timer writeTimer;
+
+    public HollowBodyStore(CosmosIncursion plugin) {
+        this.plugin = plugin;
+        this.writeTimer = plugin.getPerfMonitor().timer("io.hollow-body-write");
+        this.directory = new File(plugin.getDataFolder(), "hollow_bodies");
+        this.ioWorker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Cosmos-HollowBody-IO");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Serialize the body's captured items (if not done yet) and write the body to disk.
+     * Items must already be private copies that nothing else mutates.
+     * @return completes on the worker thread with the serialized items
+     */
+    public CompletableFuture<byte[]> save(HollowBody hollowBody) {
+        Snapshot snapshot = Snapshot.of(hollowBody);
+        plugin.getMetrics().writeQueued(METRICS_STORE);
+        return CompletableFuture.supplyAsync(() -> {
+            byte[] itemData = snapshot.itemData() != null
+                    ? snapshot.itemData()
+                    : serializeItems(snapshot.inventory(), snapshot.armor());
+            long start = writeTimer.start();
+            PersistenceWriteEvent writeEvent = PersistenceWriteEvent.start(directory.getName() + "/" + fileFor(snapshot.playerId()).getName());
+            try {
+                write(snapshot, itemData);
+            } finally {
+                writeTimer.stop(start);
+                writeEvent.finish(1);
+            }
+            return itemData;
+        }, ioWorker).whenComplete((itemData, throwable) -> {
+            plugin.getMetrics().writeDone(METRICS_STORE);
+            if (throwable != null) {
+                plugin.log("Failed to persist Hollow Body for " + snapshot.playerName() + ": " + throwable.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Delete a body's file once it is resolved or expired
+     */
+    public void delete(UUID playerId) {
+        plugin.getMetrics().writeQueued(METRICS_STORE);
+        ioWorker.execute(() -> {
+            try {
+                File file = fileFor(playerId);
+                if (file.exists() && !file.delete()) {
+                    plugin.log("Failed to delete Hollow Body file " + file.getName());
+                }
+            } finally {
+                plugin.getMetrics().writeDone(METRICS_STORE);
+            }
+        });
+    }
+
+    /**
+     * Read every persisted body. Called once on startup, on the main thread.
+     */
+    public List<HollowBody> loadAll() {
+        List<HollowBody> bodies = new ArrayList<>();
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".dat"));
+        if (files == null) {
+            return bodies;
+        }
+
+        for (File file : files) {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
+                HollowBody body = read(in);
+                if (body != null) {
+                    bodies.add(body);
+                }
+            } catch (IOException | RuntimeException e) {
+                plugin.log("Skipping unreadable Hollow Body file " + file.getName() + ": " + e.getMessage());
+            }
+        }
+        return bodies;
+    }
+
+    /**
+     * Finish pending writes. Call on plugin disable.
+     */
+    public void shutdown() {
+        ioWorker.shutdown();
+        try {
+            if (!ioWorker.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.log("Timed out flushing Hollow Body files");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ── Item serialization ───────────────────────────────────────────────────────
+
+    /**
+     * Pack inventory and armor as [count, (length, bytes)...] per array; length -1 marks an empty slot
+     */
+    public static byte[] serializeItems(ItemStack[] inventory, ItemStack[] armor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeItems(out, inventory);
+            writeItems(out, armor);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize Hollow Body items", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @return {inventory, armor}
+     */
+    public static ItemStack[][] deserializeItems(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            return new ItemStack[][]{readItems(in), readItems(in)};
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to deserialize Hollow Body items", e);
+        }
+    }
+
+    private static void writeItems(DataOutputStream out, ItemStack[] items) throws IOException {
+        if (items == null) {
+            out.writeInt(0);
+            return;
+        }
+        out.writeInt(items.length);
+        for (ItemStack item : items) {
+            if (item == null || item.isEmpty()) {
+                out.writeInt(-1);
+                continue;
+            }
+            byte[] itemBytes = item.serializeAsBytes();
+            out.writeInt(itemBytes.length);
+            out.write(itemBytes);
+        }
+    }
+
+    private static ItemStack[] readItems(DataInputStream in) throws IOException {
+        ItemStack[] items = new ItemStack[in.readInt()];
+        for (int i = 0; i < items.length; i++) {
+            int length = in.readInt();
+            if (length < 0) continue;
+            byte[] itemBytes = new byte[length];
+            in.readFully(itemBytes);
+            items[i] = ItemStack.deserializeBytes(itemBytes);
+        }
+        return items;
+    }
+
+    // ── Files ────────────────────────────────────────────────────────────────────
+
+    private File fileFor(UUID playerId) {
+        return new File(directory, playerId + ".dat");
+    }
+
+    private void write(Snapshot snapshot, byte[] itemData) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IllegalStateException("Cannot create " + directory);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(itemData.length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(snapshot.playerId().getMostSignificantBits());
+            out.writeLong(snapshot.playerId().getLeastSignificantBits());
+            out.writeUTF(snapshot.playerName());
+            out.writeLong(snapshot.spawnTime());
+            out.writeLong(snapshot.despawnTime());
+            writeLocation(out, snapshot.spawnLocation());
+            out.writeBoolean(snapshot.wasKilled());
+            out.writeBoolean(snapshot.deathLocation() != null);
+            if (snapshot.deathLocation() != null) {
+                writeLocation(out, snapshot.deathLocation());
+            }
+            out.writeInt(itemData.length);
+            out.write(itemData);
+            boolean hasSkin = snapshot.skinTexture() != null && snapshot.skinSignature() != null;
+            out.writeBoolean(hasSkin);
+            if (hasSkin) {
+                out.writeUTF(snapshot.skinTexture());
+                out.writeUTF(snapshot.skinSignature());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode Hollow Body", e);
+        }
+
+        // Write to a temp file first so a crash mid-write never leaves a truncated body
+        File file = fileFor(snapshot.playerId());
+        File temp = new File(directory, file.getName() + ".tmp");
+        try {
+            Files.write(temp.toPath(), bytes.toByteArray());
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write " + file.getName(), e);
+        }
+    }
+
+    private HollowBody read(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION && version != 1) {
+            throw new IOException("unsupported format version " + version);
+        }
+        UUID playerId = new UUID(in.readLong(), in.readLong());
+        String playerName = in.readUTF();
+        long spawnTime = in.readLong();
+        long despawnTime = in.readLong();
+        Location spawnLocation = readLocation(in);
+        boolean wasKilled = in.readBoolean();
+        Location deathLocation = in.readBoolean() ? readLocation(in) : null;
+        byte[] itemData = new byte[in.readInt()];
+        in.readFully(itemData);
+        String skinTexture = null;
+        String skinSignature = null;
+        if (version >= 2 && in.readBoolean()) {
+            skinTexture = in.readUTF();
+            skinSignature = in.readUTF();
+        }
+
+        if (spawnLocation == null) {
+            plugin.log("Hollow Body for " + playerName + " is in an unloaded world, skipping");
+            return null;
+        }
+        return HollowBody.restore(playerId, playerName, spawnLocation, spawnTime, despawnTime,
+                wasKilled, deathLocation, itemData, skinTexture, skinSignature);
+    }
+
+    private static void writeLocation(DataOutputStream out, Location location) throws IOException {
+        out.writeLong(location.getWorld().getUID().getMostSignificantBits());
+        out.writeLong(location.getWorld().getUID().getLeastSignificantBits());
+        out.writeDouble(location.getX());
+        out.writeDouble(location.getY());
+        out.writeDouble(location.getZ());
+        out.writeFloat(location.getYaw());
+        out.writeFloat(location.getPitch());
+    }
+
+    /**
+     * @return null if the world is not loaded
+     */
+    private static Location readLocation(DataInputStream in) throws IOException {
+        World world = Bukkit.getWorld(new UUID(in.readLong(), in.readLong()));
+        double x = in.readDouble();
+        double y = in.readDouble();
+        double z = in.readDouble();
+        float yaw = in.readFloat();
+        float pitch = in.readFloat();
+        return world != null ? new Location(world, x, y, z, yaw, pitch) : null;
+    }
+
+    /**
+     * Main-thread copy of everything written to disk, handed to the worker
+     */
+    private record Snapshot(UUID playerId, String playerName, long spawnTime, long despawnTime,
+                            Location spawnLocation, boolean wasKilled, Location deathLocation,
+                            ItemStack[] inventory, ItemStack[] armor, byte[] itemData,
+                            String skinTexture, String skinSignature) {
+
+        static Snapshot of(HollowBody body) {
+            return new Snapshot(body.getPlayerId(), body.getPlayerName(), body.getSpawnTime(), body.getDespawnTime(),
+                    body.getSpawnLocation().clone(), body.isWasKilled(),
+                    body.getDeathLocation() != null ? body.getDeathLocation().clone() : null,
+                    body.getCapturedInventory(), body.getCapturedArmor(), body.getItemData(),
+                    body.getSkinTexture(), body.getSkinSignature());
+        }
+    }
+
+}
@@ -0,0 +1,361 @@
+package net.mysterria.cosmos.toolkit;
+
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import net.mysterria.cosmos.CosmosPlugin;
+import net.mysterria.cosmos.config.CosmosConfig;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.SoundCategory;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-player action bar, title and sound output, coalesced to at most one action bar and one title per
+ * player per tick.
+ * <p>
+ * Producers submit to a {@link Slot}; slots are declared highest priority first. A submitted action bar
+ * keeps its slot for {@code hud.action-bar-hold-ticks}, so a one-shot notice is not overwritten by the next
+ * progress update a tick later. On flush the highest-priority live slot is sent, but only if it differs from
+ * what the player last received or the client has started to fade it. A title is dropped while a
+ * higher-priority or identical title is still on screen. Identical sounds queued for a player in the same
+ * tick play once, at the loudest volume.
+ * <p>
+ * On Paper pending output is flushed by the {@code hud} scheduler phase, registered last so it sees the
+ * tick's submissions; on Folia each player's output is flushed on the player's next entity tick. Submit
+ * from the thread that owns the player. Players without a registry slot (NPCs) are sent to directly.
+ */
+public class HudCompositor {
+
+    /**
+     * Action bar and title sources, highest priority first
+     */
+    public enum Slot {
+        /** Incursion zone entry and exit notices */
+        ZONE,
+        /** Denials and interruptions */
+        ALERT,
+        /** Extraction channel progress */
+        EXTRACTION,
+        /** Spirit beacon capture status */
+        BEACON,
+        /** Resources carried in a permanent zone */
+        RESOURCES
+    }
+
+    private static final Slot[] SLOTS = Slot.values();
+    private static final long TICK_MILLIS = 50L;
+
+    private final CosmosPlugin plugin;
+    private final PlayerRegistry playerRegistry;
+    private final PlayerRegistry.ObjectColumn<PlayerHud> huds;
+
+    @Getter
+    private final Counters actionBarCounters = new Counters();
+    @Getter
+    private final Counters titleCounters = new Counters();
+    @Getter
+    private final Counters soundCounters = new Counters();
+
+    // Paper: slots with pending output, flushed once per tick by the hud phase
+    private int[] dirtySlots = new int[64];
+    private int dirtyCount;
+
+    public HudCompositor(CosmosPlugin plugin) {
+        this.plugin = plugin;
+        this.playerRegistry = plugin.getPlayerRegistry();
+        this.huds = playerRegistry.objectColumn();
+    }
+
+    // ── Producers ────────────────────────────────────────────────────────────────
+
+    public void actionBar(Player player, Slot slot, Component message) {
+        actionBarCounters.submitted.increment();
+        int playerSlot = playerRegistry.slotOf(player);
+        if (playerSlot < 0) {
+            actionBarCounters.sent.increment();
+            player.sendActionBar(message);
+            return;
+        }
+
+        PlayerHud hud = hud(playerSlot);
+        int index = slot.ordinal();
+        if (hud.actionBarPending[index]) {
+            actionBarCounters.superseded.increment();
+        }
+        hud.actionBars[index] = message;
+        hud.actionBarLiveUntil[index] = System.currentTimeMillis() + holdMillis();
+        hud.actionBarPending[index] = true;
+        hud.actionBarDirty = true;
+        queue(player, playerSlot, hud);
+    }
+
+    public void title(Player player, Slot slot, Title title) {
+        titleCounters.submitted.increment();
+        int playerSlot = playerRegistry.slotOf(player);
+        if (playerSlot < 0) {
+            titleCounters.sent.increment();
+            player.showTitle(title);
+            return;
+        }
+
+        PlayerHud hud = hud(playerSlot);
+        if (hud.pendingTitle != null) {
+            // Same tick: the higher-priority title stays, the later one wins a tie
+            titleCounters.superseded.increment();
+            if (hud.pendingTitleSlot.ordinal() < slot.ordinal()) return;
+        }
+        hud.pendingTitle = title;
+        hud.pendingTitleSlot = slot;
+        queue(player, playerSlot, hud);
+    }
+
+    /**
+     * Clear the player's title now, dropping any title queued this tick
+     */
+    public void clearTitle(Player player) {
+        PlayerHud hud = huds.get(playerRegistry.slotOf(player));
+        if (hud != null) {
+            hud.pendingTitle = null;
+            hud.pendingTitleSlot = null;
+            hud.lastTitle = null;
+            hud.lastTitleSlot = null;
+            hud.lastTitleUntil = 0;
+        }
+        player.clearTitle();
+    }
+
+    public void sound(Player player, Location location, Sound sound, float volume, float pitch) {
+        sound(player, location, sound, SoundCategory.MASTER, volume, pitch);
+    }
+
+    public void sound(Player player, Location location, Sound sound, SoundCategory category, float volume, float pitch) {
+        soundCounters.submitted.increment();
+        int playerSlot = playerRegistry.slotOf(player);
+        if (playerSlot < 0) {
+            soundCounters.sent.increment();
+            player.playSound(location, sound, category, volume, pitch);
+            return;
+        }
+
+        PlayerHud hud = hud(playerSlot);
+        for (PendingSound pending : hud.sounds) {
+            if (pending.sound.equals(sound) && pending.category == category && pending.pitch == pitch) {
+                soundCounters.duplicates.increment();
+                pending.volume = Math.max(pending.volume, volume);
+                return;
+            }
+        }
+        hud.sounds.add(new PendingSound(location, sound, category, volume, pitch));
+        queue(player, playerSlot, hud);
+    }
+
+    // ── Flush ────────────────────────────────────────────────────────────────────
+
+    /**
+     * Paper: send the output queued this tick; registered as the last scheduler phase
+     */
+    public void flush() {
+        int count = dirtyCount;
+        dirtyCount = 0;
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            int slot = dirtySlots[i];
+            Player player = playerRegistry.playerAt(slot);
+            PlayerHud hud = huds.get(slot);
+            if (player == null || hud == null) continue;
+            flush(player, hud, now);
+        }
+    }
+
+    private void queue(Player player, int playerSlot, PlayerHud hud) {
+        if (hud.queued) return;
+        hud.queued = true;
+
+        if (plugin.getPlatformScheduler().isFolia()) {
+            plugin.getPlatformScheduler().runForLater(player, () -> {
+                // The slot may have been freed and reused since
+                if (playerRegistry.slotOf(player) != playerSlot || huds.get(playerSlot) != hud) return;
+                flush(player, hud, System.currentTimeMillis());
+            }, 1L);
+            return;
+        }
+
+        if (dirtyCount == dirtySlots.length) {
+            dirtySlots = Arrays.copyOf(dirtySlots, dirtyCount * 2);
+        }
+        dirtySlots[dirtyCount++] = playerSlot;
+    }
+
+    private void flush(Player player, PlayerHud hud, long now) {
+        hud.queued = false;
+        if (hud.actionBarDirty) {
+            flushActionBar(player, hud, now);
+        }
+        if (hud.pendingTitle != null) {
+            flushTitle(player, hud, now);
+        }
+        if (!hud.sounds.isEmpty()) {
+            for (PendingSound pending : hud.sounds) {
+                soundCounters.sent.increment();
+                player.playSound(pending.location, pending.sound, pending.category, pending.volume, pending.pitch);
+            }
+            hud.sounds.clear();
+        }
+    }
+
+    private void flushActionBar(Player player, PlayerHud hud, long now) {
+        hud.actionBarDirty = false;
+
+        int winner = -1;
+        for (int i = 0; i < SLOTS.length; i++) {
+            if (hud.actionBars[i] != null && hud.actionBarLiveUntil[i] <= now) {
+                hud.actionBars[i] = null;
+            }
+            if (winner < 0 && hud.actionBars[i] != null) {
+                winner = i;
+            } else if (hud.actionBarPending[i]) {
+                actionBarCounters.superseded.increment();
+            }
+        }
+        boolean winnerPending = winner >= 0 && hud.actionBarPending[winner];
+        Arrays.fill(hud.actionBarPending, false);
+        if (winner < 0) return;
+
+        Component message = hud.actionBars[winner];
+        // Unchanged and still fully visible on the client: nothing to send
+        if (message.equals(hud.lastActionBar) && now - hud.lastActionBarAt < holdMillis()) {
+            if (winnerPending) actionBarCounters.duplicates.increment();
+            return;
+        }
+        actionBarCounters.sent.increment();
+        hud.lastActionBar = message;
+        hud.lastActionBarAt = now;
+        player.sendActionBar(message);
+    }
+
+    private void flushTitle(Player player, PlayerHud hud, long now) {
+        Title title = hud.pendingTitle;
+        Slot slot = hud.pendingTitleSlot;
+        hud.pendingTitle = null;
+        hud.pendingTitleSlot = null;
+
+        if (now < hud.lastTitleUntil) {
+            if (hud.lastTitleSlot.ordinal() < slot.ordinal()) {
+                titleCounters.superseded.increment();
+                return;
+            }
+            if (sameTitle(title, hud.lastTitle)) {
+                titleCounters.duplicates.increment();
+                return;
+            }
+        }
+        titleCounters.sent.increment();
+        hud.lastTitle = title;
+        hud.lastTitleSlot = slot;
+        hud.lastTitleUntil = now + displayMillis(title);
+        player.showTitle(title);
+    }
+
+    private static boolean sameTitle(Title a, Title b) {
+        return b != null && a.title().equals(b.title()) && a.subtitle().equals(b.subtitle())
+                && Objects.equals(a.times(), b.times());
+    }
+
+    private static long displayMillis(Title title) {
+        Title.Times times = title.times() != null ? title.times() : Title.DEFAULT_TIMES;
+        return times.fadeIn().toMillis() + times.stay().toMillis() + times.fadeOut().toMillis();
+    }
+
+    private PlayerHud hud(int playerSlot) {
+        PlayerHud hud = huds.get(playerSlot);
+        if (hud == null) {
+            hud = new PlayerHud();
+            huds.set(playerSlot, hud);
+        }
+        return hud;
+    }
+
+    private long holdMillis() {
+        return config().getHudActionBarHoldTicks() * TICK_MILLIS;
+    }
+
+    /**
+     * Running totals for one kind of output since startup
+     */
+    public static final class Counters {
+
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder duplicates = new LongAdder();
+        private final LongAdder superseded = new LongAdder();
+
+        public long submitted() {
+            return submitted.sum();
+        }
+
+        public long sent() {
+            return sent.sum();
+        }
+
+        /**
+         * Not sent because the player already sees the same content (sounds: merged into one play)
+         */
+        public long duplicates() {
+            return duplicates.sum();
+        }
+
+        /**
+         * Not sent because a higher-priority or later submission took the tick
+         */
+        public long superseded() {
+            return superseded.sum();
+        }
+    }
+
+    private static final class PlayerHud {
+
+        final Component[] actionBars = new Component[SLOTS.length];
+        final long[] actionBarLiveUntil = new long[SLOTS.length];
+        final boolean[] actionBarPending = new boolean[SLOTS.length];
+        boolean actionBarDirty;
+        Component lastActionBar;
+        long lastActionBarAt;
+
+        Title pendingTitle;
+        Slot pendingTitleSlot;
+        Title lastTitle;
+        Slot lastTitleSlot;
+        long lastTitleUntil;
+
+        final List<PendingSound> sounds = new ArrayList<>(4);
+        boolean queued;
+    }
+
+    private static final class PendingSound {
+
+        final Location location;
+        final Sound sound;
+        final SoundCategory category;
+        final float pitch;
+        float volume;
+
+        PendingSound(Location location, Sound sound, SoundCategory category, float volume, float pitch) {
+            this.location = location;
+            this.sound = sound;
+            this.category = category;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+    }
+
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
+}
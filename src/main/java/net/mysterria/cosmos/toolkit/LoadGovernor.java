@@ -0,0 +1,194 @@
+package net.mysterria.cosmos.toolkit;
+
+import lombok.Getter;
+import net.mysterria.cosmos.CosmosPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Steps cosmetic work down while the server is struggling and back up once it recovers.
+ * <p>
+ * Samples Paper's average tick time (MSPT, last 100 ticks) and 1-minute TPS once a second and moves at most one
+ * {@link Level} per sample. Levels are cumulative: each one keeps the reductions of the levels below it.
+ * Only cosmetic paths consult the governor; containment, beacon capture, resource accrual and extraction
+ * never do. Thresholds live in {@code governor.yml}.
+ */
+public class LoadGovernor {
+
+    /**
+     * Degradation levels, lightest first
+     */
+    public enum Level {
+        NORMAL("normal", 0, 20.0),
+        REDUCED_PARTICLES("reduced-particles", 35.0, 19.5),
+        REDUCED_FREQUENCY("reduced-frequency", 42.0, 19.0),
+        MAP_PAUSED("map-paused", 47.0, 18.0),
+        DISPLAYS_PAUSED("displays-paused", 50.0, 16.0);
+
+        private final String key;
+        private final double defaultMspt;
+        private final double defaultTps;
+
+        Level(String key, double defaultMspt, double defaultTps) {
+            this.key = key;
+            this.defaultMspt = defaultMspt;
+            this.defaultTps = defaultTps;
+        }
+    }
+
+    /**
+     * Entry point of a level: reached when MSPT is at least mspt or TPS is at most tps
+     */
+    public record Thresholds(double mspt, double tps) {
+    }
+
+    private final CosmosPlugin plugin;
+    private final File file;
+    private final Map<Level, Thresholds> thresholds = new EnumMap<>(Level.class);
+
+    private boolean enabled;
+    private double recoveryMarginMspt;
+    private long minLevelMillis;
+
+    @Getter
+    private volatile Level level = Level.NORMAL;
+    @Getter
+    private volatile double lastMspt;
+    @Getter
+    private volatile double lastTps = 20.0;
+    private long levelSince = System.currentTimeMillis();
+    private boolean unsupported;
+
+    public LoadGovernor(CosmosPlugin plugin) {
+        this.plugin = plugin;
+        this.file = new File(plugin.getDataFolder(), "governor.yml");
+        loadSettings();
+    }
+
+    /**
+     * (Re)read governor.yml, writing the default file first if missing
+     */
+    public void loadSettings() {
+        if (!file.exists()) {
+            plugin.saveResource("governor.yml", false);
+        }
+        FileConfiguration yml = YamlConfiguration.loadConfiguration(file);
+
+        enabled = yml.getBoolean("enabled", true);
+        recoveryMarginMspt = yml.getDouble("recovery-margin-mspt", 5.0);
+        minLevelMillis = yml.getLong("min-level-seconds", 10) * 1000L;
+        for (Level l : Level.values()) {
+            if (l == Level.NORMAL) continue;
+            thresholds.put(l, new Thresholds(
+                    yml.getDouble("levels." + l.key + ".mspt", l.defaultMspt),
+                    yml.getDouble("levels." + l.key + ".tps", l.defaultTps)));
+        }
+
+        if (!enabled && level != Level.NORMAL) {
+            changeLevel(Level.NORMAL);
+        }
+    }
+
+    public Thresholds getThresholds(Level level) {
+        return thresholds.get(level);
+    }
+
+    /**
+     * Sample tick times and move one level. Runs once a second on the global tick thread.
+     */
+    public void sample() {
+        if (!enabled || unsupported) return;
+
+        try {
+            lastMspt = Bukkit.getAverageTickTime();
+            lastTps = Bukkit.getTPS()[0];
+        } catch (UnsupportedOperationException e) {
+            // Folia has no server-wide tick time; stay at NORMAL
+            unsupported = true;
+            plugin.log("Load governor disabled: server-wide tick times are not available on this platform");
+            return;
+        }
+
+        Level[] levels = Level.values();
+        int current = level.ordinal();
+
+        if (current + 1 < levels.length && reached(levels[current + 1])) {
+            changeLevel(levels[current + 1]);
+            return;
+        }
+
+        if (current > 0 && recovered(levels[current])
+                && System.currentTimeMillis() - levelSince >= minLevelMillis) {
+            changeLevel(levels[current - 1]);
+        }
+    }
+
+    private boolean reached(Level candidate) {
+        Thresholds t = thresholds.get(candidate);
+        return lastMspt >= t.mspt() || lastTps <= t.tps();
+    }
+
+    private boolean recovered(Level current) {
+        Thresholds t = thresholds.get(current);
+        return lastMspt < t.mspt() - recoveryMarginMspt && lastTps > t.tps();
+    }
+
+    private void changeLevel(Level next) {
+        plugin.log(String.format("Load governor: %s -> %s (MSPT %.1f, TPS %.1f)", level, next, lastMspt, lastTps));
+        level = next;
+        levelSince = System.currentTimeMillis();
+    }
+
+    // ── Queries for cosmetic paths ───────────────────────────────────────────────
+
+    private boolean atLeast(Level threshold) {
+        return level.ordinal() >= threshold.ordinal();
+    }
+
+    /**
+     * Loop step for particle sample points: 2 (every other point) once particles are reduced
+     */
+    public int particleStep() {
+        return atLeast(Level.REDUCED_PARTICLES) ? 2 : 1;
+    }
+
+    /**
+     * Particle count to emit in place of count
+     */
+    public int scaleParticles(int count) {
+        return atLeast(Level.REDUCED_PARTICLES) ? Math.max(1, count / 2) : count;
+    }
+
+    /**
+     * Whether the run-th pass of a cosmetic refresh should run: every other pass once frequency is reduced
+     */
+    public boolean allowCosmeticPass(long run) {
+        return !atLeast(Level.REDUCED_FREQUENCY) || (run & 1L) == 0;
+    }
+
+    /**
+     * Wrap a cosmetic phase so it skips every other run once frequency is reduced
+     */
+    public Runnable cosmetic(Runnable task) {
+        long[] runs = {0};
+        return () -> {
+            if (allowCosmeticPass(runs[0]++)) {
+                task.run();
+            }
+        };
+    }
+
+    public boolean isMapRefreshSuspended() {
+        return atLeast(Level.MAP_PAUSED);
+    }
+
+    public boolean isDisplayRotationPaused() {
+        return atLeast(Level.DISPLAYS_PAUSED);
+    }
+
+}
@@ -0,0 +1,139 @@
+package net.mysterria.cosmos.toolkit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.config.CosmosConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link CosmosMetrics} for Prometheus, either from an embedded HTTP endpoint
+ * ({@code metrics.mode: http}, {@code GET /metrics}) or by rewriting {@code metrics.prom} in the data
+ * folder for node_exporter's textfile collector ({@code metrics.mode: file}).
+ * <p>
+ * Scrapes and file writes run on a dedicated daemon thread; the tick thread never renders.
+ */
+public class MetricsExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String FILE_NAME = "metrics.prom";
+
+    private final CosmosIncursion plugin;
+
+    private HttpServer server;
+    private ExecutorService httpWorker;
+    private ScheduledExecutorService fileWorker;
+
+    public MetricsExporter(CosmosIncursion plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Start serving per the current config; does nothing while {@code metrics.enabled} is false
+     */
+    public void start() {
+        CosmosConfig config = plugin.getConfigLoader().getConfig();
+        if (!config.isMetricsEnabled()) return;
+
+        if ("file".equalsIgnoreCase(config.getMetricsMode())) {
+            startFile(config.getMetricsFileIntervalSeconds());
+        } else {
+            startHttp(config.getMetricsBindAddress(), config.getMetricsPort());
+        }
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (httpWorker != null) {
+            httpWorker.shutdownNow();
+            httpWorker = null;
+        }
+        if (fileWorker != null) {
+            fileWorker.shutdownNow();
+            fileWorker = null;
+        }
+    }
+
+    /**
+     * Apply changed metrics settings after a config reload
+     */
+    public void restart() {
+        stop();
+        start();
+    }
+
+    // ── HTTP ─────────────────────────────────────────────────────────────────────
+
+    private void startHttp(String bindAddress, int port) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        } catch (IOException e) {
+            plugin.log("Failed to start metrics endpoint on " + bindAddress + ":" + port + ": " + e.getMessage());
+            return;
+        }
+        httpWorker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Cosmos-Metrics-HTTP");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(httpWorker);
+        server.createContext("/metrics", this::handleScrape);
+        server.start();
+        plugin.log("Metrics endpoint listening on http://" + bindAddress + ":" + port + "/metrics");
+    }
+
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = plugin.getMetrics().render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // ── File ─────────────────────────────────────────────────────────────────────
+
+    private void startFile(int intervalSeconds) {
+        Path target = plugin.getDataFolder().toPath().resolve(FILE_NAME);
+        Path temp = plugin.getDataFolder().toPath().resolve(FILE_NAME + ".tmp");
+        fileWorker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Cosmos-Metrics-File");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fileWorker.scheduleAtFixedRate(() -> writeFile(target, temp), 0, Math.max(1, intervalSeconds), TimeUnit.SECONDS);
+        plugin.log("Writing metrics to " + target + " every " + Math.max(1, intervalSeconds) + "s");
+    }
+
+    private void writeFile(Path target, Path temp) {
+        try {
+            // Write then rename, so the collector never reads a half-written file
+            Files.writeString(temp, plugin.getMetrics().render());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.log("Failed to write metrics file: " + e.getMessage());
+        }
+    }
+}
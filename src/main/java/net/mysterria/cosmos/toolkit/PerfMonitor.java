@@ -0,0 +1,262 @@
+package net.mysterria.cosmos.toolkit;
+
+import net.mysterria.cosmos.config.ConfigLoader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Nanosecond timers for scheduled tasks, hot listeners and persistence, shown by {@code /cosmos admin perf}.
+ * <p>
+ * Each named {@link Timer} records into log-bucketed histograms (four buckets per power of two, so
+ * reported quantiles are within ~19% of the true value), one per 30-second slice. The 1m/5m/15m windows
+ * merge the latest 2/10/30 slices. Recording is lock-free and safe from any thread; a sample that races
+ * a slice rollover may be dropped. With {@code perf.enabled: false}, {@link Timer#start()} returns 0 and
+ * {@link Timer#stop(long)} returns at once.
+ * <p>
+ * Each timer also keeps running totals since startup for the metrics endpoint; {@link #reset()} leaves them alone.
+ */
+public class PerfMonitor {
+
+    /**
+     * Rolling windows, as multiples of the slice length
+     */
+    public enum Window {
+        ONE_MINUTE("1m", 2),
+        FIVE_MINUTES("5m", 10),
+        FIFTEEN_MINUTES("15m", 30);
+
+        private final String label;
+        private final int slices;
+
+        Window(String label, int slices) {
+            this.label = label;
+            this.slices = slices;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public static Window fromLabel(String label) {
+            for (Window window : values()) {
+                if (window.label.equalsIgnoreCase(label)) return window;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Merged view of one timer over a window. Durations are in nanoseconds.
+     */
+    public record Summary(String name, long calls, long totalNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+    }
+
+    private static final long SLICE_NANOS = 30_000_000_000L;
+    // One more than the 15m window, so the slice being written never overlaps the oldest one read
+    private static final int SLICES = 31;
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Up to 2^40 ns (~18 minutes); anything longer lands in the last bucket
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) << SUB_BUCKET_BITS;
+
+    private final ConfigLoader configLoader;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public PerfMonitor(ConfigLoader configLoader) {
+        this.configLoader = configLoader;
+    }
+
+    /**
+     * Get or create the timer for a component. Look it up once and keep it; don't call per event.
+     */
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    /**
+     * Live view of every timer created so far
+     */
+    public Collection<Timer> getTimers() {
+        return timers.values();
+    }
+
+    public boolean isEnabled() {
+        return configLoader.getConfig().isPerfEnabled();
+    }
+
+    /**
+     * Drop everything recorded so far
+     */
+    public void reset() {
+        timers.values().forEach(Timer::reset);
+    }
+
+    /**
+     * Summaries of every timer that recorded in the window, most total time first
+     */
+    public List<Summary> summarize(Window window) {
+        long currentSlice = Math.floorDiv(System.nanoTime(), SLICE_NANOS);
+        List<Summary> summaries = new ArrayList<>();
+        for (Timer timer : timers.values()) {
+            Summary summary = timer.summarize(currentSlice, window.slices);
+            if (summary.calls() > 0) {
+                summaries.add(summary);
+            }
+        }
+        summaries.sort(Comparator.comparingLong(Summary::totalNanos).reversed());
+        return summaries;
+    }
+
+    // ── Buckets ──────────────────────────────────────────────────────────────────
+
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) Math.max(0, nanos);
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) return BUCKETS - 1;
+        int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + sub;
+    }
+
+    /**
+     * Largest value that maps to the bucket
+     */
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exponent = (bucket >> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        int sub = bucket & (SUB_BUCKETS - 1);
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((long) (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+
+    /**
+     * One component's histograms
+     */
+    public final class Timer {
+
+        private final String name;
+        private final Slice[] slices = new Slice[SLICES];
+        private final LongAdder totalCalls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private Timer(String name) {
+            this.name = name;
+            for (int i = 0; i < SLICES; i++) {
+                slices[i] = new Slice();
+            }
+        }
+
+        /**
+         * @return a start timestamp to pass to {@link #stop(long)}, or 0 while perf is disabled
+         */
+        public long start() {
+            return configLoader.getConfig().isPerfEnabled() ? System.nanoTime() : 0L;
+        }
+
+        public void stop(long start) {
+            if (start == 0L) return;
+            long now = System.nanoTime();
+            long sliceId = Math.floorDiv(now, SLICE_NANOS);
+            Slice slice = slices[(int) Math.floorMod(sliceId, (long) SLICES)];
+            slice.rollTo(sliceId);
+            slice.record(now - start);
+            totalCalls.increment();
+            totalNanos.add(now - start);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Calls recorded since startup
+         */
+        public long getTotalCalls() {
+            return totalCalls.sum();
+        }
+
+        /**
+         * Time recorded since startup, in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        private void reset() {
+            for (Slice slice : slices) {
+                slice.rollTo(Long.MAX_VALUE);
+                slice.id.set(Long.MIN_VALUE);
+            }
+        }
+
+        private Summary summarize(long currentSlice, int windowSlices) {
+            long[] merged = new long[BUCKETS];
+            long calls = 0;
+            long total = 0;
+            long max = 0;
+            for (Slice slice : slices) {
+                long id = slice.id.get();
+                if (id > currentSlice || id <= currentSlice - windowSlices) continue;
+                for (int b = 0; b < BUCKETS; b++) {
+                    merged[b] += slice.buckets.get(b);
+                }
+                calls += slice.count.get();
+                total += slice.total.get();
+                max = Math.max(max, slice.max.get());
+            }
+            return new Summary(name, calls, total, quantile(merged, calls, 0.50), quantile(merged, calls, 0.99), max);
+        }
+
+        private long quantile(long[] buckets, long calls, double q) {
+            if (calls == 0) return 0;
+            long rank = (long) Math.ceil(q * calls);
+            long seen = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                seen += buckets[b];
+                if (seen >= rank) return bucketUpperBound(b);
+            }
+            return bucketUpperBound(BUCKETS - 1);
+        }
+    }
+
+    private static final class Slice {
+
+        private final AtomicLong id = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * Claim this slice for a newer slice id, clearing what the old one recorded
+         */
+        void rollTo(long sliceId) {
+            long seen = id.get();
+            if (seen >= sliceId || !id.compareAndSet(seen, sliceId)) return;
+            for (int b = 0; b < BUCKETS; b++) {
+                buckets.set(b, 0);
+            }
+            count.set(0);
+            total.set(0);
+            max.set(0);
+        }
+
+        void record(long nanos) {
+            buckets.incrementAndGet(bucketOf(nanos));
+            count.incrementAndGet();
+            total.addAndGet(nanos);
+            long current;
+            while (nanos > (current = max.get()) && !max.compareAndSet(current, nanos)) {
+                // Retry until this sample is no longer the largest or has been stored
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package net.mysterria.cosmos.toolkit;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import lombok.Getter;
+import net.mysterria.cosmos.CosmosPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.concurrent.Executor;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Runs plugin work on the right thread for the server platform.
+ * <p>
+ * On Paper every method schedules on (or runs inline on) the main thread, exactly as the plugin always
+ * has. On Folia, global work goes to the global region scheduler, per-zone work to the region that owns
+ * a location, and per-player work to the player's entity scheduler, so zones in different regions tick
+ * in parallel. All plugin code schedules through this class; the Bukkit scheduler is not available on Folia.
+ */
+public class PlatformScheduler {
+
+    private final CosmosPlugin plugin;
+    @Getter
+    private final boolean folia;
+
+    public PlatformScheduler(CosmosPlugin plugin) {
+        this.plugin = plugin;
+        this.folia = detectFolia();
+    }
+
+    private static boolean detectFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // ── Global ───────────────────────────────────────────────────────────────────
+
+    /**
+     * Run global work next tick
+     */
+    public void run(Runnable task) {
+        if (folia) {
+            Bukkit.getGlobalRegionScheduler().execute(plugin, task);
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    public Task runLater(Runnable task, long delayTicks) {
+        if (folia) {
+            ScheduledTask scheduled = Bukkit.getGlobalRegionScheduler()
+                    .runDelayed(plugin, t -> task.run(), Math.max(1L, delayTicks));
+            return scheduled::cancel;
+        }
+        BukkitTask scheduled = Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks);
+        return scheduled::cancel;
+    }
+
+    /**
+     * Repeat global work. Tasks that touch players or blocks fan out from here with
+     * {@link #forEachPlayer} or {@link #runAt}.
+     */
+    public Task runTimer(Runnable task, long delayTicks, long periodTicks) {
+        if (folia) {
+            ScheduledTask scheduled = Bukkit.getGlobalRegionScheduler()
+                    .runAtFixedRate(plugin, t -> task.run(), Math.max(1L, delayTicks), periodTicks);
+            return scheduled::cancel;
+        }
+        BukkitTask scheduled = Bukkit.getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks);
+        return scheduled::cancel;
+    }
+
+    // ── Regions ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Run work on the thread that owns a location. On Paper this runs inline when already on the main thread.
+     */
+    public void runAt(Location location, Runnable task) {
+        if (folia) {
+            Bukkit.getRegionScheduler().execute(plugin, location, task);
+        } else if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    /**
+     * Executor running on the thread that owns a location
+     */
+    public Executor at(Location location) {
+        return task -> runAt(location, task);
+    }
+
+    // ── Entities ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Run work on the thread that owns an entity. Dropped if the entity is removed first.
+     * On Paper this runs inline when already on the main thread.
+     */
+    public void runFor(Entity entity, Runnable task) {
+        if (folia) {
+            entity.getScheduler().run(plugin, t -> task.run(), null);
+        } else if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    /**
+     * Run work on the thread that owns an entity, or run {@code retired} instead if the entity is removed
+     * first. On Paper this behaves like {@link #runFor(Entity, Runnable)}.
+     */
+    public void runFor(Entity entity, Runnable task, Runnable retired) {
+        if (folia) {
+            if (entity.getScheduler().run(plugin, t -> task.run(), retired) == null) {
+                retired.run();
+            }
+        } else {
+            runFor(entity, task);
+        }
+    }
+
+    /**
+     * Run work on the thread that owns an entity after a delay. Dropped if the entity is removed first.
+     */
+    public void runForLater(Entity entity, Runnable task, long delayTicks) {
+        if (folia) {
+            entity.getScheduler().runDelayed(plugin, t -> task.run(), null, Math.max(1L, delayTicks));
+        } else {
+            Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks);
+        }
+    }
+
+    /**
+     * Run per-player work for every registered (non-NPC) player, with the player's registry slot.
+     * On Paper this loops inline; on Folia each player's work runs on its own entity scheduler.
+     */
+    public void forEachPlayer(ObjIntConsumer<Player> action) {
+        PlayerRegistry registry = plugin.getPlayerRegistry();
+        if (!folia) {
+            for (int slot = 0; slot < registry.getSlotLimit(); slot++) {
+                Player player = registry.playerAt(slot);
+                if (player != null) {
+                    action.accept(player, slot);
+                }
+            }
+            return;
+        }
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            player.getScheduler().run(plugin, t -> {
+                // Resolved on the owning thread: the slot may have been freed since dispatch
+                int slot = registry.slotOf(player);
+                if (slot >= 0) {
+                    action.accept(player, slot);
+                }
+            }, null);
+        }
+    }
+
+    /**
+     * Handle to a scheduled task on either platform
+     */
+    @FunctionalInterface
+    public interface Task {
+        void cancel();
+    }
+
+}
@@ -0,0 +1,122 @@
+package net.mysterria.cosmos.toolkit;
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable capture of online player positions, bucketed by world and square XZ grid cell.
+ * <p>
+ * Built once per pass and shared by every consumer that needs "players near X" in that pass,
+ * so each proximity query only scans the cells overlapping its radius instead of every online
+ * player. Citizens NPCs are excluded.
+ */
+public final class PlayerPositionSnapshot {
+
+    private final double cellSize;
+    private final Map<UUID, Map<Long, List<PlayerPosition>>> cells;
+
+    @Getter
+    private final int playerCount;
+
+    private PlayerPositionSnapshot(double cellSize, Map<UUID, Map<Long, List<PlayerPosition>>> cells, int playerCount) {
+        this.cellSize = cellSize;
+        this.cells = cells;
+        this.playerCount = playerCount;
+    }
+
+    /**
+     * Capture every online player's position. Must be called on the main thread.
+     * @param cellSize grid cell edge in blocks; pick the most common query radius so queries touch at most 3×3 cells
+     */
+    public static PlayerPositionSnapshot capture(double cellSize) {
+        double size = Math.max(1.0, cellSize);
+        Map<UUID, Map<Long, List<PlayerPosition>>> cells = new HashMap<>();
+        int count = 0;
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            // Skip Citizens NPCs (they have "NPC" metadata)
+            if (player.hasMetadata("NPC")) {
+                continue;
+            }
+
+            Location location = player.getLocation();
+            PlayerPosition position = new PlayerPosition(player, location.getX(), location.getY(), location.getZ());
+            long cell = cellKey(cellCoord(position.x(), size), cellCoord(position.z(), size));
+            cells.computeIfAbsent(location.getWorld().getUID(), k -> new HashMap<>())
+                    .computeIfAbsent(cell, k -> new ArrayList<>(4))
+                    .add(position);
+            count++;
+        }
+
+        return new PlayerPositionSnapshot(size, cells, count);
+    }
+
+    /**
+     * Append every captured player within radius (3D) of the center to out
+     */
+    public void collectWithin(Location center, double radius, List<PlayerPosition> out) {
+        World world = center.getWorld();
+        if (world == null) {
+            return;
+        }
+        Map<Long, List<PlayerPosition>> worldCells = cells.get(world.getUID());
+        if (worldCells == null) {
+            return;
+        }
+
+        double cx = center.getX();
+        double cy = center.getY();
+        double cz = center.getZ();
+        double radiusSquared = radius * radius;
+
+        int minCellX = cellCoord(cx - radius, cellSize);
+        int maxCellX = cellCoord(cx + radius, cellSize);
+        int minCellZ = cellCoord(cz - radius, cellSize);
+        int maxCellZ = cellCoord(cz + radius, cellSize);
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                List<PlayerPosition> bucket = worldCells.get(cellKey(cellX, cellZ));
+                if (bucket == null) continue;
+
+                for (PlayerPosition position : bucket) {
+                    if (position.distanceSquared(cx, cy, cz) <= radiusSquared) {
+                        out.add(position);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int cellCoord(double blockCoord, double cellSize) {
+        return (int) Math.floor(blockCoord / cellSize);
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    public record PlayerPosition(Player player, double x, double y, double z) {
+
+        public double distanceSquared(double otherX, double otherY, double otherZ) {
+            double dx = x - otherX;
+            double dy = y - otherY;
+            double dz = z - otherZ;
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        public double distanceSquared(Location location) {
+            return distanceSquared(location.getX(), location.getY(), location.getZ());
+        }
+    }
+
+}
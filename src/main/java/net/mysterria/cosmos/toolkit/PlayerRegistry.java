@@ -0,0 +1,290 @@
+package net.mysterria.cosmos.toolkit;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives every online player a dense int slot on join and frees it on quit.
+ * <p>
+ * Hot per-player fields live in columns ({@link ObjectColumn}, {@link FlagColumn}, {@link LongColumn})
+ * indexed by slot, so a per-tick loop resolves a player's slot once and then reads plain arrays instead
+ * of doing one UUID hash lookup per field. Freed slots are reused lowest-first and every column is
+ * reset when its slot is freed, so state never leaks from one player to the next.
+ * <p>
+ * Slots are handed out and freed under the registry lock, which then publishes an immutable copy of the
+ * slot table; {@link #playerAt} and {@link #getSlotLimit} read that copy and are safe from any thread.
+ * Columns must only be touched from the main thread on Paper, or from the owning player's region thread on
+ * Folia. Growing the registry replaces every column's array, and a region thread writing a column during
+ * that copy can lose its write, so columns are pre-sized for the expected player count and only grow past
+ * it. Column reads and writes with slot {@code -1} (player not registered, e.g. a Citizens NPC) are no-ops
+ * returning the empty value.
+ */
+public class PlayerRegistry {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<UUID, Integer> slotsByPlayer = new ConcurrentHashMap<>();
+    private final List<SlotColumn> columns = new ArrayList<>();
+
+    private Player[] players;
+    private int[] freeSlots;
+    private int freeCount;
+    // One past the highest slot ever handed out; loops iterate [0, slotLimit)
+    private int slotLimit;
+    // Copy of players[0, slotLimit) for lock-free readers, replaced on every register and unregister
+    private volatile Player[] published = new Player[0];
+
+    public PlayerRegistry() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param expectedPlayers slot count to size columns for up front, e.g. the server's max players
+     */
+    public PlayerRegistry(int expectedPlayers) {
+        int capacity = Math.max(INITIAL_CAPACITY, expectedPlayers);
+        this.players = new Player[capacity];
+        this.freeSlots = new int[capacity];
+    }
+
+    /**
+     * Assign a slot to a joining player. Returns the existing slot if already registered.
+     */
+    public synchronized int register(Player player) {
+        Integer existing = slotsByPlayer.get(player.getUniqueId());
+        if (existing != null) {
+            players[existing] = player;
+            publish();
+            return existing;
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = takeLowestFreeSlot();
+        } else {
+            if (slotLimit == players.length) {
+                grow(players.length * 2);
+            }
+            slot = slotLimit++;
+        }
+
+        players[slot] = player;
+        slotsByPlayer.put(player.getUniqueId(), slot);
+        publish();
+        return slot;
+    }
+
+    /**
+     * Free a quitting player's slot and reset every column at that slot
+     */
+    public synchronized void unregister(UUID playerId) {
+        Integer slot = slotsByPlayer.remove(playerId);
+        if (slot == null) {
+            return;
+        }
+
+        players[slot] = null;
+        for (SlotColumn column : columns) {
+            column.clear(slot);
+        }
+        freeSlots[freeCount++] = slot;
+        publish();
+    }
+
+    /**
+     * @return the player's slot, or -1 if not registered
+     */
+    public int slotOf(UUID playerId) {
+        Integer slot = slotsByPlayer.get(playerId);
+        return slot != null ? slot : -1;
+    }
+
+    public int slotOf(Player player) {
+        return slotOf(player.getUniqueId());
+    }
+
+    /**
+     * @return the player in a slot, or null if the slot is free
+     */
+    public Player playerAt(int slot) {
+        Player[] table = published;
+        return slot >= 0 && slot < table.length ? table[slot] : null;
+    }
+
+    public int getSlotLimit() {
+        return published.length;
+    }
+
+    public int getOnlineCount() {
+        return slotsByPlayer.size();
+    }
+
+    public <T> ObjectColumn<T> objectColumn() {
+        return addColumn(new ObjectColumn<>(players.length));
+    }
+
+    public FlagColumn flagColumn() {
+        return addColumn(new FlagColumn(players.length));
+    }
+
+    public LongColumn longColumn() {
+        return addColumn(new LongColumn(players.length));
+    }
+
+    private <C extends SlotColumn> C addColumn(C column) {
+        columns.add(column);
+        return column;
+    }
+
+    private void publish() {
+        published = Arrays.copyOf(players, slotLimit);
+    }
+
+    private int takeLowestFreeSlot() {
+        int lowestIndex = 0;
+        for (int i = 1; i < freeCount; i++) {
+            if (freeSlots[i] < freeSlots[lowestIndex]) {
+                lowestIndex = i;
+            }
+        }
+        int slot = freeSlots[lowestIndex];
+        freeSlots[lowestIndex] = freeSlots[--freeCount];
+        return slot;
+    }
+
+    private void grow(int capacity) {
+        players = Arrays.copyOf(players, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        for (SlotColumn column : columns) {
+            column.grow(capacity);
+        }
+    }
+
+    private interface SlotColumn {
+        void grow(int capacity);
+
+        void clear(int slot);
+    }
+
+    /**
+     * Reference-typed per-slot field (null = absent)
+     */
+    public static final class ObjectColumn<T> implements SlotColumn {
+        private Object[] values;
+
+        private ObjectColumn(int capacity) {
+            this.values = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get(int slot) {
+            return slot >= 0 ? (T) values[slot] : null;
+        }
+
+        public void set(int slot, T value) {
+            if (slot >= 0) {
+                values[slot] = value;
+            }
+        }
+
+        /**
+         * Clear the slot and return what it held
+         */
+        public T remove(int slot) {
+            T previous = get(slot);
+            set(slot, null);
+            return previous;
+        }
+
+        @Override
+        public void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        public void clear(int slot) {
+            values[slot] = null;
+        }
+    }
+
+    /**
+     * Boolean per-slot field
+     */
+    public static final class FlagColumn implements SlotColumn {
+        private boolean[] values;
+
+        private FlagColumn(int capacity) {
+            this.values = new boolean[capacity];
+        }
+
+        public boolean get(int slot) {
+            return slot >= 0 && values[slot];
+        }
+
+        /**
+         * Set the flag. Returns true if it was not already set.
+         */
+        public boolean set(int slot) {
+            if (slot < 0 || values[slot]) return false;
+            values[slot] = true;
+            return true;
+        }
+
+        /**
+         * Unset the flag. Returns true if it was set.
+         */
+        public boolean unset(int slot) {
+            if (slot < 0 || !values[slot]) return false;
+            values[slot] = false;
+            return true;
+        }
+
+        @Override
+        public void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        public void clear(int slot) {
+            values[slot] = false;
+        }
+    }
+
+    /**
+     * Primitive long per-slot field (0 = absent)
+     */
+    public static final class LongColumn implements SlotColumn {
+        private long[] values;
+
+        private LongColumn(int capacity) {
+            this.values = new long[capacity];
+        }
+
+        public long get(int slot) {
+            return slot >= 0 ? values[slot] : 0L;
+        }
+
+        public void set(int slot, long value) {
+            if (slot >= 0) {
+                values[slot] = value;
+            }
+        }
+
+        @Override
+        public void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        public void clear(int slot) {
+            values[slot] = 0L;
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+package net.mysterria.cosmos.toolkit;
+
+import net.mysterria.cosmos.CosmosIncursion;
+import net.mysterria.cosmos.config.CosmosConfig;
+import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
+import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
+import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Ranked pool of terrain-validated incursion zone centers, filled in the background between events.
+ * <p>
+ * Scanning reuses the asynchronous {@link ZonePlacerToolkit} terrain pipeline, but every piece of
+ * main-thread work it needs (chunk load requests, snapshot captures) is queued here and drained by
+ * {@link #tick(boolean)} under a strict per-tick time budget. Pooled centers are re-checked one per
+ * tick against the published claim distance field and permanent zones, and expire after a configurable age.
+ * <p>
+ * All state is confined to the main thread.
+ */
+public class ZoneCandidatePool {
+
+    // Candidate points per background scan batch (one per in-flight lane)
+    private static final int SCAN_BATCH_SIZE = 8;
+
+    // How often towns and permanent zones are re-read for validation
+    private static final long CONTEXT_REFRESH_MILLIS = 60_000L;
+
+    private final CosmosIncursion plugin;
+    private final ZonePlacerToolkit zonePlacer;
+
+    private final List<PooledCandidate> candidates = new ArrayList<>();
+    private final Queue<Runnable> mainThreadWork = new ConcurrentLinkedQueue<>();
+    private final Executor budgetedMainThread = mainThreadWork::add;
+
+    // Validation context, refreshed every CONTEXT_REFRESH_MILLIS
+    private World world;
+    private List<Location> townLocations = List.of();
+    private List<PermanentZone> permanentZones = List.of();
+    private long contextRefreshedAt;
+
+    private boolean scanInFlight;
+    private int revalidateCursor;
+
+    ZoneCandidatePool(CosmosIncursion plugin, ZonePlacerToolkit zonePlacer) {
+        this.plugin = plugin;
+        this.zonePlacer = zonePlacer;
+    }
+
+    /**
+     * Run one tick of background work within the configured time budget.
+     * Queued chunk work is always drained so in-flight scans can finish; new scans only start when allowed.
+     * @param scanAllowed true while no event is running
+     */
+    public void tick(boolean scanAllowed) {
+        long deadline = System.nanoTime() + (long) (config().getZoneCandidatePoolTickBudgetMs() * 1_000_000L);
+
+        Runnable work;
+        while (System.nanoTime() < deadline && (work = mainThreadWork.poll()) != null) {
+            try {
+                work.run();
+            } catch (Exception e) {
+                plugin.log("Error in zone candidate scan: " + e.getMessage());
+            }
+        }
+
+        if (!config().isZoneCandidatePoolEnabled()) {
+            candidates.clear();
+            return;
+        }
+
+        if (!scanAllowed || System.nanoTime() >= deadline) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (world == null || now - contextRefreshedAt >= CONTEXT_REFRESH_MILLIS) {
+            refreshContext(now);
+            return;
+        }
+
+        revalidateNext(now);
+
+        if (!scanInFlight && candidates.size() < config().getZoneCandidatePoolSize()
+                && System.nanoTime() < deadline) {
+            startScanBatch();
+        }
+    }
+
+    /**
+     * Pooled centers in the given world, best-ranked first
+     */
+    public List<Location> rankedCandidates(World targetWorld) {
+        List<Location> result = new ArrayList<>(candidates.size());
+        for (PooledCandidate candidate : candidates) {
+            if (candidate.center().getWorld() != null && candidate.center().getWorld().equals(targetWorld)) {
+                result.add(candidate.center().clone());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remove pooled centers that were turned into zones
+     */
+    public void consume(List<IncursionZone> zones) {
+        candidates.removeIf(candidate -> zones.stream().anyMatch(zone ->
+                zone.getCenter().getBlockX() == candidate.center().getBlockX()
+                        && zone.getCenter().getBlockZ() == candidate.center().getBlockZ()));
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    private void refreshContext(long now) {
+        world = Bukkit.getWorlds().getFirst();
+        List<Location> towns = TownsToolkit.getTownLocations();
+        if (towns.isEmpty()) {
+            towns.add(world.getSpawnLocation());
+        }
+        townLocations = towns;
+        permanentZones = zonePlacer.activePermanentZones();
+        contextRefreshedAt = now;
+
+        // Towns may have moved; re-check every pooled center and re-rank against current towns
+        revalidateCursor = 0;
+        rank();
+    }
+
+    /**
+     * Re-check a single pooled center per tick so claim changes are picked up without a spike
+     */
+    private void revalidateNext(long now) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        if (revalidateCursor >= candidates.size()) {
+            revalidateCursor = 0;
+        }
+
+        PooledCandidate candidate = candidates.get(revalidateCursor);
+        long maxAgeMillis = config().getZoneCandidatePoolMaxAgeMinutes() * 60_000L;
+        if (now - candidate.scannedAt() > maxAgeMillis || !isPlacementValid(candidate.center())) {
+            candidates.remove(revalidateCursor);
+        } else {
+            revalidateCursor++;
+        }
+    }
+
+    private void startScanBatch() {
+        List<int[]> points = zonePlacer.randomCandidatePoints(zonePlacer.candidateRing(townLocations), SCAN_BATCH_SIZE);
+        scanInFlight = true;
+
+        zonePlacer.scanTerrain(world, points, budgetedMainThread)
+                .whenCompleteAsync((scanned, throwable) -> {
+                    scanInFlight = false;
+                    if (throwable != null) {
+                        plugin.log("Error in zone candidate scan: " + throwable.getMessage());
+                        return;
+                    }
+                    long now = System.currentTimeMillis();
+                    for (Location center : scanned) {
+                        if (isPlacementValid(center)) {
+                            candidates.add(new PooledCandidate(center, now));
+                        }
+                    }
+                    rank();
+                }, budgetedMainThread);
+    }
+
+    private boolean isPlacementValid(Location center) {
+        // The previous claim field is served while a claim change is rebuilt off-thread
+        return zonePlacer.validationRejectReason(center, TownsToolkit.getPublishedClaimDistanceField(world), List.of(), permanentZones) == 0;
+    }
+
+    /**
+     * Sort by distance to the nearest town (furthest first) and trim to the configured size
+     */
+    private void rank() {
+        List<Location> towns = townLocations;
+        candidates.sort(Comparator.comparingDouble(
+                (PooledCandidate candidate) -> ZonePlacerToolkit.nearestTownDistance(candidate.center(), towns)).reversed());
+
+        int maxSize = config().getZoneCandidatePoolSize();
+        while (candidates.size() > maxSize) {
+            candidates.removeLast();
+        }
+    }
+
+    private record PooledCandidate(Location center, long scannedAt) {}
+
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
+}
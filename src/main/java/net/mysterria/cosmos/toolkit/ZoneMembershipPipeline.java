@@ -0,0 +1,438 @@
+package net.mysterria.cosmos.toolkit;
+
+import net.mysterria.cosmos.CosmosPlugin;
+import net.mysterria.cosmos.domain.exclusion.manager.PermanentZoneManager;
+import net.mysterria.cosmos.domain.exclusion.model.ExtractionPoint;
+import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
+import net.mysterria.cosmos.domain.exclusion.model.PointOfInterest;
+import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
+import net.mysterria.cosmos.domain.incursion.service.ZoneManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides incursion and permanent zone membership off the tick thread.
+ * <p>
+ * Each tick runs in three phases:
+ * <ol>
+ *   <li>The tick thread copies every registered player's position (slot, world, x, y, z) and tracked incursion
+ *       and permanent zone into a compact snapshot, together with the active zones, PoIs and extraction points.</li>
+ *   <li>A worker pool splits the snapshot by slot range and computes, per player, the incursion zone, the
+ *       warning band for the nearest incursion zone, the permanent zone and the PoI / extraction point in range.</li>
+ *   <li>The finished {@link Frame} is published; the zone tasks read it on a later tick and only apply
+ *       the transitions it reports.</li>
+ * </ol>
+ * Workers only read the snapshot, never live manager state. A snapshot is only taken once the previous one
+ * has been computed, so a slow pool drops frames instead of queueing them. Frames are at most a couple of
+ * ticks old.
+ */
+public class ZoneMembershipPipeline {
+
+    /** Distances from an incursion zone edge (blocks) at which approaching players are warned, outermost first */
+    public static final double[] WARNING_DISTANCES = {500.0, 300.0, 200.0, 100.0, 50.0};
+
+    // Smallest slot range worth handing to its own worker
+    private static final int MIN_SLOTS_PER_PARTITION = 32;
+
+    private final CosmosPlugin plugin;
+    private final ZoneManager zoneManager;
+    private final PermanentZoneManager permanentZoneManager;
+    private final PlayerRegistry playerRegistry;
+    private final ExecutorService workers;
+    private final int threads;
+    private final PositionBuffer positions = new PositionBuffer();
+
+    private volatile Frame frame = Frame.EMPTY;
+    private CompletableFuture<Void> inFlight;
+
+    public ZoneMembershipPipeline(CosmosPlugin plugin, ZoneManager zoneManager, PermanentZoneManager permanentZoneManager) {
+        this.plugin = plugin;
+        this.zoneManager = zoneManager;
+        this.permanentZoneManager = permanentZoneManager;
+        this.playerRegistry = plugin.getPlayerRegistry();
+
+        int configured = plugin.getConfigLoader().getConfig().getMembershipThreads();
+        this.threads = configured > 0
+                ? configured
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Cosmos-ZoneMembership-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Latest computed frame; never null
+     */
+    public Frame getFrame() {
+        return frame;
+    }
+
+    /**
+     * Snapshot positions and hand them to the workers. Runs every tick on the global tick thread.
+     */
+    public void tick() {
+        if (inFlight != null && !inFlight.isDone()) {
+            return;
+        }
+
+        Snapshot snapshot;
+        if (plugin.getPlatformScheduler().isFolia()) {
+            // Positions can only be read on each player's region: use last tick's, then refresh for the next
+            snapshot = capture();
+            plugin.getPlatformScheduler().forEachPlayer(positions::record);
+        } else {
+            plugin.getPlatformScheduler().forEachPlayer(positions::record);
+            snapshot = capture();
+        }
+
+        Frame next = new Frame(snapshot.playerIds().length);
+        int slots = snapshot.playerIds().length;
+        int partitions = Math.max(1, Math.min(threads, slots / MIN_SLOTS_PER_PARTITION));
+        int perPartition = (slots + partitions - 1) / partitions;
+
+        CompletableFuture<?>[] parts = new CompletableFuture<?>[partitions];
+        for (int i = 0; i < partitions; i++) {
+            int from = i * perPartition;
+            int to = Math.min(slots, from + perPartition);
+            parts[i] = CompletableFuture.runAsync(() -> compute(snapshot, next, from, to), workers);
+        }
+
+        inFlight = CompletableFuture.allOf(parts)
+                .thenRun(() -> {
+                    next.seal();
+                    frame = next;
+                })
+                .exceptionally(throwable -> {
+                    plugin.log("Zone membership pass failed: " + throwable.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * Stop the worker pool. Call on plugin disable.
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // ── Phase 1: capture ─────────────────────────────────────────────────────────
+
+    private Snapshot capture() {
+        List<IncursionZone> incursionZones = List.copyOf(zoneManager.getActiveZones());
+
+        List<PermanentZone> permanentZones = new ArrayList<>();
+        List<List<PointOfInterest>> pois = new ArrayList<>();
+        List<List<ExtractionPoint>> extractionPoints = new ArrayList<>();
+        for (PermanentZone zone : permanentZoneManager.getAllZones()) {
+            if (!zone.isActive()) continue;
+            permanentZones.add(zone);
+            pois.add(permanentZoneManager.getActivePoIs(zone));
+            extractionPoints.add(permanentZoneManager.getActiveExtractionPoints(zone));
+        }
+
+        Snapshot snapshot = positions.copy(playerRegistry, incursionZones, permanentZones, pois, extractionPoints);
+        UUID[] playerIds = snapshot.playerIds();
+        for (int slot = 0; slot < playerIds.length; slot++) {
+            if (playerIds[slot] == null) continue;
+            snapshot.trackedIncursionZones()[slot] = zoneManager.getPlayerZone(playerIds[slot]);
+            snapshot.trackedPermanentZones()[slot] = permanentZoneManager.getPlayerZone(slot);
+        }
+        return snapshot;
+    }
+
+    // ── Phase 2: compute ─────────────────────────────────────────────────────────
+
+    private void compute(Snapshot snapshot, Frame out, int from, int to) {
+        Location probe = new Location(null, 0, 0, 0);
+
+        for (int slot = from; slot < to; slot++) {
+            UUID playerId = snapshot.playerIds()[slot];
+            if (playerId == null) continue;
+
+            probe.setWorld(snapshot.worlds()[slot]);
+            probe.setX(snapshot.xs()[slot]);
+            probe.setY(snapshot.ys()[slot]);
+            probe.setZ(snapshot.zs()[slot]);
+            out.playerIds[slot] = playerId;
+            out.xs[slot] = snapshot.xs()[slot];
+            out.ys[slot] = snapshot.ys()[slot];
+            out.zs[slot] = snapshot.zs()[slot];
+
+            computeIncursion(snapshot, out, slot, probe);
+            computePermanent(snapshot, out, slot, probe);
+        }
+    }
+
+    private void computeIncursion(Snapshot snapshot, Frame out, int slot, Location probe) {
+        IncursionZone tracked = snapshot.trackedIncursionZones()[slot];
+        if (snapshot.incursionZones().isEmpty()) {
+            out.incursionDelta[slot] = tracked != null;
+            return;
+        }
+
+        IncursionZone inside = null;
+        IncursionZone nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (IncursionZone zone : snapshot.incursionZones()) {
+            if (inside == null && zone.contains(probe)) {
+                inside = zone;
+            }
+            double distance = zone.getDistanceFromCenter(probe);
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = zone;
+            }
+        }
+        out.incursionZones[slot] = inside;
+
+        // Transition: the computed zone differs from what the player is tracked in
+        if (inside != tracked) {
+            out.incursionDelta[slot] = true;
+        }
+
+        if (inside == null && tracked == null && nearest != null) {
+            double edgeDistance = nearestDistance - nearest.getRadius();
+            for (int band = 0; band < WARNING_DISTANCES.length; band++) {
+                if (edgeDistance > 0 && edgeDistance <= WARNING_DISTANCES[band]) {
+                    out.warningZones[slot] = nearest;
+                    out.edgeDistances[slot] = edgeDistance;
+                    out.warningBands[slot] = band;
+                    out.incursionDelta[slot] = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    private void computePermanent(Snapshot snapshot, Frame out, int slot, Location probe) {
+        List<PermanentZone> zones = snapshot.permanentZones();
+        // Most players stay in the zone they are tracked in: test that one first
+        PermanentZone tracked = snapshot.trackedPermanentZones()[slot];
+        int trackedIndex = tracked != null ? zones.indexOf(tracked) : -1;
+        if (trackedIndex >= 0 && zones.get(trackedIndex).contains(probe)) {
+            enterPermanent(snapshot, out, slot, trackedIndex, probe);
+            return;
+        }
+        for (int i = 0; i < zones.size(); i++) {
+            if (i == trackedIndex || !zones.get(i).contains(probe)) continue;
+            enterPermanent(snapshot, out, slot, i, probe);
+            return;
+        }
+    }
+
+    private void enterPermanent(Snapshot snapshot, Frame out, int slot, int zoneIndex, Location probe) {
+        out.permanentZones[slot] = snapshot.permanentZones().get(zoneIndex);
+        for (PointOfInterest poi : snapshot.pois().get(zoneIndex)) {
+            if (poi.isActive() && poi.isPlayerInRange(probe)) {
+                out.pois[slot] = poi;
+                break;
+            }
+        }
+        for (ExtractionPoint ep : snapshot.extractionPoints().get(zoneIndex)) {
+            if (ep.isActive() && ep.isPlayerInRange(probe)) {
+                out.extractionPoints[slot] = ep;
+                break;
+            }
+        }
+    }
+
+    // ── Phase 3: published results ───────────────────────────────────────────────
+
+    /**
+     * Immutable membership results for one snapshot, indexed by registry slot.
+     * Slots may be reused between snapshot and apply, so callers check {@link #covers} first.
+     */
+    public static final class Frame {
+
+        static final Frame EMPTY = new Frame(0);
+
+        private final UUID[] playerIds;
+        private final double[] xs;
+        private final double[] ys;
+        private final double[] zs;
+        private final IncursionZone[] incursionZones;
+        private final IncursionZone[] warningZones;
+        private final double[] edgeDistances;
+        private final int[] warningBands;
+        private final boolean[] incursionDelta;
+        private final PermanentZone[] permanentZones;
+        private final PointOfInterest[] pois;
+        private final ExtractionPoint[] extractionPoints;
+
+        // Slots whose incursion state needs applying (entry, exit, zone change or warning)
+        private int[] incursionDeltaSlots = new int[0];
+
+        private Frame(int slots) {
+            this.playerIds = new UUID[slots];
+            this.xs = new double[slots];
+            this.ys = new double[slots];
+            this.zs = new double[slots];
+            this.incursionZones = new IncursionZone[slots];
+            this.warningZones = new IncursionZone[slots];
+            this.edgeDistances = new double[slots];
+            this.warningBands = new int[slots];
+            this.incursionDelta = new boolean[slots];
+            this.permanentZones = new PermanentZone[slots];
+            this.pois = new PointOfInterest[slots];
+            this.extractionPoints = new ExtractionPoint[slots];
+            Arrays.fill(warningBands, -1);
+        }
+
+        /**
+         * Collect delta slots once every partition is done
+         */
+        private void seal() {
+            int[] slots = new int[incursionDelta.length];
+            int count = 0;
+            for (int slot = 0; slot < incursionDelta.length; slot++) {
+                if (incursionDelta[slot]) {
+                    slots[count++] = slot;
+                }
+            }
+            this.incursionDeltaSlots = Arrays.copyOf(slots, count);
+        }
+
+        /**
+         * True if this frame has results for the player currently holding the slot
+         */
+        public boolean covers(int slot, Player player) {
+            return slot >= 0 && slot < playerIds.length && player.getUniqueId().equals(playerIds[slot]);
+        }
+
+        /**
+         * Number of slots covered; slots without a player have no results
+         */
+        public int slots() {
+            return playerIds.length;
+        }
+
+        /**
+         * Squared distance from the player's snapshotted position to a location in the same world
+         */
+        public double distanceSquared(int slot, Location location) {
+            double dx = xs[slot] - location.getX();
+            double dy = ys[slot] - location.getY();
+            double dz = zs[slot] - location.getZ();
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        /**
+         * Slots whose incursion membership differs from the tracked state, or that are inside a warning band
+         */
+        public int[] getIncursionDeltaSlots() {
+            return incursionDeltaSlots;
+        }
+
+        public IncursionZone incursionZone(int slot) {
+            return incursionZones[slot];
+        }
+
+        /**
+         * Nearest incursion zone if the player is inside one of its warning bands, otherwise null
+         */
+        public IncursionZone warningZone(int slot) {
+            return warningZones[slot];
+        }
+
+        public double edgeDistance(int slot) {
+            return edgeDistances[slot];
+        }
+
+        /**
+         * Index into {@link #WARNING_DISTANCES}, or -1 if the player is not being warned
+         */
+        public int warningBand(int slot) {
+            return warningBands[slot];
+        }
+
+        public PermanentZone permanentZone(int slot) {
+            return permanentZones[slot];
+        }
+
+        /**
+         * First active PoI in range, only set inside a permanent zone
+         */
+        public PointOfInterest poi(int slot) {
+            return pois[slot];
+        }
+
+        /**
+         * First active extraction point in range, only set inside a permanent zone
+         */
+        public ExtractionPoint extractionPoint(int slot) {
+            return extractionPoints[slot];
+        }
+    }
+
+    /**
+     * Compact position and tracked-zone copy plus the zone lists it is tested against
+     */
+    private record Snapshot(UUID[] playerIds, World[] worlds, double[] xs, double[] ys, double[] zs,
+                            IncursionZone[] trackedIncursionZones, PermanentZone[] trackedPermanentZones,
+                            List<IncursionZone> incursionZones, List<PermanentZone> permanentZones,
+                            List<List<PointOfInterest>> pois, List<List<ExtractionPoint>> extractionPoints) {
+    }
+
+    /**
+     * Latest known position per slot. On Folia it is written from each player's region thread,
+     * so writes and copies are synchronized.
+     */
+    private static final class PositionBuffer {
+
+        private UUID[] playerIds = new UUID[0];
+        private World[] worlds = new World[0];
+        private double[] xs = new double[0];
+        private double[] ys = new double[0];
+        private double[] zs = new double[0];
+        private final Location scratch = new Location(null, 0, 0, 0);
+
+        synchronized void record(Player player, int slot) {
+            if (slot >= playerIds.length) {
+                int capacity = Math.max(slot + 1, playerIds.length * 2);
+                playerIds = Arrays.copyOf(playerIds, capacity);
+                worlds = Arrays.copyOf(worlds, capacity);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                zs = Arrays.copyOf(zs, capacity);
+            }
+            player.getLocation(scratch);
+            playerIds[slot] = player.getUniqueId();
+            worlds[slot] = scratch.getWorld();
+            xs[slot] = scratch.getX();
+            ys[slot] = scratch.getY();
+            zs[slot] = scratch.getZ();
+        }
+
+        synchronized Snapshot copy(PlayerRegistry registry, List<IncursionZone> incursionZones,
+                                   List<PermanentZone> permanentZones, List<List<PointOfInterest>> pois,
+                                   List<List<ExtractionPoint>> extractionPoints) {
+            int slots = Math.min(playerIds.length, registry.getSlotLimit());
+            UUID[] ids = Arrays.copyOf(playerIds, slots);
+            // Drop slots freed (or reassigned) since they were recorded
+            for (int slot = 0; slot < slots; slot++) {
+                Player holder = registry.playerAt(slot);
+                if (ids[slot] != null && (holder == null || !ids[slot].equals(holder.getUniqueId()))) {
+                    ids[slot] = null;
+                    playerIds[slot] = null;
+                }
+            }
+            return new Snapshot(ids, Arrays.copyOf(worlds, slots), Arrays.copyOf(xs, slots),
+                    Arrays.copyOf(ys, slots), Arrays.copyOf(zs, slots),
+                    new IncursionZone[slots], new PermanentZone[slots], incursionZones, permanentZones, pois, extractionPoints);
+        }
+    }
+
+}
@@ -1,32 +1,77 @@
 package net.mysterria.cosmos.toolkit;
 
+import lombok.Getter;
 import net.mysterria.cosmos.CosmosIncursion;
 import net.mysterria.cosmos.config.CosmosConfig;
 import net.mysterria.cosmos.domain.exclusion.model.PermanentZone;
 import net.mysterria.cosmos.domain.incursion.model.IncursionZone;
 import net.mysterria.cosmos.domain.incursion.model.source.ZoneTier;
+import net.mysterria.cosmos.toolkit.towns.ClaimDistanceField;
 import net.mysterria.cosmos.toolkit.towns.TownsToolkit;
 import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Biome;
-import org.bukkit.block.Block;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Places incursion zones between towns.
+ * <p>
+ * Terrain is evaluated asynchronously: chunks are loaded with {@code getChunkAtAsync}, captured as
+ * {@link ChunkSnapshot}s on the main thread (on Folia, the region that owns the chunk) and inspected on a
+ * small worker pool, so an event start never forces synchronous loads of far-away terrain.
+ * <p>
+ * While no event is running, {@link ZoneCandidatePool} feeds candidates through the same pipeline
+ * in the background, so most event starts can draw their zones straight from the pool.
+ */
 public class ZonePlacerToolkit {
 
+    // Area water-coverage check samples a 7×7 grid at 10-block steps over ±30 blocks
+    private static final int AREA_CHECK_RADIUS = 30;
+    private static final int AREA_CHECK_INTERVAL = 10;
+
+    // Candidates evaluated concurrently; bounds how many chunk snapshots are held at once
+    private static final int MAX_IN_FLIGHT_CANDIDATES = 8;
+
     private final CosmosIncursion plugin;
-    private final CosmosConfig config;
+    private final ExecutorService terrainWorkers;
+    private final Executor mainThread;
+    @Getter
+    private final ZoneCandidatePool candidatePool;
 
     public ZonePlacerToolkit(CosmosIncursion plugin) {
         this.plugin = plugin;
-        this.config = plugin.getConfigLoader().getConfig();
+
+        int workerCount = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.terrainWorkers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "Cosmos-ZonePlacer-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        this.mainThread = task -> {
+            if (Bukkit.isPrimaryThread()) {
+                task.run();
+            } else {
+                plugin.getPlatformScheduler().run(task);
+            }
+        };
+        this.candidatePool = new ZoneCandidatePool(plugin, this);
     }
 
     /**
@@ -34,28 +79,32 @@ public class ZonePlacerToolkit {
      */
     public int calculateZoneCount() {
         int onlinePlayers = Bukkit.getOnlinePlayers().size();
-        int baseCount = config.getZoneBaseCount();
-        int playersPerZone = config.getPlayersPerZone();
-        int maxCount = config.getZoneMaxCount();
+        int baseCount = config().getZoneBaseCount();
+        int playersPerZone = config().getPlayersPerZone();
+        int maxCount = config().getZoneMaxCount();
 
         // Calculate: baseCount + (additional players / playersPerZone), minimum 1
-        int calculatedCount = baseCount + ((onlinePlayers - config.getMinPlayers()) / playersPerZone);
+        int calculatedCount = baseCount + ((onlinePlayers - config().getMinPlayers()) / playersPerZone);
 
         return Math.max(1, Math.min(calculatedCount, maxCount));
     }
 
     /**
-     * Generate zone locations that are equidistant from towns and avoid town claims
+     * Generate zone locations that are equidistant from towns and avoid town claims.
+     * Zones are drawn from the pre-scanned candidate pool when it holds enough valid centers;
+     * otherwise fresh terrain is scanned asynchronously.
+     * Must be called from the main thread; the returned future may complete on a worker thread.
      */
-    public List<IncursionZone> generateZones(int count) {
-        List<IncursionZone> incursionZones = new ArrayList<>();
+    public CompletableFuture<List<IncursionZone>> generateZones(int count) {
         World overworld = Bukkit.getWorlds().getFirst(); // Primary world
 
         if (overworld == null) {
             plugin.log("Warning: Could not find overworld for zone generation");
-            return incursionZones;
+            return CompletableFuture.completedFuture(new ArrayList<>());
         }
 
+        long startNanos = System.nanoTime();
+
         // Get town locations
         List<Location> townLocations = TownsToolkit.getTownLocations();
         if (townLocations.isEmpty()) {
@@ -65,13 +114,77 @@ public class ZonePlacerToolkit {
 
         plugin.log("Zone generation: " + townLocations.size() + " town location(s), targeting " + count + " zone(s)");
 
-        // Get claimed chunks to avoid
-        Set<TownsToolkit.ChunkPosition> claimedChunks = TownsToolkit.getClaimedChunks(overworld);
-        plugin.log("Zone generation: " + claimedChunks.size() + " claimed chunks to avoid");
+        // Get claimed chunks to avoid (towns plugin APIs are only queried here, on the main thread)
+        ClaimDistanceField claimField = TownsToolkit.getClaimDistanceField(overworld);
+        plugin.log("Zone generation: " + claimField.getClaimCount() + " claimed chunks to avoid");
+
+        List<PermanentZone> permanentZones = activePermanentZones();
+
+        // Try the pre-scanned pool first — no terrain access needed
+        List<Location> pooled = candidatePool.rankedCandidates(overworld);
+        if (!pooled.isEmpty()) {
+            sortByTownDistance(pooled, townLocations);
+            Selection selection = selectZones(pooled, count, claimField, permanentZones);
+            if (selection.zones().size() >= count) {
+                candidatePool.consume(selection.zones());
+                logSelection(selection, count);
+                plugin.log("Zone generation: drew " + count + " zone(s) from candidate pool of " + pooled.size()
+                        + " in " + (System.nanoTime() - startNanos) / 1_000_000L + "ms");
+                return CompletableFuture.completedFuture(selection.zones());
+            }
+            plugin.log("Zone generation: candidate pool only yields " + selection.zones().size() + "/" + count
+                    + " zone(s), scanning fresh terrain");
+        }
+
+        // Calculate zone center candidates, then evaluate their terrain off-thread
+        CandidateRing ring = candidateRing(townLocations);
+        plugin.log("Zone generation: radius range " + String.format("%.0f–%.0f", ring.minRadius(), ring.maxRadius())
+                + " from center (" + String.format("%.0f,%.0f", ring.centerX(), ring.centerZ()) + ")");
+
+        List<int[]> candidatePoints = randomCandidatePoints(ring, count * 20); // Generate more candidates for better variety
+        TerrainContext context = new TerrainContext(overworld, mainThread);
+
+        return evaluateCandidates(context, candidatePoints)
+                .thenApplyAsync(candidates -> {
+                    plugin.log("Zone generation: terrain rejected — " + context.rejectedOcean().get() + " ocean biome, "
+                            + context.rejectedWater().get() + " surface water, "
+                            + context.rejectedAreaWater().get() + " area water coverage, "
+                            + context.failed().get() + " failed chunk loads");
+                    plugin.log("Zone generation: " + candidates.size() + " surface candidates after terrain filtering");
+
+                    candidates.addAll(pooled);
+                    sortByTownDistance(candidates, townLocations);
+                    Selection selection = selectZones(candidates, count, claimField, permanentZones);
+                    logSelection(selection, count);
+                    mainThread.execute(() -> candidatePool.consume(selection.zones()));
+
+                    plugin.log("Zone generation finished in " + (System.nanoTime() - startNanos) / 1_000_000L + "ms");
+                    return selection.zones();
+                }, terrainWorkers);
+    }
+
+    /**
+     * Evaluate terrain for the given candidate points without any placement validation.
+     * Chunk loads and snapshots are dispatched through the given main-thread executor.
+     */
+    CompletableFuture<List<Location>> scanTerrain(World world, List<int[]> points, Executor mainThreadExecutor) {
+        return evaluateCandidates(new TerrainContext(world, mainThreadExecutor), points);
+    }
+
+    /**
+     * Stop the terrain worker pool (called on plugin disable)
+     */
+    public void shutdown() {
+        terrainWorkers.shutdownNow();
+    }
 
-        // Calculate zone center candidates
-        List<Location> candidates = generateCandidateLocations(overworld, townLocations, count);
-        plugin.log("Zone generation: " + candidates.size() + " surface candidates after terrain filtering");
+    /**
+     * Pick the final zones from terrain-validated candidates, assigning tiers in order
+     */
+    private Selection selectZones(List<Location> candidates, int count,
+                                            ClaimDistanceField claimField,
+                                            List<PermanentZone> permanentZones) {
+        List<IncursionZone> incursionZones = new ArrayList<>();
 
         // Build an ordered list of tiers to assign (GREEN first, DEATH last)
         List<ZoneTier> tierQueue = buildTierQueue();
@@ -86,16 +199,14 @@ public class ZonePlacerToolkit {
                 break;
             }
 
-            int rejectReason = validationRejectReason(candidate, claimedChunks, incursionZones);
+            int rejectReason = validationRejectReason(candidate, claimField, incursionZones, permanentZones);
             if (rejectReason == 0) {
                 ZoneTier tier = (zoneNumber - 1) < tierQueue.size()
                         ? tierQueue.get(zoneNumber - 1)
                         : ZoneTier.GREEN;
 
-                IncursionZone incursionZone = new IncursionZone("Zone-" + zoneNumber, candidate, config.getZoneRadius(), tier);
+                IncursionZone incursionZone = new IncursionZone("Zone-" + zoneNumber, candidate, config().getZoneRadius(), tier);
                 incursionZones.add(incursionZone);
-                plugin.log("Generated " + tier + " zone at: " + String.format("(%.0f, %.0f, %.0f)",
-                        candidate.getX(), candidate.getY(), candidate.getZ()));
                 zoneNumber++;
             } else if (rejectReason == 1) {
                 rejectedByTown++;
@@ -106,15 +217,23 @@ public class ZonePlacerToolkit {
             }
         }
 
-        plugin.log("Zone generation: " + rejectedByTown + " rejected (town buffer), "
-                + rejectedBySeparation + " rejected (zone separation), "
-                + rejectedByPermanentZone + " rejected (permanent zone overlap)");
+        return new Selection(incursionZones, rejectedByTown, rejectedBySeparation, rejectedByPermanentZone);
+    }
 
-        if (incursionZones.size() < count) {
-            plugin.log("Warning: Could only generate " + incursionZones.size() + " out of " + count + " requested zones");
+    private void logSelection(Selection selection, int count) {
+        for (IncursionZone zone : selection.zones()) {
+            Location center = zone.getCenter();
+            plugin.log("Generated " + zone.getTier() + " zone at: " + String.format("(%.0f, %.0f, %.0f)",
+                    center.getX(), center.getY(), center.getZ()));
         }
 
-        return incursionZones;
+        plugin.log("Zone generation: " + selection.rejectedByTown() + " rejected (town buffer), "
+                + selection.rejectedBySeparation() + " rejected (zone separation), "
+                + selection.rejectedByPermanentZone() + " rejected (permanent zone overlap)");
+
+        if (selection.zones().size() < count) {
+            plugin.log("Warning: Could only generate " + selection.zones().size() + " out of " + count + " requested zones");
+        }
     }
 
     /**
@@ -124,7 +243,7 @@ public class ZonePlacerToolkit {
      */
     private List<ZoneTier> buildTierQueue() {
         List<ZoneTier> queue = new ArrayList<>();
-        Map<ZoneTier, Integer> distribution = config.getTierDistribution();
+        Map<ZoneTier, Integer> distribution = config().getTierDistribution();
         for (ZoneTier tier : ZoneTier.values()) {
             int count = distribution.getOrDefault(tier, 0);
             for (int i = 0; i < count; i++) {
@@ -135,41 +254,36 @@ public class ZonePlacerToolkit {
     }
 
     /** Returns 0=ok, 1=town buffer, 2=separation, 3=permanent zone overlap */
-    private int validationRejectReason(Location location, Set<TownsToolkit.ChunkPosition> claimedChunks, List<IncursionZone> existingIncursionZones) {
-        double radius = config.getZoneRadius();
-        double townBuffer = config.getTownBuffer();
-        double minSeparation = config.getMinZoneSeparation();
-
-        int centerChunkX = location.getBlockX() >> 4;
-        int centerChunkZ = location.getBlockZ() >> 4;
-        int chunkRadius = (int) Math.ceil(radius / 16.0) + (int) Math.ceil(townBuffer / 16.0);
-
-        for (int dx = -chunkRadius; dx <= chunkRadius; dx++) {
-            for (int dz = -chunkRadius; dz <= chunkRadius; dz++) {
-                TownsToolkit.ChunkPosition chunkPos = new TownsToolkit.ChunkPosition(
-                        centerChunkX + dx, centerChunkZ + dz);
-                if (claimedChunks.contains(chunkPos)) {
-                    double distance = chunkPos.distanceTo(location.getX(), location.getZ());
-                    if (distance < radius + townBuffer) return 1;
-                }
-            }
-        }
+    int validationRejectReason(Location location, ClaimDistanceField claimField,
+                                       List<IncursionZone> existingIncursionZones, List<PermanentZone> permanentZones) {
+        double radius = config().getZoneRadius();
+        double townBuffer = config().getTownBuffer();
+        double minSeparation = config().getMinZoneSeparation();
+
+        if (claimField.hasClaimWithin(location.getX(), location.getZ(), radius + townBuffer)) return 1;
 
         for (IncursionZone existing : existingIncursionZones) {
             if (existing.isTooClose(new IncursionZone("temp", location, radius), minSeparation)) return 2;
         }
 
-        if (overlapsAnyPermanentZone(location, radius)) return 3;
+        if (overlapsAnyPermanentZone(location, radius, permanentZones)) return 3;
 
         return 0;
     }
 
-    private boolean overlapsAnyPermanentZone(Location candidate, double radius) {
-        var permanentZones = plugin.getPermanentZoneManager().getAllZones();
+    /**
+     * Active permanent zones, captured on the main thread for use by worker threads
+     */
+    List<PermanentZone> activePermanentZones() {
+        return plugin.getPermanentZoneManager().getAllZones().stream()
+                .filter(PermanentZone::isActive)
+                .toList();
+    }
+
+    private boolean overlapsAnyPermanentZone(Location candidate, double radius, List<PermanentZone> permanentZones) {
         if (permanentZones.isEmpty()) return false;
         double radiusSq = radius * radius;
         for (PermanentZone pz : permanentZones) {
-            if (!pz.isActive()) continue;
             if (pz.contains(candidate)) return true;
             for (Location vertex : pz.getVertices()) {
                 World w = vertex.getWorld();
@@ -183,12 +297,9 @@ public class ZonePlacerToolkit {
     }
 
     /**
-     * Generate candidate locations around towns with randomness
+     * Compute the ring around the town centroid in which zone centers are sampled
      */
-    private List<Location> generateCandidateLocations(World world, List<Location> townLocations, int count) {
-        List<Location> candidates = new ArrayList<>();
-        java.util.Random random = new java.util.Random();
-
+    CandidateRing candidateRing(List<Location> townLocations) {
         // Calculate center point of all towns
         double centerX = townLocations.stream().mapToDouble(Location::getX).average().orElse(0);
         double centerZ = townLocations.stream().mapToDouble(Location::getZ).average().orElse(0);
@@ -206,81 +317,170 @@ public class ZonePlacerToolkit {
                 .orElse(1000.0);
         double effectiveDistance = Math.max(avgDistance, 1000.0);
 
-        // Generate candidates with randomness
-        int candidateCount = count * 20; // Generate more candidates for better variety
-        double minRadius = effectiveDistance * 0.5;
-        double maxRadius = effectiveDistance * 1.5;
+        return new CandidateRing(centerX, centerZ, effectiveDistance * 0.5, effectiveDistance * 1.5);
+    }
 
-        plugin.log("Zone generation: radius range " + String.format("%.0f–%.0f", minRadius, maxRadius)
-                + " from center (" + String.format("%.0f,%.0f", centerX, centerZ) + ")");
+    /**
+     * Generate candidate block coordinates {x, z} inside the ring with randomness
+     */
+    List<int[]> randomCandidatePoints(CandidateRing ring, int pointCount) {
+        List<int[]> points = new ArrayList<>(pointCount);
+        java.util.concurrent.ThreadLocalRandom random = java.util.concurrent.ThreadLocalRandom.current();
 
-        int rejOcean = 0, rejWater = 0, rejAreaWater = 0;
-        for (int i = 0; i < candidateCount; i++) {
+        for (int i = 0; i < pointCount; i++) {
             double angle = random.nextDouble() * 2 * Math.PI;
-            double radius = minRadius + random.nextDouble() * (maxRadius - minRadius);
+            double radius = ring.minRadius() + random.nextDouble() * (ring.maxRadius() - ring.minRadius());
 
-            double x = centerX + radius * Math.cos(angle);
-            double z = centerZ + radius * Math.sin(angle);
+            double x = ring.centerX() + radius * Math.cos(angle);
+            double z = ring.centerZ() + radius * Math.sin(angle);
 
             x += (random.nextDouble() - 0.5) * 200;
             z += (random.nextDouble() - 0.5) * 200;
 
-            int[] rejection = new int[1];
-            Location candidate = findSuitableSurfaceLocation(world, (int) x, (int) z, rejection);
-            if (candidate != null) {
-                candidates.add(candidate);
-            } else if (rejection[0] == 1) rejOcean++;
-            else if (rejection[0] == 2) rejWater++;
-            else rejAreaWater++;
+            points.add(new int[]{(int) x, (int) z});
         }
-        plugin.log("Zone generation: terrain rejected — " + rejOcean + " ocean biome, "
-                + rejWater + " surface water, " + rejAreaWater + " area water coverage");
-
-        // Sort by how far they are from nearest town (prefer locations between towns)
-        candidates.sort(Comparator.comparingDouble(loc ->
-                townLocations.stream()
-                        .mapToDouble(town -> {
-                            if (loc instanceof Location location) {
-                                double dx = location.getX() - town.getX();
-                                double dz = location.getZ() - town.getZ();
-                                return Math.sqrt(dx * dx + dz * dz);
-                            } else {
-                                return Double.MAX_VALUE;
-                            }
-                        })
-                        .min()
-                        .orElse(Double.MAX_VALUE)
-        ).reversed());
-
-        return candidates;
+
+        return points;
     }
 
-    /** rejection[0]: 1=ocean biome, 2=surface water/lava, 3=area water coverage */
-    private Location findSuitableSurfaceLocation(World world, int x, int z, int[] rejection) {
-        int y = world.getHighestBlockYAt(x, z);
-        Location location = new Location(world, x, y, z);
+    /**
+     * Sort by how far candidates are from the nearest town (prefer locations between towns)
+     */
+    private void sortByTownDistance(List<Location> candidates, List<Location> townLocations) {
+        candidates.sort(Comparator.comparingDouble((Location loc) -> nearestTownDistance(loc, townLocations)).reversed());
+    }
 
-        Biome biome = world.getBiome(location);
-        if (isOceanBiome(biome)) {
-            rejection[0] = 1;
-            return null;
+    static double nearestTownDistance(Location location, List<Location> townLocations) {
+        return townLocations.stream()
+                .mapToDouble(town -> {
+                    double dx = location.getX() - town.getX();
+                    double dz = location.getZ() - town.getZ();
+                    return Math.sqrt(dx * dx + dz * dz);
+                })
+                .min()
+                .orElse(Double.MAX_VALUE);
+    }
+
+    // ── Async terrain pipeline ───────────────────────────────────────────────────
+
+    /**
+     * Evaluate all candidate points, at most MAX_IN_FLIGHT_CANDIDATES at a time.
+     * Each lane walks its share of the candidates sequentially so snapshots are released quickly.
+     */
+    private CompletableFuture<List<Location>> evaluateCandidates(TerrainContext context, List<int[]> points) {
+        List<Location> accepted = Collections.synchronizedList(new ArrayList<>());
+        int lanes = Math.min(MAX_IN_FLIGHT_CANDIDATES, points.size());
+        CompletableFuture<?>[] laneFutures = new CompletableFuture<?>[lanes];
+
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < points.size(); i += lanes) {
+                int[] point = points.get(i);
+                chain = chain
+                        .thenCompose(ignored -> evaluateCandidate(context, point[0], point[1]))
+                        .thenAccept(location -> {
+                            if (location != null) accepted.add(location);
+                        });
+            }
+            laneFutures[lane] = chain;
+        }
+
+        return CompletableFuture.allOf(laneFutures).thenApply(ignored -> {
+            synchronized (accepted) {
+                return new ArrayList<>(accepted);
+            }
+        });
+    }
+
+    /**
+     * Evaluate a single candidate in two stages: the center chunk first (biome and surface checks),
+     * then the surrounding chunks for water coverage only if the cheap checks pass.
+     * Completes with null if the candidate is rejected.
+     */
+    private CompletableFuture<Location> evaluateCandidate(TerrainContext context, int x, int z) {
+        return loadSnapshot(context, x >> 4, z >> 4, true)
+                .thenApplyAsync(center -> surfaceYIfSuitable(context, center, x, z), terrainWorkers)
+                .thenCompose(surfaceY -> {
+                    if (surfaceY == null) {
+                        return CompletableFuture.<Location>completedFuture(null);
+                    }
+                    return loadAreaSnapshots(context, x, z)
+                            .thenApplyAsync(area -> {
+                                if (!isAreaSuitableForCombat(context, area, x, z)) {
+                                    context.rejectedAreaWater().incrementAndGet();
+                                    return null;
+                                }
+                                return new Location(context.world(), x, surfaceY, z);
+                            }, terrainWorkers);
+                })
+                .exceptionally(throwable -> {
+                    context.failed().incrementAndGet();
+                    return null;
+                });
+    }
+
+    /**
+     * Load a chunk asynchronously and capture its snapshot on the main thread, or on Folia on the region
+     * that owns the chunk. The load request itself is also issued from the main thread, since continuations
+     * may run on workers.
+     */
+    private CompletableFuture<ChunkSnapshot> loadSnapshot(TerrainContext context, int chunkX, int chunkZ, boolean includeBiome) {
+        PlatformScheduler scheduler = plugin.getPlatformScheduler();
+        Executor owner = scheduler.isFolia()
+                ? scheduler.at(new Location(context.world(), chunkX << 4, 0, chunkZ << 4))
+                : context.mainThread();
+        return CompletableFuture.supplyAsync(() -> context.world().getChunkAtAsync(chunkX, chunkZ), context.mainThread())
+                .thenCompose(chunkFuture -> chunkFuture)
+                .thenApplyAsync(chunk -> chunk.getChunkSnapshot(true, includeBiome, false), owner);
+    }
+
+    /**
+     * Load snapshots for every chunk touched by the area water-coverage sample grid
+     */
+    private CompletableFuture<Map<Long, ChunkSnapshot>> loadAreaSnapshots(TerrainContext context, int centerX, int centerZ) {
+        int minChunkX = (centerX - AREA_CHECK_RADIUS) >> 4;
+        int maxChunkX = (centerX + AREA_CHECK_RADIUS) >> 4;
+        int minChunkZ = (centerZ - AREA_CHECK_RADIUS) >> 4;
+        int maxChunkZ = (centerZ + AREA_CHECK_RADIUS) >> 4;
+
+        Map<Long, ChunkSnapshot> snapshots = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                long key = ClaimDistanceField.chunkKey(chunkX, chunkZ);
+                loads.add(loadSnapshot(context, chunkX, chunkZ, false)
+                        .thenAccept(snapshot -> snapshots.put(key, snapshot)));
+            }
         }
 
-        Block surfaceBlock = world.getBlockAt(x, y, z);
-        Block aboveBlock = world.getBlockAt(x, y + 1, z);
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> new HashMap<>(snapshots));
+    }
 
-        if (surfaceBlock.getType() == Material.WATER || surfaceBlock.getType() == Material.LAVA
-                || aboveBlock.getType() == Material.WATER || aboveBlock.getType() == Material.LAVA) {
-            rejection[0] = 2;
+    /**
+     * Returns the surface Y if the candidate column is dry land, or null (recording why) otherwise
+     */
+    private Integer surfaceYIfSuitable(TerrainContext context, ChunkSnapshot snapshot, int x, int z) {
+        int localX = x & 15;
+        int localZ = z & 15;
+        int y = Math.max(context.minY(), snapshot.getHighestBlockYAt(localX, localZ));
+
+        Biome biome = snapshot.getBiome(localX, y, localZ);
+        if (isOceanBiome(biome)) {
+            context.rejectedOcean().incrementAndGet();
             return null;
         }
 
-        if (!isAreaSuitableForCombat(world, x, y, z)) {
-            rejection[0] = 3;
+        Material surface = blockTypeAt(context, snapshot, localX, y, localZ);
+        Material above = blockTypeAt(context, snapshot, localX, y + 1, localZ);
+
+        if (surface == Material.WATER || surface == Material.LAVA
+                || above == Material.WATER || above == Material.LAVA) {
+            context.rejectedWater().incrementAndGet();
             return null;
         }
 
-        return location;
+        return y;
     }
 
     /**
@@ -294,31 +494,71 @@ public class ZonePlacerToolkit {
     /**
      * Check if the area around a location is suitable for combat (mostly land, not water)
      */
-    private boolean isAreaSuitableForCombat(World world, int centerX, int centerY, int centerZ) {
-        int radius = 30; // Check a 60x60 area
+    private boolean isAreaSuitableForCombat(TerrainContext context, Map<Long, ChunkSnapshot> area, int centerX, int centerZ) {
         int waterCount = 0;
         int totalChecked = 0;
-        int checkInterval = 10; // Check every 10 blocks to avoid lag
 
-        for (int x = centerX - radius; x <= centerX + radius; x += checkInterval) {
-            for (int z = centerZ - radius; z <= centerZ + radius; z += checkInterval) {
+        for (int x = centerX - AREA_CHECK_RADIUS; x <= centerX + AREA_CHECK_RADIUS; x += AREA_CHECK_INTERVAL) {
+            for (int z = centerZ - AREA_CHECK_RADIUS; z <= centerZ + AREA_CHECK_RADIUS; z += AREA_CHECK_INTERVAL) {
+                ChunkSnapshot snapshot = area.get(ClaimDistanceField.chunkKey(x >> 4, z >> 4));
+                if (snapshot == null) {
+                    continue;
+                }
                 totalChecked++;
 
                 // Check if this location has water at surface level
-                int y = world.getHighestBlockYAt(x, z);
-                Block block = world.getBlockAt(x, y, z);
-                Block above = world.getBlockAt(x, y + 1, z);
-
-                if (block.getType() == Material.WATER || above.getType() == Material.WATER) {
+                int localX = x & 15;
+                int localZ = z & 15;
+                int y = snapshot.getHighestBlockYAt(localX, localZ);
+                if (blockTypeAt(context, snapshot, localX, y, localZ) == Material.WATER
+                        || blockTypeAt(context, snapshot, localX, y + 1, localZ) == Material.WATER) {
                     waterCount++;
                 }
             }
         }
 
+        if (totalChecked == 0) {
+            return false;
+        }
+
         // Reject if more than 30% of the area is water
         double waterPercentage = (double) waterCount / totalChecked;
         return waterPercentage <= 0.3;
     }
 
+    private Material blockTypeAt(TerrainContext context, ChunkSnapshot snapshot, int localX, int y, int localZ) {
+        if (y < context.minY() || y >= context.maxY()) {
+            return Material.AIR;
+        }
+        return snapshot.getBlockType(localX, y, localZ);
+    }
 
+    /**
+     * Ring around the town centroid in which candidate zone centers are sampled
+     */
+    record CandidateRing(double centerX, double centerZ, double minRadius, double maxRadius) {}
+
+    /**
+     * Result of validating candidates against claims, separation and permanent zones
+     */
+    private record Selection(List<IncursionZone> zones, int rejectedByTown,
+                             int rejectedBySeparation, int rejectedByPermanentZone) {}
+
+    /**
+     * World bounds captured on the main thread, the executor used for main-thread chunk access,
+     * and per-run rejection counters
+     */
+    private record TerrainContext(World world, int minY, int maxY, Executor mainThread,
+                                  AtomicInteger rejectedOcean, AtomicInteger rejectedWater,
+                                  AtomicInteger rejectedAreaWater, AtomicInteger failed) {
+
+        TerrainContext(World world, Executor mainThread) {
+            this(world, world.getMinHeight(), world.getMaxHeight(), mainThread,
+                    new AtomicInteger(), new AtomicInteger(), new AtomicInteger(), new AtomicInteger());
+        }
+    }
+
+    private CosmosConfig config() {
+        return plugin.getConfigLoader().getConfig();
+    }
 }
@@ -0,0 +1,46 @@
+package net.mysterria.cosmos.toolkit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A spirit beacon was captured, lost its owner or became contested
+ */
+@Name("cosmos.BeaconCapture")
+@Label("Beacon Capture")
+@Category({"Cosmos Incursion", "Beacons"})
+@StackTrace(false)
+public class BeaconCaptureEvent extends Event {
+
+    public static final String CAPTURED = "captured";
+    public static final String LOST = "lost";
+    public static final String CONTESTED = "contested";
+
+    @Label("Beacon")
+    String beacon;
+
+    @Label("Change")
+    @Description("captured, lost or contested")
+    String change;
+
+    @Label("Town")
+    @Description("New owner on capture, previous owner on loss")
+    String town;
+
+    @Label("Capture Progress")
+    double progress;
+
+    public static void record(String beacon, String change, String town, double progress) {
+        BeaconCaptureEvent event = new BeaconCaptureEvent();
+        if (!event.shouldCommit()) return;
+        event.beacon = beacon;
+        event.change = change;
+        event.town = town;
+        event.progress = progress;
+        event.commit();
+    }
+}
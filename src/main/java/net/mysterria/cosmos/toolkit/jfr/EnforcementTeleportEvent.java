@@ -0,0 +1,62 @@
+package net.mysterria.cosmos.toolkit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An enforcement teleport, from request to landing (chunk load, spot resolution and teleportAsync)
+ */
+@Name("cosmos.EnforcementTeleport")
+@Label("Enforcement Teleport")
+@Category({"Cosmos Incursion", "Enforcement"})
+@StackTrace(false)
+public class EnforcementTeleportEvent extends Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("World")
+    String world;
+
+    @Label("Target X")
+    int x;
+
+    @Label("Target Z")
+    int z;
+
+    @Label("Placement")
+    String placement;
+
+    @Label("Reason")
+    @Description("Bypass metadata key, if any")
+    String reason;
+
+    @Label("Result")
+    String result;
+
+    /**
+     * Begin timing a teleport request
+     */
+    public static EnforcementTeleportEvent start(String player, String world, int x, int z, String placement, String reason) {
+        EnforcementTeleportEvent event = new EnforcementTeleportEvent();
+        event.begin();
+        event.player = player;
+        event.world = world;
+        event.x = x;
+        event.z = z;
+        event.placement = placement;
+        event.reason = reason;
+        return event;
+    }
+
+    public void finish(String result) {
+        end();
+        if (!shouldCommit()) return;
+        this.result = result;
+        commit();
+    }
+}
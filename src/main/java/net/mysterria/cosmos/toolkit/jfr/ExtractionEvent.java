@@ -0,0 +1,53 @@
+package net.mysterria.cosmos.toolkit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * An extraction channel started, completed or was cancelled
+ */
+@Name("cosmos.Extraction")
+@Label("Extraction")
+@Category({"Cosmos Incursion", "Extraction"})
+@StackTrace(false)
+public class ExtractionEvent extends Event {
+
+    public static final String START = "start";
+    public static final String COMPLETE = "complete";
+    public static final String CANCEL = "cancel";
+
+    @Label("Action")
+    @Description("start, complete or cancel")
+    String action;
+
+    @Label("Player")
+    String player;
+
+    @Label("Zone")
+    String zone;
+
+    @Label("Channelled")
+    @Description("Time spent channelling before completing or cancelling")
+    @Timespan(Timespan.MILLISECONDS)
+    long channelled;
+
+    @Label("Resources")
+    @Description("Total resources deposited on completion")
+    double resources;
+
+    public static void record(String action, String player, String zone, long channelledMillis, double resources) {
+        ExtractionEvent event = new ExtractionEvent();
+        if (!event.shouldCommit()) return;
+        event.action = action;
+        event.player = player;
+        event.zone = zone;
+        event.channelled = channelledMillis;
+        event.resources = resources;
+        event.commit();
+    }
+}
@@ -0,0 +1,41 @@
+package net.mysterria.cosmos.toolkit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JSON save, ledger append or Hollow Body file write
+ */
+@Name("cosmos.PersistenceWrite")
+@Label("Persistence Write")
+@Category({"Cosmos Incursion", "Persistence"})
+public class PersistenceWriteEvent extends Event {
+
+    @Label("Store")
+    @Description("File written, relative to the plugin folder")
+    String store;
+
+    @Label("Entries")
+    @Description("Records written, where the store has a natural count")
+    int entries;
+
+    /**
+     * Begin timing a write
+     */
+    public static PersistenceWriteEvent start(String store) {
+        PersistenceWriteEvent event = new PersistenceWriteEvent();
+        event.begin();
+        event.store = store;
+        return event;
+    }
+
+    public void finish(int entries) {
+        end();
+        if (!shouldCommit()) return;
+        this.entries = entries;
+        commit();
+    }
+}
@@ -0,0 +1,49 @@
+package net.mysterria.cosmos.toolkit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A point of interest spawned in a permanent zone, or was removed after running dry or expiring
+ */
+@Name("cosmos.PoI")
+@Label("Point of Interest")
+@Category({"Cosmos Incursion", "Zones"})
+@StackTrace(false)
+public class PoIEvent extends Event {
+
+    public static final String SPAWNED = "spawned";
+    public static final String DEPLETED = "depleted";
+    public static final String EXPIRED = "expired";
+
+    @Label("Action")
+    @Description("spawned, depleted or expired")
+    String action;
+
+    @Label("Zone")
+    String zone;
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Resource Cap")
+    double cap;
+
+    @Label("Resources Remaining")
+    double remaining;
+
+    public static void record(String action, String zone, String resource, double cap, double remaining) {
+        PoIEvent event = new PoIEvent();
+        if (!event.shouldCommit()) return;
+        event.action = action;
+        event.zone = zone;
+        event.resource = resource;
+        event.cap = cap;
+        event.remaining = remaining;
+        event.commit();
+    }
+}
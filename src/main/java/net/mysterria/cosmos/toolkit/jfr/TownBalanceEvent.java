@@ -0,0 +1,51 @@
+package net.mysterria.cosmos.toolkit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A town's permanent zone resource balance changed
+ */
+@Name("cosmos.TownBalance")
+@Label("Town Balance Change")
+@Category({"Cosmos Incursion", "Economy"})
+@StackTrace(false)
+public class TownBalanceEvent extends Event {
+
+    public static final String DEPOSIT = "deposit";
+    public static final String DEDUCT = "deduct";
+    public static final String SET = "set";
+    public static final String ADJUST = "adjust";
+
+    @Label("Town ID")
+    int townId;
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Reason")
+    @Description("deposit, deduct, set or adjust")
+    String reason;
+
+    @Label("Delta")
+    double delta;
+
+    @Label("Balance")
+    @Description("Balance of this resource after the change")
+    double balance;
+
+    public static void record(int townId, String resource, String reason, double delta, double balance) {
+        TownBalanceEvent event = new TownBalanceEvent();
+        if (!event.shouldCommit()) return;
+        event.townId = townId;
+        event.resource = resource;
+        event.reason = reason;
+        event.delta = delta;
+        event.balance = balance;
+        event.commit();
+    }
+}
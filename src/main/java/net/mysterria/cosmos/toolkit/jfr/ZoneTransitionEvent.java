@@ -0,0 +1,46 @@
+package net.mysterria.cosmos.toolkit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A player entered or left an incursion or permanent zone
+ */
+@Name("cosmos.ZoneTransition")
+@Label("Zone Transition")
+@Category({"Cosmos Incursion", "Zones"})
+@StackTrace(false)
+public class ZoneTransitionEvent extends Event {
+
+    @Label("Kind")
+    @Description("incursion or permanent")
+    String kind;
+
+    @Label("Zone")
+    String zone;
+
+    @Label("Tier")
+    String tier;
+
+    @Label("Player")
+    String player;
+
+    @Label("Entered")
+    @Description("True on entry, false on exit")
+    boolean entered;
+
+    public static void record(String kind, String zone, String tier, String player, boolean entered) {
+        ZoneTransitionEvent event = new ZoneTransitionEvent();
+        if (!event.shouldCommit()) return;
+        event.kind = kind;
+        event.zone = zone;
+        event.tier = tier;
+        event.player = player;
+        event.entered = entered;
+        event.commit();
+    }
+}
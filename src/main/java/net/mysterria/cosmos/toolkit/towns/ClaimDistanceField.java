@@ -0,0 +1,266 @@
+package net.mysterria.cosmos.toolkit.towns;
+
+import lombok.Getter;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable per-world grid of claimed chunks with a precomputed distance transform.
+ * <p>
+ * The grid spans the bounding box of all claims plus a margin. Each cell stores the distance (in blocks)
+ * from its chunk center to the nearest claimed chunk center, computed with a two-pass exact Euclidean
+ * distance transform (columns, then rows). Town-buffer checks are then a single array lookup; only
+ * points within one chunk's slack of the threshold fall back to probing the claim bitset directly.
+ * <p>
+ * Worlds whose claims are spread too far apart for a dense grid keep packed chunk keys instead and
+ * always probe. Instances are safe to share with worker threads.
+ */
+public final class ClaimDistanceField {
+
+    // Chunks of empty space kept around the claims' bounding box
+    private static final int MARGIN_CHUNKS = 64;
+
+    // Dense grids larger than this fall back to sparse packed keys
+    private static final int MAX_GRID_CELLS = 2_000_000;
+
+    // Max offset between a block and its chunk center (8·√2), plus 1 for the stored floor()
+    private static final double CHUNK_SLACK_BLOCKS = 8 * Math.sqrt(2) + 1;
+
+    private static final float INF = 1e20f;
+
+    @Getter
+    private final int claimCount;
+    @Getter
+    private final long builtAtMillis;
+
+    // Claims bounding box (chunk coordinates)
+    private final int claimMinX;
+    private final int claimMinZ;
+    private final int claimMaxX;
+    private final int claimMaxZ;
+
+    // Dense grid (null in sparse mode)
+    private final int gridMinX;
+    private final int gridMinZ;
+    private final int width;
+    private final int height;
+    private final BitSet claimed;
+    private final short[] distanceBlocks;
+
+    // Sparse fallback (null in dense mode)
+    private final Set<Long> sparseClaims;
+
+    private ClaimDistanceField(long[] claimKeys) {
+        this.claimCount = claimKeys.length;
+        this.builtAtMillis = System.currentTimeMillis();
+
+        int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (long key : claimKeys) {
+            int x = chunkX(key);
+            int z = chunkZ(key);
+            minX = Math.min(minX, x);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxZ = Math.max(maxZ, z);
+        }
+        this.claimMinX = minX;
+        this.claimMinZ = minZ;
+        this.claimMaxX = maxX;
+        this.claimMaxZ = maxZ;
+
+        long cells = claimCount == 0 ? 0
+                : (long) (maxX - minX + 1 + 2 * MARGIN_CHUNKS) * (maxZ - minZ + 1 + 2 * MARGIN_CHUNKS);
+
+        if (claimCount == 0 || cells > MAX_GRID_CELLS) {
+            this.gridMinX = 0;
+            this.gridMinZ = 0;
+            this.width = 0;
+            this.height = 0;
+            this.claimed = null;
+            this.distanceBlocks = null;
+            Set<Long> keys = new HashSet<>(claimKeys.length * 2);
+            for (long key : claimKeys) {
+                keys.add(key);
+            }
+            this.sparseClaims = keys;
+            return;
+        }
+
+        this.gridMinX = minX - MARGIN_CHUNKS;
+        this.gridMinZ = minZ - MARGIN_CHUNKS;
+        this.width = maxX - minX + 1 + 2 * MARGIN_CHUNKS;
+        this.height = maxZ - minZ + 1 + 2 * MARGIN_CHUNKS;
+        this.claimed = new BitSet(width * height);
+        for (long key : claimKeys) {
+            claimed.set(index(chunkX(key) - gridMinX, chunkZ(key) - gridMinZ));
+        }
+        this.distanceBlocks = computeDistanceField();
+        this.sparseClaims = null;
+    }
+
+    /**
+     * Build a field from packed chunk keys (see {@link #chunkKey(int, int)})
+     */
+    public static ClaimDistanceField build(long[] claimKeys) {
+        return new ClaimDistanceField(claimKeys);
+    }
+
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static int chunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int chunkZ(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Returns true if any claimed chunk center lies closer than maxDistance blocks to the given point
+     */
+    public boolean hasClaimWithin(double blockX, double blockZ, double maxDistance) {
+        if (claimCount == 0) {
+            return false;
+        }
+
+        int chunkX = (int) Math.floor(blockX) >> 4;
+        int chunkZ = (int) Math.floor(blockZ) >> 4;
+
+        if (distanceBlocks != null) {
+            int gx = chunkX - gridMinX;
+            int gz = chunkZ - gridMinZ;
+            if (gx >= 0 && gz >= 0 && gx < width && gz < height) {
+                double distance = distanceBlocks[index(gx, gz)];
+                if (distance - CHUNK_SLACK_BLOCKS >= maxDistance) return false;
+                if (distance + CHUNK_SLACK_BLOCKS < maxDistance) return true;
+                return probe(blockX, blockZ, maxDistance);
+            }
+        }
+
+        // Outside the grid: distance to the claims' bounding box is a lower bound
+        int dx = Math.max(0, Math.max(claimMinX - chunkX, chunkX - claimMaxX));
+        int dz = Math.max(0, Math.max(claimMinZ - chunkZ, chunkZ - claimMaxZ));
+        double lowerBound = Math.sqrt((double) dx * dx + (double) dz * dz) * 16.0;
+        if (lowerBound - CHUNK_SLACK_BLOCKS >= maxDistance) {
+            return false;
+        }
+        return probe(blockX, blockZ, maxDistance);
+    }
+
+    /**
+     * Check if a chunk is claimed
+     */
+    public boolean isClaimed(int chunkX, int chunkZ) {
+        if (sparseClaims != null) {
+            return sparseClaims.contains(chunkKey(chunkX, chunkZ));
+        }
+        int gx = chunkX - gridMinX;
+        int gz = chunkZ - gridMinZ;
+        return gx >= 0 && gz >= 0 && gx < width && gz < height && claimed.get(index(gx, gz));
+    }
+
+    /**
+     * Exact check of every chunk center within maxDistance of the point
+     */
+    private boolean probe(double blockX, double blockZ, double maxDistance) {
+        int centerChunkX = (int) Math.floor(blockX) >> 4;
+        int centerChunkZ = (int) Math.floor(blockZ) >> 4;
+        int chunkRadius = (int) Math.ceil(maxDistance / 16.0) + 1;
+
+        for (int dx = -chunkRadius; dx <= chunkRadius; dx++) {
+            for (int dz = -chunkRadius; dz <= chunkRadius; dz++) {
+                int chunkX = centerChunkX + dx;
+                int chunkZ = centerChunkZ + dz;
+                if (!isClaimed(chunkX, chunkZ)) continue;
+
+                double ddx = blockX - ((chunkX << 4) + 8);
+                double ddz = blockZ - ((chunkZ << 4) + 8);
+                if (ddx * ddx + ddz * ddz < maxDistance * maxDistance) return true;
+            }
+        }
+        return false;
+    }
+
+    private int index(int gx, int gz) {
+        return gz * width + gx;
+    }
+
+    /**
+     * Two-pass exact squared Euclidean distance transform (Felzenszwalb–Huttenlocher),
+     * converted to block distances between chunk centers.
+     */
+    private short[] computeDistanceField() {
+        float[] squared = new float[width * height];
+        int longest = Math.max(width, height);
+        float[] f = new float[longest];
+        float[] d = new float[longest];
+        int[] v = new int[longest];
+        float[] z = new float[longest + 1];
+
+        // Pass 1: columns (along Z)
+        for (int gx = 0; gx < width; gx++) {
+            for (int gz = 0; gz < height; gz++) {
+                f[gz] = claimed.get(index(gx, gz)) ? 0f : INF;
+            }
+            transform1d(f, height, d, v, z);
+            for (int gz = 0; gz < height; gz++) {
+                squared[index(gx, gz)] = d[gz];
+            }
+        }
+
+        // Pass 2: rows (along X)
+        short[] result = new short[width * height];
+        for (int gz = 0; gz < height; gz++) {
+            int rowStart = gz * width;
+            System.arraycopy(squared, rowStart, f, 0, width);
+            transform1d(f, width, d, v, z);
+            for (int gx = 0; gx < width; gx++) {
+                double blocks = Math.sqrt(d[gx]) * 16.0;
+                result[rowStart + gx] = (short) Math.min(Short.MAX_VALUE, (int) blocks);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 1D squared distance transform of a sampled function (lower envelope of parabolas)
+     */
+    private static void transform1d(float[] f, int n, float[] d, int[] v, float[] z) {
+        int k = 0;
+        v[0] = 0;
+        z[0] = -INF;
+        z[1] = INF;
+
+        for (int q = 1; q < n; q++) {
+            float s = intersection(f, q, v[k]);
+            while (s <= z[k]) {
+                k--;
+                s = intersection(f, q, v[k]);
+            }
+            k++;
+            v[k] = q;
+            z[k] = s;
+            z[k + 1] = INF;
+        }
+
+        k = 0;
+        for (int q = 0; q < n; q++) {
+            while (z[k + 1] < q) {
+                k++;
+            }
+            float offset = q - v[k];
+            d[q] = offset * offset + f[v[k]];
+        }
+    }
+
+    private static float intersection(float[] f, int q, int p) {
+        return ((f[q] + (float) q * q) - (f[p] + (float) p * p)) / (2f * q - 2f * p);
+    }
+
+}
@@ -0,0 +1,35 @@
+package net.mysterria.cosmos.toolkit.towns;
+
+import net.william278.husktowns.events.ClaimEvent;
+import net.william278.husktowns.events.TownDisbandEvent;
+import net.william278.husktowns.events.UnClaimAllEvent;
+import net.william278.husktowns.events.UnClaimEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Drops cached claim distance fields whenever HuskTowns claims change.
+ */
+public class HuskTownsClaimCacheListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onClaim(ClaimEvent event) {
+        TownsToolkit.invalidateClaimCache();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onUnClaim(UnClaimEvent event) {
+        TownsToolkit.invalidateClaimCache();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onUnClaimAll(UnClaimAllEvent event) {
+        TownsToolkit.invalidateClaimCache();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTownDisband(TownDisbandEvent event) {
+        TownsToolkit.invalidateClaimCache();
+    }
+}
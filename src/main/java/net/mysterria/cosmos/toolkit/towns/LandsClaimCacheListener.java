@@ -0,0 +1,29 @@
+package net.mysterria.cosmos.toolkit.towns;
+
+import me.angeschossen.lands.api.events.ChunkDeleteEvent;
+import me.angeschossen.lands.api.events.ChunkPostClaimEvent;
+import me.angeschossen.lands.api.events.LandDeleteEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Drops cached claim distance fields whenever Lands claims change.
+ */
+public class LandsClaimCacheListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkClaim(ChunkPostClaimEvent event) {
+        TownsToolkit.invalidateClaimCache();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onChunkDelete(ChunkDeleteEvent event) {
+        TownsToolkit.invalidateClaimCache();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLandDelete(LandDeleteEvent event) {
+        TownsToolkit.invalidateClaimCache();
+    }
+}
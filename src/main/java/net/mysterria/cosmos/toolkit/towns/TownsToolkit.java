@@ -18,12 +18,20 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TownsToolkit {
 
     private static HuskTownsAPI huskTownsApi;
     private static LandsIntegration landsIntegration;
 
+    // Cached claim distance fields per world, marked stale on claim changes (see claim cache listeners)
+    private static final long CLAIM_FIELD_MAX_AGE_MILLIS = 5 * 60_000L;
+    private static final Map<UUID, ClaimDistanceField> claimFields = new ConcurrentHashMap<>();
+    private static final Set<UUID> staleClaimFields = ConcurrentHashMap.newKeySet();
+    private static final Set<UUID> claimFieldRebuilds = ConcurrentHashMap.newKeySet();
+
     /**
      * Initialise TownsToolkit with the available town-plugin APIs.
      * At least one of the parameters must be non-null; both may be provided.
@@ -31,6 +39,8 @@ public class TownsToolkit {
     public static void init(HuskTownsAPI huskTowns, LandsIntegration lands) {
         huskTownsApi = huskTowns;
         landsIntegration = lands;
+        claimFields.clear();
+        staleClaimFields.clear();
     }
 
     private static boolean hasHuskTowns() {
@@ -260,15 +270,71 @@ public class TownsToolkit {
     }
 
     /**
-     * Returns the set of all claimed chunk coordinates in the given world.
+     * Returns the cached claim distance field for the given world, rebuilding it if claims changed.
+     * Must be called from the main thread; the returned field is immutable and thread-safe.
+     */
+    public static ClaimDistanceField getClaimDistanceField(org.bukkit.World world) {
+        UUID worldId = world.getUID();
+        ClaimDistanceField field = claimFields.get(worldId);
+        if (field == null || isOutdated(worldId, field)) {
+            staleClaimFields.remove(worldId);
+            field = ClaimDistanceField.build(getClaimedChunkKeys(world));
+            claimFields.put(worldId, field);
+        }
+        return field;
+    }
+
+    /**
+     * Returns the last published claim distance field for the given world without waiting on a rebuild.
+     * If claims changed or the field aged out, the claimed chunks are collected here and the distance
+     * transform runs on the common pool; the previous field is served until the new one is published.
+     * Only builds synchronously if the world has no field yet. Must be called from the main thread.
      */
-    public static Set<ChunkPosition> getClaimedChunks(org.bukkit.World world) {
-        Set<ChunkPosition> result = new HashSet<>();
+    public static ClaimDistanceField getPublishedClaimDistanceField(org.bukkit.World world) {
+        UUID worldId = world.getUID();
+        ClaimDistanceField field = claimFields.get(worldId);
+        if (field == null) {
+            return getClaimDistanceField(world);
+        }
+        if (isOutdated(worldId, field) && claimFieldRebuilds.add(worldId)) {
+            // A claim change during the rebuild marks the field stale again, so the next call picks it up
+            staleClaimFields.remove(worldId);
+            long[] claimKeys = getClaimedChunkKeys(world);
+            CompletableFuture.supplyAsync(() -> ClaimDistanceField.build(claimKeys))
+                    .whenComplete((rebuilt, throwable) -> {
+                        if (rebuilt != null) {
+                            claimFields.put(worldId, rebuilt);
+                        } else {
+                            staleClaimFields.add(worldId);
+                        }
+                        claimFieldRebuilds.remove(worldId);
+                    });
+        }
+        return field;
+    }
+
+    private static boolean isOutdated(UUID worldId, ClaimDistanceField field) {
+        return staleClaimFields.contains(worldId)
+                || System.currentTimeMillis() - field.getBuiltAtMillis() > CLAIM_FIELD_MAX_AGE_MILLIS;
+    }
+
+    /**
+     * Mark all cached claim distance fields stale (called on claim, unclaim and disband events)
+     */
+    public static void invalidateClaimCache() {
+        staleClaimFields.addAll(claimFields.keySet());
+    }
+
+    /**
+     * Returns all claimed chunk coordinates in the given world as packed keys.
+     */
+    private static long[] getClaimedChunkKeys(org.bukkit.World world) {
+        Set<Long> result = new HashSet<>();
 
         if (hasHuskTowns()) {
             World huskWorld = World.of(world.getUID(), world.getName(), world.getEnvironment().toString());
             for (TownClaim claim : huskTownsApi.getClaims(huskWorld)) {
-                result.add(new ChunkPosition(
+                result.add(ClaimDistanceField.chunkKey(
                         claim.claim().getChunk().getX(),
                         claim.claim().getChunk().getZ()));
             }
@@ -279,12 +345,12 @@ public class TownsToolkit {
                 Collection<ChunkCoordinate> landChunks = land.getChunks(world);
                 if (landChunks == null) continue;
                 for (ChunkCoordinate cc : landChunks) {
-                    result.add(new ChunkPosition(cc.getX(), cc.getZ()));
+                    result.add(ClaimDistanceField.chunkKey(cc.getX(), cc.getZ()));
                 }
             }
         }
 
-        return result;
+        return result.stream().mapToLong(Long::longValue).toArray();
     }
 
     /**
@@ -325,16 +391,4 @@ public class TownsToolkit {
         int id = Math.abs(hash);
         return id == 0 ? 1 : id; // 0 is the "no owner" sentinel
     }
-
-    // ── Chunk-position helper ────────────────────────────────────────────────────
-
-    public record ChunkPosition(int x, int z) {
-        public double distanceTo(double blockX, double blockZ) {
-            double chunkCenterX = (x << 4) + 8;
-            double chunkCenterZ = (z << 4) + 8;
-            double dx = blockX - chunkCenterX;
-            double dz = blockZ - chunkCenterZ;
-            return Math.sqrt(dx * dx + dz * dz);
-        }
-    }
 }